@@ -1,33 +1,53 @@
 package com.personal.money.management.core.account.application;
 
+import com.personal.money.management.core.account.domain.event.AccountDeletedEvent;
+import com.personal.money.management.core.account.domain.event.AccountSavedEvent;
 import com.personal.money.management.core.account.domain.model.Account;
 import com.personal.money.management.core.account.domain.repository.AccountRepository;
 import com.personal.money.management.core.account.application.exception.AccountNotFoundException;
 import com.personal.money.management.core.account.application.exception.DuplicateAccountNameException;
 import com.personal.money.management.core.shared.domain.valueobject.AccountName;
 import com.personal.money.management.core.shared.domain.valueobject.Money;
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseTimed;
+import com.personal.money.management.core.shared.infrastructure.outbox.Outbox;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataContext;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataVersions;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
 
 @Service
+@UseCaseTimed
 public class AccountService {
 
+    private static final String OUTBOX_AGGREGATE = "Account";
+
     private final AccountRepository accountRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Outbox outbox;
+    private final ReferenceDataVersions referenceDataVersions;
 
-    public AccountService(AccountRepository accountRepository) {
+    public AccountService(AccountRepository accountRepository, ApplicationEventPublisher eventPublisher,
+                          Outbox outbox, ReferenceDataVersions referenceDataVersions) {
         this.accountRepository = accountRepository;
+        this.eventPublisher = eventPublisher;
+        this.outbox = outbox;
+        this.referenceDataVersions = referenceDataVersions;
     }
 
+    @Transactional
     public Account createAccount(Account account) {
         accountRepository.findByAccountName(account.getName().getValue())
             .ifPresent(existing -> {
                 throw new DuplicateAccountNameException("Account name already exists: " + account.getName().getValue());
             });
-        return accountRepository.save(account);
+        return published(accountRepository.save(account));
     }
 
+    @Transactional
     public Account updateAccount(Long id, Account updatedAccount) {
         return accountRepository.findById(id)
                 .map(existingAccount -> {
@@ -41,13 +61,26 @@ public class AccountService {
                             existingAccount.isActive() // preserve active status
                     );
                     // Save the new Account instance instead of mutating the existing one
-                    return accountRepository.save(newAccount);
+                    return published(accountRepository.save(newAccount));
                 })
                 .orElseThrow(() -> new AccountNotFoundException("Account not found with id: " + id));
     }
 
+    @Transactional
     public void deleteAccount(Long id) {
         accountRepository.deleteById(id);
+        AccountDeletedEvent event = new AccountDeletedEvent(id);
+        outbox.append(OUTBOX_AGGREGATE, id, event);
+        referenceDataVersions.bump(ReferenceDataContext.ACCOUNT);
+        eventPublisher.publishEvent(event);
+    }
+
+    private Account published(Account saved) {
+        AccountSavedEvent event = new AccountSavedEvent(saved.getId(), saved.getName().getValue());
+        outbox.append(OUTBOX_AGGREGATE, saved.getId(), event);
+        referenceDataVersions.bump(ReferenceDataContext.ACCOUNT);
+        eventPublisher.publishEvent(event);
+        return saved;
     }
 
     public List<Account> listAccounts() {
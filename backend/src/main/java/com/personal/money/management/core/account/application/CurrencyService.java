@@ -2,10 +2,12 @@ package com.personal.money.management.core.account.application;
 
 import com.personal.money.management.core.account.domain.model.Currency;
 import com.personal.money.management.core.account.domain.repository.CurrencyRepository;
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseTimed;
 import org.springframework.stereotype.Service;
 import java.util.List;
 
 @Service
+@UseCaseTimed
 public class CurrencyService {
     private final CurrencyRepository currencyRepository;
 
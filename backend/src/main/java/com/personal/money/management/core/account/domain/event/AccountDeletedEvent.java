@@ -0,0 +1,16 @@
+package com.personal.money.management.core.account.domain.event;
+
+/**
+ * Published when an account is deleted.
+ */
+public class AccountDeletedEvent {
+    private final Long accountId;
+
+    public AccountDeletedEvent(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+}
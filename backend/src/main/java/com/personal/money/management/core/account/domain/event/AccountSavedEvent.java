@@ -0,0 +1,22 @@
+package com.personal.money.management.core.account.domain.event;
+
+/**
+ * Published when an account is created or updated.
+ */
+public class AccountSavedEvent {
+    private final Long accountId;
+    private final String name;
+
+    public AccountSavedEvent(Long accountId, String name) {
+        this.accountId = accountId;
+        this.name = name;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
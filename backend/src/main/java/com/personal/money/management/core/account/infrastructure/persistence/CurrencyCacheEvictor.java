@@ -0,0 +1,37 @@
+package com.personal.money.management.core.account.infrastructure.persistence;
+
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataChangeListener;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataContext;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Drops the cached currencies from the second-level and query caches when the
+ * currency version moves, instead of waiting out the region's time-to-live.
+ */
+@Component
+public class CurrencyCacheEvictor implements ReferenceDataChangeListener {
+
+    static final String QUERY_REGION = "account.currency.queries";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CurrencyCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public ReferenceDataContext referenceDataContext() {
+        return ReferenceDataContext.CURRENCY;
+    }
+
+    @Override
+    public void referenceDataChanged() {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(CurrencyEntity.class);
+        cache.evictQueryRegion(QUERY_REGION);
+    }
+}
@@ -1,8 +1,24 @@
 package com.personal.money.management.core.account.infrastructure.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.QueryHint;
+import java.util.List;
 
 public interface CurrencyJpaRepository extends JpaRepository<CurrencyEntity, Long> {
     boolean existsByCode(String code);
+
+    @QueryHints({
+            @QueryHint(name = org.hibernate.annotations.QueryHints.CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.annotations.QueryHints.CACHE_REGION, value = "account.currency.queries")
+    })
     CurrencyEntity findByCode(String code);
+
+    @Override
+    @QueryHints({
+            @QueryHint(name = org.hibernate.annotations.QueryHints.CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.annotations.QueryHints.CACHE_REGION, value = "account.currency.queries")
+    })
+    List<CurrencyEntity> findAll();
 }
@@ -0,0 +1,164 @@
+package com.personal.money.management.core.category.application;
+
+import com.personal.money.management.core.account.application.exception.AccountNotFoundException;
+import com.personal.money.management.core.account.domain.repository.AccountRepository;
+import com.personal.money.management.core.category.application.exception.CategorizationRuleNotFoundException;
+import com.personal.money.management.core.category.application.exception.CategoryNotFoundException;
+import com.personal.money.management.core.category.domain.model.CategorizationEngine;
+import com.personal.money.management.core.category.domain.model.CategorizationRule;
+import com.personal.money.management.core.category.domain.model.Category;
+import com.personal.money.management.core.category.domain.model.CategoryType;
+import com.personal.money.management.core.category.domain.repository.CategorizationRuleRepository;
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseSource;
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseTimed;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataChangeListener;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataContext;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataVersions;
+import com.personal.money.management.core.shared.infrastructure.refdata.VersionedSnapshot;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keyword rules that categorize transactions automatically.
+ *
+ * <p>The active rules are compiled into one {@link CategorizationEngine} and reused
+ * until a rule changes or the category catalog moves to a new version; the next
+ * classification then compiles a replacement and swaps it in whole, so readers
+ * always see one consistent rule set. Rule writes made by other instances are
+ * picked up once the reference-data poller reports them.</p>
+ */
+@Service
+@UseCaseTimed
+public class CategorizationRuleService implements ReferenceDataChangeListener {
+
+    private final CategorizationRuleRepository ruleRepository;
+    private final CategoryService categoryService;
+    private final AccountRepository accountRepository;
+    private final ReferenceDataVersions referenceDataVersions;
+    private final VersionedSnapshot<CompiledRules> compiled = new VersionedSnapshot<>();
+
+    public CategorizationRuleService(CategorizationRuleRepository ruleRepository, CategoryService categoryService,
+                                     AccountRepository accountRepository, ReferenceDataVersions referenceDataVersions) {
+        this.ruleRepository = ruleRepository;
+        this.categoryService = categoryService;
+        this.accountRepository = accountRepository;
+        this.referenceDataVersions = referenceDataVersions;
+    }
+
+    public List<CategorizationRule> getRules() {
+        return ruleRepository.findAll();
+    }
+
+    @Transactional
+    public CategorizationRule createRule(String keyword, Long categoryId, Long accountId, BigDecimal minAmount,
+                                         BigDecimal maxAmount, int priority, boolean active) {
+        CategorizationRule rule = new CategorizationRule(keyword, categoryId, accountId, minAmount, maxAmount,
+                priority, active);
+        checkReferences(rule);
+        CategorizationRule saved = ruleRepository.save(rule);
+        invalidate();
+        return saved;
+    }
+
+    @Transactional
+    public CategorizationRule updateRule(Long id, String keyword, Long categoryId, Long accountId,
+                                         BigDecimal minAmount, BigDecimal maxAmount, int priority, boolean active) {
+        ruleRepository.findById(id).orElseThrow(() -> new CategorizationRuleNotFoundException(id));
+        // Validated as a new rule, then stored under the existing id
+        CategorizationRule rule = new CategorizationRule(keyword, categoryId, accountId, minAmount, maxAmount,
+                priority, active);
+        checkReferences(rule);
+        CategorizationRule saved = ruleRepository.save(CategorizationRule.reconstruct(id, rule.getKeyword(),
+                rule.getCategoryId(), rule.getAccountId(), rule.getMinAmount(), rule.getMaxAmount(),
+                rule.getPriority(), rule.isActive()));
+        invalidate();
+        return saved;
+    }
+
+    @Transactional
+    public void deleteRule(Long id) {
+        ruleRepository.findById(id).orElseThrow(() -> new CategorizationRuleNotFoundException(id));
+        ruleRepository.deleteById(id);
+        invalidate();
+    }
+
+    /**
+     * Category of the best active rule matching a transaction, if any
+     *
+     * @param amount Unsigned transaction amount
+     * @param type   Category type matching the transaction direction
+     */
+    public Optional<Long> categorize(String description, Long accountId, BigDecimal amount, CategoryType type) {
+        if (description == null || description.isBlank()) {
+            return Optional.empty();
+        }
+        return getEngine().classify(description, accountId, amount, type).map(CategorizationRule::getCategoryId);
+    }
+
+    /**
+     * The compiled rules for the current rule generation and category catalog,
+     * compiled on first use after either changes
+     */
+    public CategorizationEngine getEngine() {
+        CategoryCatalog catalog = categoryService.getCatalog();
+        UseCaseSource.mark(UseCaseSource.CACHE);
+        return compiled.get(version -> compile(catalog),
+                cached -> cached.catalogVersion == catalog.getVersion()).engine;
+    }
+
+    @Override
+    public ReferenceDataContext referenceDataContext() {
+        return ReferenceDataContext.CATEGORIZATION_RULE;
+    }
+
+    /**
+     * Another instance changed the rules: the next classification recompiles them.
+     */
+    @Override
+    public void referenceDataChanged() {
+        compiled.invalidate();
+    }
+
+    private void checkReferences(CategorizationRule rule) {
+        if (categoryService.getCatalog().findById(rule.getCategoryId()).isEmpty()) {
+            throw new CategoryNotFoundException(rule.getCategoryId());
+        }
+        if (rule.getAccountId() != null && accountRepository.findById(rule.getAccountId()).isEmpty()) {
+            throw new AccountNotFoundException("Account not found with id: " + rule.getAccountId());
+        }
+    }
+
+    private CompiledRules compile(CategoryCatalog catalog) {
+        Map<Long, CategoryType> types = new HashMap<>(catalog.size() * 2);
+        for (Category category : catalog.getCategories()) {
+            types.put(category.getId(), category.getType());
+        }
+        UseCaseSource.mark(UseCaseSource.DATABASE);
+        return new CompiledRules(catalog.getVersion(), CategorizationEngine.compile(ruleRepository.findAll(), types));
+    }
+
+    /**
+     * Discards the engine and bumps the rule version for other instances, in the
+     * writing transaction.
+     */
+    private void invalidate() {
+        referenceDataVersions.bump(ReferenceDataContext.CATEGORIZATION_RULE);
+        compiled.invalidate();
+    }
+
+    private static final class CompiledRules {
+        private final long catalogVersion;
+        private final CategorizationEngine engine;
+
+        private CompiledRules(long catalogVersion, CategorizationEngine engine) {
+            this.catalogVersion = catalogVersion;
+            this.engine = engine;
+        }
+    }
+}
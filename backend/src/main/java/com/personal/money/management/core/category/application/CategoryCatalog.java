@@ -0,0 +1,103 @@
+package com.personal.money.management.core.category.application;
+
+import com.personal.money.management.core.category.domain.model.Category;
+import com.personal.money.management.core.category.domain.model.CategoryNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of every category, sorted by name and indexed by id.
+ *
+ * <p>A snapshot is built from a single read and never changes afterwards; writes
+ * through {@link CategoryService} publish a newer version instead. The version is
+ * only meaningful within the running instance and is used to key anything derived
+ * from the snapshot, such as serialized responses.</p>
+ */
+public final class CategoryCatalog {
+    private final long version;
+    private final List<Category> categories;
+    private final Map<Long, Category> byId;
+    private final List<CategoryNode> tree;
+    private final Map<Long, List<Long>> ancestorIds;
+
+    private CategoryCatalog(long version, List<Category> categories) {
+        this.version = version;
+        this.categories = Collections.unmodifiableList(new ArrayList<>(categories));
+        Map<Long, Category> index = new HashMap<>(categories.size() * 2);
+        List<CategoryNode> nodes = new ArrayList<>(categories.size());
+        for (Category category : categories) {
+            index.put(category.getId(), category);
+            Category parent = category.getParent();
+            nodes.add(new CategoryNode(category.getId(), category.getName(), category.getIcon(),
+                    category.getType(), parent == null ? null : parent.getId()));
+        }
+        this.byId = Collections.unmodifiableMap(index);
+        this.tree = Collections.unmodifiableList(CategoryNode.buildForest(nodes));
+        Map<Long, List<Long>> ancestors = new HashMap<>(categories.size() * 2);
+        for (Category category : categories) {
+            ancestorsOf(category.getId(), ancestors);
+        }
+        this.ancestorIds = Collections.unmodifiableMap(ancestors);
+    }
+
+    private List<Long> ancestorsOf(Long id, Map<Long, List<Long>> ancestors) {
+        List<Long> known = ancestors.get(id);
+        if (known != null) {
+            return known;
+        }
+        Category parent = byId.get(id).getParent();
+        List<Long> path = new ArrayList<>();
+        path.add(id);
+        // A parent missing from the snapshot ends the path instead of failing the build
+        if (parent != null && byId.containsKey(parent.getId())) {
+            path.addAll(ancestorsOf(parent.getId(), ancestors));
+        }
+        List<Long> result = Collections.unmodifiableList(path);
+        ancestors.put(id, result);
+        return result;
+    }
+
+    /**
+     * @param categories all categories, already sorted by name
+     */
+    public static CategoryCatalog of(long version, List<Category> categories) {
+        return new CategoryCatalog(version, categories);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<Category> getCategories() {
+        return categories;
+    }
+
+    public Optional<Category> findById(Long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    /**
+     * Root categories with their descendants linked below them, siblings sorted by name.
+     */
+    public List<CategoryNode> getTree() {
+        return tree;
+    }
+
+    /**
+     * The category itself followed by its parent, grandparent and so on up to its
+     * root; empty for an id not in the snapshot. Computed once per snapshot, so
+     * rolling a total up the hierarchy costs no query.
+     */
+    public List<Long> getAncestorIds(Long id) {
+        return ancestorIds.getOrDefault(id, List.of());
+    }
+
+    public int size() {
+        return categories.size();
+    }
+}
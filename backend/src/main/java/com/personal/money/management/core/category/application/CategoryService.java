@@ -5,10 +5,21 @@ import com.personal.money.management.core.category.application.exception.Categor
 import com.personal.money.management.core.category.application.exception.CategoryConflictException;
 import com.personal.money.management.core.category.application.exception.CategoryHasChildException;
 import com.personal.money.management.core.category.domain.CategoryFactory;
+import com.personal.money.management.core.category.domain.event.CategoryDeletedEvent;
+import com.personal.money.management.core.category.domain.event.CategorySavedEvent;
 import com.personal.money.management.core.category.domain.model.Category;
+import com.personal.money.management.core.category.domain.model.CategoryNode;
 import com.personal.money.management.core.category.domain.model.CategoryType;
 import com.personal.money.management.core.category.domain.repository.CategoryRepository;
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseSource;
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseTimed;
+import com.personal.money.management.core.shared.infrastructure.outbox.Outbox;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataChangeListener;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataContext;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataVersions;
+import com.personal.money.management.core.shared.infrastructure.refdata.VersionedSnapshot;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,11 +27,66 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 @Service
-public class CategoryService {
+@UseCaseTimed
+public class CategoryService implements ReferenceDataChangeListener {
+    private static final String OUTBOX_AGGREGATE = "Category";
+
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReferenceDataVersions referenceDataVersions;
+    private final Outbox outbox;
+    private final VersionedSnapshot<CategoryCatalog> catalog = new VersionedSnapshot<>();
 
-    public CategoryService(CategoryRepository categoryRepository) {
+    public CategoryService(CategoryRepository categoryRepository, ApplicationEventPublisher eventPublisher,
+                           ReferenceDataVersions referenceDataVersions, Outbox outbox) {
         this.categoryRepository = categoryRepository;
+        this.eventPublisher = eventPublisher;
+        this.referenceDataVersions = referenceDataVersions;
+        this.outbox = outbox;
+    }
+
+    /**
+     * Current snapshot of all categories. The database is only read again after a
+     * write through this service or, for writes made by other instances, once the
+     * reference-data poller reports a new category version.
+     */
+    public CategoryCatalog getCatalog() {
+        UseCaseSource.mark(UseCaseSource.CACHE);
+        return catalog.get(version -> {
+            UseCaseSource.mark(UseCaseSource.DATABASE);
+            return CategoryCatalog.of(version, categoryRepository.findAllSortedByName());
+        });
+    }
+
+    /**
+     * Discards the catalog and bumps the category version for other instances, in the
+     * writing transaction.
+     */
+    private void invalidateCatalog() {
+        referenceDataVersions.bump(ReferenceDataContext.CATEGORY);
+        catalog.invalidate();
+    }
+
+    /**
+     * Stores the event in the outbox for projections, in the writing transaction, and
+     * publishes it to in-process listeners.
+     */
+    private void publish(Long categoryId, Object event) {
+        outbox.append(OUTBOX_AGGREGATE, categoryId, event);
+        eventPublisher.publishEvent(event);
+    }
+
+    @Override
+    public ReferenceDataContext referenceDataContext() {
+        return ReferenceDataContext.CATEGORY;
+    }
+
+    /**
+     * Another instance changed the categories: the next read rebuilds the catalog.
+     */
+    @Override
+    public void referenceDataChanged() {
+        catalog.invalidate();
     }
 
     private Category getParentCategory(Long parentId) {
@@ -32,12 +98,13 @@ public class CategoryService {
     }
 
     private void checkCyclicDependency(Category category, Category newParent) {
-        Category current = newParent;
-        while (current != null) {
-            if (current.getId() != null && current.getId().equals(category.getId())) {
-                throw new CategoryCyclicDependencyException("Cyclic dependency detected: category cannot be its own ancestor");
-            }
-            current = current.getParent();
+        if (newParent == null || newParent.getId() == null || category.getId() == null) {
+            return;
+        }
+        // The new parent must not be the category itself or any of its descendants
+        if (newParent.getId().equals(category.getId())
+                || categoryRepository.isInSubtree(category.getId(), newParent.getId())) {
+            throw new CategoryCyclicDependencyException("Cyclic dependency detected: category cannot be its own ancestor");
         }
     }
 
@@ -48,11 +115,28 @@ public class CategoryService {
         }
         Category parent = getParentCategory(parentId);
         Category category = CategoryFactory.createCategory(name, icon, type, parent);
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        invalidateCatalog();
+        publish(saved.getId(), new CategorySavedEvent(saved.getId(), saved.getName()));
+        return saved;
     }
 
     public List<Category> getAllCategoriesSortedByName() {
-        return categoryRepository.findAllSortedByName();
+        return getCatalog().getCategories();
+    }
+
+    /**
+     * Root categories with their descendants linked below them, siblings sorted by name.
+     */
+    public List<CategoryNode> getCategoryTree() {
+        return getCatalog().getTree();
+    }
+
+    public List<CategoryNode> getDescendants(Long id) {
+        if (getCatalog().findById(id).isEmpty() && categoryRepository.findById(id).isEmpty()) {
+            throw new CategoryNotFoundException(id);
+        }
+        return categoryRepository.findDescendants(id);
     }
 
     @Transactional
@@ -73,7 +157,10 @@ public class CategoryService {
             category.update(name, icon, type);
             category.setParent(parent);
 
-            return categoryRepository.save(category);
+            Category saved = categoryRepository.save(category);
+            invalidateCatalog();
+            publish(saved.getId(), new CategorySavedEvent(saved.getId(), saved.getName()));
+            return saved;
         } catch (OptimisticLockingFailureException e) {
             throw new CategoryConflictException("Category update failed due to concurrent modification. Please retry.", e);
         }
@@ -89,6 +176,8 @@ public class CategoryService {
                 throw new CategoryHasChildException(id);
             }
             categoryRepository.deleteById(id);
+            invalidateCatalog();
+            publish(id, new CategoryDeletedEvent(id));
         } catch (OptimisticLockingFailureException e) {
             throw new CategoryConflictException("Category delete failed due to concurrent modification. Please retry.", e);
         }
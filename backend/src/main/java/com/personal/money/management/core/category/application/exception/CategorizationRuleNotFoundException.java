@@ -0,0 +1,7 @@
+package com.personal.money.management.core.category.application.exception;
+
+public class CategorizationRuleNotFoundException extends RuntimeException {
+    public CategorizationRuleNotFoundException(Long id) {
+        super("Categorization rule not found with id: " + id);
+    }
+}
@@ -0,0 +1,16 @@
+package com.personal.money.management.core.category.domain.event;
+
+/**
+ * Published when a category is deleted.
+ */
+public class CategoryDeletedEvent {
+    private final Long categoryId;
+
+    public CategoryDeletedEvent(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+}
@@ -0,0 +1,22 @@
+package com.personal.money.management.core.category.domain.event;
+
+/**
+ * Published when a category is created or updated.
+ */
+public class CategorySavedEvent {
+    private final Long categoryId;
+    private final String name;
+
+    public CategorySavedEvent(Long categoryId, String name) {
+        this.categoryId = categoryId;
+        this.name = name;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
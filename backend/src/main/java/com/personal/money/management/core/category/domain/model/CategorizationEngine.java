@@ -0,0 +1,210 @@
+package com.personal.money.management.core.category.domain.model;
+
+import com.personal.money.management.core.shared.domain.TextFolding;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Immutable compiled form of the active categorization rules: every keyword in one
+ * Aho-Corasick automaton, so a description is classified in a single pass over its
+ * characters whatever the number of rules.
+ *
+ * <p>Keywords and descriptions are reduced to their folded words joined by single
+ * spaces and padded with a space on both sides; matching the padded keyword inside
+ * the padded description therefore only finds whole words. Rules are ranked once at
+ * compile time (priority, then keyword length, then id), so resolving several hits
+ * is a minimum over rank indexes. Account, amount and category-type predicates are
+ * checked only for rules whose keyword occurred.</p>
+ */
+public final class CategorizationEngine {
+
+    private static final Comparator<CategorizationRule> RANKING = Comparator
+            .comparingInt(CategorizationRule::getPriority).reversed()
+            .thenComparing(Comparator.comparingInt((CategorizationRule rule) -> normalize(rule.getKeyword()).length())
+                    .reversed())
+            .thenComparing(CategorizationRule::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private static final CategorizationEngine EMPTY = compile(List.of(), Map.of());
+
+    // Rules in rank order with the type of their category; a rule's index is its rank
+    private final CategorizationRule[] rules;
+    private final CategoryType[] ruleTypes;
+    // Trie in flat arrays: each node's children are sorted by label for binary search
+    private final char[][] labels;
+    private final int[][] children;
+    private final int[] failure;
+    // Nearest node on the failure chain that ends a keyword, or -1
+    private final int[] outputLink;
+    // Ranks of the rules whose keyword ends exactly at the node, ascending
+    private final int[][] outputs;
+
+    private CategorizationEngine(CategorizationRule[] rules, CategoryType[] ruleTypes, char[][] labels,
+                                 int[][] children, int[] failure, int[] outputLink, int[][] outputs) {
+        this.rules = rules;
+        this.ruleTypes = ruleTypes;
+        this.labels = labels;
+        this.children = children;
+        this.failure = failure;
+        this.outputLink = outputLink;
+        this.outputs = outputs;
+    }
+
+    public static CategorizationEngine empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Compile the active rules whose category is in {@code categoryTypes}; the others
+     * are left out.
+     *
+     * @param categoryTypes Type of every existing category, by id; a null type matches
+     *                      both directions
+     */
+    public static CategorizationEngine compile(List<CategorizationRule> rules, Map<Long, CategoryType> categoryTypes) {
+        List<CategorizationRule> ranked = new ArrayList<>();
+        for (CategorizationRule rule : rules) {
+            if (rule.isActive() && categoryTypes.containsKey(rule.getCategoryId())
+                    && !TextFolding.tokens(rule.getKeyword()).isEmpty()) {
+                ranked.add(rule);
+            }
+        }
+        ranked.sort(RANKING);
+        CategoryType[] types = new CategoryType[ranked.size()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = categoryTypes.get(ranked.get(i).getCategoryId());
+        }
+
+        // Build the trie, one path per distinct normalized keyword
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> ends = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        ends.add(new ArrayList<>());
+        for (int rank = 0; rank < ranked.size(); rank++) {
+            String pattern = normalize(ranked.get(rank).getKeyword());
+            int node = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                Integer next = trie.get(node).get(pattern.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    ends.add(new ArrayList<>());
+                    trie.get(node).put(pattern.charAt(i), next);
+                }
+                node = next;
+            }
+            ends.get(node).add(rank);
+        }
+
+        int size = trie.size();
+        char[][] labels = new char[size][];
+        int[][] children = new int[size][];
+        int[][] outputs = new int[size][];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> edges = trie.get(node);
+            labels[node] = new char[edges.size()];
+            children[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                labels[node][i] = edge.getKey();
+                children[node][i++] = edge.getValue();
+            }
+            outputs[node] = ends.get(node).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        // Failure links breadth-first: a node fails to the longest proper suffix of its
+        // path that is also a path from the root
+        int[] failure = new int[size];
+        int[] outputLink = new int[size];
+        Arrays.fill(outputLink, -1);
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : children[0]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.remove();
+            for (int i = 0; i < labels[node].length; i++) {
+                int child = children[node][i];
+                int fallback = failure[node];
+                int target;
+                while ((target = step(labels, children, fallback, labels[node][i])) < 0 && fallback != 0) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = target < 0 || target == child ? 0 : target;
+                outputLink[child] = outputs[failure[child]].length > 0 ? failure[child] : outputLink[failure[child]];
+                queue.add(child);
+            }
+        }
+        return new CategorizationEngine(ranked.toArray(new CategorizationRule[0]), types, labels, children,
+                failure, outputLink, outputs);
+    }
+
+    /**
+     * The best-ranked rule whose keyword occurs in {@code description} and whose
+     * predicates hold
+     *
+     * @param amount Unsigned transaction amount
+     * @param type   Direction of the transaction as a category type; only rules of a
+     *               category of that type, or of no type, are considered
+     */
+    public Optional<CategorizationRule> classify(String description, Long accountId, BigDecimal amount,
+                                                 CategoryType type) {
+        if (rules.length == 0) {
+            return Optional.empty();
+        }
+        String text = normalize(description);
+        int best = Integer.MAX_VALUE;
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = step(labels, children, node, c)) < 0 && node != 0) {
+                node = failure[node];
+            }
+            node = Math.max(next, 0);
+            for (int match = outputs[node].length > 0 ? node : outputLink[node]; match >= 0; match = outputLink[match]) {
+                for (int rank : outputs[match]) {
+                    if (rank >= best) {
+                        // Ranks are ascending within a node
+                        break;
+                    }
+                    if (applies(rank, accountId, amount, type)) {
+                        best = rank;
+                        break;
+                    }
+                }
+            }
+        }
+        return best == Integer.MAX_VALUE ? Optional.empty() : Optional.of(rules[best]);
+    }
+
+    /**
+     * Number of compiled rules
+     */
+    public int size() {
+        return rules.length;
+    }
+
+    private boolean applies(int rank, Long accountId, BigDecimal amount, CategoryType type) {
+        CategoryType ruleType = ruleTypes[rank];
+        return (ruleType == null || type == null || ruleType == type) && rules[rank].appliesTo(accountId, amount);
+    }
+
+    private static int step(char[][] labels, int[][] children, int node, char c) {
+        int i = Arrays.binarySearch(labels[node], c);
+        return i < 0 ? -1 : children[node][i];
+    }
+
+    private static String normalize(String text) {
+        List<String> words = TextFolding.tokens(text);
+        return words.isEmpty() ? " " : " " + String.join(" ", words) + " ";
+    }
+}
@@ -0,0 +1,114 @@
+package com.personal.money.management.core.category.domain.model;
+
+import com.personal.money.management.core.shared.domain.TextFolding;
+
+import java.math.BigDecimal;
+
+/**
+ * A keyword rule assigning a category to uncategorized transactions.
+ *
+ * <p>Business Rules:</p>
+ * <ul>
+ *   <li>The keyword matches whole words of the description, ignoring case, accents and punctuation</li>
+ *   <li>An optional account restricts the rule to that account's transactions</li>
+ *   <li>Optional inclusive amount bounds apply to the unsigned transaction amount</li>
+ *   <li>When several rules match, the highest priority wins, then the longest keyword</li>
+ * </ul>
+ */
+public class CategorizationRule {
+    public static final int MAX_KEYWORD_LENGTH = 200;
+
+    private final Long id;
+    private final String keyword;
+    private final Long categoryId;
+    private final Long accountId;
+    private final BigDecimal minAmount;
+    private final BigDecimal maxAmount;
+    private final int priority;
+    private final boolean active;
+
+    public CategorizationRule(String keyword, Long categoryId, Long accountId, BigDecimal minAmount,
+                              BigDecimal maxAmount, int priority, boolean active) {
+        this(null, keyword, categoryId, accountId, minAmount, maxAmount, priority, active);
+        if (keyword == null || TextFolding.tokens(keyword).isEmpty()) {
+            throw new IllegalArgumentException("Keyword must contain at least one letter or digit");
+        }
+        if (keyword.length() > MAX_KEYWORD_LENGTH) {
+            throw new IllegalArgumentException("Keyword must not exceed " + MAX_KEYWORD_LENGTH + " characters");
+        }
+        if (categoryId == null) {
+            throw new IllegalArgumentException("Category id must not be null");
+        }
+        if ((minAmount != null && minAmount.signum() < 0) || (maxAmount != null && maxAmount.signum() < 0)) {
+            throw new IllegalArgumentException("Amount bounds must not be negative");
+        }
+        if (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0) {
+            throw new IllegalArgumentException("Minimum amount must not exceed maximum amount");
+        }
+    }
+
+    private CategorizationRule(Long id, String keyword, Long categoryId, Long accountId, BigDecimal minAmount,
+                               BigDecimal maxAmount, int priority, boolean active) {
+        this.id = id;
+        this.keyword = keyword;
+        this.categoryId = categoryId;
+        this.accountId = accountId;
+        this.minAmount = minAmount;
+        this.maxAmount = maxAmount;
+        this.priority = priority;
+        this.active = active;
+    }
+
+    public static CategorizationRule reconstruct(Long id, String keyword, Long categoryId, Long accountId,
+                                                 BigDecimal minAmount, BigDecimal maxAmount, int priority,
+                                                 boolean active) {
+        return new CategorizationRule(id, keyword, categoryId, accountId, minAmount, maxAmount, priority, active);
+    }
+
+    /**
+     * Whether the account and amount predicates hold for a transaction
+     *
+     * @param amount Unsigned transaction amount
+     */
+    public boolean appliesTo(Long transactionAccountId, BigDecimal amount) {
+        if (accountId != null && !accountId.equals(transactionAccountId)) {
+            return false;
+        }
+        if (minAmount != null && amount.compareTo(minAmount) < 0) {
+            return false;
+        }
+        return maxAmount == null || amount.compareTo(maxAmount) <= 0;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public BigDecimal getMinAmount() {
+        return minAmount;
+    }
+
+    public BigDecimal getMaxAmount() {
+        return maxAmount;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+}
@@ -0,0 +1,74 @@
+package com.personal.money.management.core.category.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flat, read-only view of a category used to serve hierarchy reads. Unlike
+ * {@link Category} it references its parent by id only, so a whole tree can
+ * be loaded in a single query and linked in memory.
+ */
+public class CategoryNode {
+    private final Long id;
+    private final String name;
+    private final String icon;
+    private final CategoryType type;
+    private final Long parentId;
+    private final List<CategoryNode> children = new ArrayList<>();
+
+    public CategoryNode(Long id, String name, String icon, CategoryType type, Long parentId) {
+        this.id = id;
+        this.name = name;
+        this.icon = icon;
+        this.type = type;
+        this.parentId = parentId;
+    }
+
+    /**
+     * Links nodes into a forest in one pass. The relative order of the input
+     * is preserved among siblings and roots.
+     */
+    public static List<CategoryNode> buildForest(List<CategoryNode> nodes) {
+        Map<Long, CategoryNode> byId = new HashMap<>(nodes.size() * 2);
+        for (CategoryNode node : nodes) {
+            byId.put(node.getId(), node);
+        }
+        List<CategoryNode> roots = new ArrayList<>();
+        for (CategoryNode node : nodes) {
+            CategoryNode parent = node.getParentId() == null ? null : byId.get(node.getParentId());
+            if (parent == null) {
+                roots.add(node);
+            } else {
+                parent.children.add(node);
+            }
+        }
+        return roots;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getIcon() {
+        return icon;
+    }
+
+    public CategoryType getType() {
+        return type;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public List<CategoryNode> getChildren() {
+        return Collections.unmodifiableList(children);
+    }
+}
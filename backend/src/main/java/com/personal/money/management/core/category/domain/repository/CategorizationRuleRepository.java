@@ -0,0 +1,17 @@
+package com.personal.money.management.core.category.domain.repository;
+
+import com.personal.money.management.core.category.domain.model.CategorizationRule;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CategorizationRuleRepository {
+    CategorizationRule save(CategorizationRule rule);
+    Optional<CategorizationRule> findById(Long id);
+
+    /**
+     * Every rule, active or not, in id order
+     */
+    List<CategorizationRule> findAll();
+    void deleteById(Long id);
+}
@@ -1,6 +1,7 @@
 package com.personal.money.management.core.category.domain.repository;
 
 import com.personal.money.management.core.category.domain.model.Category;
+import com.personal.money.management.core.category.domain.model.CategoryNode;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,4 +14,14 @@ public interface CategoryRepository {
 
     List<Category> findByParent(Category parent);
     Optional<Category> findByName(String name);
+
+    /**
+     * All descendants of a category (excluding itself) as flat nodes sorted by name.
+     */
+    List<CategoryNode> findDescendants(Long ancestorId);
+
+    /**
+     * Whether {@code categoryId} is {@code rootId} itself or one of its descendants.
+     */
+    boolean isInSubtree(Long rootId, Long categoryId);
 }
@@ -0,0 +1,39 @@
+package com.personal.money.management.core.category.infrastructure.persistence;
+
+import javax.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "categorization_rule")
+@Data
+@NoArgsConstructor
+public class CategorizationRuleEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false, length = 200)
+    private String keyword;
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+    @Column(name = "account_id")
+    private Long accountId;
+    @Column(name = "min_amount", precision = 19, scale = 4)
+    private BigDecimal minAmount;
+    @Column(name = "max_amount", precision = 19, scale = 4)
+    private BigDecimal maxAmount;
+    @Column(nullable = false)
+    private int priority;
+    @Column(nullable = false)
+    private boolean active;
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
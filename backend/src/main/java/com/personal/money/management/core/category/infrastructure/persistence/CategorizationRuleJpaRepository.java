@@ -0,0 +1,11 @@
+package com.personal.money.management.core.category.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CategorizationRuleJpaRepository extends JpaRepository<CategorizationRuleEntity, Long> {
+    List<CategorizationRuleEntity> findAllByOrderById();
+}
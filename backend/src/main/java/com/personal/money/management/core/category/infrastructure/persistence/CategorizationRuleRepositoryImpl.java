@@ -0,0 +1,55 @@
+package com.personal.money.management.core.category.infrastructure.persistence;
+
+import com.personal.money.management.core.category.domain.model.CategorizationRule;
+import com.personal.money.management.core.category.domain.repository.CategorizationRuleRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Repository
+public class CategorizationRuleRepositoryImpl implements CategorizationRuleRepository {
+    private final CategorizationRuleJpaRepository jpaRepository;
+
+    public CategorizationRuleRepositoryImpl(CategorizationRuleJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public CategorizationRule save(CategorizationRule rule) {
+        CategorizationRuleEntity entity = rule.getId() == null ? new CategorizationRuleEntity()
+                : jpaRepository.findById(rule.getId()).orElseGet(CategorizationRuleEntity::new);
+        entity.setKeyword(rule.getKeyword());
+        entity.setCategoryId(rule.getCategoryId());
+        entity.setAccountId(rule.getAccountId());
+        entity.setMinAmount(rule.getMinAmount());
+        entity.setMaxAmount(rule.getMaxAmount());
+        entity.setPriority(rule.getPriority());
+        entity.setActive(rule.isActive());
+        return toDomain(jpaRepository.save(entity));
+    }
+
+    @Override
+    public Optional<CategorizationRule> findById(Long id) {
+        return jpaRepository.findById(id).map(CategorizationRuleRepositoryImpl::toDomain);
+    }
+
+    @Override
+    public List<CategorizationRule> findAll() {
+        return jpaRepository.findAllByOrderById().stream()
+                .map(CategorizationRuleRepositoryImpl::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        jpaRepository.deleteById(id);
+    }
+
+    private static CategorizationRule toDomain(CategorizationRuleEntity entity) {
+        return CategorizationRule.reconstruct(entity.getId(), entity.getKeyword(), entity.getCategoryId(),
+                entity.getAccountId(), entity.getMinAmount(), entity.getMaxAmount(), entity.getPriority(),
+                entity.isActive());
+    }
+}
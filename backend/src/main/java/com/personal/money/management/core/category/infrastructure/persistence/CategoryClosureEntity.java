@@ -0,0 +1,86 @@
+package com.personal.money.management.core.category.infrastructure.persistence;
+
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * One row per (ancestor, descendant) pair of the category hierarchy, including
+ * the depth-0 self pair of every category.
+ */
+@Entity
+@Table(name = "category_closure")
+@IdClass(CategoryClosureEntity.Key.class)
+public class CategoryClosureEntity implements Persistable<CategoryClosureEntity.Key> {
+
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId;
+
+    @Column(name = "depth", nullable = false)
+    private int depth;
+
+    public CategoryClosureEntity() {
+    }
+
+    public CategoryClosureEntity(Long ancestorId, Long descendantId, int depth) {
+        this.ancestorId = ancestorId;
+        this.descendantId = descendantId;
+        this.depth = depth;
+    }
+
+    // Closure rows are only inserted, never merged, so skip Spring Data's existence lookup
+    @Override
+    public Key getId() {
+        return new Key(ancestorId, descendantId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    public Long getAncestorId() {
+        return ancestorId;
+    }
+
+    public Long getDescendantId() {
+        return descendantId;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+
+        public Key() {
+        }
+
+        public Key(Long ancestorId, Long descendantId) {
+            this.ancestorId = ancestorId;
+            this.descendantId = descendantId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return Objects.equals(ancestorId, key.ancestorId) && Objects.equals(descendantId, key.descendantId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(ancestorId, descendantId);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.personal.money.management.core.category.infrastructure.persistence;
+
+import com.personal.money.management.core.category.domain.model.CategoryNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CategoryClosureJpaRepository extends JpaRepository<CategoryClosureEntity, CategoryClosureEntity.Key>,
+        CategoryClosureWriter {
+
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    @Query("SELECT new com.personal.money.management.core.category.domain.model.CategoryNode("
+            + "c.id, c.name, c.icon, c.type, c.parent.id) "
+            + "FROM CategoryEntity c, CategoryClosureEntity cl "
+            + "WHERE cl.ancestorId = :ancestorId AND cl.descendantId = c.id AND cl.depth > 0 "
+            + "ORDER BY c.name")
+    List<CategoryNode> findDescendantNodes(@Param("ancestorId") Long ancestorId);
+
+    @Modifying
+    @Query("DELETE FROM CategoryClosureEntity cl WHERE cl.ancestorId = :id OR cl.descendantId = :id")
+    int deleteAllPaths(@Param("id") Long id);
+}
@@ -0,0 +1,24 @@
+package com.personal.money.management.core.category.infrastructure.persistence;
+
+/**
+ * Set-based native statements maintaining the closure table.
+ */
+public interface CategoryClosureWriter {
+
+    /**
+     * Adds the paths from every ancestor of the parent to a newly created leaf.
+     */
+    int insertAncestorPaths(Long id, Long parentId);
+
+    /**
+     * Removes the paths that connect a subtree to the ancestors of its root,
+     * keeping the paths inside the subtree.
+     */
+    int detachSubtree(Long id);
+
+    /**
+     * Connects a detached subtree below a new parent: every ancestor of the
+     * parent becomes an ancestor of every node in the subtree.
+     */
+    int attachSubtree(Long id, Long parentId);
+}
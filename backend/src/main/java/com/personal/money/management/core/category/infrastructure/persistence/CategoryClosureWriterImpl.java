@@ -0,0 +1,53 @@
+package com.personal.money.management.core.category.infrastructure.persistence;
+
+import org.hibernate.query.NativeQuery;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+class CategoryClosureWriterImpl implements CategoryClosureWriter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int insertAncestorPaths(Long id, Long parentId) {
+        return closureStatement("INSERT INTO {h-schema}category_closure (ancestor_id, descendant_id, depth) "
+                + "SELECT ancestor_id, :id, depth + 1 FROM {h-schema}category_closure WHERE descendant_id = :parentId")
+                .setParameter("id", id)
+                .setParameter("parentId", parentId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int detachSubtree(Long id) {
+        return closureStatement("DELETE FROM {h-schema}category_closure "
+                + "WHERE descendant_id IN (SELECT descendant_id FROM {h-schema}category_closure WHERE ancestor_id = :id) "
+                + "AND ancestor_id NOT IN (SELECT descendant_id FROM {h-schema}category_closure WHERE ancestor_id = :id)")
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
+    @Override
+    public int attachSubtree(Long id, Long parentId) {
+        return closureStatement("INSERT INTO {h-schema}category_closure (ancestor_id, descendant_id, depth) "
+                + "SELECT p.ancestor_id, s.descendant_id, p.depth + s.depth + 1 "
+                + "FROM {h-schema}category_closure p, {h-schema}category_closure s "
+                + "WHERE p.descendant_id = :parentId AND s.ancestor_id = :id")
+                .setParameter("id", id)
+                .setParameter("parentId", parentId)
+                .executeUpdate();
+    }
+
+    /**
+     * A native statement declared to touch only the closure table, under whatever
+     * name Hibernate maps it to in the configured schema. Without the declaration
+     * Hibernate assumes a native update touches every table and invalidates the
+     * whole query cache, tax configuration included.
+     */
+    private NativeQuery<?> closureStatement(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(CategoryClosureEntity.class);
+    }
+}
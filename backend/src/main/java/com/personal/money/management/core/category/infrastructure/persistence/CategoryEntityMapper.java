@@ -2,6 +2,11 @@ package com.personal.money.management.core.category.infrastructure.persistence;
 
 import com.personal.money.management.core.category.domain.model.Category;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 public class CategoryEntityMapper {
 
     public static CategoryEntity toEntity(Category category, CategoryEntity existingEntity, CategoryEntity parentEntity) {
@@ -32,4 +37,34 @@ public class CategoryEntityMapper {
             toDomain(entity.getParent())
         );
     }
+
+    /**
+     * Maps a list of entities, converting each category at most once so that
+     * shared ancestors are not rebuilt for every descendant.
+     */
+    public static List<Category> toDomainList(List<CategoryEntity> entities) {
+        Map<Long, Category> mapped = new HashMap<>(entities.size() * 2);
+        return entities.stream()
+                .map(entity -> toDomain(entity, mapped))
+                .collect(Collectors.toList());
+    }
+
+    private static Category toDomain(CategoryEntity entity, Map<Long, Category> mapped) {
+        if (entity == null) return null;
+        Category cached = entity.getId() == null ? null : mapped.get(entity.getId());
+        if (cached != null) {
+            return cached;
+        }
+        Category category = Category.reconstruct(
+            entity.getId(),
+            entity.getName(),
+            entity.getIcon(),
+            entity.getType(),
+            toDomain(entity.getParent(), mapped)
+        );
+        if (entity.getId() != null) {
+            mapped.put(entity.getId(), category);
+        }
+        return category;
+    }
 }
@@ -1,19 +1,23 @@
 package com.personal.money.management.core.category.infrastructure.persistence;
 
 import com.personal.money.management.core.category.domain.model.Category;
+import com.personal.money.management.core.category.domain.model.CategoryNode;
 import com.personal.money.management.core.category.domain.repository.CategoryRepository;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Repository
 public class CategoryRepositoryImpl implements CategoryRepository {
     private final CategoryJpaRepository jpaRepository;
+    private final CategoryClosureJpaRepository closureRepository;
 
-    public CategoryRepositoryImpl(CategoryJpaRepository jpaRepository) {
+    public CategoryRepositoryImpl(CategoryJpaRepository jpaRepository, CategoryClosureJpaRepository closureRepository) {
         this.jpaRepository = jpaRepository;
+        this.closureRepository = closureRepository;
     }
 
     @Override
@@ -25,15 +29,38 @@ public class CategoryRepositoryImpl implements CategoryRepository {
         if (category.getId() != null) {
             existingEntity = jpaRepository.findById(category.getId()).orElse(null);
         }
+        Long previousParentId = existingEntity != null && existingEntity.getParent() != null
+                ? existingEntity.getParent().getId() : null;
         CategoryEntity parentEntity = null;
         if (category.getParent() != null && category.getParent().getId() != null) {
             parentEntity = jpaRepository.findById(category.getParent().getId()).orElse(null);
         }
         CategoryEntity entity = CategoryEntityMapper.toEntity(category, existingEntity, parentEntity);
         CategoryEntity saved = jpaRepository.save(entity);
+        Long parentId = parentEntity != null ? parentEntity.getId() : null;
+        if (existingEntity == null) {
+            addToClosure(saved.getId(), parentId);
+        } else if (!Objects.equals(previousParentId, parentId)) {
+            moveInClosure(saved.getId(), parentId);
+        }
         return CategoryEntityMapper.toDomain(saved);
     }
 
+    private void addToClosure(Long id, Long parentId) {
+        closureRepository.save(new CategoryClosureEntity(id, id, 0));
+        if (parentId != null) {
+            closureRepository.flush();
+            closureRepository.insertAncestorPaths(id, parentId);
+        }
+    }
+
+    private void moveInClosure(Long id, Long newParentId) {
+        closureRepository.detachSubtree(id);
+        if (newParentId != null) {
+            closureRepository.attachSubtree(id, newParentId);
+        }
+    }
+
     @Override
     public Optional<Category> findById(Long id) {
         return jpaRepository.findById(id)
@@ -42,13 +69,12 @@ public class CategoryRepositoryImpl implements CategoryRepository {
 
     @Override
     public List<Category> findAllSortedByName() {
-        return jpaRepository.findAll(Sort.by("name")).stream()
-                .map(CategoryEntityMapper::toDomain)
-                .toList();
+        return CategoryEntityMapper.toDomainList(jpaRepository.findAll(Sort.by("name")));
     }
 
     @Override
     public void deleteById(Long id) {
+        closureRepository.deleteAllPaths(id);
         jpaRepository.deleteById(id);
     }
 
@@ -68,4 +94,14 @@ public class CategoryRepositoryImpl implements CategoryRepository {
         CategoryEntity entity = jpaRepository.findByName(name);
         return Optional.ofNullable(entity).map(CategoryEntityMapper::toDomain);
     }
+
+    @Override
+    public List<CategoryNode> findDescendants(Long ancestorId) {
+        return closureRepository.findDescendantNodes(ancestorId);
+    }
+
+    @Override
+    public boolean isInSubtree(Long rootId, Long categoryId) {
+        return closureRepository.existsByAncestorIdAndDescendantId(rootId, categoryId);
+    }
 }
@@ -0,0 +1,54 @@
+package com.personal.money.management.core.category.interfaces.api;
+
+import com.personal.money.management.core.category.application.CategorizationRuleService;
+import com.personal.money.management.core.category.domain.model.CategorizationRule;
+import com.personal.money.management.core.category.interfaces.api.dto.CategorizationRuleRequest;
+import com.personal.money.management.core.category.interfaces.api.dto.CategorizationRuleResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/categorization-rules")
+public class CategorizationRuleController {
+    private final CategorizationRuleService ruleService;
+
+    public CategorizationRuleController(CategorizationRuleService ruleService) {
+        this.ruleService = ruleService;
+    }
+
+    @GetMapping
+    public List<CategorizationRuleResponse> getAll() {
+        return ruleService.getRules().stream()
+                .map(CategorizationRuleController::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public CategorizationRuleResponse create(@Valid @RequestBody CategorizationRuleRequest request) {
+        return toResponse(ruleService.createRule(request.getKeyword(), request.getCategoryId(), request.getAccountId(),
+                request.getMinAmount(), request.getMaxAmount(), request.getPriority(), request.isActive()));
+    }
+
+    @PutMapping("/{id}")
+    public CategorizationRuleResponse update(@PathVariable Long id, @Valid @RequestBody CategorizationRuleRequest request) {
+        return toResponse(ruleService.updateRule(id, request.getKeyword(), request.getCategoryId(),
+                request.getAccountId(), request.getMinAmount(), request.getMaxAmount(), request.getPriority(),
+                request.isActive()));
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable Long id) {
+        ruleService.deleteRule(id);
+    }
+
+    private static CategorizationRuleResponse toResponse(CategorizationRule rule) {
+        return new CategorizationRuleResponse(rule.getId(), rule.getKeyword(), rule.getCategoryId(),
+                rule.getAccountId(), rule.getMinAmount(), rule.getMaxAmount(), rule.getPriority(), rule.isActive());
+    }
+}
@@ -7,6 +7,7 @@ import com.personal.money.management.core.category.interfaces.api.dto.CategoryRe
 import com.personal.money.management.core.category.interfaces.api.dto.CategoryResponse;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 import javax.validation.Valid;
@@ -18,9 +19,11 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/categories")
 public class CategoryController {
     private final CategoryService categoryService;
+    private final CategoryResponseCache responseCache;
 
-    public CategoryController(CategoryService categoryService) {
+    public CategoryController(CategoryService categoryService, CategoryResponseCache responseCache) {
         this.categoryService = categoryService;
+        this.responseCache = responseCache;
     }
 
     @PostMapping
@@ -35,11 +38,21 @@ public class CategoryController {
         return CategoryMapper.toResponse(category);
     }
 
+    // Served from the catalog snapshot as pre-serialized JSON with an ETag
     @GetMapping
-    public List<CategoryResponse> getAllSortedByName() {
-        List<Category> categories = categoryService.getAllCategoriesSortedByName();
-        return categories.stream()
-                .map(CategoryMapper::toResponse)
+    public ResponseEntity<byte[]> getAllSortedByName() {
+        return responseCache.list(categoryService.getCatalog());
+    }
+
+    @GetMapping("/tree")
+    public ResponseEntity<byte[]> getTree() {
+        return responseCache.tree(categoryService.getCatalog());
+    }
+
+    @GetMapping("/{id}/descendants")
+    public List<CategoryResponse> getDescendants(@PathVariable Long id) {
+        return categoryService.getDescendants(id).stream()
+                .map(CategoryMapper::toNodeResponse)
                 .collect(Collectors.toList());
     }
 
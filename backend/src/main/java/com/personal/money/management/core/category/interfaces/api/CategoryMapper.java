@@ -1,7 +1,9 @@
 package com.personal.money.management.core.category.interfaces.api;
 
 import com.personal.money.management.core.category.domain.model.Category;
+import com.personal.money.management.core.category.domain.model.CategoryNode;
 import com.personal.money.management.core.category.interfaces.api.dto.CategoryResponse;
+import com.personal.money.management.core.category.interfaces.api.dto.CategoryTreeResponse;
 
 public class CategoryMapper {
 
@@ -17,4 +19,33 @@ public class CategoryMapper {
         response.setParentId(category.getParent() != null ? category.getParent().getId() : null);
         return response;
     }
+
+    public static CategoryResponse toNodeResponse(CategoryNode node) {
+        if (node == null) {
+            return null;
+        }
+        CategoryResponse response = new CategoryResponse();
+        response.setId(node.getId());
+        response.setName(node.getName());
+        response.setIcon(node.getIcon());
+        response.setType(node.getType());
+        response.setParentId(node.getParentId());
+        return response;
+    }
+
+    public static CategoryTreeResponse toTreeResponse(CategoryNode node) {
+        if (node == null) {
+            return null;
+        }
+        CategoryTreeResponse response = new CategoryTreeResponse();
+        response.setId(node.getId());
+        response.setName(node.getName());
+        response.setIcon(node.getIcon());
+        response.setType(node.getType());
+        response.setParentId(node.getParentId());
+        for (CategoryNode child : node.getChildren()) {
+            response.getChildren().add(toTreeResponse(child));
+        }
+        return response;
+    }
 }
@@ -0,0 +1,78 @@
+package com.personal.money.management.core.category.interfaces.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.money.management.core.category.application.CategoryCatalog;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serialized category listings keyed by catalog version.
+ *
+ * <p>Each listing is serialized and hashed once per catalog version. The ETag is
+ * derived from the bytes rather than the version, so it stays stable across restarts
+ * and instances; Spring answers a matching {@code If-None-Match} with 304.</p>
+ */
+@Component
+public class CategoryResponseCache {
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<Payload> list = new AtomicReference<>();
+    private final AtomicReference<Payload> tree = new AtomicReference<>();
+
+    public CategoryResponseCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public ResponseEntity<byte[]> list(CategoryCatalog catalog) {
+        return respond(list, catalog, c -> c.getCategories().stream()
+                .map(CategoryMapper::toResponse)
+                .collect(Collectors.toList()));
+    }
+
+    public ResponseEntity<byte[]> tree(CategoryCatalog catalog) {
+        return respond(tree, catalog, c -> c.getTree().stream()
+                .map(CategoryMapper::toTreeResponse)
+                .collect(Collectors.toList()));
+    }
+
+    private ResponseEntity<byte[]> respond(AtomicReference<Payload> slot, CategoryCatalog catalog,
+                                           Function<CategoryCatalog, List<?>> body) {
+        Payload payload = slot.get();
+        if (payload == null || payload.version != catalog.getVersion()) {
+            payload = serialize(catalog.getVersion(), body.apply(catalog));
+            slot.set(payload);
+        }
+        return ResponseEntity.ok()
+                .eTag(payload.etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(payload.bytes);
+    }
+
+    private Payload serialize(long version, List<?> body) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(body);
+            return new Payload(version, bytes, "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize category listing", e);
+        }
+    }
+
+    private static final class Payload {
+        private final long version;
+        private final byte[] bytes;
+        private final String etag;
+
+        private Payload(long version, byte[] bytes, String etag) {
+            this.version = version;
+            this.bytes = bytes;
+            this.etag = etag;
+        }
+    }
+}
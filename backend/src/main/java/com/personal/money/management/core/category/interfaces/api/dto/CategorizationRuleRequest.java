@@ -0,0 +1,32 @@
+package com.personal.money.management.core.category.interfaces.api.dto;
+
+import lombok.Data;
+
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.math.BigDecimal;
+
+@Data
+public class CategorizationRuleRequest {
+    @NotBlank
+    @Size(max = 200)
+    private String keyword;
+
+    @NotNull
+    private Long categoryId;
+
+    // Restricts the rule to one account when set
+    private Long accountId;
+
+    @DecimalMin("0")
+    private BigDecimal minAmount;
+
+    @DecimalMin("0")
+    private BigDecimal maxAmount;
+
+    private int priority;
+
+    private boolean active = true;
+}
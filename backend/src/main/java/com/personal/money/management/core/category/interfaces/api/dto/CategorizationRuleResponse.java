@@ -0,0 +1,21 @@
+package com.personal.money.management.core.category.interfaces.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategorizationRuleResponse {
+    private Long id;
+    private String keyword;
+    private Long categoryId;
+    private Long accountId;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+    private int priority;
+    private boolean active;
+}
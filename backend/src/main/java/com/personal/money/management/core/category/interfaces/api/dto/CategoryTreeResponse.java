@@ -0,0 +1,18 @@
+package com.personal.money.management.core.category.interfaces.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class CategoryTreeResponse extends AbstractCategoryDto {
+    private Long id;
+    private List<CategoryTreeResponse> children = new ArrayList<>();
+}
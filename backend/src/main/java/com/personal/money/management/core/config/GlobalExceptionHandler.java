@@ -1,11 +1,13 @@
 package com.personal.money.management.core.config;
 
+import com.personal.money.management.core.category.application.exception.CategorizationRuleNotFoundException;
 import com.personal.money.management.core.category.application.exception.CategoryHasChildException;
 import com.personal.money.management.core.category.application.exception.CategoryNotFoundException;
 import com.personal.money.management.core.category.application.exception.CategoryCyclicDependencyException;
 import com.personal.money.management.core.category.application.exception.CategoryConflictException;
 import com.personal.money.management.core.category.interfaces.api.dto.ApiErrorResponse;
 import com.personal.money.management.core.account.application.exception.AccountNotFoundException;
+import com.personal.money.management.core.ledger.application.exception.RecurringTransactionNotFoundException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -13,6 +15,8 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.validation.FieldError;
 
+import javax.validation.ConstraintViolationException;
+
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
@@ -26,6 +30,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ExceptionHandler(CategorizationRuleNotFoundException.class)
+    public ResponseEntity<ApiErrorResponse> handleCategorizationRuleNotFoundException(CategorizationRuleNotFoundException ex) {
+        ApiErrorResponse errorResponse = new ApiErrorResponse(
+            HttpStatus.NOT_FOUND.value(),
+            HttpStatus.NOT_FOUND.getReasonPhrase(),
+            ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
     @ExceptionHandler(CategoryHasChildException.class)
     public ResponseEntity<ApiErrorResponse> handleCategoryHasChildException(CategoryHasChildException ex) {
         ApiErrorResponse errorResponse = new ApiErrorResponse(
@@ -56,6 +70,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    @ExceptionHandler(RecurringTransactionNotFoundException.class)
+    public ResponseEntity<ApiErrorResponse> handleRecurringTransactionNotFoundException(RecurringTransactionNotFoundException ex) {
+        ApiErrorResponse errorResponse = new ApiErrorResponse(
+            HttpStatus.NOT_FOUND.value(),
+            HttpStatus.NOT_FOUND.getReasonPhrase(),
+            ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
     @ExceptionHandler(AccountNotFoundException.class)
     public ResponseEntity<ApiErrorResponse> handleAccountNotFoundException(AccountNotFoundException ex) {
         ApiErrorResponse errorResponse = new ApiErrorResponse(
@@ -87,6 +111,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ApiErrorResponse> handleConstraintViolationException(ConstraintViolationException ex) {
+        String message = ex.getConstraintViolations().stream()
+            .map(violation -> violation.getMessage())
+            .findFirst()
+            .orElse("Validation error");
+        ApiErrorResponse errorResponse = new ApiErrorResponse(
+            HttpStatus.BAD_REQUEST.value(),
+            HttpStatus.BAD_REQUEST.getReasonPhrase(),
+            message
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
         ApiErrorResponse errorResponse = new ApiErrorResponse(
@@ -2,6 +2,8 @@ package com.personal.money.management.core.exchange.application;
 
 import com.personal.money.management.core.exchange.infrastructure.persistence.ExchangeRateEntity;
 import com.personal.money.management.core.exchange.infrastructure.persistence.ExchangeRateRepository;
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseSource;
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseTimed;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -18,6 +20,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Service
+@UseCaseTimed
 public class ExchangeRateService {
 
     @Value("${exchangerates.api.url:https://api.exchangeratesapi.io/v1/latest}")
@@ -44,6 +47,7 @@ public class ExchangeRateService {
         CacheEntry entry = cache.get(baseUpper);
         long now = Instant.now().toEpochMilli();
         if (entry != null && (now - entry.timestampMs) < CACHE_TTL_MILLIS) {
+            UseCaseSource.mark(UseCaseSource.CACHE);
             return entry.response;
         }
 
@@ -55,6 +59,7 @@ public class ExchangeRateService {
                 db.getRates().put(baseUpper, 1.0);
             }
             cache.put(baseUpper, new CacheEntry(db, now));
+            UseCaseSource.mark(UseCaseSource.DATABASE);
             return db;
         }
 
@@ -69,6 +74,7 @@ public class ExchangeRateService {
             RatesResponse normalized = normalizeToBase(fetched, baseUpper);
             if (normalized != null) {
                 cache.put(baseUpper, new CacheEntry(normalized, now));
+                UseCaseSource.mark(UseCaseSource.PROVIDER);
                 return normalized;
             }
         }
@@ -76,6 +82,7 @@ public class ExchangeRateService {
         // Return fallback if nothing else worked
         RatesResponse fallback = createFallbackResponse(baseUpper);
         cache.put(baseUpper, new CacheEntry(fallback, now));
+        UseCaseSource.mark(UseCaseSource.FALLBACK);
         return fallback;
     }
 
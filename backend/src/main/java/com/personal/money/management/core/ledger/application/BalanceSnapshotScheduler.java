@@ -0,0 +1,46 @@
+package com.personal.money.management.core.ledger.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Component
+@EnableScheduling
+public class BalanceSnapshotScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(BalanceSnapshotScheduler.class);
+
+    private final BalanceSnapshotService service;
+
+    // Compaction waits for open transactions of an account, so this window only
+    // needs to cover the time between stamping an entry and locking the balance,
+    // and the clock difference between replicas.
+    @Value("${ledger.snapshots.settle-minutes:5}")
+    private long settleMinutes = 5;
+
+    public BalanceSnapshotScheduler(BalanceSnapshotService service) {
+        this.service = service;
+    }
+
+    @Scheduled(cron = "${ledger.snapshots.cron:0 30 1 * * *}")
+    public void compact() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(settleMinutes);
+        int compacted = 0;
+        for (Long accountId : service.findAccountsPendingCompaction()) {
+            try {
+                service.compactAccount(accountId, cutoff);
+                compacted++;
+            } catch (RuntimeException e) {
+                logger.warn("Balance snapshot compaction failed for account {}", accountId, e);
+            }
+        }
+        int pruned = service.pruneDailySnapshots(LocalDate.now());
+        logger.info("Compacted balance snapshots for {} accounts, pruned {} daily snapshots", compacted, pruned);
+    }
+}
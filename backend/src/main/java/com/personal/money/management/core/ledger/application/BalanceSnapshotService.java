@@ -0,0 +1,163 @@
+package com.personal.money.management.core.ledger.application;
+
+import com.personal.money.management.core.account.application.exception.AccountNotFoundException;
+import com.personal.money.management.core.account.domain.model.Account;
+import com.personal.money.management.core.account.domain.repository.AccountRepository;
+import com.personal.money.management.core.ledger.domain.model.BalancePoint;
+import com.personal.money.management.core.ledger.domain.model.BalanceSnapshot;
+import com.personal.money.management.core.ledger.domain.model.DailyMovement;
+import com.personal.money.management.core.ledger.domain.model.SnapshotGranularity;
+import com.personal.money.management.core.ledger.domain.repository.AccountBalanceRepository;
+import com.personal.money.management.core.ledger.domain.repository.BalanceSnapshotRepository;
+import com.personal.money.management.core.ledger.domain.repository.LedgerRepository;
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseTimed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Maintains per-account balance snapshots and answers historical balance
+ * queries from them.
+ *
+ * <p>A snapshot holds the cumulative journal movement up to the end of its date,
+ * covering every entry recorded up to the account's snapshot watermark. The
+ * balance on date D is then the opening balance, plus the latest snapshot on or
+ * before D, plus the entries dated after that snapshot up to D, plus any entries
+ * recorded after the watermark that are back-dated into the snapshot range.</p>
+ */
+@Service
+@UseCaseTimed
+public class BalanceSnapshotService {
+
+    static final LocalDate BEGINNING = LocalDate.of(1900, 1, 1);
+    static final LocalDateTime NEVER = BEGINNING.atStartOfDay();
+    static final int MAX_HISTORY_MONTHS = 120;
+
+    private final LedgerRepository ledgerRepository;
+    private final AccountBalanceRepository accountBalanceRepository;
+    private final BalanceSnapshotRepository snapshotRepository;
+    private final AccountRepository accountRepository;
+
+    @Value("${ledger.snapshots.daily-retention-days:400}")
+    private int dailyRetentionDays = 400;
+
+    public BalanceSnapshotService(LedgerRepository ledgerRepository,
+                                  AccountBalanceRepository accountBalanceRepository,
+                                  BalanceSnapshotRepository snapshotRepository,
+                                  AccountRepository accountRepository) {
+        this.ledgerRepository = ledgerRepository;
+        this.accountBalanceRepository = accountBalanceRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.accountRepository = accountRepository;
+    }
+
+    public List<Long> findAccountsPendingCompaction() {
+        return accountBalanceRepository.findAccountIdsPendingSnapshot();
+    }
+
+    /**
+     * Folds the entries recorded since the last watermark, up to {@code cutoff},
+     * into the account's snapshots. Only snapshots dated on or after the earliest
+     * affected transaction date are rebuilt, starting from the snapshot before it.
+     *
+     * <p>An entry is stamped when it is persisted, not when it commits, so a long
+     * transaction such as a statement import can commit entries stamped before a
+     * cutoff that has already passed. Compaction therefore first waits for every open
+     * transaction journaling for the account, by locking its balance: once it holds
+     * the lock, every entry stamped up to the cutoff is committed and visible.</p>
+     */
+    @Transactional
+    public void compactAccount(Long accountId, LocalDateTime cutoff) {
+        LocalDateTime watermark = accountBalanceRepository.lockSnapshotWatermark(accountId).orElse(NEVER);
+        if (!cutoff.isAfter(watermark)) {
+            return;
+        }
+        Optional<LocalDate> earliest = ledgerRepository.findEarliestDateRecordedBetween(accountId, watermark, cutoff);
+        if (earliest.isPresent()) {
+            rebuildFrom(accountId, earliest.get(), cutoff);
+        }
+        accountBalanceRepository.updateSnapshotWatermark(accountId, cutoff);
+    }
+
+    @Transactional
+    public int pruneDailySnapshots(LocalDate today) {
+        return snapshotRepository.deleteDailyBefore(today.minusDays(dailyRetentionDays));
+    }
+
+    public BalancePoint getBalanceAt(Long accountId, LocalDate date) {
+        Account account = findAccount(accountId);
+        LocalDateTime watermark = accountBalanceRepository.findSnapshotWatermark(accountId).orElse(NEVER);
+        return new BalancePoint(date, account.getInitialBalance().getAmount().add(netMovementAt(accountId, date, watermark)));
+    }
+
+    /**
+     * Month-end balances for every month in {@code [from, to]}.
+     */
+    public List<BalancePoint> getMonthlyBalances(Long accountId, YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Start month must not be after end month");
+        }
+        if (from.plusMonths(MAX_HISTORY_MONTHS).isBefore(to)) {
+            throw new IllegalArgumentException("History is limited to " + MAX_HISTORY_MONTHS + " months");
+        }
+        Account account = findAccount(accountId);
+        BigDecimal opening = account.getInitialBalance().getAmount();
+        LocalDateTime watermark = accountBalanceRepository.findSnapshotWatermark(accountId).orElse(NEVER);
+        List<BalancePoint> points = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            LocalDate date = month.atEndOfMonth();
+            points.add(new BalancePoint(date, opening.add(netMovementAt(accountId, date, watermark))));
+        }
+        return points;
+    }
+
+    private BigDecimal netMovementAt(Long accountId, LocalDate date, LocalDateTime watermark) {
+        Optional<BalanceSnapshot> snapshot = snapshotRepository.findLatestOnOrBefore(accountId, date);
+        LocalDate snapshotDate = snapshot.map(BalanceSnapshot::getSnapshotDate).orElse(BEGINNING);
+        BigDecimal movement = snapshot.map(BalanceSnapshot::getNetMovement).orElse(BigDecimal.ZERO)
+                .add(ledgerRepository.sumMovements(accountId, snapshotDate, date));
+        if (snapshot.isPresent()) {
+            movement = movement.add(ledgerRepository.sumMovementsRecordedAfter(accountId, watermark, snapshotDate));
+        }
+        return movement;
+    }
+
+    private void rebuildFrom(Long accountId, LocalDate from, LocalDateTime cutoff) {
+        snapshotRepository.deleteFrom(accountId, from);
+        Optional<BalanceSnapshot> base = snapshotRepository.findLatestOnOrBefore(accountId, from.minusDays(1));
+        BigDecimal running = base.map(BalanceSnapshot::getNetMovement).orElse(BigDecimal.ZERO);
+        LocalDate baseDate = base.map(BalanceSnapshot::getSnapshotDate).orElse(BEGINNING);
+        LocalDate lastCompleteMonthEnd = YearMonth.from(cutoff).minusMonths(1).atEndOfMonth();
+
+        List<BalanceSnapshot> snapshots = new ArrayList<>();
+        YearMonth month = YearMonth.from(from);
+        for (DailyMovement day : ledgerRepository.sumDailyMovements(accountId, baseDate, cutoff)) {
+            while (!month.atEndOfMonth().isAfter(lastCompleteMonthEnd) && month.atEndOfMonth().isBefore(day.getDate())) {
+                snapshots.add(new BalanceSnapshot(accountId, month.atEndOfMonth(), SnapshotGranularity.MONTH, running));
+                month = month.plusMonths(1);
+            }
+            running = running.add(day.getAmount());
+            if (!day.getDate().isBefore(from)) {
+                snapshots.add(new BalanceSnapshot(accountId, day.getDate(), SnapshotGranularity.DAY, running));
+            }
+        }
+        while (!month.atEndOfMonth().isAfter(lastCompleteMonthEnd)) {
+            snapshots.add(new BalanceSnapshot(accountId, month.atEndOfMonth(), SnapshotGranularity.MONTH, running));
+            month = month.plusMonths(1);
+        }
+        snapshotRepository.saveAll(snapshots);
+    }
+
+    private Account findAccount(Long accountId) {
+        return accountRepository.findById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException("Account not found with id: " + accountId));
+    }
+}
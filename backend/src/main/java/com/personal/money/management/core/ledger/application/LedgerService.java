@@ -0,0 +1,251 @@
+package com.personal.money.management.core.ledger.application;
+
+import com.personal.money.management.core.account.application.exception.AccountNotFoundException;
+import com.personal.money.management.core.account.domain.model.Account;
+import com.personal.money.management.core.account.domain.repository.AccountRepository;
+import com.personal.money.management.core.category.application.CategorizationRuleService;
+import com.personal.money.management.core.category.application.exception.CategoryNotFoundException;
+import com.personal.money.management.core.category.domain.model.Category;
+import com.personal.money.management.core.category.domain.model.CategoryType;
+import com.personal.money.management.core.category.domain.repository.CategoryRepository;
+import com.personal.money.management.core.ledger.domain.event.SpendingRecordedEvent;
+import com.personal.money.management.core.ledger.domain.model.AccountBalance;
+import com.personal.money.management.core.ledger.domain.model.LedgerTransaction;
+import com.personal.money.management.core.ledger.domain.model.SpendingCell;
+import com.personal.money.management.core.ledger.domain.model.TransactionDirection;
+import com.personal.money.management.core.ledger.domain.repository.AccountBalanceRepository;
+import com.personal.money.management.core.ledger.domain.repository.LedgerRepository;
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseTimed;
+import com.personal.money.management.core.shared.infrastructure.outbox.Outbox;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+@Service
+@UseCaseTimed
+public class LedgerService {
+
+    static final int MAX_BATCH_SIZE = 1000;
+    static final int MAX_HISTORY_LIMIT = 500;
+    // Keeps each event's payload well inside the outbox column
+    static final int CELLS_PER_EVENT = 25;
+    static final String OUTBOX_AGGREGATE = "SpendingCube";
+
+    private final LedgerRepository ledgerRepository;
+    private final AccountBalanceRepository accountBalanceRepository;
+    private final AccountRepository accountRepository;
+    private final CategoryRepository categoryRepository;
+    private final CategorizationRuleService categorizationRuleService;
+    private final Outbox outbox;
+
+    public LedgerService(LedgerRepository ledgerRepository,
+                         AccountBalanceRepository accountBalanceRepository,
+                         AccountRepository accountRepository,
+                         CategoryRepository categoryRepository,
+                         CategorizationRuleService categorizationRuleService,
+                         Outbox outbox) {
+        this.ledgerRepository = ledgerRepository;
+        this.accountBalanceRepository = accountBalanceRepository;
+        this.accountRepository = accountRepository;
+        this.categoryRepository = categoryRepository;
+        this.categorizationRuleService = categorizationRuleService;
+        this.outbox = outbox;
+    }
+
+    @Transactional
+    public LedgerTransaction recordTransaction(LedgerTransaction transaction) {
+        return recordTransactions(List.of(transaction)).get(0);
+    }
+
+    /**
+     * Appends a batch of transactions to the journal and folds their movements
+     * into the running balance of each affected account. Entries are journaled
+     * in transaction-date order, and each account balance is updated once per
+     * batch regardless of how many entries it received. The movements of the
+     * spending cube cells go to the outbox, one cell per touched month, category
+     * and account, and {@link SpendingCubeProjection} applies them off the request
+     * path. Uncategorized entries are first matched against the categorization rules.
+     */
+    @Transactional
+    public List<LedgerTransaction> recordTransactions(List<LedgerTransaction> transactions) {
+        if (transactions == null || transactions.isEmpty()) {
+            throw new IllegalArgumentException("At least one transaction is required");
+        }
+        if (transactions.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("A batch may contain at most " + MAX_BATCH_SIZE + " transactions");
+        }
+        List<LedgerTransaction> ordered = categorize(transactions);
+        validate(ordered);
+
+        ordered.sort(Comparator.comparing(LedgerTransaction::getOccurredOn));
+        List<LedgerTransaction> recorded = ledgerRepository.appendAll(ordered);
+
+        // Rows are locked, and first inserts serialized on the account, in ascending account
+        // order so that two batches touching the same accounts cannot deadlock each other
+        Map<Long, BalanceDelta> deltas = new TreeMap<>();
+        for (LedgerTransaction transaction : recorded) {
+            deltas.computeIfAbsent(transaction.getAccountId(),
+                            id -> new BalanceDelta(transaction.getAmount().getCurrency().getCode()))
+                    .add(transaction);
+        }
+        deltas.forEach((accountId, delta) -> accountBalanceRepository.applyMovement(
+                accountId, delta.currency, delta.amount, delta.count, delta.lastEntryId));
+
+        Map<CellKey, CellDelta> cells = new TreeMap<>(CellKey.ORDER);
+        for (LedgerTransaction transaction : recorded) {
+            cells.computeIfAbsent(CellKey.of(transaction), key -> new CellDelta()).add(transaction);
+        }
+        Map<Long, List<SpendingCell>> movements = new TreeMap<>();
+        cells.forEach((key, delta) -> movements.computeIfAbsent(key.accountId, id -> new ArrayList<>())
+                .add(new SpendingCell(key.month, key.categoryId, key.accountId, key.currency,
+                        delta.income, delta.expense, delta.count)));
+        movements.forEach((accountId, accountCells) -> {
+            for (int from = 0; from < accountCells.size(); from += CELLS_PER_EVENT) {
+                List<SpendingCell> chunk = accountCells.subList(from, Math.min(from + CELLS_PER_EVENT, accountCells.size()));
+                outbox.append(OUTBOX_AGGREGATE, accountId, new SpendingRecordedEvent(chunk));
+            }
+        });
+        return recorded;
+    }
+
+    public List<LedgerTransaction> getRecentTransactions(Long accountId, int limit) {
+        if (limit < 1 || limit > MAX_HISTORY_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_HISTORY_LIMIT);
+        }
+        if (accountRepository.findById(accountId).isEmpty()) {
+            throw new AccountNotFoundException("Account not found with id: " + accountId);
+        }
+        return ledgerRepository.findLatestByAccount(accountId, limit);
+    }
+
+    /**
+     * Current balance of an account: its opening balance plus the materialized
+     * journal total. Costs two primary-key lookups regardless of history size.
+     */
+    public AccountBalance getCurrentBalance(Long accountId) {
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException("Account not found with id: " + accountId));
+        String currency = account.getInitialBalance().getCurrency().getCode();
+        return accountBalanceRepository.findByAccountId(accountId)
+                .orElseGet(() -> AccountBalance.empty(accountId, currency))
+                .withOpeningBalance(account.getInitialBalance().getAmount());
+    }
+
+    private List<LedgerTransaction> categorize(List<LedgerTransaction> transactions) {
+        List<LedgerTransaction> categorized = new ArrayList<>(transactions.size());
+        for (LedgerTransaction transaction : transactions) {
+            if (transaction.getCategoryId() == null) {
+                categorized.add(categorizationRuleService.categorize(transaction.getDescription(),
+                                transaction.getAccountId(), transaction.getAmount().getAmount(),
+                                CategoryType.valueOf(transaction.getDirection().name()))
+                        .map(transaction::withCategoryId)
+                        .orElse(transaction));
+            } else {
+                categorized.add(transaction);
+            }
+        }
+        return categorized;
+    }
+
+    private void validate(List<LedgerTransaction> transactions) {
+        Map<Long, Account> accounts = new HashMap<>();
+        Map<Long, Category> categories = new HashMap<>();
+        for (LedgerTransaction transaction : transactions) {
+            Account account = accounts.computeIfAbsent(transaction.getAccountId(), id -> accountRepository.findById(id)
+                    .orElseThrow(() -> new AccountNotFoundException("Account not found with id: " + id)));
+            if (!account.getInitialBalance().getCurrency().equals(transaction.getAmount().getCurrency())) {
+                throw new IllegalArgumentException("Transaction currency " + transaction.getAmount().getCurrency().getCode()
+                        + " does not match account currency " + account.getInitialBalance().getCurrency().getCode());
+            }
+            if (transaction.getCategoryId() != null) {
+                Category category = categories.computeIfAbsent(transaction.getCategoryId(), id -> categoryRepository.findById(id)
+                        .orElseThrow(() -> new CategoryNotFoundException(id)));
+                if (category.getType() != null && !category.getType().name().equals(transaction.getDirection().name())) {
+                    throw new IllegalArgumentException("Category " + category.getName() + " is of type " + category.getType()
+                            + " and cannot be used for " + transaction.getDirection() + " transactions");
+                }
+            }
+        }
+    }
+
+    private static final class CellKey {
+        private static final Comparator<CellKey> ORDER = Comparator.<CellKey, Long>comparing(key -> key.accountId)
+                .thenComparing(key -> key.month)
+                .thenComparing(key -> key.categoryId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(key -> key.currency);
+
+        private final YearMonth month;
+        private final Long categoryId;
+        private final Long accountId;
+        private final String currency;
+
+        private CellKey(YearMonth month, Long categoryId, Long accountId, String currency) {
+            this.month = month;
+            this.categoryId = categoryId;
+            this.accountId = accountId;
+            this.currency = currency;
+        }
+
+        private static CellKey of(LedgerTransaction transaction) {
+            return new CellKey(YearMonth.from(transaction.getOccurredOn()), transaction.getCategoryId(),
+                    transaction.getAccountId(), transaction.getAmount().getCurrency().getCode());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CellKey)) return false;
+            CellKey key = (CellKey) o;
+            return month.equals(key.month) && Objects.equals(categoryId, key.categoryId)
+                    && accountId.equals(key.accountId) && currency.equals(key.currency);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(month, categoryId, accountId, currency);
+        }
+    }
+
+    private static final class CellDelta {
+        private BigDecimal income = BigDecimal.ZERO;
+        private BigDecimal expense = BigDecimal.ZERO;
+        private int count;
+
+        private void add(LedgerTransaction transaction) {
+            if (transaction.getDirection() == TransactionDirection.INCOME) {
+                income = income.add(transaction.getAmount().getAmount());
+            } else {
+                expense = expense.add(transaction.getAmount().getAmount());
+            }
+            count++;
+        }
+    }
+
+    private static final class BalanceDelta {
+        private final String currency;
+        private BigDecimal amount = BigDecimal.ZERO;
+        private int count;
+        private Long lastEntryId;
+
+        private BalanceDelta(String currency) {
+            this.currency = currency;
+        }
+
+        private void add(LedgerTransaction transaction) {
+            amount = amount.add(transaction.signedAmount());
+            count++;
+            if (lastEntryId == null || transaction.getId() > lastEntryId) {
+                lastEntryId = transaction.getId();
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.personal.money.management.core.ledger.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Journals the due occurrences of recurring transactions. The first run after a
+ * start-up catches up every occurrence missed while no instance was running.
+ */
+@Component
+@EnableScheduling
+public class RecurringTransactionScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecurringTransactionScheduler.class);
+
+    private final RecurringTransactionService service;
+
+    @Value("${ledger.recurring.batch-size:100}")
+    private int batchSize = 100;
+
+    public RecurringTransactionScheduler(RecurringTransactionService service) {
+        this.service = service;
+    }
+
+    @Scheduled(fixedDelayString = "${ledger.recurring.poll-interval-ms:3600000}",
+            initialDelayString = "${ledger.recurring.initial-delay-ms:60000}")
+    public void generate() {
+        RecurringTransactionService.GenerationResult result;
+        try {
+            result = service.generateDue(LocalDate.now(), batchSize);
+        } catch (RuntimeException e) {
+            logger.warn("Recurring transaction generation failed", e);
+            return;
+        }
+        if (result.getTemplates() > 0) {
+            logger.info("Journaled {} occurrences of {} recurring transactions",
+                    result.getOccurrences(), result.getTemplates());
+        }
+        if (result.getFailed() > 0) {
+            logger.warn("{} recurring transactions failed and will be retried on the next run", result.getFailed());
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.personal.money.management.core.ledger.application;
+
+import com.personal.money.management.core.account.application.exception.AccountNotFoundException;
+import com.personal.money.management.core.account.domain.model.Account;
+import com.personal.money.management.core.account.domain.repository.AccountRepository;
+import com.personal.money.management.core.category.application.exception.CategoryNotFoundException;
+import com.personal.money.management.core.category.domain.model.Category;
+import com.personal.money.management.core.category.domain.repository.CategoryRepository;
+import com.personal.money.management.core.ledger.application.exception.RecurringTransactionNotFoundException;
+import com.personal.money.management.core.ledger.domain.model.LedgerTransaction;
+import com.personal.money.management.core.ledger.domain.model.RecurrenceFrequency;
+import com.personal.money.management.core.ledger.domain.model.RecurringTransaction;
+import com.personal.money.management.core.ledger.domain.model.TransactionDirection;
+import com.personal.money.management.core.ledger.domain.repository.RecurringTransactionRepository;
+import com.personal.money.management.core.shared.domain.valueobject.Money;
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseTimed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Recurring transaction templates and the generation of their occurrences.
+ *
+ * <p>Due templates are read through the next-run index, a page at a time, so a run
+ * costs in proportion to the templates actually due. Every occurrence missed since
+ * a template last ran is journaled in the same pass, through
+ * {@link LedgerService#recordTransactions} in batches of at most
+ * {@link LedgerService#MAX_BATCH_SIZE}. Each template is journaled and advanced in
+ * a transaction of its own, so an occurrence is journaled exactly when its template
+ * moves past it, and a template that fails stays due for the next run without
+ * holding back the others.</p>
+ */
+@Service
+@UseCaseTimed
+public class RecurringTransactionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecurringTransactionService.class);
+
+    private final RecurringTransactionRepository recurringTransactionRepository;
+    private final LedgerService ledgerService;
+    private final AccountRepository accountRepository;
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public RecurringTransactionService(RecurringTransactionRepository recurringTransactionRepository,
+                                       LedgerService ledgerService,
+                                       AccountRepository accountRepository,
+                                       CategoryRepository categoryRepository,
+                                       PlatformTransactionManager transactionManager) {
+        this.recurringTransactionRepository = recurringTransactionRepository;
+        this.ledgerService = ledgerService;
+        this.accountRepository = accountRepository;
+        this.categoryRepository = categoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Create a template in the currency of its account. Occurrences on or before
+     * today are journaled by the next scheduler run.
+     */
+    @Transactional
+    public RecurringTransaction create(Long accountId, Long categoryId, TransactionDirection direction,
+                                       BigDecimal amount, String description, RecurrenceFrequency frequency,
+                                       int interval, LocalDate startDate, LocalDate endDate) {
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException("Account not found with id: " + accountId));
+        if (categoryId != null) {
+            Category category = categoryRepository.findById(categoryId)
+                    .orElseThrow(() -> new CategoryNotFoundException(categoryId));
+            if (category.getType() != null && direction != null
+                    && !category.getType().name().equals(direction.name())) {
+                throw new IllegalArgumentException("Category " + category.getName() + " is of type " + category.getType()
+                        + " and cannot be used for " + direction + " transactions");
+            }
+        }
+        RecurringTransaction template = new RecurringTransaction(accountId, categoryId, direction,
+                Money.of(amount, account.getInitialBalance().getCurrency()), description, frequency, interval,
+                startDate, endDate);
+        return recurringTransactionRepository.save(template);
+    }
+
+    public List<RecurringTransaction> getByAccount(Long accountId) {
+        return recurringTransactionRepository.findByAccountId(accountId);
+    }
+
+    @Transactional
+    public void delete(Long id) {
+        recurringTransactionRepository.findById(id).orElseThrow(() -> new RecurringTransactionNotFoundException(id));
+        recurringTransactionRepository.deleteById(id);
+    }
+
+    /**
+     * Journal every due occurrence of the templates due on or before {@code today},
+     * earliest first, reading {@code pageSize} templates at a time. A template that
+     * fails, including one another instance advanced first, is logged and skipped.
+     *
+     * @return The templates advanced, occurrences journaled and templates that failed
+     */
+    public GenerationResult generateDue(LocalDate today, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        int templates = 0;
+        int occurrences = 0;
+        int failed = 0;
+        List<RecurringTransaction> page = recurringTransactionRepository.findDue(today, pageSize);
+        while (!page.isEmpty()) {
+            for (RecurringTransaction template : page) {
+                try {
+                    occurrences += transactionTemplate.execute(status -> generate(template, today));
+                    templates++;
+                } catch (RuntimeException e) {
+                    failed++;
+                    logger.warn("Recurring transaction {} was not generated and stays due", template.getId(), e);
+                }
+            }
+            if (page.size() < pageSize) {
+                break;
+            }
+            // Failed templates are still due, so the next page starts after this one
+            page = recurringTransactionRepository.findDueAfter(today, page.get(page.size() - 1), pageSize);
+        }
+        return new GenerationResult(templates, occurrences, failed);
+    }
+
+    /**
+     * Journal the due occurrences of one template and advance it past them
+     *
+     * @return The number of occurrences journaled
+     */
+    private int generate(RecurringTransaction template, LocalDate today) {
+        List<LedgerTransaction> pending = template.dueOccurrences(today);
+        for (int from = 0; from < pending.size(); from += LedgerService.MAX_BATCH_SIZE) {
+            ledgerService.recordTransactions(pending.subList(from,
+                    Math.min(from + LedgerService.MAX_BATCH_SIZE, pending.size())));
+        }
+        recurringTransactionRepository.save(template.advance(pending.size()));
+        return pending.size();
+    }
+
+    public static final class GenerationResult {
+        private final int templates;
+        private final int occurrences;
+        private final int failed;
+
+        public GenerationResult(int templates, int occurrences, int failed) {
+            this.templates = templates;
+            this.occurrences = occurrences;
+            this.failed = failed;
+        }
+
+        public int getTemplates() {
+            return templates;
+        }
+
+        public int getOccurrences() {
+            return occurrences;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+    }
+}
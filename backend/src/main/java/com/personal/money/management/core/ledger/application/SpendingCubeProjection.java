@@ -0,0 +1,54 @@
+package com.personal.money.management.core.ledger.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.personal.money.management.core.ledger.domain.event.SpendingRecordedEvent;
+import com.personal.money.management.core.ledger.domain.model.SpendingCell;
+import com.personal.money.management.core.ledger.domain.repository.SpendingCubeRepository;
+import com.personal.money.management.core.shared.infrastructure.outbox.OutboxEventHandler;
+import com.personal.money.management.core.shared.infrastructure.outbox.OutboxMessage;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Builds the spending cube from the movements {@link LedgerService} writes to the
+ * outbox, so recording transactions does not wait on the cube.
+ *
+ * <p>The cells are incremented in the transaction that removes the event from the
+ * outbox, so each event is applied exactly once even though delivery is at least once.</p>
+ */
+@Component
+public class SpendingCubeProjection implements OutboxEventHandler {
+
+    private final SpendingCubeRepository spendingCubeRepository;
+
+    public SpendingCubeProjection(SpendingCubeRepository spendingCubeRepository) {
+        this.spendingCubeRepository = spendingCubeRepository;
+    }
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(SpendingRecordedEvent.class.getSimpleName());
+    }
+
+    @Override
+    public void handle(OutboxMessage message) {
+        JsonNode cells = message.getPayload().path("cells");
+        List<SpendingCell> movements = new ArrayList<>(cells.size());
+        for (JsonNode cell : cells) {
+            JsonNode categoryId = cell.path("categoryId");
+            movements.add(new SpendingCell(
+                    YearMonth.parse(cell.path("month").asText()),
+                    categoryId.isNull() || categoryId.isMissingNode() ? null : categoryId.asLong(),
+                    cell.path("accountId").asLong(),
+                    cell.path("currency").asText(),
+                    cell.path("income").decimalValue(),
+                    cell.path("expense").decimalValue(),
+                    cell.path("entryCount").asLong()));
+        }
+        spendingCubeRepository.applyMovements(movements);
+    }
+}
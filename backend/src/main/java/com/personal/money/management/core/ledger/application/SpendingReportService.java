@@ -0,0 +1,136 @@
+package com.personal.money.management.core.ledger.application;
+
+import com.personal.money.management.core.account.application.exception.AccountNotFoundException;
+import com.personal.money.management.core.account.domain.repository.AccountRepository;
+import com.personal.money.management.core.category.application.CategoryCatalog;
+import com.personal.money.management.core.category.application.CategoryService;
+import com.personal.money.management.core.category.domain.model.Category;
+import com.personal.money.management.core.ledger.domain.model.CategorySpending;
+import com.personal.money.management.core.ledger.domain.model.SpendingCell;
+import com.personal.money.management.core.ledger.domain.repository.SpendingCubeRepository;
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseTimed;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Monthly income and expense per category, read from the spending cube that
+ * {@link SpendingCubeProjection} builds from recorded transactions. The cube trails
+ * the journal by up to one outbox poll.
+ *
+ * <p>The cube holds each entry under its own category only. Totals are rolled up
+ * to parent categories at query time along the ancestor lists of the cached
+ * {@link CategoryCatalog}, so a report costs one read of the cells in range and no
+ * journal scan or hierarchy query, and moving a category needs no cube rewrite.</p>
+ */
+@Service
+@UseCaseTimed
+public class SpendingReportService {
+
+    static final int MAX_REPORT_MONTHS = 120;
+
+    private final SpendingCubeRepository spendingCubeRepository;
+    private final CategoryService categoryService;
+    private final AccountRepository accountRepository;
+
+    public SpendingReportService(SpendingCubeRepository spendingCubeRepository,
+                                 CategoryService categoryService,
+                                 AccountRepository accountRepository) {
+        this.spendingCubeRepository = spendingCubeRepository;
+        this.categoryService = categoryService;
+        this.accountRepository = accountRepository;
+    }
+
+    /**
+     * Totals of every category with entries in {@code [from, to]}, each including its
+     * descendants, ordered by month, currency and category name; uncategorized
+     * entries come last in their month.
+     *
+     * @param accountId Only this account's entries, or every account when null
+     */
+    public List<CategorySpending> getMonthlySpending(YearMonth from, YearMonth to, Long accountId) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Start month must not be after end month");
+        }
+        if (from.plusMonths(MAX_REPORT_MONTHS).isBefore(to)) {
+            throw new IllegalArgumentException("Reports are limited to " + MAX_REPORT_MONTHS + " months");
+        }
+        if (accountId != null && accountRepository.findById(accountId).isEmpty()) {
+            throw new AccountNotFoundException("Account not found with id: " + accountId);
+        }
+
+        CategoryCatalog catalog = categoryService.getCatalog();
+        Map<RollUpKey, RollUp> totals = new HashMap<>();
+        for (SpendingCell cell : spendingCubeRepository.findCells(from, to, accountId)) {
+            for (Long categoryId : ancestorsOf(catalog, cell.getCategoryId())) {
+                totals.computeIfAbsent(new RollUpKey(cell.getMonth(), categoryId, cell.getCurrency()),
+                        key -> new RollUp()).add(cell);
+            }
+        }
+
+        List<CategorySpending> report = new ArrayList<>(totals.size());
+        totals.forEach((key, total) -> report.add(new CategorySpending(key.month, key.categoryId,
+                key.categoryId == null ? null : catalog.findById(key.categoryId).map(Category::getName).orElse(null),
+                key.currency, total.income, total.expense, total.count)));
+        report.sort(Comparator.comparing(CategorySpending::getMonth)
+                .thenComparing(CategorySpending::getCurrency)
+                .thenComparing(spending -> spending.getCategoryId() == null)
+                .thenComparing(CategorySpending::getCategoryName, Comparator.nullsLast(Comparator.naturalOrder())));
+        return report;
+    }
+
+    private static List<Long> ancestorsOf(CategoryCatalog catalog, Long categoryId) {
+        if (categoryId == null) {
+            return Collections.singletonList(null);
+        }
+        List<Long> ancestors = catalog.getAncestorIds(categoryId);
+        // A category created after the catalog snapshot is reported on its own
+        return ancestors.isEmpty() ? List.of(categoryId) : ancestors;
+    }
+
+    private static final class RollUpKey {
+        private final YearMonth month;
+        private final Long categoryId;
+        private final String currency;
+
+        private RollUpKey(YearMonth month, Long categoryId, String currency) {
+            this.month = month;
+            this.categoryId = categoryId;
+            this.currency = currency;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof RollUpKey)) return false;
+            RollUpKey key = (RollUpKey) o;
+            return month.equals(key.month) && Objects.equals(categoryId, key.categoryId)
+                    && currency.equals(key.currency);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(month, categoryId, currency);
+        }
+    }
+
+    private static final class RollUp {
+        private BigDecimal income = BigDecimal.ZERO;
+        private BigDecimal expense = BigDecimal.ZERO;
+        private long count;
+
+        private void add(SpendingCell cell) {
+            income = income.add(cell.getIncome());
+            expense = expense.add(cell.getExpense());
+            count += cell.getEntryCount();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.personal.money.management.core.ledger.application;
+
+import com.personal.money.management.core.account.application.exception.AccountNotFoundException;
+import com.personal.money.management.core.account.domain.model.Account;
+import com.personal.money.management.core.account.domain.repository.AccountRepository;
+import com.personal.money.management.core.ledger.domain.model.LedgerTransaction;
+import com.personal.money.management.core.ledger.domain.model.StatementFormat;
+import com.personal.money.management.core.ledger.domain.model.StatementImportResult;
+import com.personal.money.management.core.ledger.domain.model.StatementLine;
+import com.personal.money.management.core.ledger.domain.model.TransactionDirection;
+import com.personal.money.management.core.ledger.domain.model.TransactionFingerprint;
+import com.personal.money.management.core.ledger.domain.repository.LedgerRepository;
+import com.personal.money.management.core.ledger.infrastructure.statement.StatementReader;
+import com.personal.money.management.core.shared.domain.valueobject.CurrencyCode;
+import com.personal.money.management.core.shared.domain.valueobject.Money;
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseTimed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports bank statements into the ledger, skipping lines an earlier import
+ * already journaled. The file is streamed and journaled in chunks, so memory stays
+ * bounded by the chunk size plus the counters of one statement date. Statements must
+ * therefore list each date's lines together, in ascending or descending date order.
+ *
+ * <p>Duplicates are found by {@link TransactionFingerprint}: each chunk's
+ * fingerprints are looked up in the unique fingerprint index with one query, so an
+ * import never reads the rest of the account's history. The unique index also rejects an overlapping import of the same
+ * lines committed concurrently, failing the later import so it can be retried.</p>
+ */
+@Service
+@UseCaseTimed
+public class StatementImportService {
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_DESCRIPTION_LENGTH = 1000;
+
+    private final LedgerService ledgerService;
+    private final LedgerRepository ledgerRepository;
+    private final AccountRepository accountRepository;
+
+    public StatementImportService(LedgerService ledgerService, LedgerRepository ledgerRepository,
+                                  AccountRepository accountRepository) {
+        this.ledgerService = ledgerService;
+        this.ledgerRepository = ledgerRepository;
+        this.accountRepository = accountRepository;
+    }
+
+    /**
+     * Journal every line of the statement not already in the account's ledger,
+     * atomically. Positive amounts are income, negative amounts expenses.
+     *
+     * @throws IllegalArgumentException when the statement cannot be parsed, or lists the
+     *                                  lines of one date apart
+     */
+    @Transactional
+    public StatementImportResult importStatement(Long accountId, StatementFormat format, InputStream input) {
+        if (format == null) {
+            throw new IllegalArgumentException("Statement format is required");
+        }
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException("Account not found with id: " + accountId));
+        CurrencyCode currency = account.getInitialBalance().getCurrency();
+
+        OccurrenceCounter occurrences = new OccurrenceCounter();
+        List<LedgerTransaction> chunk = new ArrayList<>(CHUNK_SIZE);
+        int linesRead = 0;
+        int skipped = 0;
+        int duplicates = 0;
+        try (StatementReader reader = StatementReader.open(format, input)) {
+            StatementLine line;
+            while ((line = reader.next()) != null) {
+                linesRead++;
+                if (line.getAmount().signum() == 0) {
+                    skipped++;
+                    continue;
+                }
+                chunk.add(toTransaction(accountId, currency, line, occurrences));
+                if (chunk.size() == CHUNK_SIZE) {
+                    duplicates += flush(chunk);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Statement could not be read: " + e.getMessage(), e);
+        }
+        if (!chunk.isEmpty()) {
+            duplicates += flush(chunk);
+        }
+        return new StatementImportResult(linesRead, linesRead - skipped - duplicates, duplicates, skipped);
+    }
+
+    private LedgerTransaction toTransaction(Long accountId, CurrencyCode currency, StatementLine line,
+                                            OccurrenceCounter occurrences) {
+        String base = TransactionFingerprint.of(accountId, line.getDate(), line.getAmount(), line.getDescription(), 0);
+        int occurrence = occurrences.next(line.getDate(), base);
+        String fingerprint = occurrence == 0 ? base
+                : TransactionFingerprint.of(accountId, line.getDate(), line.getAmount(), line.getDescription(), occurrence);
+        TransactionDirection direction = line.getAmount().signum() > 0
+                ? TransactionDirection.INCOME : TransactionDirection.EXPENSE;
+        String description = line.getDescription();
+        if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+            description = description.substring(0, MAX_DESCRIPTION_LENGTH);
+        }
+        return new LedgerTransaction(accountId, null, direction, Money.of(line.getAmount().abs(), currency),
+                line.getDate(), description).withFingerprint(fingerprint);
+    }
+
+    /**
+     * Journal the chunk minus the lines already in the ledger, then clear it
+     *
+     * @return The number of duplicates dropped
+     */
+    private int flush(List<LedgerTransaction> chunk) {
+        Set<String> existing = ledgerRepository.findExistingFingerprints(chunk.stream()
+                .map(LedgerTransaction::getFingerprint)
+                .collect(Collectors.toList()));
+        List<LedgerTransaction> fresh = new ArrayList<>(chunk.size());
+        for (LedgerTransaction transaction : chunk) {
+            if (!existing.contains(transaction.getFingerprint())) {
+                fresh.add(transaction);
+            }
+        }
+        if (!fresh.isEmpty()) {
+            ledgerService.recordTransactions(fresh);
+        }
+        int duplicates = chunk.size() - fresh.size();
+        chunk.clear();
+        return duplicates;
+    }
+
+    /**
+     * Numbers the identical lines of one date 0, 1, 2... so each gets its own
+     * fingerprint. Only the current date's counters are kept; a date that comes back
+     * after another has started cannot be numbered and rejects the statement.
+     */
+    private static final class OccurrenceCounter {
+        private final Map<String, Integer> counts = new HashMap<>();
+        private final Set<LocalDate> finishedDates = new HashSet<>();
+        private LocalDate date;
+
+        private int next(LocalDate lineDate, String base) {
+            if (!lineDate.equals(date)) {
+                if (finishedDates.contains(lineDate)) {
+                    throw new IllegalArgumentException(
+                            "Statement lines dated " + lineDate + " must be listed together");
+                }
+                if (date != null) {
+                    finishedDates.add(date);
+                }
+                counts.clear();
+                date = lineDate;
+            }
+            return counts.merge(base, 1, Integer::sum) - 1;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.personal.money.management.core.ledger.application.exception;
+
+public class RecurringTransactionNotFoundException extends RuntimeException {
+    public RecurringTransactionNotFoundException(Long id) {
+        super("Recurring transaction not found with id: " + id);
+    }
+}
@@ -0,0 +1,21 @@
+package com.personal.money.management.core.ledger.domain.event;
+
+import com.personal.money.management.core.ledger.domain.model.SpendingCell;
+
+import java.util.List;
+
+/**
+ * Published when journal entries are recorded: the movements they add to the
+ * spending cube cells of one account.
+ */
+public class SpendingRecordedEvent {
+    private final List<SpendingCell> cells;
+
+    public SpendingRecordedEvent(List<SpendingCell> cells) {
+        this.cells = List.copyOf(cells);
+    }
+
+    public List<SpendingCell> getCells() {
+        return cells;
+    }
+}
@@ -0,0 +1,62 @@
+package com.personal.money.management.core.ledger.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Current balance of an account: the opening balance of the account plus the
+ * materialized sum of all journal movements recorded against it.
+ */
+public class AccountBalance {
+    private final Long accountId;
+    private final String currency;
+    private final BigDecimal openingBalance;
+    private final BigDecimal netMovement;
+    private final long entryCount;
+    private final Long lastEntryId;
+
+    public AccountBalance(Long accountId, String currency, BigDecimal openingBalance,
+                          BigDecimal netMovement, long entryCount, Long lastEntryId) {
+        this.accountId = accountId;
+        this.currency = currency;
+        this.openingBalance = openingBalance;
+        this.netMovement = netMovement;
+        this.entryCount = entryCount;
+        this.lastEntryId = lastEntryId;
+    }
+
+    public static AccountBalance empty(Long accountId, String currency) {
+        return new AccountBalance(accountId, currency, BigDecimal.ZERO, BigDecimal.ZERO, 0, null);
+    }
+
+    public AccountBalance withOpeningBalance(BigDecimal openingBalance) {
+        return new AccountBalance(accountId, currency, openingBalance, netMovement, entryCount, lastEntryId);
+    }
+
+    public BigDecimal getBalance() {
+        return openingBalance.add(netMovement);
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public BigDecimal getOpeningBalance() {
+        return openingBalance;
+    }
+
+    public BigDecimal getNetMovement() {
+        return netMovement;
+    }
+
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    public Long getLastEntryId() {
+        return lastEntryId;
+    }
+}
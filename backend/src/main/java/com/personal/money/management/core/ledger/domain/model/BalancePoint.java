@@ -0,0 +1,25 @@
+package com.personal.money.management.core.ledger.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Balance of an account at the end of a given date.
+ */
+public class BalancePoint {
+    private final LocalDate date;
+    private final BigDecimal balance;
+
+    public BalancePoint(LocalDate date, BigDecimal balance) {
+        this.date = date;
+        this.balance = balance;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+}
@@ -0,0 +1,38 @@
+package com.personal.money.management.core.ledger.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Cumulative journal movement of an account up to and including a date.
+ * The opening balance of the account is not part of the snapshot.
+ */
+public class BalanceSnapshot {
+    private final Long accountId;
+    private final LocalDate snapshotDate;
+    private final SnapshotGranularity granularity;
+    private final BigDecimal netMovement;
+
+    public BalanceSnapshot(Long accountId, LocalDate snapshotDate, SnapshotGranularity granularity, BigDecimal netMovement) {
+        this.accountId = accountId;
+        this.snapshotDate = snapshotDate;
+        this.granularity = granularity;
+        this.netMovement = netMovement;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public LocalDate getSnapshotDate() {
+        return snapshotDate;
+    }
+
+    public SnapshotGranularity getGranularity() {
+        return granularity;
+    }
+
+    public BigDecimal getNetMovement() {
+        return netMovement;
+    }
+}
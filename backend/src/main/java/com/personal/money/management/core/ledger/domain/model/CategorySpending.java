@@ -0,0 +1,60 @@
+package com.personal.money.management.core.ledger.domain.model;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Income and expense of one category in one month and currency, including every
+ * descendant category.
+ */
+public class CategorySpending {
+    private final YearMonth month;
+    private final Long categoryId;
+    private final String categoryName;
+    private final String currency;
+    private final BigDecimal income;
+    private final BigDecimal expense;
+    private final long entryCount;
+
+    /**
+     * @param categoryId null for the uncategorized entries
+     */
+    public CategorySpending(YearMonth month, Long categoryId, String categoryName, String currency,
+                            BigDecimal income, BigDecimal expense, long entryCount) {
+        this.month = month;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.currency = currency;
+        this.income = income;
+        this.expense = expense;
+        this.entryCount = entryCount;
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public BigDecimal getIncome() {
+        return income;
+    }
+
+    public BigDecimal getExpense() {
+        return expense;
+    }
+
+    public long getEntryCount() {
+        return entryCount;
+    }
+}
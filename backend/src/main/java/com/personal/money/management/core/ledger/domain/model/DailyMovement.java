@@ -0,0 +1,25 @@
+package com.personal.money.management.core.ledger.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Net signed movement of one account on one transaction date.
+ */
+public class DailyMovement {
+    private final LocalDate date;
+    private final BigDecimal amount;
+
+    public DailyMovement(LocalDate date, BigDecimal amount) {
+        this.date = date;
+        this.amount = amount;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+}
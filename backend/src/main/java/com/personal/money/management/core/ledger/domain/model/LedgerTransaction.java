@@ -0,0 +1,126 @@
+package com.personal.money.management.core.ledger.domain.model;
+
+import com.personal.money.management.core.shared.domain.AggregateRoot;
+import com.personal.money.management.core.shared.domain.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Aggregate Root representing a single money movement recorded in the ledger.
+ *
+ * <p>Responsibilities:</p>
+ * <ul>
+ *   <li>Links a money movement to an account and, optionally, a category</li>
+ *   <li>Carries the non-negative amount together with its direction</li>
+ *   <li>Exposes the signed movement applied to the account balance</li>
+ * </ul>
+ *
+ * <p>Business Rules:</p>
+ * <ul>
+ *   <li>Transactions are append-only; corrections are recorded as new entries</li>
+ *   <li>Transaction currency must match the account currency</li>
+ *   <li>A categorized transaction must use a category of the same type as its direction</li>
+ *   <li>A statement line is imported at most once: imported entries carry a unique fingerprint</li>
+ * </ul>
+ */
+@AggregateRoot(
+    boundedContext = "ledger",
+    description = "Records account money movements in an append-only journal and keeps running account balances."
+)
+public class LedgerTransaction {
+    private final Long id;
+    private final Long accountId;
+    private final Long categoryId;
+    private final TransactionDirection direction;
+    private final Money amount;
+    private final LocalDate occurredOn;
+    private final String description;
+    private final String fingerprint;
+
+    public LedgerTransaction(Long accountId, Long categoryId, TransactionDirection direction,
+                             Money amount, LocalDate occurredOn, String description) {
+        this(null, accountId, categoryId, direction, amount, occurredOn, description, null);
+    }
+
+    private LedgerTransaction(Long id, Long accountId, Long categoryId, TransactionDirection direction,
+                              Money amount, LocalDate occurredOn, String description, String fingerprint) {
+        this.id = id;
+        this.accountId = Objects.requireNonNull(accountId, "Account id must not be null");
+        this.categoryId = categoryId;
+        this.direction = Objects.requireNonNull(direction, "Direction must not be null");
+        this.amount = Objects.requireNonNull(amount, "Amount must not be null");
+        this.occurredOn = Objects.requireNonNull(occurredOn, "Transaction date must not be null");
+        this.description = description;
+        this.fingerprint = fingerprint;
+    }
+
+    public static LedgerTransaction reconstruct(Long id, Long accountId, Long categoryId, TransactionDirection direction,
+                                                Money amount, LocalDate occurredOn, String description) {
+        return reconstruct(id, accountId, categoryId, direction, amount, occurredOn, description, null);
+    }
+
+    public static LedgerTransaction reconstruct(Long id, Long accountId, Long categoryId, TransactionDirection direction,
+                                                Money amount, LocalDate occurredOn, String description,
+                                                String fingerprint) {
+        return new LedgerTransaction(id, accountId, categoryId, direction, amount, occurredOn, description, fingerprint);
+    }
+
+    /**
+     * A copy of this unrecorded transaction carrying the fingerprint of the statement
+     * line it was imported from; a second entry with the same fingerprint is rejected.
+     */
+    public LedgerTransaction withFingerprint(String fingerprint) {
+        return new LedgerTransaction(id, accountId, categoryId, direction, amount, occurredOn, description, fingerprint);
+    }
+
+    /**
+     * A copy of this unrecorded transaction assigned to a category.
+     */
+    public LedgerTransaction withCategoryId(Long categoryId) {
+        return new LedgerTransaction(id, accountId, categoryId, direction, amount, occurredOn, description, fingerprint);
+    }
+
+    /**
+     * Signed movement of this transaction: positive for income, negative for expense.
+     */
+    public BigDecimal signedAmount() {
+        return direction.apply(amount.getAmount());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public TransactionDirection getDirection() {
+        return direction;
+    }
+
+    public Money getAmount() {
+        return amount;
+    }
+
+    public LocalDate getOccurredOn() {
+        return occurredOn;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Null unless the transaction was imported from a bank statement
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+}
@@ -0,0 +1,26 @@
+package com.personal.money.management.core.ledger.domain.model;
+
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Unit of the interval between two occurrences of a recurring transaction.
+ */
+public enum RecurrenceFrequency {
+    DAILY(ChronoUnit.DAYS),
+    WEEKLY(ChronoUnit.WEEKS),
+    /**
+     * Same day of the month as the start date, or the last day of shorter months
+     */
+    MONTHLY(ChronoUnit.MONTHS),
+    YEARLY(ChronoUnit.YEARS);
+
+    private final ChronoUnit unit;
+
+    RecurrenceFrequency(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public ChronoUnit getUnit() {
+        return unit;
+    }
+}
@@ -0,0 +1,178 @@
+package com.personal.money.management.core.ledger.domain.model;
+
+import com.personal.money.management.core.shared.domain.AggregateRoot;
+import com.personal.money.management.core.shared.domain.valueobject.Money;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Aggregate Root representing a template of transactions that repeat on a schedule,
+ * such as a salary, rent or a subscription.
+ *
+ * <p>Responsibilities:</p>
+ * <ul>
+ *   <li>Defines the transaction journaled at each occurrence</li>
+ *   <li>Computes occurrence dates from the start date, frequency and interval</li>
+ *   <li>Tracks how many occurrences were journaled and when the next one is due</li>
+ * </ul>
+ *
+ * <p>Business Rules:</p>
+ * <ul>
+ *   <li>Occurrence n falls n intervals after the start date, so monthly templates
+ *       starting on the 31st keep returning to the 31st after shorter months</li>
+ *   <li>Every occurrence up to the end date, if any, is journaled exactly once,
+ *       including occurrences missed while the scheduler was not running</li>
+ * </ul>
+ */
+@AggregateRoot(
+    boundedContext = "ledger",
+    description = "Schedules repeating transactions and tracks which occurrences were journaled."
+)
+public class RecurringTransaction {
+    private final Long id;
+    private final Long accountId;
+    private final Long categoryId;
+    private final TransactionDirection direction;
+    private final Money amount;
+    private final String description;
+    private final RecurrenceFrequency frequency;
+    private final int interval;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int occurrencesGenerated;
+    private final Long version;
+
+    public RecurringTransaction(Long accountId, Long categoryId, TransactionDirection direction, Money amount,
+                                String description, RecurrenceFrequency frequency, int interval,
+                                LocalDate startDate, LocalDate endDate) {
+        this(null, accountId, categoryId, direction, amount, description, frequency, interval, startDate, endDate,
+                0, null);
+        if (amount.getAmount().signum() <= 0) {
+            throw new IllegalArgumentException("Amount must be positive");
+        }
+        if (interval < 1) {
+            throw new IllegalArgumentException("Interval must be at least 1");
+        }
+        if (endDate != null && endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+    }
+
+    private RecurringTransaction(Long id, Long accountId, Long categoryId, TransactionDirection direction,
+                                 Money amount, String description, RecurrenceFrequency frequency, int interval,
+                                 LocalDate startDate, LocalDate endDate, int occurrencesGenerated, Long version) {
+        this.id = id;
+        this.accountId = Objects.requireNonNull(accountId, "Account id must not be null");
+        this.categoryId = categoryId;
+        this.direction = Objects.requireNonNull(direction, "Direction must not be null");
+        this.amount = Objects.requireNonNull(amount, "Amount must not be null");
+        this.description = description;
+        this.frequency = Objects.requireNonNull(frequency, "Frequency must not be null");
+        this.interval = interval;
+        this.startDate = Objects.requireNonNull(startDate, "Start date must not be null");
+        this.endDate = endDate;
+        this.occurrencesGenerated = occurrencesGenerated;
+        this.version = version;
+    }
+
+    public static RecurringTransaction reconstruct(Long id, Long accountId, Long categoryId,
+                                                   TransactionDirection direction, Money amount, String description,
+                                                   RecurrenceFrequency frequency, int interval, LocalDate startDate,
+                                                   LocalDate endDate, int occurrencesGenerated, Long version) {
+        return new RecurringTransaction(id, accountId, categoryId, direction, amount, description, frequency,
+                interval, startDate, endDate, occurrencesGenerated, version);
+    }
+
+    /**
+     * Date of occurrence {@code n}, counting the start date as occurrence 0
+     */
+    public LocalDate occurrenceDate(int n) {
+        return startDate.plus((long) n * interval, frequency.getUnit());
+    }
+
+    /**
+     * Date of the next occurrence still to be journaled; null once the end date is passed
+     */
+    public LocalDate getNextRunOn() {
+        LocalDate next = occurrenceDate(occurrencesGenerated);
+        return endDate != null && next.isAfter(endDate) ? null : next;
+    }
+
+    /**
+     * The transactions of every occurrence due on or before {@code today} and not
+     * journaled yet, oldest first
+     */
+    public List<LedgerTransaction> dueOccurrences(LocalDate today) {
+        List<LedgerTransaction> due = new ArrayList<>();
+        for (int n = occurrencesGenerated; ; n++) {
+            LocalDate date = occurrenceDate(n);
+            if (date.isAfter(today) || (endDate != null && date.isAfter(endDate))) {
+                return due;
+            }
+            due.add(new LedgerTransaction(accountId, categoryId, direction, amount, date, description));
+        }
+    }
+
+    /**
+     * This template after {@code count} more occurrences were journaled
+     */
+    public RecurringTransaction advance(int count) {
+        return new RecurringTransaction(id, accountId, categoryId, direction, amount, description, frequency,
+                interval, startDate, endDate, occurrencesGenerated + count, version);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public TransactionDirection getDirection() {
+        return direction;
+    }
+
+    public Money getAmount() {
+        return amount;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public RecurrenceFrequency getFrequency() {
+        return frequency;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public int getOccurrencesGenerated() {
+        return occurrencesGenerated;
+    }
+
+    /**
+     * Optimistic lock version; a template advanced concurrently by another
+     * scheduler instance fails to save rather than journaling occurrences twice
+     */
+    public Long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,11 @@
+package com.personal.money.management.core.ledger.domain.model;
+
+/**
+ * Resolution of a balance snapshot. Daily snapshots are written for days with
+ * activity and pruned after a retention window; monthly snapshots are kept for
+ * the whole history.
+ */
+public enum SnapshotGranularity {
+    DAY,
+    MONTH
+}
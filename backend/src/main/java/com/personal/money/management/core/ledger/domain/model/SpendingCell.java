@@ -0,0 +1,60 @@
+package com.personal.money.management.core.ledger.domain.model;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Income and expense totals of one account in one category and month: a cell of
+ * the spending cube. Also used for the movement a batch adds to a cell.
+ */
+public class SpendingCell {
+    private final YearMonth month;
+    private final Long categoryId;
+    private final Long accountId;
+    private final String currency;
+    private final BigDecimal income;
+    private final BigDecimal expense;
+    private final long entryCount;
+
+    /**
+     * @param categoryId null for uncategorized entries
+     */
+    public SpendingCell(YearMonth month, Long categoryId, Long accountId, String currency,
+                        BigDecimal income, BigDecimal expense, long entryCount) {
+        this.month = month;
+        this.categoryId = categoryId;
+        this.accountId = accountId;
+        this.currency = currency;
+        this.income = income;
+        this.expense = expense;
+        this.entryCount = entryCount;
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public BigDecimal getIncome() {
+        return income;
+    }
+
+    public BigDecimal getExpense() {
+        return expense;
+    }
+
+    public long getEntryCount() {
+        return entryCount;
+    }
+}
@@ -0,0 +1,16 @@
+package com.personal.money.management.core.ledger.domain.model;
+
+/**
+ * File formats of bank statement exports that can be imported.
+ */
+public enum StatementFormat {
+    /**
+     * Comma-separated values with a header row naming {@code date}, {@code description}
+     * and {@code amount} columns in any order; negative amounts are expenses.
+     */
+    CSV,
+    /**
+     * Open Financial Exchange, SGML (1.x) or XML (2.x); one line per {@code STMTTRN}.
+     */
+    OFX
+}
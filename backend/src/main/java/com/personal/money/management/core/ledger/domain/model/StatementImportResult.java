@@ -0,0 +1,43 @@
+package com.personal.money.management.core.ledger.domain.model;
+
+/**
+ * Outcome of importing one bank statement.
+ */
+public class StatementImportResult {
+    private final int linesRead;
+    private final int imported;
+    private final int duplicates;
+    private final int skipped;
+
+    public StatementImportResult(int linesRead, int imported, int duplicates, int skipped) {
+        this.linesRead = linesRead;
+        this.imported = imported;
+        this.duplicates = duplicates;
+        this.skipped = skipped;
+    }
+
+    public int getLinesRead() {
+        return linesRead;
+    }
+
+    /**
+     * Lines recorded as new ledger transactions
+     */
+    public int getImported() {
+        return imported;
+    }
+
+    /**
+     * Lines already journaled by an earlier import
+     */
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    /**
+     * Zero-amount lines, which move no money and are not journaled
+     */
+    public int getSkipped() {
+        return skipped;
+    }
+}
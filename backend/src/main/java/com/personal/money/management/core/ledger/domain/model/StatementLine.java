@@ -0,0 +1,34 @@
+package com.personal.money.management.core.ledger.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One transaction line of a bank statement, as exported by the bank.
+ */
+public class StatementLine {
+    private final LocalDate date;
+    private final BigDecimal amount;
+    private final String description;
+
+    /**
+     * @param amount Signed: positive for money received, negative for money spent
+     */
+    public StatementLine(LocalDate date, BigDecimal amount, String description) {
+        this.date = date;
+        this.amount = amount;
+        this.description = description;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,19 @@
+package com.personal.money.management.core.ledger.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Direction of money movement for a ledger transaction, seen from the account.
+ */
+public enum TransactionDirection {
+    INCOME,
+    EXPENSE;
+
+    /**
+     * Applies the direction to a non-negative amount, producing the signed
+     * movement that is added to the account balance.
+     */
+    public BigDecimal apply(BigDecimal amount) {
+        return this == INCOME ? amount : amount.negate();
+    }
+}
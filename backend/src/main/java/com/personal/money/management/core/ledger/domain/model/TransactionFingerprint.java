@@ -0,0 +1,42 @@
+package com.personal.money.management.core.ledger.domain.model;
+
+import com.personal.money.management.core.shared.domain.TextFolding;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+
+/**
+ * Content fingerprint of an imported statement line: a SHA-256 over the account,
+ * date, signed amount and normalized description, so the same line exported again
+ * in another statement maps to the same fingerprint.
+ *
+ * <p>The description is folded and reduced to its words, so case, accents,
+ * punctuation and spacing that differ between export formats do not matter. Lines
+ * that are identical on all four are told apart by their occurrence within the
+ * statement: the second identical coffee of the day is occurrence 1.</p>
+ */
+public final class TransactionFingerprint {
+
+    /**
+     * Length of a fingerprint: hex-encoded SHA-256
+     */
+    public static final int LENGTH = 64;
+
+    private TransactionFingerprint() {
+    }
+
+    public static String of(Long accountId, LocalDate date, BigDecimal amount, String description, int occurrence) {
+        String content = accountId + "|" + date + "|" + amount.stripTrailingZeros().toPlainString()
+                + "|" + String.join(" ", TextFolding.tokens(description)) + "|" + occurrence;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.personal.money.management.core.ledger.domain.repository;
+
+import com.personal.money.management.core.ledger.domain.model.AccountBalance;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface AccountBalanceRepository {
+
+    /**
+     * Adds a net movement to the running balance of an account, creating the
+     * balance row on the first movement.
+     */
+    void applyMovement(Long accountId, String currency, BigDecimal delta, int entryCount, Long lastEntryId);
+
+    /**
+     * Returns the materialized movement totals of an account. The opening
+     * balance of the returned value is always zero.
+     */
+    Optional<AccountBalance> findByAccountId(Long accountId);
+
+    /**
+     * Accounts that received movements since their snapshots were last compacted.
+     */
+    List<Long> findAccountIdsPendingSnapshot();
+
+    /**
+     * Recording time up to which the journal of the account is folded into snapshots.
+     */
+    Optional<LocalDateTime> findSnapshotWatermark(Long accountId);
+
+    /**
+     * As {@link #findSnapshotWatermark}, first locking the account's balance until the
+     * transaction ends. Every transaction journaling entries for the account holds
+     * that lock until it commits, so this waits for them.
+     */
+    Optional<LocalDateTime> lockSnapshotWatermark(Long accountId);
+
+    void updateSnapshotWatermark(Long accountId, LocalDateTime watermark);
+}
@@ -0,0 +1,24 @@
+package com.personal.money.management.core.ledger.domain.repository;
+
+import com.personal.money.management.core.ledger.domain.model.BalanceSnapshot;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface BalanceSnapshotRepository {
+
+    Optional<BalanceSnapshot> findLatestOnOrBefore(Long accountId, LocalDate date);
+
+    void saveAll(List<BalanceSnapshot> snapshots);
+
+    /**
+     * Removes all snapshots of the account dated on or after the given date.
+     */
+    void deleteFrom(Long accountId, LocalDate date);
+
+    /**
+     * Removes daily snapshots older than the given date for all accounts.
+     */
+    int deleteDailyBefore(LocalDate date);
+}
@@ -0,0 +1,49 @@
+package com.personal.money.management.core.ledger.domain.repository;
+
+import com.personal.money.management.core.ledger.domain.model.DailyMovement;
+import com.personal.money.management.core.ledger.domain.model.LedgerTransaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface LedgerRepository {
+
+    /**
+     * Appends the transactions to the journal in the given order. Journal ids
+     * are assigned from a sequence, so the returned list is ordered by id.
+     */
+    List<LedgerTransaction> appendAll(List<LedgerTransaction> transactions);
+
+    List<LedgerTransaction> findLatestByAccount(Long accountId, int limit);
+
+    /**
+     * The given fingerprints that are already journaled, for any account.
+     */
+    Set<String> findExistingFingerprints(Collection<String> fingerprints);
+
+    /**
+     * Earliest transaction date among entries recorded in {@code (recordedAfter, recordedUpTo]}.
+     */
+    Optional<LocalDate> findEarliestDateRecordedBetween(Long accountId, LocalDateTime recordedAfter, LocalDateTime recordedUpTo);
+
+    /**
+     * Signed movement per transaction date for dates after {@code after}, counting
+     * only entries recorded up to {@code recordedUpTo}. Ordered by date.
+     */
+    List<DailyMovement> sumDailyMovements(Long accountId, LocalDate after, LocalDateTime recordedUpTo);
+
+    /**
+     * Signed movement of entries dated in {@code (after, upTo]}.
+     */
+    BigDecimal sumMovements(Long accountId, LocalDate after, LocalDate upTo);
+
+    /**
+     * Signed movement of entries recorded after {@code recordedAfter} and dated on or before {@code upTo}.
+     */
+    BigDecimal sumMovementsRecordedAfter(Long accountId, LocalDateTime recordedAfter, LocalDate upTo);
+}
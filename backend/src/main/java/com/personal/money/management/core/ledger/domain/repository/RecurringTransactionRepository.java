@@ -0,0 +1,33 @@
+package com.personal.money.management.core.ledger.domain.repository;
+
+import com.personal.money.management.core.ledger.domain.model.RecurringTransaction;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface RecurringTransactionRepository {
+
+    /**
+     * @throws org.springframework.dao.OptimisticLockingFailureException when another
+     *         instance changed the template since it was read
+     */
+    RecurringTransaction save(RecurringTransaction template);
+
+    Optional<RecurringTransaction> findById(Long id);
+
+    List<RecurringTransaction> findByAccountId(Long accountId);
+
+    /**
+     * Templates with an occurrence due on or before {@code date}, earliest first,
+     * read through the next-run index
+     */
+    List<RecurringTransaction> findDue(LocalDate date, int limit);
+
+    /**
+     * As {@link #findDue}, continuing after {@code after} in the same order
+     */
+    List<RecurringTransaction> findDueAfter(LocalDate date, RecurringTransaction after, int limit);
+
+    void deleteById(Long id);
+}
@@ -0,0 +1,20 @@
+package com.personal.money.management.core.ledger.domain.repository;
+
+import com.personal.money.management.core.ledger.domain.model.SpendingCell;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface SpendingCubeRepository {
+
+    /**
+     * Adds each movement to its cell, creating the cell on its first movement.
+     */
+    void applyMovements(List<SpendingCell> movements);
+
+    /**
+     * Cells of the months in {@code [from, to]}, of one account or, when
+     * {@code accountId} is null, of every account.
+     */
+    List<SpendingCell> findCells(YearMonth from, YearMonth to, Long accountId);
+}
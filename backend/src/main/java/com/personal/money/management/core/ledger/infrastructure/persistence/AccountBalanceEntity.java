@@ -0,0 +1,93 @@
+package com.personal.money.management.core.ledger.infrastructure.persistence;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Materialized running totals of the journal for one account.
+ */
+@Entity
+@Table(name = "account_balance")
+public class AccountBalanceEntity {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(name = "currency", nullable = false, length = 10)
+    private String currency;
+
+    @Column(name = "net_movement", nullable = false, precision = 19, scale = 4)
+    private BigDecimal netMovement;
+
+    @Column(name = "entry_count", nullable = false)
+    private long entryCount;
+
+    @Column(name = "last_entry_id")
+    private Long lastEntryId;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "snapshot_watermark")
+    private LocalDateTime snapshotWatermark;
+
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public BigDecimal getNetMovement() {
+        return netMovement;
+    }
+
+    public void setNetMovement(BigDecimal netMovement) {
+        this.netMovement = netMovement;
+    }
+
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    public void setEntryCount(long entryCount) {
+        this.entryCount = entryCount;
+    }
+
+    public Long getLastEntryId() {
+        return lastEntryId;
+    }
+
+    public void setLastEntryId(Long lastEntryId) {
+        this.lastEntryId = lastEntryId;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public LocalDateTime getSnapshotWatermark() {
+        return snapshotWatermark;
+    }
+
+    public void setSnapshotWatermark(LocalDateTime snapshotWatermark) {
+        this.snapshotWatermark = snapshotWatermark;
+    }
+}
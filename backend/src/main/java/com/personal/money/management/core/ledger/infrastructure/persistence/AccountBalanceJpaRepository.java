@@ -0,0 +1,46 @@
+package com.personal.money.management.core.ledger.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AccountBalanceJpaRepository extends JpaRepository<AccountBalanceEntity, Long> {
+
+    /**
+     * Increments the running totals in place, so concurrent writers never
+     * overwrite each other's movements.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AccountBalanceEntity b SET b.netMovement = b.netMovement + :delta, "
+            + "b.entryCount = b.entryCount + :entryCount, "
+            + "b.lastEntryId = CASE WHEN b.lastEntryId IS NULL OR b.lastEntryId < :lastEntryId THEN :lastEntryId ELSE b.lastEntryId END, "
+            + "b.updatedAt = :now "
+            + "WHERE b.accountId = :accountId")
+    int incrementMovement(@Param("accountId") Long accountId,
+                          @Param("delta") BigDecimal delta,
+                          @Param("entryCount") long entryCount,
+                          @Param("lastEntryId") Long lastEntryId,
+                          @Param("now") LocalDateTime now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM AccountBalanceEntity b WHERE b.accountId = :accountId")
+    Optional<AccountBalanceEntity> lockById(@Param("accountId") Long accountId);
+
+    @Query("SELECT b.accountId FROM AccountBalanceEntity b "
+            + "WHERE b.snapshotWatermark IS NULL OR b.updatedAt > b.snapshotWatermark")
+    List<Long> findAccountIdsPendingSnapshot();
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AccountBalanceEntity b SET b.snapshotWatermark = :watermark WHERE b.accountId = :accountId")
+    int updateSnapshotWatermark(@Param("accountId") Long accountId, @Param("watermark") LocalDateTime watermark);
+}
@@ -0,0 +1,91 @@
+package com.personal.money.management.core.ledger.infrastructure.persistence;
+
+import com.personal.money.management.core.ledger.domain.model.AccountBalance;
+import com.personal.money.management.core.ledger.domain.repository.AccountBalanceRepository;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The balance rows are incremented by bulk updates that bypass the persistence
+ * context, so no entity is left managed once a method returns: a managed one
+ * would go stale at the next increment.
+ */
+@Repository
+public class AccountBalanceRepositoryImpl implements AccountBalanceRepository {
+
+    private final AccountBalanceJpaRepository jpaRepository;
+    private final AccountWriteLock accountWriteLock;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public AccountBalanceRepositoryImpl(AccountBalanceJpaRepository jpaRepository, AccountWriteLock accountWriteLock) {
+        this.jpaRepository = jpaRepository;
+        this.accountWriteLock = accountWriteLock;
+    }
+
+    @Override
+    public void applyMovement(Long accountId, String currency, BigDecimal delta, int entryCount, Long lastEntryId) {
+        int updated = jpaRepository.incrementMovement(accountId, delta, entryCount, lastEntryId, LocalDateTime.now());
+        if (updated == 0) {
+            // First movement of the account, unless a concurrent one created the row first
+            accountWriteLock.lock(accountId);
+            updated = jpaRepository.incrementMovement(accountId, delta, entryCount, lastEntryId, LocalDateTime.now());
+        }
+        if (updated == 0) {
+            AccountBalanceEntity entity = new AccountBalanceEntity();
+            entity.setAccountId(accountId);
+            entity.setCurrency(currency);
+            entity.setNetMovement(delta);
+            entity.setEntryCount(entryCount);
+            entity.setLastEntryId(lastEntryId);
+            // The id is assigned, so saving merges and returns the managed copy
+            detached(jpaRepository.saveAndFlush(entity));
+        }
+    }
+
+    @Override
+    public Optional<AccountBalance> findByAccountId(Long accountId) {
+        return jpaRepository.findById(accountId)
+                .map(this::detached)
+                .map(entity -> new AccountBalance(
+                        entity.getAccountId(),
+                        entity.getCurrency(),
+                        BigDecimal.ZERO,
+                        entity.getNetMovement(),
+                        entity.getEntryCount(),
+                        entity.getLastEntryId()));
+    }
+
+    @Override
+    public List<Long> findAccountIdsPendingSnapshot() {
+        return jpaRepository.findAccountIdsPendingSnapshot();
+    }
+
+    @Override
+    public Optional<LocalDateTime> findSnapshotWatermark(Long accountId) {
+        return jpaRepository.findById(accountId).map(this::detached).map(AccountBalanceEntity::getSnapshotWatermark);
+    }
+
+    @Override
+    public Optional<LocalDateTime> lockSnapshotWatermark(Long accountId) {
+        // The row lock is held until the transaction ends, whether or not the entity stays managed
+        return jpaRepository.lockById(accountId).map(this::detached).map(AccountBalanceEntity::getSnapshotWatermark);
+    }
+
+    @Override
+    public void updateSnapshotWatermark(Long accountId, LocalDateTime watermark) {
+        jpaRepository.updateSnapshotWatermark(accountId, watermark);
+    }
+
+    private AccountBalanceEntity detached(AccountBalanceEntity entity) {
+        entityManager.detach(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,32 @@
+package com.personal.money.management.core.ledger.infrastructure.persistence;
+
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+/**
+ * Serializes the creation of the rows the ledger derives from an account's journal.
+ *
+ * <p>Those rows are incremented in place, and inserted by the account's first
+ * movement. Two first movements recorded concurrently would both find no row and
+ * both insert it; an upsert does not help, as neither H2 nor Oracle sees the other
+ * transaction's uncommitted row. A writer that finds no row locks the account
+ * instead and looks again: a concurrent writer that got there first holds the lock
+ * until it commits, after which the row is visible and is incremented.</p>
+ */
+@Component
+class AccountWriteLock {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Lock the account row until the current transaction ends
+     */
+    void lock(Long accountId) {
+        entityManager.createNativeQuery("SELECT id FROM {h-schema}account WHERE id = :accountId FOR UPDATE")
+                .setParameter("accountId", accountId)
+                .getResultList();
+    }
+}
@@ -0,0 +1,106 @@
+package com.personal.money.management.core.ledger.infrastructure.persistence;
+
+import com.personal.money.management.core.ledger.domain.model.SnapshotGranularity;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Entity
+@Table(name = "account_balance_snapshot")
+@IdClass(BalanceSnapshotEntity.Key.class)
+public class BalanceSnapshotEntity implements Persistable<BalanceSnapshotEntity.Key> {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", length = 10)
+    private SnapshotGranularity granularity;
+
+    @Id
+    @Column(name = "snapshot_date")
+    private LocalDate snapshotDate;
+
+    @Column(name = "net_movement", nullable = false, precision = 19, scale = 4)
+    private BigDecimal netMovement;
+
+    // Snapshots are only ever inserted after the affected range was deleted,
+    // so skip the merge lookup Spring Data would otherwise do for assigned ids.
+    @Override
+    public Key getId() {
+        return new Key(accountId, granularity, snapshotDate);
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public SnapshotGranularity getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(SnapshotGranularity granularity) {
+        this.granularity = granularity;
+    }
+
+    public LocalDate getSnapshotDate() {
+        return snapshotDate;
+    }
+
+    public void setSnapshotDate(LocalDate snapshotDate) {
+        this.snapshotDate = snapshotDate;
+    }
+
+    public BigDecimal getNetMovement() {
+        return netMovement;
+    }
+
+    public void setNetMovement(BigDecimal netMovement) {
+        this.netMovement = netMovement;
+    }
+
+    public static class Key implements Serializable {
+        private Long accountId;
+        private SnapshotGranularity granularity;
+        private LocalDate snapshotDate;
+
+        public Key() {
+        }
+
+        public Key(Long accountId, SnapshotGranularity granularity, LocalDate snapshotDate) {
+            this.accountId = accountId;
+            this.granularity = granularity;
+            this.snapshotDate = snapshotDate;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return Objects.equals(accountId, key.accountId)
+                    && granularity == key.granularity
+                    && Objects.equals(snapshotDate, key.snapshotDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(accountId, granularity, snapshotDate);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.personal.money.management.core.ledger.infrastructure.persistence;
+
+import com.personal.money.management.core.ledger.domain.model.SnapshotGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface BalanceSnapshotJpaRepository extends JpaRepository<BalanceSnapshotEntity, BalanceSnapshotEntity.Key> {
+
+    Optional<BalanceSnapshotEntity> findFirstByAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(
+            Long accountId, LocalDate snapshotDate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM BalanceSnapshotEntity s WHERE s.accountId = :accountId AND s.snapshotDate >= :date")
+    int deleteFrom(@Param("accountId") Long accountId, @Param("date") LocalDate date);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM BalanceSnapshotEntity s WHERE s.granularity = :granularity AND s.snapshotDate < :date")
+    int deleteByGranularityBefore(@Param("granularity") SnapshotGranularity granularity, @Param("date") LocalDate date);
+}
@@ -0,0 +1,55 @@
+package com.personal.money.management.core.ledger.infrastructure.persistence;
+
+import com.personal.money.management.core.ledger.domain.model.BalanceSnapshot;
+import com.personal.money.management.core.ledger.domain.model.SnapshotGranularity;
+import com.personal.money.management.core.ledger.domain.repository.BalanceSnapshotRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Repository
+public class BalanceSnapshotRepositoryImpl implements BalanceSnapshotRepository {
+
+    private final BalanceSnapshotJpaRepository jpaRepository;
+
+    public BalanceSnapshotRepositoryImpl(BalanceSnapshotJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public Optional<BalanceSnapshot> findLatestOnOrBefore(Long accountId, LocalDate date) {
+        return jpaRepository.findFirstByAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(accountId, date)
+                .map(this::toDomain);
+    }
+
+    @Override
+    public void saveAll(List<BalanceSnapshot> snapshots) {
+        jpaRepository.saveAll(snapshots.stream().map(this::toEntity).collect(Collectors.toList()));
+    }
+
+    @Override
+    public void deleteFrom(Long accountId, LocalDate date) {
+        jpaRepository.deleteFrom(accountId, date);
+    }
+
+    @Override
+    public int deleteDailyBefore(LocalDate date) {
+        return jpaRepository.deleteByGranularityBefore(SnapshotGranularity.DAY, date);
+    }
+
+    private BalanceSnapshot toDomain(BalanceSnapshotEntity entity) {
+        return new BalanceSnapshot(entity.getAccountId(), entity.getSnapshotDate(), entity.getGranularity(), entity.getNetMovement());
+    }
+
+    private BalanceSnapshotEntity toEntity(BalanceSnapshot snapshot) {
+        BalanceSnapshotEntity entity = new BalanceSnapshotEntity();
+        entity.setAccountId(snapshot.getAccountId());
+        entity.setSnapshotDate(snapshot.getSnapshotDate());
+        entity.setGranularity(snapshot.getGranularity());
+        entity.setNetMovement(snapshot.getNetMovement());
+        return entity;
+    }
+}
@@ -0,0 +1,55 @@
+package com.personal.money.management.core.ledger.infrastructure.persistence;
+
+import com.personal.money.management.core.ledger.domain.model.DailyMovement;
+import com.personal.money.management.core.ledger.domain.model.TransactionDirection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface LedgerJournalJpaRepository extends JpaRepository<LedgerJournalEntity, Long> {
+
+    String SIGNED_AMOUNT = "CASE WHEN j.direction = :income THEN j.amount ELSE -j.amount END";
+
+    List<LedgerJournalEntity> findByAccountIdOrderByIdDesc(Long accountId, Pageable pageable);
+
+    @Query("SELECT j.fingerprint FROM LedgerJournalEntity j WHERE j.fingerprint IN :fingerprints")
+    List<String> findExistingFingerprints(@Param("fingerprints") Collection<String> fingerprints);
+
+    @Query("SELECT MIN(j.occurredOn) FROM LedgerJournalEntity j WHERE j.accountId = :accountId "
+            + "AND j.recordedAt > :recordedAfter AND j.recordedAt <= :recordedUpTo")
+    LocalDate findEarliestDateRecordedBetween(@Param("accountId") Long accountId,
+                                              @Param("recordedAfter") LocalDateTime recordedAfter,
+                                              @Param("recordedUpTo") LocalDateTime recordedUpTo);
+
+    @Query("SELECT new com.personal.money.management.core.ledger.domain.model.DailyMovement(j.occurredOn, SUM("
+            + SIGNED_AMOUNT + ")) FROM LedgerJournalEntity j WHERE j.accountId = :accountId "
+            + "AND j.occurredOn > :after AND j.recordedAt <= :recordedUpTo "
+            + "GROUP BY j.occurredOn ORDER BY j.occurredOn")
+    List<DailyMovement> sumDailyMovements(@Param("accountId") Long accountId,
+                                          @Param("after") LocalDate after,
+                                          @Param("recordedUpTo") LocalDateTime recordedUpTo,
+                                          @Param("income") TransactionDirection income);
+
+    @Query("SELECT COALESCE(SUM(" + SIGNED_AMOUNT + "), 0) FROM LedgerJournalEntity j "
+            + "WHERE j.accountId = :accountId AND j.occurredOn > :after AND j.occurredOn <= :upTo")
+    BigDecimal sumMovements(@Param("accountId") Long accountId,
+                            @Param("after") LocalDate after,
+                            @Param("upTo") LocalDate upTo,
+                            @Param("income") TransactionDirection income);
+
+    @Query("SELECT COALESCE(SUM(" + SIGNED_AMOUNT + "), 0) FROM LedgerJournalEntity j "
+            + "WHERE j.accountId = :accountId AND j.recordedAt > :recordedAfter AND j.occurredOn <= :upTo")
+    BigDecimal sumMovementsRecordedAfter(@Param("accountId") Long accountId,
+                                         @Param("recordedAfter") LocalDateTime recordedAfter,
+                                         @Param("upTo") LocalDate upTo,
+                                         @Param("income") TransactionDirection income);
+}
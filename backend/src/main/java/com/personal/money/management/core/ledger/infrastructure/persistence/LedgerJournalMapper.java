@@ -0,0 +1,37 @@
+package com.personal.money.management.core.ledger.infrastructure.persistence;
+
+import com.personal.money.management.core.ledger.domain.model.LedgerTransaction;
+import com.personal.money.management.core.shared.domain.valueobject.CurrencyCode;
+import com.personal.money.management.core.shared.domain.valueobject.Money;
+
+public class LedgerJournalMapper {
+
+    public static LedgerJournalEntity toEntity(LedgerTransaction transaction) {
+        if (transaction == null) return null;
+        LedgerJournalEntity entity = new LedgerJournalEntity();
+        entity.setId(transaction.getId());
+        entity.setAccountId(transaction.getAccountId());
+        entity.setCategoryId(transaction.getCategoryId());
+        entity.setDirection(transaction.getDirection());
+        entity.setAmount(transaction.getAmount().getAmount());
+        entity.setCurrency(transaction.getAmount().getCurrency().getCode());
+        entity.setOccurredOn(transaction.getOccurredOn());
+        entity.setDescription(transaction.getDescription());
+        entity.setFingerprint(transaction.getFingerprint());
+        return entity;
+    }
+
+    public static LedgerTransaction toDomain(LedgerJournalEntity entity) {
+        if (entity == null) return null;
+        return LedgerTransaction.reconstruct(
+            entity.getId(),
+            entity.getAccountId(),
+            entity.getCategoryId(),
+            entity.getDirection(),
+            Money.of(entity.getAmount(), CurrencyCode.of(entity.getCurrency())),
+            entity.getOccurredOn(),
+            entity.getDescription(),
+            entity.getFingerprint()
+        );
+    }
+}
@@ -0,0 +1,98 @@
+package com.personal.money.management.core.ledger.infrastructure.persistence;
+
+import com.personal.money.management.core.ledger.domain.model.DailyMovement;
+import com.personal.money.management.core.ledger.domain.model.LedgerTransaction;
+import com.personal.money.management.core.ledger.domain.model.TransactionDirection;
+import com.personal.money.management.core.ledger.domain.repository.LedgerRepository;
+import org.hibernate.Session;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Repository
+public class LedgerRepositoryImpl implements LedgerRepository {
+
+    private final LedgerJournalJpaRepository jpaRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public LedgerRepositoryImpl(LedgerJournalJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public List<LedgerTransaction> appendAll(List<LedgerTransaction> transactions) {
+        // Persisting in input order keeps sequence ids in the same order; the
+        // inserts themselves are flushed as JDBC batches (hibernate.jdbc.batch_size).
+        List<LedgerJournalEntity> entities = transactions.stream()
+                .map(LedgerJournalMapper::toEntity)
+                .collect(Collectors.toList());
+        // A larger append, such as a statement import chunk, goes out as a single batch
+        Session session = entityManager.unwrap(Session.class);
+        Integer sessionBatchSize = session.getJdbcBatchSize();
+        int batchSize = sessionBatchSize != null ? sessionBatchSize
+                : session.getSessionFactory().getSessionFactoryOptions().getJdbcBatchSize();
+        if (entities.size() <= batchSize) {
+            return toDomain(jpaRepository.saveAll(entities));
+        }
+        session.setJdbcBatchSize(entities.size());
+        try {
+            List<LedgerJournalEntity> saved = jpaRepository.saveAll(entities);
+            // Flushed here, while the larger batch size still applies
+            jpaRepository.flush();
+            return toDomain(saved);
+        } finally {
+            session.setJdbcBatchSize(sessionBatchSize);
+        }
+    }
+
+    @Override
+    public List<LedgerTransaction> findLatestByAccount(Long accountId, int limit) {
+        return jpaRepository.findByAccountIdOrderByIdDesc(accountId, PageRequest.of(0, limit)).stream()
+                .map(LedgerJournalMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Set<String> findExistingFingerprints(Collection<String> fingerprints) {
+        return fingerprints.isEmpty() ? Set.of() : new HashSet<>(jpaRepository.findExistingFingerprints(fingerprints));
+    }
+
+    @Override
+    public Optional<LocalDate> findEarliestDateRecordedBetween(Long accountId, LocalDateTime recordedAfter, LocalDateTime recordedUpTo) {
+        return Optional.ofNullable(jpaRepository.findEarliestDateRecordedBetween(accountId, recordedAfter, recordedUpTo));
+    }
+
+    @Override
+    public List<DailyMovement> sumDailyMovements(Long accountId, LocalDate after, LocalDateTime recordedUpTo) {
+        return jpaRepository.sumDailyMovements(accountId, after, recordedUpTo, TransactionDirection.INCOME);
+    }
+
+    @Override
+    public BigDecimal sumMovements(Long accountId, LocalDate after, LocalDate upTo) {
+        return jpaRepository.sumMovements(accountId, after, upTo, TransactionDirection.INCOME);
+    }
+
+    @Override
+    public BigDecimal sumMovementsRecordedAfter(Long accountId, LocalDateTime recordedAfter, LocalDate upTo) {
+        return jpaRepository.sumMovementsRecordedAfter(accountId, recordedAfter, upTo, TransactionDirection.INCOME);
+    }
+
+    private static List<LedgerTransaction> toDomain(List<LedgerJournalEntity> entities) {
+        return entities.stream()
+                .map(LedgerJournalMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,27 @@
+package com.personal.money.management.core.ledger.infrastructure.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface RecurringTransactionJpaRepository extends JpaRepository<RecurringTransactionEntity, Long> {
+
+    @Query("select r from RecurringTransactionEntity r where r.nextRunOn <= :date order by r.nextRunOn, r.id")
+    List<RecurringTransactionEntity> findDue(@Param("date") LocalDate date, Pageable page);
+
+    @Query("select r from RecurringTransactionEntity r where r.nextRunOn <= :date "
+            + "and (r.nextRunOn > :afterRunOn or (r.nextRunOn = :afterRunOn and r.id > :afterId)) "
+            + "order by r.nextRunOn, r.id")
+    List<RecurringTransactionEntity> findDueAfter(@Param("date") LocalDate date,
+                                                  @Param("afterRunOn") LocalDate afterRunOn,
+                                                  @Param("afterId") Long afterId,
+                                                  Pageable page);
+
+    List<RecurringTransactionEntity> findByAccountIdOrderById(Long accountId);
+}
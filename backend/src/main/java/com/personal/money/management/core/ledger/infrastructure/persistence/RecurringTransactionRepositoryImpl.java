@@ -0,0 +1,94 @@
+package com.personal.money.management.core.ledger.infrastructure.persistence;
+
+import com.personal.money.management.core.ledger.domain.model.RecurringTransaction;
+import com.personal.money.management.core.ledger.domain.repository.RecurringTransactionRepository;
+import com.personal.money.management.core.shared.domain.valueobject.CurrencyCode;
+import com.personal.money.management.core.shared.domain.valueobject.Money;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Repository
+public class RecurringTransactionRepositoryImpl implements RecurringTransactionRepository {
+
+    private final RecurringTransactionJpaRepository jpaRepository;
+
+    public RecurringTransactionRepositoryImpl(RecurringTransactionJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public RecurringTransaction save(RecurringTransaction template) {
+        return toDomain(jpaRepository.save(toEntity(template)));
+    }
+
+    @Override
+    public Optional<RecurringTransaction> findById(Long id) {
+        return jpaRepository.findById(id).map(RecurringTransactionRepositoryImpl::toDomain);
+    }
+
+    @Override
+    public List<RecurringTransaction> findByAccountId(Long accountId) {
+        return jpaRepository.findByAccountIdOrderById(accountId).stream()
+                .map(RecurringTransactionRepositoryImpl::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<RecurringTransaction> findDue(LocalDate date, int limit) {
+        return jpaRepository.findDue(date, PageRequest.of(0, limit)).stream()
+                .map(RecurringTransactionRepositoryImpl::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<RecurringTransaction> findDueAfter(LocalDate date, RecurringTransaction after, int limit) {
+        return jpaRepository.findDueAfter(date, after.getNextRunOn(), after.getId(), PageRequest.of(0, limit)).stream()
+                .map(RecurringTransactionRepositoryImpl::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        jpaRepository.deleteById(id);
+    }
+
+    private static RecurringTransactionEntity toEntity(RecurringTransaction template) {
+        RecurringTransactionEntity entity = new RecurringTransactionEntity();
+        entity.setId(template.getId());
+        entity.setAccountId(template.getAccountId());
+        entity.setCategoryId(template.getCategoryId());
+        entity.setDirection(template.getDirection());
+        entity.setAmount(template.getAmount().getAmount());
+        entity.setCurrency(template.getAmount().getCurrency().getCode());
+        entity.setDescription(template.getDescription());
+        entity.setFrequency(template.getFrequency());
+        entity.setIntervalCount(template.getInterval());
+        entity.setStartDate(template.getStartDate());
+        entity.setEndDate(template.getEndDate());
+        entity.setOccurrencesGenerated(template.getOccurrencesGenerated());
+        entity.setNextRunOn(template.getNextRunOn());
+        entity.setVersion(template.getVersion());
+        return entity;
+    }
+
+    private static RecurringTransaction toDomain(RecurringTransactionEntity entity) {
+        return RecurringTransaction.reconstruct(
+                entity.getId(),
+                entity.getAccountId(),
+                entity.getCategoryId(),
+                entity.getDirection(),
+                Money.of(entity.getAmount(), CurrencyCode.of(entity.getCurrency())),
+                entity.getDescription(),
+                entity.getFrequency(),
+                entity.getIntervalCount(),
+                entity.getStartDate(),
+                entity.getEndDate(),
+                entity.getOccurrencesGenerated(),
+                entity.getVersion());
+    }
+}
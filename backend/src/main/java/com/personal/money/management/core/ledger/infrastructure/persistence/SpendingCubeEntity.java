@@ -0,0 +1,144 @@
+package com.personal.money.management.core.ledger.infrastructure.persistence;
+
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * One cell of the spending cube. {@code categoryId} 0 holds uncategorized entries.
+ */
+@Entity
+@Table(name = "spending_cube")
+@IdClass(SpendingCubeEntity.Key.class)
+public class SpendingCubeEntity implements Persistable<SpendingCubeEntity.Key> {
+
+    static final long UNCATEGORIZED = 0L;
+
+    @Id
+    @Column(name = "period_month")
+    private LocalDate periodMonth;
+
+    @Id
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Id
+    @Column(name = "currency", length = 10)
+    private String currency;
+
+    @Column(name = "income", nullable = false, precision = 19, scale = 4)
+    private BigDecimal income;
+
+    @Column(name = "expense", nullable = false, precision = 19, scale = 4)
+    private BigDecimal expense;
+
+    @Column(name = "entry_count", nullable = false)
+    private long entryCount;
+
+    // Cells are only saved when new; existing ones are incremented in place, so skip
+    // Spring Data's existence lookup
+    @Override
+    public Key getId() {
+        return new Key(periodMonth, categoryId, accountId, currency);
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    public LocalDate getPeriodMonth() {
+        return periodMonth;
+    }
+
+    public void setPeriodMonth(LocalDate periodMonth) {
+        this.periodMonth = periodMonth;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public BigDecimal getIncome() {
+        return income;
+    }
+
+    public void setIncome(BigDecimal income) {
+        this.income = income;
+    }
+
+    public BigDecimal getExpense() {
+        return expense;
+    }
+
+    public void setExpense(BigDecimal expense) {
+        this.expense = expense;
+    }
+
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    public void setEntryCount(long entryCount) {
+        this.entryCount = entryCount;
+    }
+
+    public static class Key implements Serializable {
+        private LocalDate periodMonth;
+        private Long categoryId;
+        private Long accountId;
+        private String currency;
+
+        public Key() {
+        }
+
+        public Key(LocalDate periodMonth, Long categoryId, Long accountId, String currency) {
+            this.periodMonth = periodMonth;
+            this.categoryId = categoryId;
+            this.accountId = accountId;
+            this.currency = currency;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return Objects.equals(periodMonth, key.periodMonth) && Objects.equals(categoryId, key.categoryId)
+                    && Objects.equals(accountId, key.accountId) && Objects.equals(currency, key.currency);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(periodMonth, categoryId, accountId, currency);
+        }
+    }
+}
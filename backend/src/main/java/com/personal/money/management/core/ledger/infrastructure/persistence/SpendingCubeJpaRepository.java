@@ -0,0 +1,40 @@
+package com.personal.money.management.core.ledger.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SpendingCubeJpaRepository extends JpaRepository<SpendingCubeEntity, SpendingCubeEntity.Key> {
+
+    /**
+     * Increments the totals of one cell in place, so concurrent writers never
+     * overwrite each other's movements.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE SpendingCubeEntity c SET c.income = c.income + :income, c.expense = c.expense + :expense, "
+            + "c.entryCount = c.entryCount + :entryCount "
+            + "WHERE c.periodMonth = :periodMonth AND c.categoryId = :categoryId "
+            + "AND c.accountId = :accountId AND c.currency = :currency")
+    int incrementCell(@Param("periodMonth") LocalDate periodMonth,
+                      @Param("categoryId") Long categoryId,
+                      @Param("accountId") Long accountId,
+                      @Param("currency") String currency,
+                      @Param("income") BigDecimal income,
+                      @Param("expense") BigDecimal expense,
+                      @Param("entryCount") long entryCount);
+
+    @Query("SELECT c FROM SpendingCubeEntity c WHERE c.periodMonth BETWEEN :from AND :to")
+    List<SpendingCubeEntity> findByMonths(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT c FROM SpendingCubeEntity c WHERE c.accountId = :accountId AND c.periodMonth BETWEEN :from AND :to")
+    List<SpendingCubeEntity> findByAccountAndMonths(@Param("accountId") Long accountId,
+                                                    @Param("from") LocalDate from,
+                                                    @Param("to") LocalDate to);
+}
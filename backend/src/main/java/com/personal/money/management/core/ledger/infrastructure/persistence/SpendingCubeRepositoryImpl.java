@@ -0,0 +1,87 @@
+package com.personal.money.management.core.ledger.infrastructure.persistence;
+
+import com.personal.money.management.core.ledger.domain.model.SpendingCell;
+import com.personal.money.management.core.ledger.domain.repository.SpendingCubeRepository;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Repository
+public class SpendingCubeRepositoryImpl implements SpendingCubeRepository {
+
+    private final SpendingCubeJpaRepository jpaRepository;
+    private final AccountWriteLock accountWriteLock;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public SpendingCubeRepositoryImpl(SpendingCubeJpaRepository jpaRepository, AccountWriteLock accountWriteLock) {
+        this.jpaRepository = jpaRepository;
+        this.accountWriteLock = accountWriteLock;
+    }
+
+    @Override
+    public void applyMovements(List<SpendingCell> movements) {
+        List<SpendingCubeEntity> created = new ArrayList<>();
+        Set<Long> lockedAccounts = new HashSet<>();
+        for (SpendingCell movement : movements) {
+            LocalDate periodMonth = movement.getMonth().atDay(1);
+            long categoryId = movement.getCategoryId() == null ? SpendingCubeEntity.UNCATEGORIZED : movement.getCategoryId();
+            int updated = jpaRepository.incrementCell(periodMonth, categoryId, movement.getAccountId(),
+                    movement.getCurrency(), movement.getIncome(), movement.getExpense(), movement.getEntryCount());
+            if (updated == 0 && lockedAccounts.add(movement.getAccountId())) {
+                // First movement of the cell, unless a concurrent one created it first
+                accountWriteLock.lock(movement.getAccountId());
+                updated = jpaRepository.incrementCell(periodMonth, categoryId, movement.getAccountId(),
+                        movement.getCurrency(), movement.getIncome(), movement.getExpense(), movement.getEntryCount());
+            }
+            if (updated == 0) {
+                SpendingCubeEntity entity = new SpendingCubeEntity();
+                entity.setPeriodMonth(periodMonth);
+                entity.setCategoryId(categoryId);
+                entity.setAccountId(movement.getAccountId());
+                entity.setCurrency(movement.getCurrency());
+                entity.setIncome(movement.getIncome());
+                entity.setExpense(movement.getExpense());
+                entity.setEntryCount(movement.getEntryCount());
+                created.add(entity);
+            }
+        }
+        // New cells are inserted together, as one JDBC batch, and then let go: later
+        // increments bypass the persistence context and would leave them stale
+        List<SpendingCubeEntity> saved = jpaRepository.saveAll(created);
+        jpaRepository.flush();
+        saved.forEach(entityManager::detach);
+    }
+
+    @Override
+    public List<SpendingCell> findCells(YearMonth from, YearMonth to, Long accountId) {
+        LocalDate start = from.atDay(1);
+        LocalDate end = to.atDay(1);
+        List<SpendingCubeEntity> entities = accountId == null
+                ? jpaRepository.findByMonths(start, end)
+                : jpaRepository.findByAccountAndMonths(accountId, start, end);
+        return entities.stream()
+                .map(SpendingCubeRepositoryImpl::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    private static SpendingCell toDomain(SpendingCubeEntity entity) {
+        return new SpendingCell(
+                YearMonth.from(entity.getPeriodMonth()),
+                entity.getCategoryId() == SpendingCubeEntity.UNCATEGORIZED ? null : entity.getCategoryId(),
+                entity.getAccountId(),
+                entity.getCurrency(),
+                entity.getIncome(),
+                entity.getExpense(),
+                entity.getEntryCount());
+    }
+}
@@ -0,0 +1,143 @@
+package com.personal.money.management.core.ledger.infrastructure.statement;
+
+import com.personal.money.management.core.ledger.domain.model.StatementLine;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads a CSV statement row by row. The header row locates the {@code date},
+ * {@code description} and {@code amount} columns; other columns are ignored.
+ * Fields may be quoted, with {@code ""} for a quote inside a field, but may not
+ * span lines. Dates are ISO ({@code 2025-03-31}) or day-first ({@code 31/03/2025}).
+ */
+final class CsvStatementReader implements StatementReader {
+
+    private static final DateTimeFormatter DAY_FIRST = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final BufferedReader reader;
+    private int lineNumber;
+    private int dateColumn = -1;
+    private int descriptionColumn = -1;
+    private int amountColumn = -1;
+
+    CsvStatementReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public StatementLine next() throws IOException {
+        if (dateColumn < 0) {
+            readHeader();
+        }
+        String line = nextNonBlankLine();
+        if (line == null) {
+            return null;
+        }
+        List<String> fields = split(line);
+        if (fields.size() <= Math.max(dateColumn, Math.max(descriptionColumn, amountColumn))) {
+            throw malformed("expected at least " + (Math.max(dateColumn, Math.max(descriptionColumn, amountColumn)) + 1)
+                    + " columns");
+        }
+        return new StatementLine(parseDate(fields.get(dateColumn)), parseAmount(fields.get(amountColumn)),
+                fields.get(descriptionColumn).trim());
+    }
+
+    private void readHeader() throws IOException {
+        String header = nextNonBlankLine();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV statement is empty");
+        }
+        // A UTF-8 byte order mark survives decoding as U+FEFF
+        if (header.charAt(0) == '\uFEFF') {
+            header = header.substring(1);
+        }
+        List<String> columns = split(header);
+        for (int i = 0; i < columns.size(); i++) {
+            switch (columns.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "date" -> dateColumn = i;
+                case "description" -> descriptionColumn = i;
+                case "amount" -> amountColumn = i;
+                default -> {
+                }
+            }
+        }
+        if (dateColumn < 0 || descriptionColumn < 0 || amountColumn < 0) {
+            throw new IllegalArgumentException("CSV statement header must name date, description and amount columns");
+        }
+    }
+
+    private String nextNonBlankLine() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            lineNumber++;
+        } while (line != null && line.isBlank());
+        return line;
+    }
+
+    private List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw malformed("unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private LocalDate parseDate(String value) {
+        String date = value.trim();
+        try {
+            return date.indexOf('/') > 0 ? LocalDate.parse(date, DAY_FIRST) : LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw malformed("invalid date '" + date + "'");
+        }
+    }
+
+    private BigDecimal parseAmount(String value) {
+        String amount = value.trim();
+        try {
+            return new BigDecimal(amount);
+        } catch (NumberFormatException e) {
+            throw malformed("invalid amount '" + amount + "'");
+        }
+    }
+
+    private IllegalArgumentException malformed(String reason) {
+        return new IllegalArgumentException("CSV statement line " + lineNumber + ": " + reason);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,161 @@
+package com.personal.money.management.core.ledger.infrastructure.statement;
+
+import com.personal.money.management.core.ledger.domain.model.StatementLine;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * Reads the {@code STMTTRN} records of an OFX statement one at a time. Works on
+ * the tag stream rather than a document tree, so it accepts both SGML OFX 1.x,
+ * where leaf elements have no closing tag, and XML OFX 2.x. Everything outside
+ * {@code STMTTRN} is skipped. The description is {@code NAME}, followed by
+ * {@code MEMO} when the bank sends both.
+ */
+final class OfxStatementReader implements StatementReader {
+
+    private static final DateTimeFormatter OFX_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int MAX_TOKEN_LENGTH = 4096;
+
+    private final Reader reader;
+    private final StringBuilder token = new StringBuilder();
+    private int transactions;
+    private int pending = -2;
+
+    OfxStatementReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public StatementLine next() throws IOException {
+        String tag;
+        while ((tag = nextTag()) != null) {
+            if (tag.equals("STMTTRN")) {
+                return readTransaction();
+            }
+        }
+        return null;
+    }
+
+    private StatementLine readTransaction() throws IOException {
+        transactions++;
+        String posted = null;
+        String amount = null;
+        String name = null;
+        String memo = null;
+        String tag;
+        while ((tag = nextTag()) != null && !tag.equals("/STMTTRN")) {
+            switch (tag) {
+                case "DTPOSTED" -> posted = text();
+                case "TRNAMT" -> amount = text();
+                case "NAME" -> name = text();
+                case "MEMO" -> memo = text();
+                default -> {
+                }
+            }
+        }
+        if (posted == null || amount == null) {
+            throw malformed("DTPOSTED and TRNAMT are required");
+        }
+        String description = name == null ? memo : memo == null || memo.equals(name) ? name : name + " " + memo;
+        return new StatementLine(parseDate(posted), parseAmount(amount), description == null ? "" : description);
+    }
+
+    /**
+     * @return The upper-cased name of the next tag, with a leading '/' for a closing tag;
+     * null at the end of the input
+     */
+    private String nextTag() throws IOException {
+        int c;
+        while ((c = read()) != -1) {
+            if (c != '<') {
+                continue;
+            }
+            token.setLength(0);
+            while ((c = read()) != -1 && c != '>') {
+                append(c);
+            }
+            String tag = token.toString().trim();
+            // Processing instructions, comments and declarations carry no data
+            if (!tag.isEmpty() && tag.charAt(0) != '?' && tag.charAt(0) != '!') {
+                return tag.toUpperCase(Locale.ROOT);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The text after the tag just read, up to the next tag
+     */
+    private String text() throws IOException {
+        token.setLength(0);
+        int c;
+        while ((c = read()) != -1 && c != '<') {
+            append(c);
+        }
+        if (c == '<') {
+            unread(c);
+        }
+        return unescape(token.toString().trim());
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pending = c;
+    }
+
+    private void append(int c) {
+        if (token.length() >= MAX_TOKEN_LENGTH) {
+            throw malformed("element longer than " + MAX_TOKEN_LENGTH + " characters");
+        }
+        token.append((char) c);
+    }
+
+    private LocalDate parseDate(String value) {
+        // yyyyMMdd, optionally followed by a time and a time zone
+        try {
+            return LocalDate.parse(value.substring(0, Math.min(8, value.length())), OFX_DATE);
+        } catch (DateTimeParseException e) {
+            throw malformed("invalid DTPOSTED '" + value + "'");
+        }
+    }
+
+    private BigDecimal parseAmount(String value) {
+        // Some banks use a decimal comma
+        try {
+            return new BigDecimal(value.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            throw malformed("invalid TRNAMT '" + value + "'");
+        }
+    }
+
+    private static String unescape(String text) {
+        if (text.indexOf('&') < 0) {
+            return text;
+        }
+        return text.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                .replace("&apos;", "'").replace("&amp;", "&");
+    }
+
+    private IllegalArgumentException malformed(String reason) {
+        return new IllegalArgumentException("OFX statement transaction " + transactions + ": " + reason);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,35 @@
+package com.personal.money.management.core.ledger.infrastructure.statement;
+
+import com.personal.money.management.core.ledger.domain.model.StatementFormat;
+import com.personal.money.management.core.ledger.domain.model.StatementLine;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Pulls statement lines one at a time from an export file, holding only the line
+ * being parsed in memory. Not thread-safe.
+ */
+public interface StatementReader extends Closeable {
+
+    /**
+     * @return The next line, or null once the statement is exhausted
+     * @throws IllegalArgumentException when the file is not a valid statement of its format
+     */
+    StatementLine next() throws IOException;
+
+    /**
+     * Read {@code input}, decoded as UTF-8, as a statement of {@code format}
+     */
+    static StatementReader open(StatementFormat format, InputStream input) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return switch (format) {
+            case CSV -> new CsvStatementReader(reader);
+            case OFX -> new OfxStatementReader(reader);
+        };
+    }
+}
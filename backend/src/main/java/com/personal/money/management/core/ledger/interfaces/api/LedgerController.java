@@ -0,0 +1,204 @@
+package com.personal.money.management.core.ledger.interfaces.api;
+
+import com.personal.money.management.core.ledger.application.BalanceSnapshotService;
+import com.personal.money.management.core.ledger.application.LedgerService;
+import com.personal.money.management.core.ledger.application.SpendingReportService;
+import com.personal.money.management.core.ledger.application.StatementImportService;
+import com.personal.money.management.core.ledger.domain.model.AccountBalance;
+import com.personal.money.management.core.ledger.domain.model.BalancePoint;
+import com.personal.money.management.core.ledger.domain.model.LedgerTransaction;
+import com.personal.money.management.core.ledger.domain.model.StatementFormat;
+import com.personal.money.management.core.ledger.domain.model.StatementImportResult;
+import com.personal.money.management.core.ledger.interfaces.api.dto.AccountBalanceResponse;
+import com.personal.money.management.core.ledger.interfaces.api.dto.BalancePointResponse;
+import com.personal.money.management.core.ledger.interfaces.api.dto.CategorySpendingResponse;
+import com.personal.money.management.core.ledger.interfaces.api.dto.StatementImportResponse;
+import com.personal.money.management.core.ledger.interfaces.api.dto.TransactionRequest;
+import com.personal.money.management.core.ledger.interfaces.api.dto.TransactionResponse;
+import com.personal.money.management.core.shared.domain.valueobject.CurrencyCode;
+import com.personal.money.management.core.shared.domain.valueobject.Money;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/ledger")
+@Validated
+@Tag(name = "Ledger", description = "API for recording transactions and reading account balances")
+public class LedgerController {
+
+    private final LedgerService ledgerService;
+    private final BalanceSnapshotService balanceSnapshotService;
+    private final SpendingReportService spendingReportService;
+    private final StatementImportService statementImportService;
+
+    public LedgerController(LedgerService ledgerService, BalanceSnapshotService balanceSnapshotService,
+                            SpendingReportService spendingReportService, StatementImportService statementImportService) {
+        this.ledgerService = ledgerService;
+        this.balanceSnapshotService = balanceSnapshotService;
+        this.spendingReportService = spendingReportService;
+        this.statementImportService = statementImportService;
+    }
+
+    @Operation(summary = "Record a transaction", description = "Appends a transaction to the journal and updates the account balance")
+    @ApiResponse(responseCode = "201", description = "Recorded transaction")
+    @PostMapping("/transactions")
+    public ResponseEntity<TransactionResponse> recordTransaction(
+            @Parameter(description = "Transaction to record", required = true)
+            @Valid @RequestBody TransactionRequest request) {
+        LedgerTransaction recorded = ledgerService.recordTransaction(toDomain(request));
+        return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(recorded));
+    }
+
+    @Operation(summary = "Record a batch of transactions", description = "Appends all transactions atomically in a single journal batch")
+    @ApiResponse(responseCode = "201", description = "Recorded transactions, in journal order")
+    @PostMapping("/transactions/batch")
+    public ResponseEntity<List<TransactionResponse>> recordTransactions(
+            @Parameter(description = "Transactions to record", required = true)
+            @RequestBody List<@Valid TransactionRequest> requests) {
+        List<LedgerTransaction> transactions = requests.stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+        List<TransactionResponse> response = ledgerService.recordTransactions(transactions).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @Operation(summary = "Import a bank statement",
+            description = "Streams a CSV or OFX statement into the account's journal, skipping lines already imported")
+    @ApiResponse(responseCode = "200", description = "Line counts of the import")
+    @PostMapping("/accounts/{accountId}/statements")
+    public ResponseEntity<StatementImportResponse> importStatement(
+            @Parameter(description = "ID of the account", required = true)
+            @PathVariable Long accountId,
+            @Parameter(description = "Statement file format", required = true)
+            @RequestParam StatementFormat format,
+            @Parameter(description = "Statement file content", required = true)
+            InputStream body) {
+        StatementImportResult result = statementImportService.importStatement(accountId, format, body);
+        return ResponseEntity.ok(new StatementImportResponse(
+                result.getLinesRead(), result.getImported(), result.getDuplicates(), result.getSkipped()));
+    }
+
+    @Operation(summary = "List recent transactions of an account", description = "Returns the latest journal entries, newest first")
+    @ApiResponse(responseCode = "200", description = "Recent transactions")
+    @GetMapping("/accounts/{accountId}/transactions")
+    public ResponseEntity<List<TransactionResponse>> getRecentTransactions(
+            @Parameter(description = "ID of the account", required = true)
+            @PathVariable Long accountId,
+            @Parameter(description = "Maximum number of transactions to return")
+            @RequestParam(defaultValue = "50") int limit) {
+        List<TransactionResponse> response = ledgerService.getRecentTransactions(accountId, limit).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Get current account balance", description = "Returns the opening balance plus all recorded movements")
+    @ApiResponse(responseCode = "200", description = "Current balance")
+    @GetMapping("/accounts/{accountId}/balance")
+    public ResponseEntity<AccountBalanceResponse> getCurrentBalance(
+            @Parameter(description = "ID of the account", required = true)
+            @PathVariable Long accountId) {
+        AccountBalance balance = ledgerService.getCurrentBalance(accountId);
+        return ResponseEntity.ok(new AccountBalanceResponse(
+                balance.getAccountId(),
+                balance.getCurrency(),
+                balance.getOpeningBalance(),
+                balance.getNetMovement(),
+                balance.getBalance(),
+                balance.getEntryCount(),
+                balance.getLastEntryId()
+        ));
+    }
+
+    @Operation(summary = "Get account balance on a date", description = "Returns the balance at the end of the given date")
+    @ApiResponse(responseCode = "200", description = "Historical balance")
+    @GetMapping(value = "/accounts/{accountId}/balance", params = "asOf")
+    public ResponseEntity<BalancePointResponse> getBalanceAt(
+            @Parameter(description = "ID of the account", required = true)
+            @PathVariable Long accountId,
+            @Parameter(description = "Date of the balance (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        BalancePoint point = balanceSnapshotService.getBalanceAt(accountId, asOf);
+        return ResponseEntity.ok(new BalancePointResponse(point.getDate(), point.getBalance()));
+    }
+
+    @Operation(summary = "Get month-end balance history", description = "Returns the balance at the end of each month in the range")
+    @ApiResponse(responseCode = "200", description = "Month-end balances")
+    @GetMapping("/accounts/{accountId}/balance-history")
+    public ResponseEntity<List<BalancePointResponse>> getBalanceHistory(
+            @Parameter(description = "ID of the account", required = true)
+            @PathVariable Long accountId,
+            @Parameter(description = "First month (yyyy-MM)", required = true)
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @Parameter(description = "Last month (yyyy-MM)", required = true)
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        List<BalancePointResponse> response = balanceSnapshotService.getMonthlyBalances(accountId, from, to).stream()
+                .map(point -> new BalancePointResponse(point.getDate(), point.getBalance()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Get monthly spending per category",
+            description = "Returns income and expense per month and category, each category including its descendants")
+    @ApiResponse(responseCode = "200", description = "Category totals by month")
+    @GetMapping("/spending")
+    public ResponseEntity<List<CategorySpendingResponse>> getMonthlySpending(
+            @Parameter(description = "First month (yyyy-MM)", required = true)
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @Parameter(description = "Last month (yyyy-MM)", required = true)
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            @Parameter(description = "Only this account; all accounts when omitted")
+            @RequestParam(required = false) Long accountId) {
+        List<CategorySpendingResponse> response = spendingReportService.getMonthlySpending(from, to, accountId).stream()
+                .map(spending -> new CategorySpendingResponse(
+                        spending.getMonth(),
+                        spending.getCategoryId(),
+                        spending.getCategoryName(),
+                        spending.getCurrency(),
+                        spending.getIncome(),
+                        spending.getExpense(),
+                        spending.getEntryCount()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(response);
+    }
+
+    private LedgerTransaction toDomain(TransactionRequest request) {
+        return new LedgerTransaction(
+                request.getAccountId(),
+                request.getCategoryId(),
+                request.getDirection(),
+                Money.of(request.getAmount(), CurrencyCode.of(request.getCurrency())),
+                request.getOccurredOn(),
+                request.getDescription()
+        );
+    }
+
+    private TransactionResponse toResponse(LedgerTransaction transaction) {
+        return new TransactionResponse(
+                transaction.getId(),
+                transaction.getAccountId(),
+                transaction.getCategoryId(),
+                transaction.getDirection(),
+                transaction.getAmount().getAmount(),
+                transaction.getAmount().getCurrency().getCode(),
+                transaction.getOccurredOn(),
+                transaction.getDescription()
+        );
+    }
+}
@@ -0,0 +1,91 @@
+package com.personal.money.management.core.ledger.interfaces.api;
+
+import com.personal.money.management.core.ledger.application.RecurringTransactionService;
+import com.personal.money.management.core.ledger.domain.model.RecurringTransaction;
+import com.personal.money.management.core.ledger.interfaces.api.dto.RecurringTransactionRequest;
+import com.personal.money.management.core.ledger.interfaces.api.dto.RecurringTransactionResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/ledger/recurring-transactions")
+@Validated
+@Tag(name = "Recurring transactions", description = "API for transactions journaled on a schedule")
+public class RecurringTransactionController {
+
+    private final RecurringTransactionService recurringTransactionService;
+
+    public RecurringTransactionController(RecurringTransactionService recurringTransactionService) {
+        this.recurringTransactionService = recurringTransactionService;
+    }
+
+    @Operation(summary = "Create a recurring transaction",
+            description = "Schedules a transaction in the account's currency; past occurrences are journaled by the next scheduler run")
+    @ApiResponse(responseCode = "201", description = "Created template")
+    @PostMapping
+    public ResponseEntity<RecurringTransactionResponse> create(
+            @Parameter(description = "Template to create", required = true)
+            @Valid @RequestBody RecurringTransactionRequest request) {
+        RecurringTransaction created = recurringTransactionService.create(
+                request.getAccountId(),
+                request.getCategoryId(),
+                request.getDirection(),
+                request.getAmount(),
+                request.getDescription(),
+                request.getFrequency(),
+                request.getInterval() == null ? 1 : request.getInterval(),
+                request.getStartDate(),
+                request.getEndDate());
+        return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(created));
+    }
+
+    @Operation(summary = "List the recurring transactions of an account")
+    @ApiResponse(responseCode = "200", description = "Templates of the account")
+    @GetMapping
+    public ResponseEntity<List<RecurringTransactionResponse>> getByAccount(
+            @Parameter(description = "ID of the account", required = true)
+            @RequestParam Long accountId) {
+        List<RecurringTransactionResponse> response = recurringTransactionService.getByAccount(accountId).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Delete a recurring transaction", description = "Stops the schedule; journaled occurrences are kept")
+    @ApiResponse(responseCode = "204", description = "Template deleted")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(
+            @Parameter(description = "ID of the template", required = true)
+            @PathVariable Long id) {
+        recurringTransactionService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    private RecurringTransactionResponse toResponse(RecurringTransaction template) {
+        return new RecurringTransactionResponse(
+                template.getId(),
+                template.getAccountId(),
+                template.getCategoryId(),
+                template.getDirection(),
+                template.getAmount().getAmount(),
+                template.getAmount().getCurrency().getCode(),
+                template.getDescription(),
+                template.getFrequency(),
+                template.getInterval(),
+                template.getStartDate(),
+                template.getEndDate(),
+                template.getOccurrencesGenerated(),
+                template.getNextRunOn()
+        );
+    }
+}
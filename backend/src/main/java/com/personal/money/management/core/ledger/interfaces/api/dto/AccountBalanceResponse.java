@@ -0,0 +1,55 @@
+package com.personal.money.management.core.ledger.interfaces.api.dto;
+
+import java.math.BigDecimal;
+
+public class AccountBalanceResponse {
+    private Long accountId;
+    private String currency;
+    private BigDecimal openingBalance;
+    private BigDecimal netMovement;
+    private BigDecimal balance;
+    private long entryCount;
+    private Long lastEntryId;
+
+    public AccountBalanceResponse() {
+    }
+
+    public AccountBalanceResponse(Long accountId, String currency, BigDecimal openingBalance, BigDecimal netMovement,
+                                  BigDecimal balance, long entryCount, Long lastEntryId) {
+        this.accountId = accountId;
+        this.currency = currency;
+        this.openingBalance = openingBalance;
+        this.netMovement = netMovement;
+        this.balance = balance;
+        this.entryCount = entryCount;
+        this.lastEntryId = lastEntryId;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public BigDecimal getOpeningBalance() {
+        return openingBalance;
+    }
+
+    public BigDecimal getNetMovement() {
+        return netMovement;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    public Long getLastEntryId() {
+        return lastEntryId;
+    }
+}
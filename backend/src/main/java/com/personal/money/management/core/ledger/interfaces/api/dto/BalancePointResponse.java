@@ -0,0 +1,25 @@
+package com.personal.money.management.core.ledger.interfaces.api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class BalancePointResponse {
+    private LocalDate date;
+    private BigDecimal balance;
+
+    public BalancePointResponse() {
+    }
+
+    public BalancePointResponse(LocalDate date, BigDecimal balance) {
+        this.date = date;
+        this.balance = balance;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+}
@@ -0,0 +1,56 @@
+package com.personal.money.management.core.ledger.interfaces.api.dto;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+public class CategorySpendingResponse {
+    private YearMonth month;
+    private Long categoryId;
+    private String categoryName;
+    private String currency;
+    private BigDecimal income;
+    private BigDecimal expense;
+    private long entryCount;
+
+    public CategorySpendingResponse() {
+    }
+
+    public CategorySpendingResponse(YearMonth month, Long categoryId, String categoryName, String currency,
+                                    BigDecimal income, BigDecimal expense, long entryCount) {
+        this.month = month;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.currency = currency;
+        this.income = income;
+        this.expense = expense;
+        this.entryCount = entryCount;
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public BigDecimal getIncome() {
+        return income;
+    }
+
+    public BigDecimal getExpense() {
+        return expense;
+    }
+
+    public long getEntryCount() {
+        return entryCount;
+    }
+}
@@ -0,0 +1,97 @@
+package com.personal.money.management.core.ledger.interfaces.api.dto;
+
+import com.personal.money.management.core.ledger.domain.model.RecurrenceFrequency;
+import com.personal.money.management.core.ledger.domain.model.TransactionDirection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class RecurringTransactionResponse {
+    private Long id;
+    private Long accountId;
+    private Long categoryId;
+    private TransactionDirection direction;
+    private BigDecimal amount;
+    private String currency;
+    private String description;
+    private RecurrenceFrequency frequency;
+    private int interval;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int occurrencesGenerated;
+    private LocalDate nextRunOn;
+
+    public RecurringTransactionResponse() {
+    }
+
+    public RecurringTransactionResponse(Long id, Long accountId, Long categoryId, TransactionDirection direction,
+                                        BigDecimal amount, String currency, String description,
+                                        RecurrenceFrequency frequency, int interval, LocalDate startDate,
+                                        LocalDate endDate, int occurrencesGenerated, LocalDate nextRunOn) {
+        this.id = id;
+        this.accountId = accountId;
+        this.categoryId = categoryId;
+        this.direction = direction;
+        this.amount = amount;
+        this.currency = currency;
+        this.description = description;
+        this.frequency = frequency;
+        this.interval = interval;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.occurrencesGenerated = occurrencesGenerated;
+        this.nextRunOn = nextRunOn;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public TransactionDirection getDirection() {
+        return direction;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public RecurrenceFrequency getFrequency() {
+        return frequency;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public int getOccurrencesGenerated() {
+        return occurrencesGenerated;
+    }
+
+    public LocalDate getNextRunOn() {
+        return nextRunOn;
+    }
+}
@@ -0,0 +1,34 @@
+package com.personal.money.management.core.ledger.interfaces.api.dto;
+
+public class StatementImportResponse {
+    private int linesRead;
+    private int imported;
+    private int duplicates;
+    private int skipped;
+
+    public StatementImportResponse() {
+    }
+
+    public StatementImportResponse(int linesRead, int imported, int duplicates, int skipped) {
+        this.linesRead = linesRead;
+        this.imported = imported;
+        this.duplicates = duplicates;
+        this.skipped = skipped;
+    }
+
+    public int getLinesRead() {
+        return linesRead;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+}
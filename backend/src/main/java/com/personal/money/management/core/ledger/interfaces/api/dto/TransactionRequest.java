@@ -0,0 +1,87 @@
+package com.personal.money.management.core.ledger.interfaces.api.dto;
+
+import com.personal.money.management.core.ledger.domain.model.TransactionDirection;
+
+import javax.validation.constraints.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class TransactionRequest {
+    @NotNull(message = "Account id is required")
+    private Long accountId;
+
+    private Long categoryId;
+
+    @NotNull(message = "Direction is required")
+    private TransactionDirection direction;
+
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Amount must be positive")
+    private BigDecimal amount;
+
+    @NotBlank(message = "Currency is required")
+    @Size(max = 10, message = "Currency must be at most 10 characters")
+    private String currency;
+
+    @NotNull(message = "Transaction date is required")
+    private LocalDate occurredOn;
+
+    @Size(max = 1000, message = "Description must be at most 1000 characters")
+    private String description;
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public TransactionDirection getDirection() {
+        return direction;
+    }
+
+    public void setDirection(TransactionDirection direction) {
+        this.direction = direction;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public LocalDate getOccurredOn() {
+        return occurredOn;
+    }
+
+    public void setOccurredOn(LocalDate occurredOn) {
+        this.occurredOn = occurredOn;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,64 @@
+package com.personal.money.management.core.ledger.interfaces.api.dto;
+
+import com.personal.money.management.core.ledger.domain.model.TransactionDirection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class TransactionResponse {
+    private Long id;
+    private Long accountId;
+    private Long categoryId;
+    private TransactionDirection direction;
+    private BigDecimal amount;
+    private String currency;
+    private LocalDate occurredOn;
+    private String description;
+
+    public TransactionResponse() {
+    }
+
+    public TransactionResponse(Long id, Long accountId, Long categoryId, TransactionDirection direction,
+                               BigDecimal amount, String currency, LocalDate occurredOn, String description) {
+        this.id = id;
+        this.accountId = accountId;
+        this.categoryId = categoryId;
+        this.direction = direction;
+        this.amount = amount;
+        this.currency = currency;
+        this.occurredOn = occurredOn;
+        this.description = description;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public TransactionDirection getDirection() {
+        return direction;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public LocalDate getOccurredOn() {
+        return occurredOn;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
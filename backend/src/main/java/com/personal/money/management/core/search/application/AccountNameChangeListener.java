@@ -0,0 +1,28 @@
+package com.personal.money.management.core.search.application;
+
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataChangeListener;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reloads the account half of the name index when another replica changes accounts.
+ */
+@Component
+public class AccountNameChangeListener implements ReferenceDataChangeListener {
+
+    private final NameSearchService nameSearchService;
+
+    public AccountNameChangeListener(NameSearchService nameSearchService) {
+        this.nameSearchService = nameSearchService;
+    }
+
+    @Override
+    public ReferenceDataContext referenceDataContext() {
+        return ReferenceDataContext.ACCOUNT;
+    }
+
+    @Override
+    public void referenceDataChanged() {
+        nameSearchService.reloadAccounts();
+    }
+}
@@ -0,0 +1,131 @@
+package com.personal.money.management.core.search.application;
+
+import com.personal.money.management.core.account.domain.event.AccountDeletedEvent;
+import com.personal.money.management.core.account.domain.event.AccountSavedEvent;
+import com.personal.money.management.core.account.domain.model.Account;
+import com.personal.money.management.core.account.domain.repository.AccountRepository;
+import com.personal.money.management.core.category.domain.event.CategoryDeletedEvent;
+import com.personal.money.management.core.category.domain.event.CategorySavedEvent;
+import com.personal.money.management.core.category.domain.model.Category;
+import com.personal.money.management.core.category.domain.repository.CategoryRepository;
+import com.personal.money.management.core.search.domain.model.NameIndex;
+import com.personal.money.management.core.search.domain.model.NameMatch;
+import com.personal.money.management.core.search.domain.model.SearchableType;
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseTimed;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataChangeListener;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Typeahead search over category and account names.
+ *
+ * <p>The index is loaded once when the application is ready and then kept current
+ * from the save and delete events of both contexts, applied after their
+ * transactions commit. Category and account writes made by other instances
+ * reload the names of that type once the reference-data poller reports them.</p>
+ */
+@Service
+@UseCaseTimed
+public class NameSearchService implements ReferenceDataChangeListener {
+
+    static final int MAX_LIMIT = 50;
+    static final int MAX_QUERY_LENGTH = 150;
+
+    private static final Logger logger = LoggerFactory.getLogger(NameSearchService.class);
+
+    private final NameIndex index = new NameIndex();
+    private final CategoryRepository categoryRepository;
+    private final AccountRepository accountRepository;
+
+    public NameSearchService(CategoryRepository categoryRepository, AccountRepository accountRepository) {
+        this.categoryRepository = categoryRepository;
+        this.accountRepository = accountRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        Map<Long, String> categories = categoryNames();
+        Map<Long, String> accounts = accountNames();
+        index.replaceAll(SearchableType.CATEGORY, categories);
+        index.replaceAll(SearchableType.ACCOUNT, accounts);
+        logger.info("Name search index loaded with {} categories and {} accounts", categories.size(), accounts.size());
+    }
+
+    @Override
+    public ReferenceDataContext referenceDataContext() {
+        return ReferenceDataContext.CATEGORY;
+    }
+
+    @Override
+    public void referenceDataChanged() {
+        index.replaceAll(SearchableType.CATEGORY, categoryNames());
+    }
+
+    /**
+     * Reload the account names, after another instance changed accounts
+     */
+    public void reloadAccounts() {
+        index.replaceAll(SearchableType.ACCOUNT, accountNames());
+    }
+
+    /**
+     * Best matches for a partially typed name, ignoring case and accents and
+     * tolerating one typo in longer words.
+     *
+     * @param type restricts results to one type, or {@code null} for all
+     */
+    public List<NameMatch> search(String query, SearchableType type, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (query != null && query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Query must not exceed " + MAX_QUERY_LENGTH + " characters");
+        }
+        return index.search(query, type, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategorySaved(CategorySavedEvent event) {
+        index.put(SearchableType.CATEGORY, event.getCategoryId(), event.getName());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryDeleted(CategoryDeletedEvent event) {
+        index.remove(SearchableType.CATEGORY, event.getCategoryId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountSaved(AccountSavedEvent event) {
+        index.put(SearchableType.ACCOUNT, event.getAccountId(), event.getName());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountDeleted(AccountDeletedEvent event) {
+        index.remove(SearchableType.ACCOUNT, event.getAccountId());
+    }
+
+    private Map<Long, String> categoryNames() {
+        Map<Long, String> categories = new HashMap<>();
+        for (Category category : categoryRepository.findAllSortedByName()) {
+            categories.put(category.getId(), category.getName());
+        }
+        return categories;
+    }
+
+    private Map<Long, String> accountNames() {
+        Map<Long, String> accounts = new HashMap<>();
+        for (Account account : accountRepository.findAll()) {
+            accounts.put(account.getId(), account.getName().getValue());
+        }
+        return accounts;
+    }
+}
@@ -0,0 +1,287 @@
+package com.personal.money.management.core.search.domain.model;
+
+import com.personal.money.management.core.shared.domain.TextFolding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory typeahead index over record names.
+ *
+ * <p>Every name is folded (case and accents removed) and split into words; each word
+ * is inserted into a trie whose nodes remember which records pass through them. A
+ * query matches a record when each query word is a prefix of one of the record's
+ * words. Query words of {@value #FUZZY_MIN_LENGTH} or more characters also tolerate
+ * one typo, found by walking the trie with an edit-distance row and pruning branches
+ * that are already too far away.</p>
+ *
+ * <p>Updates are incremental and touch only the words of the changed record. Reads
+ * run concurrently; writes are exclusive.</p>
+ */
+public class NameIndex {
+    static final int FUZZY_MIN_LENGTH = 4;
+    private static final int MAX_EDITS = 1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Key, Entry> entries = new HashMap<>();
+    private final Node root = new Node();
+
+    /**
+     * Adds a record or replaces the name of an indexed one.
+     */
+    public void put(SearchableType type, Long id, String name) {
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(id, "id");
+        Entry entry = new Entry(type, id, name == null ? "" : name);
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.put(entry.key, entry);
+            if (previous != null) {
+                unlink(previous);
+            }
+            link(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(SearchableType type, Long id) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.remove(new Key(type, id));
+            if (previous != null) {
+                unlink(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces every record of a type with the given id-to-name map.
+     */
+    public void replaceAll(SearchableType type, Map<Long, String> names) {
+        lock.writeLock().lock();
+        try {
+            Iterator<Entry> existing = entries.values().iterator();
+            while (existing.hasNext()) {
+                Entry entry = existing.next();
+                if (entry.key.type == type) {
+                    existing.remove();
+                    unlink(entry);
+                }
+            }
+            names.forEach((id, name) -> {
+                Entry entry = new Entry(type, id, name == null ? "" : name);
+                entries.put(entry.key, entry);
+                link(entry);
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the best {@code limit} matches: fewest typos first, then names starting
+     * with the first query word, then shorter names, then alphabetical.
+     *
+     * @param type restricts results to one type, or {@code null} for all
+     */
+    public List<NameMatch> search(String query, SearchableType type, int limit) {
+        List<String> words = TextFolding.tokens(query);
+        if (words.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        Map<Entry, Integer> candidates;
+        lock.readLock().lock();
+        try {
+            candidates = matchWord(words.get(0), type);
+            for (int i = 1; i < words.size() && !candidates.isEmpty(); i++) {
+                Map<Entry, Integer> next = matchWord(words.get(i), type);
+                candidates.keySet().retainAll(next.keySet());
+                candidates.replaceAll((entry, edits) -> edits + next.get(entry));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return topK(candidates, words.get(0), limit);
+    }
+
+    private List<NameMatch> topK(Map<Entry, Integer> candidates, String firstWord, int limit) {
+        Comparator<Map.Entry<Entry, Integer>> ranking = Comparator
+                .comparing((Map.Entry<Entry, Integer> c) -> c.getValue())
+                .thenComparing(c -> c.getKey().folded.startsWith(firstWord) ? 0 : 1)
+                .thenComparing(c -> c.getKey().name.length())
+                .thenComparing(c -> c.getKey().folded)
+                .thenComparing(c -> c.getKey().key.id);
+        // Max-heap of the best results so far; the worst is evicted once it is full
+        PriorityQueue<Map.Entry<Entry, Integer>> best = new PriorityQueue<>(limit + 1, ranking.reversed());
+        for (Map.Entry<Entry, Integer> candidate : candidates.entrySet()) {
+            best.offer(candidate);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<Map.Entry<Entry, Integer>> ordered = new ArrayList<>(best);
+        ordered.sort(ranking);
+        List<NameMatch> matches = new ArrayList<>(ordered.size());
+        for (Map.Entry<Entry, Integer> c : ordered) {
+            Entry entry = c.getKey();
+            matches.add(new NameMatch(entry.key.type, entry.key.id, entry.name, c.getValue()));
+        }
+        return matches;
+    }
+
+    /**
+     * Records having a word with a prefix within the allowed edit distance of
+     * {@code word}, mapped to the smallest distance found.
+     */
+    private Map<Entry, Integer> matchWord(String word, SearchableType type) {
+        Map<Entry, Integer> found = new HashMap<>();
+        if (word.length() < FUZZY_MIN_LENGTH) {
+            Node node = root;
+            for (int i = 0; i < word.length() && node != null; i++) {
+                node = node.children.get(word.charAt(i));
+            }
+            if (node != null) {
+                collect(node, 0, type, found);
+            }
+            return found;
+        }
+        int[] row = new int[word.length() + 1];
+        for (int j = 0; j < row.length; j++) {
+            row[j] = j;
+        }
+        for (Map.Entry<Character, Node> child : root.children.entrySet()) {
+            walk(child.getValue(), child.getKey(), word, row, type, found);
+        }
+        return found;
+    }
+
+    private void walk(Node node, char c, String word, int[] previous, SearchableType type,
+                      Map<Entry, Integer> found) {
+        int[] row = new int[previous.length];
+        row[0] = previous[0] + 1;
+        int rowMin = row[0];
+        for (int j = 1; j < row.length; j++) {
+            int substitution = previous[j - 1] + (word.charAt(j - 1) == c ? 0 : 1);
+            row[j] = Math.min(substitution, Math.min(previous[j] + 1, row[j - 1] + 1));
+            rowMin = Math.min(rowMin, row[j]);
+        }
+        int distance = row[row.length - 1];
+        if (distance <= MAX_EDITS) {
+            collect(node, distance, type, found);
+            if (distance == 0) {
+                // Everything below is already collected at the lowest possible distance
+                return;
+            }
+        }
+        if (rowMin > MAX_EDITS) {
+            return;
+        }
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            walk(child.getValue(), child.getKey(), word, row, type, found);
+        }
+    }
+
+    private static void collect(Node node, int edits, SearchableType type, Map<Entry, Integer> found) {
+        for (Entry entry : node.through.keySet()) {
+            if (type == null || entry.key.type == type) {
+                found.merge(entry, edits, Math::min);
+            }
+        }
+    }
+
+    private void link(Entry entry) {
+        for (String word : entry.words) {
+            Node node = root;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.children.computeIfAbsent(word.charAt(i), k -> new Node());
+                node.through.merge(entry, 1, Integer::sum);
+            }
+        }
+    }
+
+    private void unlink(Entry entry) {
+        for (String word : entry.words) {
+            unlink(root, word, 0, entry);
+        }
+    }
+
+    private static void unlink(Node parent, String word, int depth, Entry entry) {
+        if (depth == word.length()) {
+            return;
+        }
+        char c = word.charAt(depth);
+        Node node = parent.children.get(c);
+        if (node == null) {
+            return;
+        }
+        unlink(node, word, depth + 1, entry);
+        node.through.computeIfPresent(entry, (e, count) -> count == 1 ? null : count - 1);
+        if (node.through.isEmpty()) {
+            parent.children.remove(c);
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        // Records with a word running through this node, with the number of such words
+        private final Map<Entry, Integer> through = new HashMap<>(4);
+    }
+
+    private static final class Entry {
+        private final Key key;
+        private final String name;
+        private final String folded;
+        private final List<String> words;
+
+        private Entry(SearchableType type, Long id, String name) {
+            this.key = new Key(type, id);
+            this.name = name;
+            this.folded = TextFolding.fold(name);
+            this.words = TextFolding.tokens(name);
+        }
+    }
+
+    private static final class Key {
+        private final SearchableType type;
+        private final Long id;
+
+        private Key(SearchableType type, Long id) {
+            this.type = type;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key that = (Key) o;
+            return type == that.type && Objects.equals(id, that.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, id);
+        }
+    }
+}
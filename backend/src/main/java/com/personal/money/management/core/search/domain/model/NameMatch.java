@@ -0,0 +1,37 @@
+package com.personal.money.management.core.search.domain.model;
+
+/**
+ * A record whose name matched a search query.
+ */
+public class NameMatch {
+    private final SearchableType type;
+    private final Long id;
+    private final String name;
+    private final int edits;
+
+    public NameMatch(SearchableType type, Long id, String name, int edits) {
+        this.type = type;
+        this.id = id;
+        this.name = name;
+        this.edits = edits;
+    }
+
+    public SearchableType getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Number of typos tolerated to produce this match; 0 for an exact prefix match.
+     */
+    public int getEdits() {
+        return edits;
+    }
+}
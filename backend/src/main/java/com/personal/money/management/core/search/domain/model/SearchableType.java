@@ -0,0 +1,9 @@
+package com.personal.money.management.core.search.domain.model;
+
+/**
+ * Kinds of named records covered by the name search index.
+ */
+public enum SearchableType {
+    CATEGORY,
+    ACCOUNT
+}
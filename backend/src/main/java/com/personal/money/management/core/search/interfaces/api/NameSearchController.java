@@ -0,0 +1,51 @@
+package com.personal.money.management.core.search.interfaces.api;
+
+import com.personal.money.management.core.search.application.NameSearchService;
+import com.personal.money.management.core.search.domain.model.NameMatch;
+import com.personal.money.management.core.search.domain.model.SearchableType;
+import com.personal.money.management.core.search.interfaces.api.dto.NameSearchResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/search")
+@Tag(name = "Search", description = "Typeahead search over category and account names")
+public class NameSearchController {
+
+    private final NameSearchService nameSearchService;
+
+    public NameSearchController(NameSearchService nameSearchService) {
+        this.nameSearchService = nameSearchService;
+    }
+
+    @Operation(summary = "Search names as the user types",
+            description = "Matches word prefixes ignoring case and accents, tolerating one typo in words of four or more letters")
+    @ApiResponse(responseCode = "200", description = "Best matches, most relevant first")
+    @GetMapping("/names")
+    public ResponseEntity<List<NameSearchResponse>> searchNames(
+            @Parameter(description = "Text typed so far", required = true)
+            @RequestParam("q") String query,
+            @Parameter(description = "Restrict results to CATEGORY or ACCOUNT")
+            @RequestParam(required = false) SearchableType type,
+            @Parameter(description = "Maximum number of matches to return")
+            @RequestParam(defaultValue = "10") int limit) {
+        List<NameSearchResponse> response = nameSearchService.search(query, type, limit).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(response);
+    }
+
+    private NameSearchResponse toResponse(NameMatch match) {
+        return new NameSearchResponse(match.getType().name(), match.getId(), match.getName());
+    }
+}
@@ -0,0 +1,28 @@
+package com.personal.money.management.core.search.interfaces.api.dto;
+
+public class NameSearchResponse {
+    private String type;
+    private Long id;
+    private String name;
+
+    public NameSearchResponse() {
+    }
+
+    public NameSearchResponse(String type, Long id, String name) {
+        this.type = type;
+        this.id = id;
+        this.name = name;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
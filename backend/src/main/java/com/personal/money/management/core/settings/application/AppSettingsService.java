@@ -1,38 +1,167 @@
 package com.personal.money.management.core.settings.application;
 
+import com.personal.money.management.core.settings.domain.model.AppSettings;
 import com.personal.money.management.core.settings.infrastructure.persistence.AppSettingsEntity;
 import com.personal.money.management.core.settings.infrastructure.persistence.AppSettingsRepository;
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseSource;
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseTimed;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataChangeListener;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataContext;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataVersions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Application settings served from an in-memory snapshot.
+ *
+ * <p>The snapshot is loaded at startup and replaced as a whole: writes update the
+ * database first and then publish the saved row, and {@link #refreshIfChanged()}
+ * picks up writes made by other instances by comparing the stored version once the
+ * reference-data poller reports a new settings version. A
+ * snapshot published inside a transaction that later rolls back is dropped and
+ * reloaded on the next read.</p>
+ */
 @Service
-public class AppSettingsService {
+@UseCaseTimed
+public class AppSettingsService implements ReferenceDataChangeListener {
+
+    static final Long SETTINGS_ID = 1L;
+    static final String DEFAULT_CURRENCY = "USD";
+
+    private static final Logger logger = LoggerFactory.getLogger(AppSettingsService.class);
 
     private final AppSettingsRepository repository;
+    private final ReferenceDataVersions referenceDataVersions;
+    private final AtomicReference<AppSettings> snapshot = new AtomicReference<>();
 
-    public AppSettingsService(AppSettingsRepository repository) {
+    public AppSettingsService(AppSettingsRepository repository, ReferenceDataVersions referenceDataVersions) {
         this.repository = repository;
+        this.referenceDataVersions = referenceDataVersions;
     }
 
-    @Transactional(readOnly = true)
-    public AppSettingsEntity get() {
-        return repository.findById(1L).orElseGet(() -> {
-            AppSettingsEntity e = new AppSettingsEntity();
-            e.setId(1L);
-            e.setDefaultCurrency("USD");
-            return repository.save(e);
-        });
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        publish(readOrCreate());
+    }
+
+    /**
+     * Current settings. Only the first call after startup or after a rolled-back
+     * write reads the database.
+     */
+    public AppSettings get() {
+        AppSettings current = snapshot.get();
+        if (current == null) {
+            current = readOrCreate();
+            publish(current);
+            UseCaseSource.mark(UseCaseSource.DATABASE);
+        } else {
+            UseCaseSource.mark(UseCaseSource.CACHE);
+        }
+        return copyOf(current);
+    }
+
+    public String getDefaultCurrency() {
+        AppSettings current = snapshot.get();
+        return current != null ? current.getDefaultCurrency() : get().getDefaultCurrency();
     }
 
     @Transactional
-    public AppSettingsEntity updateDefaultCurrency(String currency) {
-        AppSettingsEntity e = get();
-        e.setDefaultCurrency(currency);
-        return repository.save(e);
+    public AppSettings updateDefaultCurrency(String currency) {
+        AppSettingsEntity entity = repository.findById(SETTINGS_ID).orElseGet(AppSettingsService::defaults);
+        entity.setDefaultCurrency(currency);
+        AppSettings saved = toDomain(repository.saveAndFlush(entity));
+        referenceDataVersions.bump(ReferenceDataContext.SETTINGS);
+        publish(saved);
+        return copyOf(saved);
     }
 
     @Transactional
-    public AppSettingsEntity reset() {
-        return updateDefaultCurrency("USD");
+    public AppSettings reset() {
+        return updateDefaultCurrency(DEFAULT_CURRENCY);
+    }
+
+    /**
+     * Reloads the snapshot when the stored version is newer than the one held in
+     * memory. Costs a single scalar query when nothing changed.
+     *
+     * @return whether a newer snapshot was published
+     */
+    public boolean refreshIfChanged() {
+        Optional<Long> stored = repository.findVersionById(SETTINGS_ID);
+        AppSettings current = snapshot.get();
+        if (stored.isEmpty() || (current != null && current.getVersion() >= stored.get())) {
+            return false;
+        }
+        Optional<AppSettings> reloaded = repository.findCurrentById(SETTINGS_ID).map(AppSettingsService::toDomain);
+        reloaded.ifPresent(settings -> {
+            publish(settings);
+            logger.info("Reloaded application settings at version {}", settings.getVersion());
+        });
+        return reloaded.isPresent();
+    }
+
+    @Override
+    public ReferenceDataContext referenceDataContext() {
+        return ReferenceDataContext.SETTINGS;
+    }
+
+    @Override
+    public void referenceDataChanged() {
+        refreshIfChanged();
+    }
+
+    private AppSettings readOrCreate() {
+        Optional<AppSettingsEntity> existing = repository.findById(SETTINGS_ID);
+        if (existing.isPresent()) {
+            return toDomain(existing.get());
+        }
+        // Normally seeded by migration; the insert runs in its own read-write transaction
+        try {
+            return toDomain(repository.save(defaults()));
+        } catch (DataIntegrityViolationException e) {
+            // Another instance inserted it first
+            return repository.findById(SETTINGS_ID).map(AppSettingsService::toDomain).orElseThrow(() -> e);
+        }
+    }
+
+    private void publish(AppSettings settings) {
+        snapshot.set(settings);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        snapshot.compareAndSet(settings, null);
+                    }
+                }
+            });
+        }
+    }
+
+    private static AppSettingsEntity defaults() {
+        AppSettingsEntity entity = new AppSettingsEntity();
+        entity.setId(SETTINGS_ID);
+        entity.setDefaultCurrency(DEFAULT_CURRENCY);
+        return entity;
+    }
+
+    private static AppSettings toDomain(AppSettingsEntity entity) {
+        return new AppSettings(entity.getId(), entity.getDefaultCurrency(),
+                entity.getVersion() == null ? 0L : entity.getVersion());
+    }
+
+    // The domain class is mutable, so callers never receive the shared snapshot itself
+    private static AppSettings copyOf(AppSettings settings) {
+        return new AppSettings(settings.getId(), settings.getDefaultCurrency(), settings.getVersion());
     }
-} 
\ No newline at end of file
+}
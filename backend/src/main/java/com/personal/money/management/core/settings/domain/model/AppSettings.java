@@ -21,6 +21,7 @@ import com.personal.money.management.core.shared.domain.AggregateRoot;
 public class AppSettings {
     private Long id;
     private String defaultCurrency;
+    private Long version;
 
     public AppSettings() {}
 
@@ -29,9 +30,21 @@ public class AppSettings {
         this.defaultCurrency = defaultCurrency;
     }
 
+    public AppSettings(Long id, String defaultCurrency, Long version) {
+        this.id = id;
+        this.defaultCurrency = defaultCurrency;
+        this.version = version;
+    }
+
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
     public String getDefaultCurrency() { return defaultCurrency; }
     public void setDefaultCurrency(String defaultCurrency) { this.defaultCurrency = defaultCurrency; }
+
+    /**
+     * Optimistic-lock version of the stored settings; increases with every write.
+     */
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 } 
\ No newline at end of file
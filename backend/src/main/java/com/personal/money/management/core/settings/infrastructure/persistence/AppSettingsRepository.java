@@ -1,6 +1,18 @@
 package com.personal.money.management.core.settings.infrastructure.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface AppSettingsRepository extends JpaRepository<AppSettingsEntity, Long> {
-} 
\ No newline at end of file
+
+    // Scalar read used to detect writes from other instances without loading the row
+    @Query("SELECT s.version FROM AppSettingsEntity s WHERE s.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // Queries read the row itself rather than the second-level cache, so this sees writes from other instances
+    @Query("SELECT s FROM AppSettingsEntity s WHERE s.id = :id")
+    Optional<AppSettingsEntity> findCurrentById(@Param("id") Long id);
+}
@@ -1,7 +1,7 @@
 package com.personal.money.management.core.settings.interfaces.api;
 
 import com.personal.money.management.core.settings.application.AppSettingsService;
-import com.personal.money.management.core.settings.infrastructure.persistence.AppSettingsEntity;
+import com.personal.money.management.core.settings.domain.model.AppSettings;
 import com.personal.money.management.core.settings.interfaces.api.dto.UpdateCurrencyRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,17 +18,17 @@ public class AppSettingsController {
     }
 
     @GetMapping
-    public ResponseEntity<AppSettingsEntity> get() {
+    public ResponseEntity<AppSettings> get() {
         return ResponseEntity.ok(service.get());
     }
 
     @PutMapping("/currency")
-    public ResponseEntity<AppSettingsEntity> updateCurrency(@Valid @RequestBody UpdateCurrencyRequest request) {
+    public ResponseEntity<AppSettings> updateCurrency(@Valid @RequestBody UpdateCurrencyRequest request) {
         return ResponseEntity.ok(service.updateDefaultCurrency(request.getDefaultCurrency()));
     }
 
     @PostMapping("/reset")
-    public ResponseEntity<AppSettingsEntity> reset() {
+    public ResponseEntity<AppSettings> reset() {
         return ResponseEntity.ok(service.reset());
     }
 } 
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.personal.money.management.core.shared.domain;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Case- and accent-insensitive normalization of user-entered text.
+ *
+ * <p>Folding decomposes accented characters and drops the combining marks, maps
+ * {@code đ}/{@code Đ} (which has no decomposition) to {@code d} and lower-cases
+ * the result, so "Tiền Điện" and "tien dien" compare equal.</p>
+ */
+public final class TextFolding {
+
+    private TextFolding() {
+    }
+
+    /**
+     * Folds text for comparison. Returns an empty string for {@code null}.
+     */
+    public static String fold(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (c == '\u0111' || c == '\u0110') {
+                c = 'd';
+            }
+            folded.append(c);
+        }
+        return folded.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Folds text and splits it into runs of letters and digits.
+     */
+    public static List<String> tokens(String text) {
+        String folded = fold(text);
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(folded.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,76 @@
+package com.personal.money.management.core.shared.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements each HTTP request executes and publishes them per
+ * endpoint as {@value #STATEMENTS_METRIC} and {@value #TIME_METRIC}.
+ *
+ * <p>Requests above {@code monitoring.sql.statement-budget} statements are logged
+ * with their endpoint, which is usually the first sign of an N+1 query.</p>
+ */
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_METRIC = "http.server.requests.sql.statements";
+    static final String TIME_METRIC = "http.server.requests.sql.time";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementBudgetFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+
+    public SqlStatementBudgetFilter(MeterRegistry meterRegistry, int statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementCounter.Scope scope = SqlStatementCounter.open();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            scope.close();
+            record(request, scope);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementCounter.Scope scope) {
+        // The matched pattern, not the raw path, keeps the number of series bounded
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        String method = request.getMethod();
+
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .description("SQL statements executed per HTTP request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(scope.getStatements());
+        Timer.builder(TIME_METRIC)
+                .description("Time spent executing SQL per HTTP request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(scope.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+        if (scope.getStatements() > statementBudget) {
+            logger.warn("{} {} executed {} SQL statements in {} ms, over the budget of {}",
+                    method, uri, scope.getStatements(),
+                    TimeUnit.NANOSECONDS.toMillis(scope.getElapsedNanos()), statementBudget);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.personal.money.management.core.shared.infrastructure.monitoring;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Counts the SQL statements executed on the current thread.
+ *
+ * <p>Counting happens only while a {@link Scope} is open. Scopes may nest (a test
+ * scope around a MockMvc call that opens the request scope, for instance); every
+ * open scope on the thread sees every statement.</p>
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Deque<Scope>> OPEN_SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private SqlStatementCounter() {
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope();
+        OPEN_SCOPES.get().push(scope);
+        return scope;
+    }
+
+    /**
+     * Records one statement execution against every open scope of the calling thread.
+     */
+    static void record(long elapsedNanos) {
+        Deque<Scope> scopes = OPEN_SCOPES.get();
+        if (scopes.isEmpty()) {
+            return;
+        }
+        for (Scope scope : scopes) {
+            scope.statements++;
+            scope.elapsedNanos += elapsedNanos;
+        }
+    }
+
+    /**
+     * Statements and database time seen since the scope was opened.
+     */
+    public static final class Scope implements AutoCloseable {
+        private int statements;
+        private long elapsedNanos;
+
+        private Scope() {
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        @Override
+        public void close() {
+            Deque<Scope> scopes = OPEN_SCOPES.get();
+            scopes.remove(this);
+            if (scopes.isEmpty()) {
+                OPEN_SCOPES.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.personal.money.management.core.shared.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Wraps the application data source so every JDBC execution is reported to
+ * {@link SqlStatementCounter}, and measures each HTTP request with
+ * {@link SqlStatementBudgetFilter}. A batch counts as one statement, since it is
+ * one round trip.
+ */
+@Configuration
+public class SqlStatementMonitoringConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlStatementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, (DataSource) bean)
+                            .listener(new CountingListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SqlStatementBudgetFilter sqlStatementBudgetFilter(MeterRegistry meterRegistry,
+                                                             @Value("${monitoring.sql.statement-budget:20}") int statementBudget) {
+        return new SqlStatementBudgetFilter(meterRegistry, statementBudget);
+    }
+
+    // Times executions itself: the proxy only reports whole milliseconds
+    static class CountingListener implements QueryExecutionListener {
+        private static final String STARTED_AT = "sqlStatementCounter.startedAt";
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+            SqlStatementCounter.record(startedAt == null ? 0L : System.nanoTime() - startedAt);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.personal.money.management.core.shared.infrastructure.monitoring;
+
+/**
+ * Lets a timed use case report where its data came from, so cache hits, database
+ * reads and provider calls show up as separate latency series.
+ *
+ * <p>Marking is a no-op outside a {@link UseCaseTimed} call. When a use case marks
+ * more than once, the last mark wins, so mark the path that finally answered.</p>
+ */
+public final class UseCaseSource {
+
+    public static final String CACHE = "cache";
+    public static final String DATABASE = "db";
+    public static final String PROVIDER = "provider";
+    public static final String FALLBACK = "fallback";
+    static final String NONE = "none";
+
+    private static final ThreadLocal<String[]> CURRENT = new ThreadLocal<>();
+
+    private UseCaseSource() {
+    }
+
+    public static void mark(String source) {
+        String[] holder = CURRENT.get();
+        if (holder != null) {
+            holder[0] = source;
+        }
+    }
+
+    /**
+     * Starts collecting marks for a new use case and returns the enclosing use
+     * case's holder, to be handed back to {@link #end(String[])}.
+     */
+    static String[] begin(String[] holder) {
+        String[] enclosing = CURRENT.get();
+        CURRENT.set(holder);
+        return enclosing;
+    }
+
+    static void end(String[] enclosing) {
+        if (enclosing == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(enclosing);
+        }
+    }
+}
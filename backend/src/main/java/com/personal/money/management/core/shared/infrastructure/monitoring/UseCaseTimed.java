@@ -0,0 +1,17 @@
+package com.personal.money.management.core.shared.infrastructure.monitoring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Times every public method of an application service (or a single annotated
+ * method) as a use case. See {@link UseCaseTimingAspect} for the published meter.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface UseCaseTimed {
+}
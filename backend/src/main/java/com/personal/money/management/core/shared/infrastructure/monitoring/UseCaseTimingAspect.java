@@ -0,0 +1,65 @@
+package com.personal.money.management.core.shared.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Publishes {@value #METRIC} for every {@link UseCaseTimed} call, tagged with the
+ * service, method, outcome, exception and the {@link UseCaseSource} the call
+ * reported.
+ *
+ * <p>Timers carry a percentile histogram so latency percentiles can be aggregated
+ * across instances in Prometheus. Runs outside the transaction advice, so commit
+ * time is included.</p>
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UseCaseTimingAspect {
+
+    static final String METRIC = "app.use-case";
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(30);
+
+    private final MeterRegistry meterRegistry;
+
+    public UseCaseTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("(@within(com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseTimed) && execution(public * *(..)))"
+            + " || @annotation(com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseTimed)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String[] source = {UseCaseSource.NONE};
+        String[] enclosing = UseCaseSource.begin(source);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            exception = t.getClass().getSimpleName();
+            throw t;
+        } finally {
+            UseCaseSource.end(enclosing);
+            sample.stop(Timer.builder(METRIC)
+                    .description("Latency of application use cases")
+                    .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", "none".equals(exception) ? "SUCCESS" : "ERROR")
+                    .tag("exception", exception)
+                    .tag("source", source[0])
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(MIN_EXPECTED)
+                    .maximumExpectedValue(MAX_EXPECTED)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.personal.money.management.core.shared.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Write side of the transactional outbox: domain events are stored in the same
+ * transaction as the aggregate change, so an event exists exactly when its change
+ * committed, and {@link OutboxDispatcher} feeds them to projections afterwards.
+ */
+@Component
+public class Outbox {
+
+    private final OutboxEventRepository repository;
+    private final ObjectMapper objectMapper;
+
+    public Outbox(OutboxEventRepository repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Store {@code event} as JSON in the caller's transaction
+     *
+     * @param aggregateType Events of one aggregate type and id are dispatched in the order they were appended
+     * @throws org.springframework.transaction.IllegalTransactionStateException when called outside a transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, Object aggregateId, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize outbox event " + event.getClass().getSimpleName(), e);
+        }
+        repository.save(new OutboxEventEntity(aggregateType, String.valueOf(aggregateId),
+                event.getClass().getSimpleName(), payload, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,150 @@
+package com.personal.money.management.core.shared.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Read side of the transactional outbox: polls the oldest events in batches and
+ * hands each to the {@link OutboxEventHandler}s registered for its type, off the
+ * request path.
+ *
+ * <p>Each event is handled and deleted in one transaction, so delivery is at least
+ * once. Events are taken in ID order, and once an event of an aggregate fails or is
+ * held by another replica the rest of that aggregate's events wait for the next
+ * poll, so every aggregate's events are applied in write order. Events of other
+ * aggregates carry on. Events no handler consumes are simply removed.</p>
+ *
+ * <p>An event that has failed {@code outbox.max-attempts} times is parked: it stays
+ * in the table with its last error for an operator to inspect, is no longer polled
+ * and no longer holds back the later events of its aggregate.</p>
+ */
+@Component
+@EnableScheduling
+public class OutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository repository;
+    private final List<OutboxEventHandler> handlers;
+    private final ObjectReader payloadReader;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    public OutboxDispatcher(OutboxEventRepository repository, List<OutboxEventHandler> handlers,
+                            ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                            @Value("${outbox.batch-size:200}") int batchSize,
+                            @Value("${outbox.max-attempts:10}") int maxAttempts) {
+        this.repository = repository;
+        this.handlers = handlers;
+        // Amounts in payloads are read back exactly, not as doubles
+        this.payloadReader = objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        // Each event is handled in a transaction of its own, never the caller's
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:1000}",
+            initialDelayString = "${outbox.poll-interval-ms:1000}")
+    public void poll() {
+        try {
+            while (dispatchBatch() == batchSize) {
+                // A full batch went through; drain the backlog before sleeping again
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Outbox dispatch failed", e);
+        }
+    }
+
+    /**
+     * Dispatch up to one batch of the oldest events
+     *
+     * @return The number of events handled and removed
+     */
+    public synchronized int dispatchBatch() {
+        List<OutboxEventEntity> batch = repository.findOldest(maxAttempts, PageRequest.of(0, batchSize));
+        Set<String> held = new HashSet<>();
+        int dispatched = 0;
+        for (OutboxEventEntity event : batch) {
+            String aggregate = event.getAggregateType() + ":" + event.getAggregateId();
+            if (held.contains(aggregate)) {
+                continue;
+            }
+            if (dispatch(event)) {
+                dispatched++;
+            } else {
+                held.add(aggregate);
+            }
+        }
+        return dispatched;
+    }
+
+    /**
+     * @return Whether the event was handled; false when it failed or another replica claimed it
+     */
+    private boolean dispatch(OutboxEventEntity event) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (repository.claim(event.getId()) == 0) {
+                    return false;
+                }
+                OutboxMessage message = toMessage(event);
+                for (OutboxEventHandler handler : handlers) {
+                    if (handler.eventTypes().contains(event.getEventType())) {
+                        handler.handle(message);
+                    }
+                }
+                return true;
+            }));
+        } catch (RuntimeException e) {
+            int attempt = event.getAttempts() + 1;
+            if (attempt >= maxAttempts) {
+                logger.error("Outbox event {} ({} of {} {}) failed {} times and is parked", event.getId(),
+                        event.getEventType(), event.getAggregateType(), event.getAggregateId(), attempt, e);
+            } else {
+                logger.warn("Outbox event {} ({} of {} {}) failed, attempt {}", event.getId(), event.getEventType(),
+                        event.getAggregateType(), event.getAggregateId(), attempt, e);
+            }
+            recordFailure(event, e);
+            return false;
+        }
+    }
+
+    private void recordFailure(OutboxEventEntity event, RuntimeException failure) {
+        String error = String.valueOf(failure.getMessage());
+        String truncated = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        try {
+            transactionTemplate.executeWithoutResult(status -> repository.recordFailure(event.getId(), truncated));
+        } catch (RuntimeException e) {
+            logger.warn("Could not record the failure of outbox event {}", event.getId(), e);
+        }
+    }
+
+    private OutboxMessage toMessage(OutboxEventEntity event) {
+        try {
+            return new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                    event.getEventType(), payloadReader.readTree(event.getPayload()), event.getCreatedAt());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable payload in outbox event " + event.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.personal.money.management.core.shared.infrastructure.outbox;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity for OUTBOX_EVENT table: one pending domain event, deleted once dispatched
+ */
+@Entity
+@Table(name = "OUTBOX_EVENT")
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "AGGREGATE_TYPE", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "AGGREGATE_ID", nullable = false, length = 100)
+    private String aggregateId;
+
+    @Column(name = "EVENT_TYPE", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "PAYLOAD", nullable = false, length = 4000)
+    private String payload;
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "ATTEMPTS", nullable = false)
+    private int attempts;
+
+    @Column(name = "LAST_ERROR", length = 1000)
+    private String lastError;
+
+    protected OutboxEventEntity() {
+    }
+
+    public OutboxEventEntity(String aggregateType, String aggregateId, String eventType, String payload,
+                             LocalDateTime createdAt) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getAggregateType() { return aggregateType; }
+    public String getAggregateId() { return aggregateId; }
+    public String getEventType() { return eventType; }
+    public String getPayload() { return payload; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public int getAttempts() { return attempts; }
+    public String getLastError() { return lastError; }
+}
@@ -0,0 +1,22 @@
+package com.personal.money.management.core.shared.infrastructure.outbox;
+
+import java.util.Set;
+
+/**
+ * A projection fed from the outbox by {@link OutboxDispatcher}. Delivery is at least
+ * once, in write order per aggregate, so handling must be idempotent.
+ */
+public interface OutboxEventHandler {
+
+    /**
+     * Simple class names of the events this handler consumes
+     */
+    Set<String> eventTypes();
+
+    /**
+     * Apply one event. Runs on the dispatcher thread inside the transaction that
+     * removes the event from the outbox, so database writes made here commit or roll
+     * back with the acknowledgement; throwing leaves the event for the next poll.
+     */
+    void handle(OutboxMessage message);
+}
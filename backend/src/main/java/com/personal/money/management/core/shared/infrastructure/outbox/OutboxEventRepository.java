@@ -0,0 +1,30 @@
+package com.personal.money.management.core.shared.infrastructure.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * The oldest events not yet parked after {@code maxAttempts} failures
+     */
+    @Query("SELECT e FROM OutboxEventEntity e WHERE e.attempts < :maxAttempts ORDER BY e.id")
+    List<OutboxEventEntity> findOldest(@Param("maxAttempts") int maxAttempts, Pageable page);
+
+    List<OutboxEventEntity> findByAggregateTypeAndAggregateIdOrderById(String aggregateType, String aggregateId);
+
+    // Deleting the row is the claim: it holds the row lock until the dispatching
+    // transaction ends, so a second replica blocks and then deletes nothing
+    @Modifying
+    @Query("DELETE FROM OutboxEventEntity e WHERE e.id = :id")
+    int claim(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.attempts = e.attempts + 1, e.lastError = :error WHERE e.id = :id")
+    int recordFailure(@Param("id") Long id, @Param("error") String error);
+}
@@ -0,0 +1,60 @@
+package com.personal.money.management.core.shared.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDateTime;
+
+/**
+ * An outbox event as handed to {@link OutboxEventHandler}s. The payload is the
+ * event's JSON form, read by field name, so handlers do not depend on the event
+ * class and events written by an older version of the application stay readable.
+ */
+public class OutboxMessage {
+    private final Long id;
+    private final String aggregateType;
+    private final String aggregateId;
+    private final String eventType;
+    private final JsonNode payload;
+    private final LocalDateTime createdAt;
+
+    public OutboxMessage(Long id, String aggregateType, String aggregateId, String eventType, JsonNode payload,
+                         LocalDateTime createdAt) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Increases with every event written; a handler can store the last one applied
+     * to skip a redelivery
+     */
+    public Long getId() {
+        return id;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    /**
+     * Simple class name of the event, e.g. {@code CategorySavedEvent}
+     */
+    public String getEventType() {
+        return eventType;
+    }
+
+    public JsonNode getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
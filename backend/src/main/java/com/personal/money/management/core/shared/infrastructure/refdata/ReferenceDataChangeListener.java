@@ -0,0 +1,17 @@
+package com.personal.money.management.core.shared.infrastructure.refdata;
+
+/**
+ * A local cache of one context's reference data, told by
+ * {@link ReferenceDataVersionPoller} when that context's version moves.
+ */
+public interface ReferenceDataChangeListener {
+
+    ReferenceDataContext referenceDataContext();
+
+    /**
+     * Drop or reload everything cached for the context. Called on the poller thread,
+     * outside any transaction, for changes other replicas made; this instance's own
+     * writes refresh its caches themselves.
+     */
+    void referenceDataChanged();
+}
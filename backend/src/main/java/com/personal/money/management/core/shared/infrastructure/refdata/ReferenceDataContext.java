@@ -0,0 +1,15 @@
+package com.personal.money.management.core.shared.infrastructure.refdata;
+
+/**
+ * Bounded contexts whose reference data is cached in process and versioned in
+ * {@code REFERENCE_DATA_VERSION}, one row per constant.
+ */
+public enum ReferenceDataContext {
+    TAX,
+    CATEGORY,
+    // No write path in the application; bumped by whoever changes the seeded currencies
+    CURRENCY,
+    SETTINGS,
+    CATEGORIZATION_RULE,
+    ACCOUNT
+}
@@ -0,0 +1,33 @@
+package com.personal.money.management.core.shared.infrastructure.refdata;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity for REFERENCE_DATA_VERSION table. Not second-level cached: the whole
+ * point is to see versions committed by other replicas.
+ */
+@Entity
+@Table(name = "REFERENCE_DATA_VERSION")
+public class ReferenceDataVersionEntity {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "CONTEXT")
+    private ReferenceDataContext context;
+
+    @Column(name = "VERSION", nullable = false)
+    private Long version;
+
+    @Column(name = "UPDATED_AT")
+    private LocalDateTime updatedAt;
+
+    public ReferenceDataContext getContext() { return context; }
+    public void setContext(ReferenceDataContext context) { this.context = context; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,109 @@
+package com.personal.money.management.core.shared.infrastructure.refdata;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the in-process reference-data caches of this instance coherent with writes
+ * made by other replicas by polling {@link ReferenceDataVersions}. One scalar query
+ * per poll; listeners run only for the contexts another replica changed.
+ *
+ * <p>The versions in force at startup are taken as seen before any cache first loads,
+ * so only later changes fire listeners. Versions this instance's own writes produced
+ * are skipped: the writing services already refreshed their caches as they committed.</p>
+ */
+@Component
+@EnableScheduling
+public class ReferenceDataVersionPoller {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataVersionPoller.class);
+
+    private final ReferenceDataVersions versions;
+    private final List<ReferenceDataChangeListener> listeners;
+    // Last version each context's listeners handled successfully
+    private final Map<ReferenceDataContext, Long> seen = new EnumMap<>(ReferenceDataContext.class);
+
+    public ReferenceDataVersionPoller(ReferenceDataVersions versions, List<ReferenceDataChangeListener> listeners) {
+        this.versions = versions;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Runs while the context starts, before the caches load: those loading eagerly do so
+     * on ApplicationReadyEvent, the others on first use. Should the database not answer,
+     * the first poll fires every listener instead.
+     */
+    @PostConstruct
+    void seed() {
+        try {
+            seen.putAll(versions.current());
+        } catch (RuntimeException e) {
+            logger.warn("Could not read the reference data versions at startup", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${reference-data.poll-interval-ms:2000}",
+            initialDelayString = "${reference-data.poll-interval-ms:2000}")
+    public void poll() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            logger.warn("Reference data version poll failed", e);
+        }
+    }
+
+    /**
+     * Fire the listeners of every context another replica changed since the last poll.
+     * A context whose listener throws is retried on the next poll.
+     *
+     * @return The contexts whose listeners all ran
+     */
+    public synchronized Set<ReferenceDataContext> refresh() {
+        Set<ReferenceDataContext> refreshed = EnumSet.noneOf(ReferenceDataContext.class);
+        for (Map.Entry<ReferenceDataContext, Long> entry : versions.current().entrySet()) {
+            ReferenceDataContext context = entry.getKey();
+            Long previous = seen.get(context);
+            if (entry.getValue().equals(previous)) {
+                continue;
+            }
+            if (previous != null && versions.onlyCommittedHere(context, previous, entry.getValue())) {
+                seen.put(context, entry.getValue());
+                continue;
+            }
+            if (notify(context)) {
+                seen.put(context, entry.getValue());
+                refreshed.add(context);
+            }
+        }
+        if (!refreshed.isEmpty()) {
+            logger.debug("Reference data changed for {}", refreshed);
+        }
+        return refreshed;
+    }
+
+    private boolean notify(ReferenceDataContext context) {
+        boolean notified = true;
+        for (ReferenceDataChangeListener listener : listeners) {
+            if (listener.referenceDataContext() != context) {
+                continue;
+            }
+            try {
+                listener.referenceDataChanged();
+            } catch (RuntimeException e) {
+                logger.warn("Reference data listener {} failed for {}", listener.getClass().getSimpleName(), context, e);
+                notified = false;
+            }
+        }
+        return notified;
+    }
+}
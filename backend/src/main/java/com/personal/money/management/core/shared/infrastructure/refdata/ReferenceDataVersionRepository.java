@@ -0,0 +1,21 @@
+package com.personal.money.management.core.shared.infrastructure.refdata;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface ReferenceDataVersionRepository extends JpaRepository<ReferenceDataVersionEntity, ReferenceDataContext> {
+
+    // A single-row update: it holds the row lock until the writing transaction ends,
+    // so concurrent writers to one context commit their bumps in order
+    @Modifying
+    @Query("UPDATE ReferenceDataVersionEntity v SET v.version = v.version + 1, v.updatedAt = :now "
+            + "WHERE v.context = :context")
+    int increment(@Param("context") ReferenceDataContext context, @Param("now") LocalDateTime now);
+
+    @Query("SELECT v.version FROM ReferenceDataVersionEntity v WHERE v.context = :context")
+    long findVersion(@Param("context") ReferenceDataContext context);
+}
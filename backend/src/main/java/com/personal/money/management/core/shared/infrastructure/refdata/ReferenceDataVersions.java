@@ -0,0 +1,81 @@
+package com.personal.money.management.core.shared.infrastructure.refdata;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * The cluster-wide reference-data version registry: one monotonically increasing
+ * version per {@link ReferenceDataContext}, stored in the database so every replica
+ * sees the same sequence without a message broker.
+ */
+@Component
+public class ReferenceDataVersions {
+
+    private final ReferenceDataVersionRepository repository;
+    // Versions produced by this instance's own committed bumps, until the poller passes them
+    private final Map<ReferenceDataContext, NavigableSet<Long>> committedHere = new ConcurrentHashMap<>();
+
+    public ReferenceDataVersions(ReferenceDataVersionRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Bump the version of {@code context} in the caller's transaction, so other
+     * replicas see the new version exactly when the write itself commits and never
+     * for a write that rolls back. Once the write commits, the new version is
+     * remembered as this instance's own, see {@link #onlyCommittedHere}.
+     *
+     * @throws org.springframework.transaction.IllegalTransactionStateException when called outside a transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void bump(ReferenceDataContext context) {
+        if (repository.increment(context, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("No reference data version row for context: " + context);
+        }
+        // The row stays locked until commit, so this is exactly the version the write produces
+        long version = repository.findVersion(context);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                committedHere.computeIfAbsent(context, key -> new ConcurrentSkipListSet<>()).add(version);
+            }
+        });
+    }
+
+    /**
+     * Whether every version of {@code context} after {@code after} up to {@code upTo}
+     * came from a bump this instance committed, whose writer already refreshed its
+     * caches. Forgets the versions up to {@code upTo} either way.
+     */
+    public boolean onlyCommittedHere(ReferenceDataContext context, long after, long upTo) {
+        NavigableSet<Long> own = committedHere.get(context);
+        if (own == null) {
+            return false;
+        }
+        boolean onlyOwn = own.subSet(after, false, upTo, true).size() == upTo - after;
+        own.headSet(upTo, true).clear();
+        return onlyOwn;
+    }
+
+    /**
+     * Committed version of every context, in one query
+     */
+    @Transactional(readOnly = true)
+    public Map<ReferenceDataContext, Long> current() {
+        Map<ReferenceDataContext, Long> versions = new EnumMap<>(ReferenceDataContext.class);
+        for (ReferenceDataVersionEntity entity : repository.findAll()) {
+            versions.put(entity.getContext(), entity.getVersion());
+        }
+        return versions;
+    }
+}
@@ -0,0 +1,79 @@
+package com.personal.money.management.core.shared.infrastructure.refdata;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+
+/**
+ * A value built from reference data and reused until {@link #invalidate()}; the next
+ * read then builds a replacement and swaps it in whole, so readers always see one
+ * consistent value.
+ *
+ * <p>Every invalidation moves a generation, and a value built for an older generation
+ * is stale. The generation is read before the loader runs: a write committing while it
+ * loads leaves the value one generation behind, so the next read builds it again.
+ * Concurrent readers of a stale value may each build one; the first stored is kept.</p>
+ *
+ * @param <T> the value, immutable once built
+ */
+public final class VersionedSnapshot<T> {
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicReference<Entry<T>> current = new AtomicReference<>();
+
+    /**
+     * The value for the current generation, built by {@code loader} when there is none
+     *
+     * @param loader builds the value, given the generation it is built for
+     */
+    public T get(LongFunction<T> loader) {
+        return get(loader, value -> true);
+    }
+
+    /**
+     * As {@link #get(LongFunction)}, also rebuilding a value that fails {@code fresh},
+     * such as one built from an older version of another snapshot
+     */
+    public T get(LongFunction<T> loader, Predicate<T> fresh) {
+        long version = generation.get();
+        Entry<T> cached = current.get();
+        if (cached != null && cached.generation == version && fresh.test(cached.value)) {
+            return cached.value;
+        }
+        T loaded = loader.apply(version);
+        current.compareAndSet(cached, new Entry<>(version, loaded));
+        return loaded;
+    }
+
+    /**
+     * Discards the value now, so a writing transaction reads its own changes, and again
+     * once that transaction completes, so nothing built from uncommitted rows outlives a
+     * rollback and nothing built before the commit outlives the commit. Outside a
+     * transaction, such as for a change another instance reported, only the first applies.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    generation.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    private static final class Entry<T> {
+        private final long generation;
+        private final T value;
+
+        private Entry(long generation, T value) {
+            this.generation = generation;
+            this.value = value;
+        }
+    }
+}
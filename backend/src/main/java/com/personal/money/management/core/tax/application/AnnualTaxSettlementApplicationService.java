@@ -1,20 +1,30 @@
 package com.personal.money.management.core.tax.application;
 
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseTimed;
 import com.personal.money.management.core.tax.domain.model.AnnualTaxSettlementInput;
 import com.personal.money.management.core.tax.domain.model.AnnualTaxSettlementResult;
-import com.personal.money.management.core.tax.domain.service.AnnualTaxSettlementService;
+import com.personal.money.management.core.tax.domain.service.TaxEngine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Application Service for Annual Tax Settlement Use Cases
  */
 @Service
+@UseCaseTimed
 public class AnnualTaxSettlementApplicationService {
     
-    private final AnnualTaxSettlementService annualTaxSettlementService;
+    private final TaxEngine taxEngine;
+    private final int bulkMaxSize;
     
-    public AnnualTaxSettlementApplicationService() {
-        this.annualTaxSettlementService = new AnnualTaxSettlementService();
+    public AnnualTaxSettlementApplicationService(
+            TaxEngine taxEngine,
+            @Value("${tax.annual-settlement.bulk-max-size:10000}") int bulkMaxSize) {
+        this.taxEngine = taxEngine;
+        this.bulkMaxSize = bulkMaxSize;
     }
     
     /**
@@ -24,11 +34,53 @@ public class AnnualTaxSettlementApplicationService {
      * @return The calculated annual tax settlement result
      */
     public AnnualTaxSettlementResult calculateAnnualTaxSettlement(AnnualTaxSettlementRequest request) {
+        AnnualTaxSettlementInput input = toInput(request);
+        
+        // Calculate using domain service
+        return taxEngine.calculateAnnualTaxSettlement(input);
+    }
+    
+    /**
+     * Settle many employees in one call. Every request is validated first, then all are
+     * settled against the same rule snapshot without reading the database per row.
+     * 
+     * @param requests One request per employee, at most {@code tax.annual-settlement.bulk-max-size}
+     * @return Results in request order
+     */
+    public List<AnnualTaxSettlementResult> calculateAnnualTaxSettlements(List<AnnualTaxSettlementRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one settlement request is required");
+        }
+        
+        if (requests.size() > bulkMaxSize) {
+            throw new IllegalArgumentException("At most " + bulkMaxSize + " settlement requests are allowed per call");
+        }
+        
+        List<AnnualTaxSettlementInput> inputs = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                inputs.add(toInput(requests.get(i)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Request " + i + ": " + e.getMessage(), e);
+            }
+        }
+        return taxEngine.calculateAnnualTaxSettlements(inputs);
+    }
+    
+    private AnnualTaxSettlementInput toInput(AnnualTaxSettlementRequest request) {
         // Validate required fields
+        if (request == null) {
+            throw new IllegalArgumentException("Settlement request is required");
+        }
+        
         if (request.getYear() == null || request.getYear().isEmpty()) {
             throw new IllegalArgumentException("Year is required");
         }
         
+        if (!request.getYear().matches("\\d{4}")) {
+            throw new IllegalArgumentException("Year must have four digits");
+        }
+        
         if (request.getTotalGrossSalary() <= 0) {
             throw new IllegalArgumentException("Total gross salary must be greater than 0");
         }
@@ -50,7 +102,7 @@ public class AnnualTaxSettlementApplicationService {
         }
         
         // Create input value object
-        AnnualTaxSettlementInput input = new AnnualTaxSettlementInput(
+        return new AnnualTaxSettlementInput(
             request.getYear(),
             request.getTotalGrossSalary(),
             request.getTotalBonus(),
@@ -64,8 +116,5 @@ public class AnnualTaxSettlementApplicationService {
             request.getBhtnContribution(),
             request.getTaxAlreadyPaid()
         );
-        
-        // Calculate using domain service
-        return annualTaxSettlementService.calculateAnnualTaxSettlement(input);
     }
 }
@@ -0,0 +1,92 @@
+package com.personal.money.management.core.tax.application;
+
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseTimed;
+import com.personal.money.management.core.tax.domain.service.TaxEngine;
+import com.personal.money.management.core.tax.infrastructure.dataset.PayrollDatasetReader;
+import com.personal.money.management.core.tax.infrastructure.dataset.SalaryResultDatasetWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Application Service calculating columnar payroll datasets in the dataset directory
+ * Inputs are read from memory-mapped columns and results written the same way, so
+ * no row is parsed or turned into an object
+ */
+@Service
+@UseCaseTimed
+public class PayrollDatasetApplicationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayrollDatasetApplicationService.class);
+
+    private final TaxEngine taxEngine;
+    private final Path directory;
+
+    public PayrollDatasetApplicationService(
+            TaxEngine taxEngine,
+            @Value("${tax.dataset.directory:${java.io.tmpdir}/money-keeper-datasets}") String directory) {
+        this.taxEngine = taxEngine;
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Calculate every row of the input dataset into a result dataset with the same row order
+     * The result appears under its name only once complete
+     *
+     * @param request Input and output dataset names
+     * @return Rows calculated and time taken
+     */
+    public PayrollDatasetSummary calculate(PayrollDatasetRequest request) throws IOException {
+        if (request == null) {
+            throw new IllegalArgumentException("Dataset request is required");
+        }
+        Path input = resolve(request.getInput(), "Input");
+        Path output = resolve(request.getOutput(), "Output");
+        if (input.equals(output)) {
+            throw new IllegalArgumentException("Output dataset must differ from the input dataset");
+        }
+        Files.createDirectories(output.getParent());
+        Path partial = output.resolveSibling(output.getFileName() + ".partial");
+        long started = System.nanoTime();
+        long rows;
+        try (PayrollDatasetReader reader = openInput(input, request.getInput());
+             SalaryResultDatasetWriter writer = SalaryResultDatasetWriter.create(partial, reader.rowCount())) {
+            rows = taxEngine.calculateSalaries(reader, writer);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+        Files.move(partial, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        logger.info("Calculated payroll dataset {} into {}: {} rows in {} ms",
+                request.getInput(), request.getOutput(), rows, elapsedMillis);
+        return new PayrollDatasetSummary(request.getInput(), request.getOutput(), rows, elapsedMillis);
+    }
+
+    private static PayrollDatasetReader openInput(Path input, String name) throws IOException {
+        try {
+            return PayrollDatasetReader.open(input);
+        } catch (NoSuchFileException e) {
+            throw new IllegalArgumentException("Input dataset not found: " + name);
+        }
+    }
+
+    private Path resolve(String name, String role) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException(role + " dataset name is required");
+        }
+        Path path = directory.resolve(name).normalize();
+        if (!path.startsWith(directory) || path.equals(directory)) {
+            throw new IllegalArgumentException(role + " dataset must be inside the dataset directory");
+        }
+        return path;
+    }
+}
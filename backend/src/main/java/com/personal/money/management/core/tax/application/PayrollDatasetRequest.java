@@ -0,0 +1,23 @@
+package com.personal.money.management.core.tax.application;
+
+/**
+ * Request DTO naming an input dataset and the result dataset to write, both relative
+ * to the configured dataset directory
+ */
+public class PayrollDatasetRequest {
+    private String input;
+    private String output;
+
+    public PayrollDatasetRequest() {}
+
+    public PayrollDatasetRequest(String input, String output) {
+        this.input = input;
+        this.output = output;
+    }
+
+    public String getInput() { return input; }
+    public void setInput(String input) { this.input = input; }
+
+    public String getOutput() { return output; }
+    public void setOutput(String output) { this.output = output; }
+}
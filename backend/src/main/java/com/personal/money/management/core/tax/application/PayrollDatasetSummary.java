@@ -0,0 +1,23 @@
+package com.personal.money.management.core.tax.application;
+
+/**
+ * Outcome of calculating a columnar payroll dataset
+ */
+public class PayrollDatasetSummary {
+    private final String input;
+    private final String output;
+    private final long rows;
+    private final long elapsedMillis;
+
+    public PayrollDatasetSummary(String input, String output, long rows, long elapsedMillis) {
+        this.input = input;
+        this.output = output;
+        this.rows = rows;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public String getInput() { return input; }
+    public String getOutput() { return output; }
+    public long getRows() { return rows; }
+    public long getElapsedMillis() { return elapsedMillis; }
+}
@@ -0,0 +1,133 @@
+package com.personal.money.management.core.tax.application;
+
+import com.personal.money.management.core.tax.domain.model.CompiledTaxRules;
+import com.personal.money.management.core.tax.domain.model.RecomputationRange;
+import com.personal.money.management.core.tax.domain.service.PayrollRecomputationPlanner;
+import com.personal.money.management.core.tax.domain.service.TaxPayrollResultRepository.EmployeeYear;
+import com.personal.money.management.core.tax.domain.service.TaxEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Recomputes only the stored payroll results a tax configuration change affects.
+ *
+ * <p>The planner compares the rule sets before and after the change and yields the
+ * ranges of rows whose tax can differ. Every employee and year with a row in a range
+ * is then recomputed in parallel, one employee and year per transaction: its months
+ * and the year-to-date totals rebuilt from them commit together. A year that fails
+ * is logged and left as it was; recomputing the same change again picks it up.</p>
+ */
+@Component
+public class PayrollRecomputationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayrollRecomputationRunner.class);
+
+    private final PayrollRecomputationService service;
+    private final TaxEngine taxEngine;
+    private final PayrollRecomputationPlanner planner = new PayrollRecomputationPlanner();
+    // Runs whole recomputations one after another; the employee years go to the workers
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(
+            runnable -> daemon(runnable, "payroll-recompute"));
+    private final ExecutorService workers;
+
+    public PayrollRecomputationRunner(
+            PayrollRecomputationService service,
+            TaxEngine taxEngine,
+            @Value("${tax.recomputation.parallelism:4}") int parallelism) {
+        this.service = service;
+        this.taxEngine = taxEngine;
+        this.workers = Executors.newFixedThreadPool(parallelism, runnable -> daemon(runnable, "payroll-recompute-worker"));
+    }
+
+    /**
+     * Once the current transaction commits, recompute what changed between
+     * {@code before} and the rules then in force. Runs in the background.
+     */
+    public void recomputeAfterCommit(CompiledTaxRules before) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(before);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    submit(before);
+                }
+            }
+        });
+    }
+
+    private void submit(CompiledTaxRules before) {
+        coordinator.execute(() -> {
+            try {
+                recompute(before, taxEngine.rules());
+            } catch (RuntimeException e) {
+                logger.error("Payroll recomputation failed", e);
+            }
+        });
+    }
+
+    /**
+     * Recompute the payroll results {@code before} and {@code after} tax differently
+     */
+    public PayrollRecomputationSummary recompute(CompiledTaxRules before, CompiledTaxRules after) {
+        List<RecomputationRange> ranges = planner.plan(before, after);
+        long examined = 0;
+        // A year can fall in several ranges; it is recomputed once
+        Map<String, EmployeeYear> years = new LinkedHashMap<>();
+        for (RecomputationRange range : ranges) {
+            examined += service.countAffected(range);
+            for (EmployeeYear year : service.findAffected(range)) {
+                years.putIfAbsent(year.getEmployeeId() + "/" + year.getYear(), year);
+            }
+        }
+
+        AtomicInteger failed = new AtomicInteger();
+        List<CompletableFuture<Integer>> recomputations = new ArrayList<>();
+        for (EmployeeYear year : years.values()) {
+            recomputations.add(CompletableFuture
+                    .supplyAsync(() -> service.recomputeYear(year.getEmployeeId(), year.getYear(), after), workers)
+                    .exceptionally(e -> {
+                        logger.warn("Could not recompute payroll year {} of {}", year.getYear(), year.getEmployeeId(), e);
+                        failed.incrementAndGet();
+                        return 0;
+                    }));
+        }
+        long changed = 0;
+        for (CompletableFuture<Integer> recomputation : recomputations) {
+            changed += recomputation.join();
+        }
+
+        PayrollRecomputationSummary summary = new PayrollRecomputationSummary(
+                ranges, examined, changed, years.size() - failed.get(), failed.get());
+        logger.info("Payroll recomputation finished: {}", summary);
+        return summary;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
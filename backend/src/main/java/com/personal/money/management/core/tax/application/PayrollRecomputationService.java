@@ -0,0 +1,95 @@
+package com.personal.money.management.core.tax.application;
+
+import com.personal.money.management.core.tax.domain.model.RecomputationRange;
+import com.personal.money.management.core.tax.domain.model.SalaryCalculationInput;
+import com.personal.money.management.core.tax.domain.model.SalaryCalculationResult;
+import com.personal.money.management.core.tax.domain.model.TaxRuleSet;
+import com.personal.money.management.core.tax.domain.model.WithholdingYearToDate;
+import com.personal.money.management.core.tax.domain.service.TaxCalculationService;
+import com.personal.money.management.core.tax.domain.service.TaxPayrollResultRepository;
+import com.personal.money.management.core.tax.domain.service.TaxPayrollResultRepository.EmployeeYear;
+import com.personal.money.management.core.tax.domain.service.TaxWithholdingYtdRepository;
+import com.personal.money.management.core.tax.infrastructure.persistence.TaxPayrollResultEntity;
+import com.personal.money.management.core.tax.infrastructure.persistence.TaxWithholdingYtdEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Application Service recomputing stored payroll results, one unit of work per call
+ * Orchestrated in parallel by {@link PayrollRecomputationRunner}
+ */
+@Service
+public class PayrollRecomputationService {
+
+    private final TaxPayrollResultRepository payrollResultRepository;
+    private final TaxWithholdingYtdRepository withholdingRepository;
+
+    public PayrollRecomputationService(TaxPayrollResultRepository payrollResultRepository,
+                                       TaxWithholdingYtdRepository withholdingRepository) {
+        this.payrollResultRepository = payrollResultRepository;
+        this.withholdingRepository = withholdingRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public long countAffected(RecomputationRange range) {
+        if (range.isWageZone()) {
+            return payrollResultRepository.countByWageZoneAndGrossSalaryGreaterThan(
+                    range.getWageZone(), range.getGrossSalaryAbove());
+        }
+        return payrollResultRepository.countByBracketTypeAndTaxableIncomeGreaterThan(
+                range.getTaxBracketType().getCode(), range.getTaxableIncomeAbove());
+    }
+
+    /**
+     * The employees and years with at least one result in the range
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeYear> findAffected(RecomputationRange range) {
+        if (range.isWageZone()) {
+            return payrollResultRepository.findDistinctByWageZoneAndGrossSalaryGreaterThan(
+                    range.getWageZone(), range.getGrossSalaryAbove());
+        }
+        return payrollResultRepository.findDistinctByBracketTypeAndTaxableIncomeGreaterThan(
+                range.getTaxBracketType().getCode(), range.getTaxableIncomeAbove());
+    }
+
+    /**
+     * Recompute every stored month of one employee and year under {@code rules} and
+     * rebuild the year-to-date totals from them, in one transaction. Derived only from
+     * the stored inputs, so running it again after a failure, or for a year already
+     * recomputed, is safe.
+     *
+     * @return The number of months whose stored result changed
+     */
+    @Transactional
+    public int recomputeYear(String employeeId, int year, TaxRuleSet rules) {
+        // Read before the months: a month recorded concurrently then bumps the version
+        // and fails this transaction instead of being left out of the totals
+        TaxWithholdingYtdEntity entity = withholdingRepository.findByEmployeeIdAndYear(employeeId, year)
+                .orElseGet(() -> new TaxWithholdingYtdEntity(employeeId, year));
+        List<TaxPayrollResultEntity> months =
+                new ArrayList<>(payrollResultRepository.findByEmployeeIdAndYear(employeeId, year));
+        months.sort(Comparator.comparingInt(TaxPayrollResultEntity::getMonth));
+
+        TaxCalculationService calculator = new TaxCalculationService(rules);
+        WithholdingYearToDate ytd = new WithholdingYearToDate(employeeId, year);
+        int changed = 0;
+        for (TaxPayrollResultEntity month : months) {
+            SalaryCalculationInput input = month.toInput(rules.wageZone(month.getWageZone()));
+            SalaryCalculationResult result = calculator.calculateSalary(input);
+            if (result.getTotalTax() != month.getTotalTax() || result.getSalaryTax() != month.getSalaryTax()
+                    || result.getTaxableIncome() != month.getTaxableIncome()) {
+                month.recomputed(result);
+                changed++;
+            }
+            ytd.record(month.getMonth(), input, result);
+        }
+        entity.apply(ytd);
+        withholdingRepository.save(entity);
+        return changed;
+    }
+}
@@ -0,0 +1,38 @@
+package com.personal.money.management.core.tax.application;
+
+import com.personal.money.management.core.tax.domain.model.RecomputationRange;
+
+import java.util.List;
+
+/**
+ * Outcome of recomputing stored payroll results after a configuration change
+ */
+public class PayrollRecomputationSummary {
+    private final List<RecomputationRange> ranges;
+    private final long rowsExamined;
+    private final long rowsChanged;
+    private final int yearToDateAdjusted;
+    // Employee years left as they were; recomputing the same change again retries them
+    private final int yearToDateFailed;
+
+    public PayrollRecomputationSummary(List<RecomputationRange> ranges, long rowsExamined,
+                                       long rowsChanged, int yearToDateAdjusted, int yearToDateFailed) {
+        this.ranges = ranges;
+        this.rowsExamined = rowsExamined;
+        this.rowsChanged = rowsChanged;
+        this.yearToDateAdjusted = yearToDateAdjusted;
+        this.yearToDateFailed = yearToDateFailed;
+    }
+
+    public List<RecomputationRange> getRanges() { return ranges; }
+    public long getRowsExamined() { return rowsExamined; }
+    public long getRowsChanged() { return rowsChanged; }
+    public int getYearToDateAdjusted() { return yearToDateAdjusted; }
+    public int getYearToDateFailed() { return yearToDateFailed; }
+
+    @Override
+    public String toString() {
+        return "ranges=" + ranges + ", rowsExamined=" + rowsExamined + ", rowsChanged=" + rowsChanged
+                + ", yearToDateAdjusted=" + yearToDateAdjusted + ", yearToDateFailed=" + yearToDateFailed;
+    }
+}
@@ -0,0 +1,32 @@
+package com.personal.money.management.core.tax.application;
+
+/**
+ * Request DTO for calculating one salary profile over a range of gross salaries
+ */
+public class SalaryCalculationSweepRequest {
+    private SalaryCalculationRequest template;
+    private long grossFrom;
+    private long grossTo;
+    private long grossStep;
+
+    public SalaryCalculationSweepRequest() {}
+
+    public SalaryCalculationSweepRequest(SalaryCalculationRequest template, long grossFrom, long grossTo, long grossStep) {
+        this.template = template;
+        this.grossFrom = grossFrom;
+        this.grossTo = grossTo;
+        this.grossStep = grossStep;
+    }
+
+    public SalaryCalculationRequest getTemplate() { return template; }
+    public void setTemplate(SalaryCalculationRequest template) { this.template = template; }
+
+    public long getGrossFrom() { return grossFrom; }
+    public void setGrossFrom(long grossFrom) { this.grossFrom = grossFrom; }
+
+    public long getGrossTo() { return grossTo; }
+    public void setGrossTo(long grossTo) { this.grossTo = grossTo; }
+
+    public long getGrossStep() { return grossStep; }
+    public void setGrossStep(long grossStep) { this.grossStep = grossStep; }
+}
@@ -1,35 +1,104 @@
 package com.personal.money.management.core.tax.application;
 
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseTimed;
 import com.personal.money.management.core.tax.domain.model.*;
-import com.personal.money.management.core.tax.domain.service.TaxCalculationService;
-import com.personal.money.management.core.tax.domain.service.TaxBracketRepository;
-import com.personal.money.management.core.tax.domain.service.DeductionBracketRepository;
-import com.personal.money.management.core.tax.domain.service.WageZoneRepository;
+import com.personal.money.management.core.tax.domain.service.TaxEngine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * Application Service for Tax Calculator Use Cases
  * Orchestrates domain services and handles cross-cutting concerns
  */
 @Service
+@UseCaseTimed
 public class TaxCalculatorApplicationService {
     
-    private final TaxCalculationService taxCalculationService;
+    private final TaxEngine taxEngine;
+    private final int batchMaxSize;
+    private final int sweepMaxPoints;
 
-    public TaxCalculatorApplicationService(TaxBracketRepository taxBracketRepository,
-                                           DeductionBracketRepository deductionBracketRepository,
-                                           WageZoneRepository wageZoneRepository) {
-        this.taxCalculationService = new TaxCalculationService(
-            taxBracketRepository,
-            deductionBracketRepository,
-            wageZoneRepository
-        );
+    public TaxCalculatorApplicationService(
+            TaxEngine taxEngine,
+            @Value("${tax.calculate.batch-max-size:10000}") int batchMaxSize,
+            @Value("${tax.calculate.sweep-max-points:100000}") int sweepMaxPoints) {
+        this.taxEngine = taxEngine;
+        this.batchMaxSize = batchMaxSize;
+        this.sweepMaxPoints = sweepMaxPoints;
     }
 
     /**
      * Calculate salary and tax based on provided input
      */
     public SalaryCalculationResult calculateSalaryTax(SalaryCalculationRequest request) {
+        SalaryCalculationInput input = toInput(request, taxEngine);
+
+        // Calculate using domain service
+        return taxEngine.calculateSalary(input);
+    }
+
+    /**
+     * Calculate many salaries against one rule snapshot. Every request is validated
+     * before the first result reaches {@code sink}, which receives one reused buffer
+     * per request, in order.
+     *
+     * @param requests At most {@code tax.calculate.batch-max-size} requests
+     * @param sink Consumes each result before the next overwrites it
+     */
+    public void calculateSalaryTaxes(List<SalaryCalculationRequest> requests, Consumer<SalaryCalculationBuffer> sink) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one salary calculation request is required");
+        }
+        if (requests.size() > batchMaxSize) {
+            throw new IllegalArgumentException("At most " + batchMaxSize + " salary calculation requests are allowed per call");
+        }
+        List<SalaryCalculationInput> inputs = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                inputs.add(toInput(requests.get(i), taxEngine));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Request " + i + ": " + e.getMessage(), e);
+            }
+        }
+        taxEngine.calculateSalaries(inputs, sink);
+    }
+
+    /**
+     * Calculate one salary profile for every gross salary in a range, against one rule
+     * snapshot. The request is validated before the first result reaches {@code sink}.
+     *
+     * @param request Template profile and the gross salary range, at most
+     *                {@code tax.calculate.sweep-max-points} points
+     * @param sink Consumes each result before the next overwrites it
+     */
+    public void sweepSalaryTax(SalaryCalculationSweepRequest request, Consumer<SalaryCalculationBuffer> sink) {
+        if (request == null || request.getTemplate() == null) {
+            throw new IllegalArgumentException("Sweep template is required");
+        }
+        if (request.getGrossFrom() < 0) {
+            throw new IllegalArgumentException("Gross salary range cannot start below 0");
+        }
+        if (request.getGrossTo() < request.getGrossFrom()) {
+            throw new IllegalArgumentException("Gross salary range cannot end before it starts");
+        }
+        if (request.getGrossStep() <= 0) {
+            throw new IllegalArgumentException("Gross salary step must be greater than 0");
+        }
+        if ((request.getGrossTo() - request.getGrossFrom()) / request.getGrossStep() >= sweepMaxPoints) {
+            throw new IllegalArgumentException("At most " + sweepMaxPoints + " sweep points are allowed per call");
+        }
+        SalaryCalculationInput template = toInput(request.getTemplate(), taxEngine);
+        taxEngine.sweepGrossSalary(template, request.getGrossFrom(), request.getGrossTo(), request.getGrossStep(), sink);
+    }
+
+    /**
+     * Validate the request and build the domain input, filling in defaults
+     */
+    static SalaryCalculationInput toInput(SalaryCalculationRequest request, TaxRuleSet rules) {
         // Validate tax bracket type - must be explicitly 7-bracket or 5-bracket
         if (request.getTaxBracketType() == null || request.getTaxBracketType().isEmpty()) {
             throw new IllegalArgumentException("Tax bracket type cannot be null or empty");
@@ -42,11 +111,11 @@ public class TaxCalculatorApplicationService {
         
         TaxBracketType bracketType = TaxBracketType.fromCode(request.getTaxBracketType());
         
-        // Load wage zone from database
-        WageZoneValue wageZone = taxCalculationService.getWageZone(request.getWageZone());
+        // Look up wage zone in the compiled tax rules
+        WageZoneValue wageZone = rules.wageZone(request.getWageZone());
         
         // Build input value object
-        SalaryCalculationInput input = new SalaryCalculationInput(
+        return new SalaryCalculationInput(
             request.getGrossSalary(),
             request.getTetBonus(),
             request.getInsuranceBase() > 0 ? request.getInsuranceBase() : 46_800_000, // Default: 20 × 2.340.000
@@ -61,8 +130,5 @@ public class TaxCalculatorApplicationService {
             bracketType,
             wageZone
         );
-
-        // Calculate using domain service
-        return taxCalculationService.calculateSalary(input);
     }
 }
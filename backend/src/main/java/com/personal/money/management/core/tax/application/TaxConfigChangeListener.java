@@ -0,0 +1,35 @@
+package com.personal.money.management.core.tax.application;
+
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataChangeListener;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataContext;
+import com.personal.money.management.core.tax.domain.service.TaxEngine;
+import com.personal.money.management.core.tax.infrastructure.persistence.TaxConfigCacheEvictor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops this instance's cached tax configuration when another replica changes it:
+ * the second-level regions first, so the rules the engine recompiles come from the
+ * database rather than from entries cached before the change.
+ */
+@Component
+public class TaxConfigChangeListener implements ReferenceDataChangeListener {
+
+    private final TaxConfigCacheEvictor cacheEvictor;
+    private final TaxEngine taxEngine;
+
+    public TaxConfigChangeListener(TaxConfigCacheEvictor cacheEvictor, TaxEngine taxEngine) {
+        this.cacheEvictor = cacheEvictor;
+        this.taxEngine = taxEngine;
+    }
+
+    @Override
+    public ReferenceDataContext referenceDataContext() {
+        return ReferenceDataContext.TAX;
+    }
+
+    @Override
+    public void referenceDataChanged() {
+        cacheEvictor.evictAll();
+        taxEngine.reloadAfterCommit();
+    }
+}
@@ -1,14 +1,22 @@
 package com.personal.money.management.core.tax.application;
 
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseTimed;
+import com.personal.money.management.core.shared.infrastructure.outbox.Outbox;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataContext;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataVersions;
+import com.personal.money.management.core.tax.domain.event.TaxConfigChangedEvent;
+import com.personal.money.management.core.tax.domain.model.CompiledTaxRules;
 import com.personal.money.management.core.tax.domain.model.TaxBracketType;
 import com.personal.money.management.core.tax.infrastructure.persistence.TaxBracketEntity;
 import com.personal.money.management.core.tax.infrastructure.persistence.TaxBracketDetailEntity;
 import com.personal.money.management.core.tax.infrastructure.persistence.DeductionBracketEntity;
 import com.personal.money.management.core.tax.infrastructure.persistence.WageZoneEntity;
+import com.personal.money.management.core.tax.infrastructure.persistence.TaxConfigCacheEvictor;
 import com.personal.money.management.core.tax.domain.service.TaxBracketRepository;
 import com.personal.money.management.core.tax.domain.service.TaxBracketDetailRepository;
 import com.personal.money.management.core.tax.domain.service.DeductionBracketRepository;
 import com.personal.money.management.core.tax.domain.service.WageZoneRepository;
+import com.personal.money.management.core.tax.domain.service.TaxEngine;
 import com.personal.money.management.core.tax.interfaces.TaxConfigResponse;
 import com.personal.money.management.core.tax.interfaces.TaxConfigResponse.TaxBracketOption;
 import com.personal.money.management.core.tax.interfaces.TaxConfigResponse.DeductionBracketOption;
@@ -19,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 
 /**
@@ -26,22 +35,42 @@ import java.util.*;
  * Provides configuration data from database for tax calculations
  */
 @Service
+@UseCaseTimed
 public class TaxConfigService {
     
+    // All tax configuration is one aggregate, so its events are dispatched in write order
+    private static final String OUTBOX_AGGREGATE = "TaxConfig";
+    private static final String OUTBOX_AGGREGATE_ID = "TAX";
+    
     private final TaxBracketRepository taxBracketRepository;
     private final TaxBracketDetailRepository taxBracketDetailRepository;
     private final DeductionBracketRepository deductionBracketRepository;
     private final WageZoneRepository wageZoneRepository;
+    private final TaxConfigCacheEvictor cacheEvictor;
+    private final TaxEngine taxEngine;
+    private final PayrollRecomputationRunner payrollRecomputationRunner;
+    private final ReferenceDataVersions referenceDataVersions;
+    private final Outbox outbox;
     
     public TaxConfigService(
             TaxBracketRepository taxBracketRepository,
             TaxBracketDetailRepository taxBracketDetailRepository,
             DeductionBracketRepository deductionBracketRepository,
-            WageZoneRepository wageZoneRepository) {
+            WageZoneRepository wageZoneRepository,
+            TaxConfigCacheEvictor cacheEvictor,
+            TaxEngine taxEngine,
+            PayrollRecomputationRunner payrollRecomputationRunner,
+            ReferenceDataVersions referenceDataVersions,
+            Outbox outbox) {
         this.taxBracketRepository = taxBracketRepository;
         this.taxBracketDetailRepository = taxBracketDetailRepository;
         this.deductionBracketRepository = deductionBracketRepository;
         this.wageZoneRepository = wageZoneRepository;
+        this.cacheEvictor = cacheEvictor;
+        this.taxEngine = taxEngine;
+        this.payrollRecomputationRunner = payrollRecomputationRunner;
+        this.referenceDataVersions = referenceDataVersions;
+        this.outbox = outbox;
     }
     
     /**
@@ -141,6 +170,7 @@ public class TaxConfigService {
     @Transactional
     public TaxBracketResponse createTaxBracket(TaxBracketRequest request) {
         try {
+            CompiledTaxRules before = taxEngine.rules();
             // Create bracket entity
             TaxBracketEntity bracket = new TaxBracketEntity(
                 UUID.randomUUID().toString(),  // Generate unique ID
@@ -177,6 +207,8 @@ public class TaxConfigService {
             
             // Save to database
             taxBracketRepository.save(bracket);
+            cacheEvictor.evictAfterCommit();
+            configChanged(before, List.of(bracket.getValue()));
             
             return new TaxBracketResponse(
                 bracket.getValue(),
@@ -197,7 +229,10 @@ public class TaxConfigService {
     }
     
     /**
-     * Update an existing tax bracket and its details
+     * Update an existing tax bracket and its details in place: details are matched to
+     * the stored rows by bracket order, so only changed rows are written and only the
+     * difference is inserted or deleted. An unchanged request writes nothing and does
+     * not reload the rules.
      * @param value The bracket value to update (e.g., "7-bracket")
      * @param request Updated tax bracket request
      * @return Response indicating success or failure
@@ -205,6 +240,8 @@ public class TaxConfigService {
     @Transactional
     public TaxBracketResponse updateTaxBracket(String value, TaxBracketRequest request) {
         try {
+            // Rules before the change, to find the stored payroll results it affects
+            CompiledTaxRules before = taxEngine.rules();
             // Find existing bracket
             Optional<TaxBracketEntity> optionalBracket = taxBracketRepository.findByValue(value);
             if (!optionalBracket.isPresent()) {
@@ -218,45 +255,12 @@ public class TaxConfigService {
             }
             
             TaxBracketEntity bracket = optionalBracket.get();
+            // Validated before any row is touched, so a rejected request changes nothing
+            Map<Integer, TaxBracketRequest.TaxBracketDetailRequest> details = detailsByOrder(request);
             
-            // Update bracket properties
-            bracket.setLabel(request.getLabel());
-            bracket.setEffectiveDate(request.getEffectiveDate());
-            bracket.setUpdatedAt(LocalDateTime.now());
-            
-            // Delete all old details first (prevents duplicates)
-            taxBracketDetailRepository.deleteByBracket(bracket);
-            
-            // Create new details
-            List<TaxBracketDetailEntity> newDetails = new ArrayList<>();
-            if (request.getDetails() != null) {
-                for (int i = 0; i < request.getDetails().size(); i++) {
-                    TaxBracketRequest.TaxBracketDetailRequest detailRequest = request.getDetails().get(i);
-                    
-                    // Ensure bracketOrder is set (use index + 1 if not provided)
-                    Integer bracketOrder = detailRequest.getBracketOrder();
-                    if (bracketOrder == null || bracketOrder <= 0) {
-                        bracketOrder = i + 1;
-                    }
-                    
-                    TaxBracketDetailEntity detail = new TaxBracketDetailEntity(
-                        UUID.randomUUID().toString(),
-                        bracket,
-                        detailRequest.getMinIncome(),
-                        detailRequest.getMaxIncome(),
-                        detailRequest.getRate(),
-                        detailRequest.getDeduction(),
-                        bracketOrder  // Guaranteed non-null
-                    );
-                    detail.setCreatedAt(LocalDateTime.now());
-                    detail.setUpdatedAt(LocalDateTime.now());
-                    newDetails.add(detail);
-                }
+            if (mergeTaxBracket(bracket, request, details, now())) {
+                configChanged(before, List.of(bracket.getValue()));
             }
-            bracket.setDetails(newDetails);
-            
-            // Save to database
-            taxBracketRepository.save(bracket);
             
             return new TaxBracketResponse(
                 bracket.getValue(),
@@ -276,6 +280,55 @@ public class TaxConfigService {
         }
     }
     
+    /**
+     * Replace several tax bracket sets in one transaction. Each set is created when
+     * missing or diffed against the stored one as in {@link #updateTaxBracket}; sets
+     * not named in the request are left alone. The rules reload at most once.
+     * @param requests The bracket sets to store, each with a distinct value
+     * @return One response per requested set, in request order
+     * @throws IllegalArgumentException when any set is invalid; nothing is written
+     */
+    @Transactional
+    public List<TaxBracketResponse> replaceTaxBrackets(List<TaxBracketRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one tax bracket is required");
+        }
+        Set<String> values = new LinkedHashSet<>();
+        for (TaxBracketRequest request : requests) {
+            if (request.getValue() == null || request.getValue().trim().isEmpty()) {
+                throw new IllegalArgumentException("Bracket value is required");
+            }
+            if (request.getLabel() == null || request.getEffectiveDate() == null) {
+                throw new IllegalArgumentException("Label and effective date are required for tax bracket: "
+                        + request.getValue());
+            }
+            if (request.getDetails() == null || request.getDetails().isEmpty()) {
+                throw new IllegalArgumentException("Bracket details are required for tax bracket: "
+                        + request.getValue());
+            }
+            if (!values.add(request.getValue())) {
+                throw new IllegalArgumentException("Duplicate tax bracket: " + request.getValue());
+            }
+        }
+        
+        CompiledTaxRules before = taxEngine.rules();
+        if (applyTaxBrackets(requests, false, now())) {
+            configChanged(before, new ArrayList<>(values));
+        }
+        
+        List<TaxBracketResponse> responses = new ArrayList<>();
+        for (TaxBracketRequest request : requests) {
+            responses.add(new TaxBracketResponse(
+                request.getValue(),
+                request.getLabel(),
+                request.getEffectiveDate().toString(),
+                "Tax bracket replaced successfully",
+                true
+            ));
+        }
+        return responses;
+    }
+    
     /**
      * Delete a tax bracket by value
      * @param value The bracket value to delete (e.g., "7-bracket")
@@ -284,6 +337,7 @@ public class TaxConfigService {
     @Transactional
     public TaxBracketResponse deleteTaxBracket(String value) {
         try {
+            CompiledTaxRules before = taxEngine.rules();
             // Find and delete bracket
             Optional<TaxBracketEntity> optionalBracket = taxBracketRepository.findByValue(value);
             if (!optionalBracket.isPresent()) {
@@ -298,6 +352,8 @@ public class TaxConfigService {
             
             TaxBracketEntity bracket = optionalBracket.get();
             taxBracketRepository.delete(bracket);
+            cacheEvictor.evictAfterCommit();
+            configChanged(before, List.of(bracket.getValue()));
             
             return new TaxBracketResponse(
                 bracket.getValue(),
@@ -351,134 +407,348 @@ public class TaxConfigService {
     }
     
     /**
-     * Reset all tax configuration to default values
+     * Reset all tax configuration to default values. Stored rows are diffed against
+     * the defaults by value (and bracket details by bracket order), so rows already
+     * at their default are left untouched and keep their ids.
      * @return Message indicating reset was successful
      */
     @Transactional
     public String resetToDefaults() {
-        // Delete all detail records first (to avoid foreign key violations)
-        taxBracketDetailRepository.deleteAllDetails();
-        
-        // Then delete bracket, deduction, and wage zone records
-        taxBracketRepository.deleteAllBrackets();
-        deductionBracketRepository.deleteAllDeductions();
-        wageZoneRepository.deleteAllZones();
+        CompiledTaxRules before = taxEngine.rules();
+        LocalDateTime now = now();
         
-        // Re-insert default configuration
-        initializeDefaultConfiguration();
+        boolean changed = applyTaxBrackets(defaultTaxBrackets(), true, now);
+        changed |= resetDeductionBrackets(defaultDeductionBrackets(), now);
+        changed |= resetWageZones(defaultWageZones(), now);
+        if (changed) {
+            configChanged(before, List.of());
+        }
         
         return "Cấu hình thuế đã được đặt lại về mặc định";
     }
     
     /**
-     * Initialize default tax configuration (7-bracket, 5-bracket, deductions, wage zones)
+     * Reload the rules once the change commits and recompute the stored payroll results
+     * it affects; in the writing transaction, bump the tax version for other instances
+     * and record the change in the outbox
+     * @param before The rules read before the change
+     * @param bracketValues The bracket sets written; empty for a reset
+     */
+    private void configChanged(CompiledTaxRules before, List<String> bracketValues) {
+        taxEngine.reloadAfterCommit();
+        payrollRecomputationRunner.recomputeAfterCommit(before);
+        referenceDataVersions.bump(ReferenceDataContext.TAX);
+        outbox.append(OUTBOX_AGGREGATE, OUTBOX_AGGREGATE_ID, new TaxConfigChangedEvent(bracketValues));
+    }
+    
+    /**
+     * Store the requested bracket sets, creating missing ones and diffing existing
+     * ones by value. Every request is validated before any row is touched.
+     * @param deleteOthers Whether stored sets not in {@code requests} are deleted
+     * @return Whether any row changed
      */
-    private void initializeDefaultConfiguration() {
-        LocalDateTime now = LocalDateTime.now();
+    private boolean applyTaxBrackets(List<TaxBracketRequest> requests, boolean deleteOthers, LocalDateTime now) {
+        List<Map<Integer, TaxBracketRequest.TaxBracketDetailRequest>> details = new ArrayList<>();
+        for (TaxBracketRequest request : requests) {
+            details.add(detailsByOrder(request));
+        }
         
-        // 7-bracket configuration
-        TaxBracketEntity sevenBracket = new TaxBracketEntity(
-            UUID.randomUUID().toString(),
-            "7-bracket",
-            "7 bậc (13/12/2025 - 30/6/2026)",
-            LocalDate.of(2025, 12, 13)
-        );
-        sevenBracket.setCreatedAt(now);
-        sevenBracket.setUpdatedAt(now);
+        Map<String, TaxBracketEntity> stored = new HashMap<>();
+        for (TaxBracketEntity bracket : taxBracketRepository.findAll()) {
+            stored.put(bracket.getValue(), bracket);
+        }
+        
+        boolean changed = false;
+        for (int i = 0; i < requests.size(); i++) {
+            TaxBracketRequest request = requests.get(i);
+            TaxBracketEntity bracket = stored.remove(request.getValue());
+            if (bracket == null) {
+                bracket = new TaxBracketEntity(
+                    UUID.randomUUID().toString(),
+                    request.getValue(),
+                    request.getLabel(),
+                    request.getEffectiveDate()
+                );
+                bracket.setCreatedAt(now);
+                bracket.setUpdatedAt(now);
+                mergeDetails(bracket, details.get(i), now);
+                taxBracketRepository.save(bracket);
+                changed = true;
+            } else {
+                changed |= mergeTaxBracket(bracket, request, details.get(i), now);
+            }
+        }
+        if (deleteOthers && !stored.isEmpty()) {
+            taxBracketRepository.deleteAll(stored.values());
+            changed = true;
+        }
+        return changed;
+    }
+    
+    /**
+     * Bring a stored bracket set in line with the request
+     * @return Whether any row changed
+     */
+    private boolean mergeTaxBracket(TaxBracketEntity bracket, TaxBracketRequest request,
+                                    Map<Integer, TaxBracketRequest.TaxBracketDetailRequest> details,
+                                    LocalDateTime now) {
+        boolean changed = false;
+        if (!Objects.equals(bracket.getLabel(), request.getLabel())
+                || !Objects.equals(bracket.getEffectiveDate(), request.getEffectiveDate())) {
+            bracket.setLabel(request.getLabel());
+            bracket.setEffectiveDate(request.getEffectiveDate());
+            changed = true;
+        }
+        changed |= mergeDetails(bracket, details, now);
+        if (changed) {
+            bracket.setUpdatedAt(now);
+        }
+        return changed;
+    }
+    
+    /**
+     * Match the stored details to the requested ones by bracket order: matched rows
+     * are updated only when a field differs, new orders are inserted and orders no
+     * longer requested are deleted. Hibernate flushes the resulting statements at
+     * commit, grouped into JDBC batches by hibernate.jdbc.batch_size.
+     * @return Whether any row changed
+     */
+    private boolean mergeDetails(TaxBracketEntity bracket,
+                                 Map<Integer, TaxBracketRequest.TaxBracketDetailRequest> requested,
+                                 LocalDateTime now) {
+        if (bracket.getDetails() == null) {
+            bracket.setDetails(new ArrayList<>());
+        }
+        Map<Integer, TaxBracketRequest.TaxBracketDetailRequest> pending = new LinkedHashMap<>(requested);
+        List<TaxBracketDetailEntity> removed = new ArrayList<>();
+        boolean changed = false;
         
-        List<TaxBracketDetailEntity> sevenDetails = new ArrayList<>();
-        sevenDetails.add(createBracketDetail(sevenBracket, 0L, 5000000L, 5.0, 0L, 1, now));
-        sevenDetails.add(createBracketDetail(sevenBracket, 5000001L, 10000000L, 10.0, 250000L, 2, now));
-        sevenDetails.add(createBracketDetail(sevenBracket, 10000001L, 18000000L, 15.0, 750000L, 3, now));
-        sevenDetails.add(createBracketDetail(sevenBracket, 18000001L, 32000000L, 20.0, 1650000L, 4, now));
-        sevenDetails.add(createBracketDetail(sevenBracket, 32000001L, 52000000L, 25.0, 3250000L, 5, now));
-        sevenDetails.add(createBracketDetail(sevenBracket, 52000001L, 80000000L, 30.0, 5250000L, 6, now));
-        sevenDetails.add(createBracketDetail(sevenBracket, 80000001L, null, 35.0, 7250000L, 7, now));
-        sevenBracket.setDetails(sevenDetails);
+        Iterator<TaxBracketDetailEntity> stored = bracket.getDetails().iterator();
+        while (stored.hasNext()) {
+            TaxBracketDetailEntity detail = stored.next();
+            // A second stored row with the same order finds nothing pending and is removed
+            TaxBracketRequest.TaxBracketDetailRequest request = pending.remove(detail.getBracketOrder());
+            if (request == null) {
+                stored.remove();
+                removed.add(detail);
+            } else if (!Objects.equals(detail.getMinIncome(), request.getMinIncome())
+                    || !Objects.equals(detail.getMaxIncome(), request.getMaxIncome())
+                    || !Objects.equals(detail.getRate(), request.getRate())
+                    || !Objects.equals(detail.getDeduction(), request.getDeduction())) {
+                detail.setMinIncome(request.getMinIncome());
+                detail.setMaxIncome(request.getMaxIncome());
+                detail.setRate(request.getRate());
+                detail.setDeduction(request.getDeduction());
+                detail.setUpdatedAt(now);
+                changed = true;
+            }
+        }
         
-        taxBracketRepository.save(sevenBracket);
+        for (Map.Entry<Integer, TaxBracketRequest.TaxBracketDetailRequest> entry : pending.entrySet()) {
+            TaxBracketRequest.TaxBracketDetailRequest request = entry.getValue();
+            TaxBracketDetailEntity detail = new TaxBracketDetailEntity(
+                UUID.randomUUID().toString(),
+                bracket,
+                request.getMinIncome(),
+                request.getMaxIncome(),
+                request.getRate(),
+                request.getDeduction(),
+                entry.getKey()
+            );
+            detail.setCreatedAt(now);
+            detail.setUpdatedAt(now);
+            // Persisted through the bracket's cascade
+            bracket.getDetails().add(detail);
+            changed = true;
+        }
         
-        // 5-bracket configuration
-        TaxBracketEntity fiveBracket = new TaxBracketEntity(
-            UUID.randomUUID().toString(),
-            "5-bracket",
-            "5 bậc (Từ 01/7/2026 trở đi)",
-            LocalDate.of(2026, 7, 1)
-        );
-        fiveBracket.setCreatedAt(now);
-        fiveBracket.setUpdatedAt(now);
+        if (!removed.isEmpty()) {
+            taxBracketDetailRepository.deleteAll(removed);
+            changed = true;
+        }
+        return changed;
+    }
+    
+    /**
+     * Requested details keyed by bracket order (index + 1 when not provided)
+     * @throws IllegalArgumentException when two details share a bracket order
+     */
+    private Map<Integer, TaxBracketRequest.TaxBracketDetailRequest> detailsByOrder(TaxBracketRequest request) {
+        Map<Integer, TaxBracketRequest.TaxBracketDetailRequest> byOrder = new LinkedHashMap<>();
+        if (request.getDetails() == null) {
+            return byOrder;
+        }
+        for (int i = 0; i < request.getDetails().size(); i++) {
+            TaxBracketRequest.TaxBracketDetailRequest detailRequest = request.getDetails().get(i);
+            Integer bracketOrder = detailRequest.getBracketOrder();
+            if (bracketOrder == null || bracketOrder <= 0) {
+                bracketOrder = i + 1;
+            }
+            if (byOrder.putIfAbsent(bracketOrder, detailRequest) != null) {
+                throw new IllegalArgumentException("Duplicate bracket order " + bracketOrder
+                        + " in tax bracket: " + request.getValue());
+            }
+        }
+        return byOrder;
+    }
+    
+    /**
+     * Upsert the default deduction brackets by value and delete any others
+     * @return Whether any row changed
+     */
+    private boolean resetDeductionBrackets(List<DeductionBracketEntity> defaults, LocalDateTime now) {
+        Map<String, DeductionBracketEntity> stored = new HashMap<>();
+        for (DeductionBracketEntity entity : deductionBracketRepository.findAll()) {
+            stored.put(entity.getValue(), entity);
+        }
         
-        List<TaxBracketDetailEntity> fiveDetails = new ArrayList<>();
-        fiveDetails.add(createBracketDetail(fiveBracket, 0L, 10000000L, 5.0, 0L, 1, now));
-        fiveDetails.add(createBracketDetail(fiveBracket, 10000001L, 30000000L, 10.0, 500000L, 2, now));
-        fiveDetails.add(createBracketDetail(fiveBracket, 30000001L, 60000000L, 20.0, 3500000L, 3, now));
-        fiveDetails.add(createBracketDetail(fiveBracket, 60000001L, 100000000L, 30.0, 9500000L, 4, now));
-        fiveDetails.add(createBracketDetail(fiveBracket, 100000001L, null, 35.0, 14500000L, 5, now));
-        fiveBracket.setDetails(fiveDetails);
+        boolean changed = false;
+        for (DeductionBracketEntity wanted : defaults) {
+            DeductionBracketEntity entity = stored.remove(wanted.getValue());
+            if (entity == null) {
+                wanted.setId(UUID.randomUUID().toString());
+                wanted.setCreatedAt(now);
+                wanted.setUpdatedAt(now);
+                deductionBracketRepository.save(wanted);
+                changed = true;
+            } else if (!Objects.equals(entity.getLabel(), wanted.getLabel())
+                    || !Objects.equals(entity.getPersonalDeduction(), wanted.getPersonalDeduction())
+                    || !Objects.equals(entity.getDependentDeduction(), wanted.getDependentDeduction())
+                    || !Objects.equals(entity.getEffectiveDate(), wanted.getEffectiveDate())) {
+                entity.setLabel(wanted.getLabel());
+                entity.setPersonalDeduction(wanted.getPersonalDeduction());
+                entity.setDependentDeduction(wanted.getDependentDeduction());
+                entity.setEffectiveDate(wanted.getEffectiveDate());
+                entity.setUpdatedAt(now);
+                changed = true;
+            }
+        }
+        if (!stored.isEmpty()) {
+            deductionBracketRepository.deleteAll(stored.values());
+            changed = true;
+        }
+        return changed;
+    }
+    
+    /**
+     * Upsert the default wage zones by value and delete any others
+     * @return Whether any row changed
+     */
+    private boolean resetWageZones(List<WageZoneEntity> defaults, LocalDateTime now) {
+        Map<String, WageZoneEntity> stored = new HashMap<>();
+        for (WageZoneEntity entity : wageZoneRepository.findAll()) {
+            stored.put(entity.getValue(), entity);
+        }
+        
+        boolean changed = false;
+        for (WageZoneEntity wanted : defaults) {
+            WageZoneEntity entity = stored.remove(wanted.getValue());
+            if (entity == null) {
+                wanted.setId(UUID.randomUUID().toString());
+                wanted.setCreatedAt(now);
+                wanted.setUpdatedAt(now);
+                wageZoneRepository.save(wanted);
+                changed = true;
+            } else if (!Objects.equals(entity.getLabel(), wanted.getLabel())
+                    || !Objects.equals(entity.getMinimumWage(), wanted.getMinimumWage())
+                    || !Objects.equals(entity.getInsuranceCap(), wanted.getInsuranceCap())
+                    || !Objects.equals(entity.getEffectiveDate(), wanted.getEffectiveDate())) {
+                entity.setLabel(wanted.getLabel());
+                entity.setMinimumWage(wanted.getMinimumWage());
+                entity.setInsuranceCap(wanted.getInsuranceCap());
+                entity.setEffectiveDate(wanted.getEffectiveDate());
+                entity.setUpdatedAt(now);
+                changed = true;
+            }
+        }
+        if (!stored.isEmpty()) {
+            wageZoneRepository.deleteAll(stored.values());
+            changed = true;
+        }
+        return changed;
+    }
+    
+    /**
+     * Default tax bracket sets (7-bracket, 5-bracket)
+     */
+    private List<TaxBracketRequest> defaultTaxBrackets() {
+        List<TaxBracketRequest.TaxBracketDetailRequest> sevenDetails = new ArrayList<>();
+        sevenDetails.add(bracketDetail(0L, 5000000L, 5.0, 0L, 1));
+        sevenDetails.add(bracketDetail(5000001L, 10000000L, 10.0, 250000L, 2));
+        sevenDetails.add(bracketDetail(10000001L, 18000000L, 15.0, 750000L, 3));
+        sevenDetails.add(bracketDetail(18000001L, 32000000L, 20.0, 1650000L, 4));
+        sevenDetails.add(bracketDetail(32000001L, 52000000L, 25.0, 3250000L, 5));
+        sevenDetails.add(bracketDetail(52000001L, 80000000L, 30.0, 5250000L, 6));
+        sevenDetails.add(bracketDetail(80000001L, null, 35.0, 7250000L, 7));
         
-        taxBracketRepository.save(fiveBracket);
+        List<TaxBracketRequest.TaxBracketDetailRequest> fiveDetails = new ArrayList<>();
+        fiveDetails.add(bracketDetail(0L, 10000000L, 5.0, 0L, 1));
+        fiveDetails.add(bracketDetail(10000001L, 30000000L, 10.0, 500000L, 2));
+        fiveDetails.add(bracketDetail(30000001L, 60000000L, 20.0, 3500000L, 3));
+        fiveDetails.add(bracketDetail(60000001L, 100000000L, 30.0, 9500000L, 4));
+        fiveDetails.add(bracketDetail(100000001L, null, 35.0, 14500000L, 5));
         
-        // Deduction brackets
+        return List.of(
+            new TaxBracketRequest("7-bracket", "7 bậc (13/12/2025 - 30/6/2026)", LocalDate.of(2025, 12, 13), sevenDetails),
+            new TaxBracketRequest("5-bracket", "5 bậc (Từ 01/7/2026 trở đi)", LocalDate.of(2026, 7, 1), fiveDetails)
+        );
+    }
+    
+    /**
+     * Default deduction brackets; ids and timestamps are set when inserted
+     */
+    private List<DeductionBracketEntity> defaultDeductionBrackets() {
         DeductionBracketEntity oldDeduction = new DeductionBracketEntity();
-        oldDeduction.setId(UUID.randomUUID().toString());
         oldDeduction.setValue("old");
         oldDeduction.setLabel("13/12/2025 - 31/12/2025: Cá nhân 11M, Phụ thuộc 4.4M");
         oldDeduction.setPersonalDeduction(11000000L);
         oldDeduction.setDependentDeduction(4400000L);
         oldDeduction.setEffectiveDate(LocalDate.of(2025, 12, 13));
-        oldDeduction.setCreatedAt(now);
-        oldDeduction.setUpdatedAt(now);
-        deductionBracketRepository.save(oldDeduction);
         
         DeductionBracketEntity newDeduction = new DeductionBracketEntity();
-        newDeduction.setId(UUID.randomUUID().toString());
         newDeduction.setValue("new");
         newDeduction.setLabel("Từ 01/01/2026: Cá nhân 15.5M, Phụ thuộc 6.2M");
         newDeduction.setPersonalDeduction(15500000L);
         newDeduction.setDependentDeduction(6200000L);
         newDeduction.setEffectiveDate(LocalDate.of(2026, 1, 1));
-        newDeduction.setCreatedAt(now);
-        newDeduction.setUpdatedAt(now);
-        deductionBracketRepository.save(newDeduction);
         
-        // Wage zones
+        return List.of(oldDeduction, newDeduction);
+    }
+    
+    /**
+     * Default wage zones; ids and timestamps are set when inserted
+     */
+    private List<WageZoneEntity> defaultWageZones() {
         WageZoneEntity zoneI = new WageZoneEntity();
-        zoneI.setId(UUID.randomUUID().toString());
         zoneI.setValue("I");
         zoneI.setLabel("Vùng I (HN, TP.HCM): 4.960.000 → Trần: 99.200.000");
         zoneI.setMinimumWage(4960000L);
         zoneI.setInsuranceCap(99200000L);
-        zoneI.setCreatedAt(now);
-        zoneI.setUpdatedAt(now);
-        wageZoneRepository.save(zoneI);
+        zoneI.setEffectiveDate(LocalDate.of(2025, 12, 1));
         
         WageZoneEntity zoneII = new WageZoneEntity();
-        zoneII.setId(UUID.randomUUID().toString());
         zoneII.setValue("II");
         zoneII.setLabel("Vùng II: 4.410.000 → Trần: 88.200.000");
         zoneII.setMinimumWage(4410000L);
         zoneII.setInsuranceCap(88200000L);
-        zoneII.setCreatedAt(now);
-        zoneII.setUpdatedAt(now);
-        wageZoneRepository.save(zoneII);
+        zoneII.setEffectiveDate(LocalDate.of(2025, 12, 1));
+        
+        return List.of(zoneI, zoneII);
     }
     
     /**
-     * Helper method to create tax bracket detail
+     * Helper method to create a default tax bracket detail
      */
-    private TaxBracketDetailEntity createBracketDetail(TaxBracketEntity bracket, long minIncome, Long maxIncome, 
-                                                       double rate, long deduction, int bracketOrder, LocalDateTime now) {
-        TaxBracketDetailEntity detail = new TaxBracketDetailEntity(
-            UUID.randomUUID().toString(),
-            bracket,
-            minIncome,
-            maxIncome,
-            rate,
-            deduction,
-            bracketOrder
-        );
-        detail.setCreatedAt(now);
-        detail.setUpdatedAt(now);
-        return detail;
+    private static TaxBracketRequest.TaxBracketDetailRequest bracketDetail(long minIncome, Long maxIncome,
+                                                                           double rate, long deduction, int bracketOrder) {
+        return new TaxBracketRequest.TaxBracketDetailRequest(minIncome, maxIncome, rate, deduction, bracketOrder);
+    }
+    
+    /**
+     * The current time at the microsecond precision of the TIMESTAMP columns, so rows
+     * held in the second-level cache carry exactly the timestamps the database stores
+     */
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
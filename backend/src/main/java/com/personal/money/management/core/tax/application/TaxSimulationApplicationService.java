@@ -0,0 +1,148 @@
+package com.personal.money.management.core.tax.application;
+
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseTimed;
+import com.personal.money.management.core.tax.domain.model.CompiledTaxRules;
+import com.personal.money.management.core.tax.domain.model.SalaryTaxKernel;
+import com.personal.money.management.core.tax.domain.model.TaxSimulationResult;
+import com.personal.money.management.core.tax.domain.service.MonteCarloTaxSimulator;
+import com.personal.money.management.core.tax.domain.service.TaxEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Application Service for Monte Carlo tax simulations over the tax engine
+ */
+@Service
+@UseCaseTimed
+public class TaxSimulationApplicationService {
+
+    private static final int DEFAULT_HISTOGRAM_BINS = 20;
+    private static final int MAX_HISTOGRAM_BINS = 1000;
+
+    private final TaxEngine taxEngine;
+    private final long maxEvaluations;
+    private final int maxPopulation;
+    // Dedicated pool so long simulations do not starve the common pool
+    private final ForkJoinPool pool;
+    private final MonteCarloTaxSimulator simulator;
+
+    public TaxSimulationApplicationService(
+            TaxEngine taxEngine,
+            @Value("${tax.simulation.parallelism:0}") int parallelism,
+            @Value("${tax.simulation.max-evaluations:50000000}") long maxEvaluations,
+            @Value("${tax.simulation.max-population:100000}") int maxPopulation) {
+        this.taxEngine = taxEngine;
+        this.maxEvaluations = maxEvaluations;
+        this.maxPopulation = maxPopulation;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.simulator = new MonteCarloTaxSimulator(pool);
+    }
+
+    /**
+     * Simulate the workforce's monthly tax under random raises
+     *
+     * @param request Population or salary distribution, raise distribution and trial count
+     * @return Distribution of the total tax across trials
+     */
+    public TaxSimulationResult simulate(TaxSimulationRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Simulation request is required");
+        }
+        if (request.getTrials() <= 0) {
+            throw new IllegalArgumentException("Trials must be greater than 0");
+        }
+        if (request.getRaiseStandardDeviation() < 0) {
+            throw new IllegalArgumentException("Raise standard deviation cannot be negative");
+        }
+        int bins = request.getHistogramBins() != null ? request.getHistogramBins() : DEFAULT_HISTOGRAM_BINS;
+        if (bins <= 0 || bins > MAX_HISTOGRAM_BINS) {
+            throw new IllegalArgumentException("Histogram bins must be between 1 and " + MAX_HISTOGRAM_BINS);
+        }
+        long seed = request.getSeed() != null ? request.getSeed() : System.nanoTime();
+
+        // One snapshot for the whole run, so a configuration change cannot mix rules
+        CompiledTaxRules rules = taxEngine.rules();
+        SalaryTaxKernel[] population = toPopulation(request, rules, seed);
+        long evaluations = (long) population.length * request.getTrials();
+        if (evaluations > maxEvaluations) {
+            throw new IllegalArgumentException("At most " + maxEvaluations + " evaluations (population × trials) are allowed");
+        }
+
+        long[] totals = simulator.simulate(population, request.getRaiseMean() / 100,
+                request.getRaiseStandardDeviation() / 100, request.getTrials(), seed);
+        return TaxSimulationResult.summarize(totals, MonteCarloTaxSimulator.baseline(population), evaluations, bins);
+    }
+
+    private SalaryTaxKernel[] toPopulation(TaxSimulationRequest request, CompiledTaxRules rules, long seed) {
+        List<SalaryCalculationRequest> employees = request.getPopulation();
+        if (employees != null && !employees.isEmpty()) {
+            if (employees.size() > maxPopulation) {
+                throw new IllegalArgumentException("At most " + maxPopulation + " employees are allowed");
+            }
+            SalaryTaxKernel[] population = new SalaryTaxKernel[employees.size()];
+            for (int i = 0; i < population.length; i++) {
+                try {
+                    population[i] = SalaryTaxKernel.of(TaxCalculatorApplicationService.toInput(employees.get(i), rules), rules);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Employee " + i + ": " + e.getMessage(), e);
+                }
+            }
+            return population;
+        }
+        return samplePopulation(request, rules, seed);
+    }
+
+    /**
+     * Employees drawn from a normal salary distribution around the template. The
+     * insurance base follows the salary, capped at the template's insurance base.
+     */
+    private SalaryTaxKernel[] samplePopulation(TaxSimulationRequest request, CompiledTaxRules rules, long seed) {
+        SalaryCalculationRequest template = request.getTemplate();
+        if (template == null) {
+            throw new IllegalArgumentException("Either a population or a salary distribution template is required");
+        }
+        if (request.getPopulationSize() <= 0 || request.getPopulationSize() > maxPopulation) {
+            throw new IllegalArgumentException("Population size must be between 1 and " + maxPopulation);
+        }
+        if (request.getSalaryMean() <= 0) {
+            throw new IllegalArgumentException("Salary mean must be greater than 0");
+        }
+        if (request.getSalaryStandardDeviation() < 0) {
+            throw new IllegalArgumentException("Salary standard deviation cannot be negative");
+        }
+        long insuranceCap = template.getInsuranceBase() > 0 ? template.getInsuranceBase() : Long.MAX_VALUE;
+        // Independent of the stream the trials draw from
+        SplittableRandom random = new SplittableRandom(~seed);
+        SalaryTaxKernel[] population = new SalaryTaxKernel[request.getPopulationSize()];
+        for (int i = 0; i < population.length; i++) {
+            long grossSalary = Math.max(Math.round(
+                    request.getSalaryMean() + request.getSalaryStandardDeviation() * random.nextGaussian()), 0);
+            SalaryCalculationRequest employee = new SalaryCalculationRequest(
+                    grossSalary,
+                    template.getTetBonus(),
+                    Math.max(Math.min(grossSalary, insuranceCap), 1),
+                    template.getDependents(),
+                    template.getBhxhRate(),
+                    template.getBhytRate(),
+                    template.getBhtnRate(),
+                    template.getPersonalDeduction(),
+                    template.getDependentDeductionPerPerson(),
+                    template.getTaxFreeAllowance(),
+                    template.getOtherDeduction(),
+                    template.getTaxBracketType(),
+                    template.getWageZone());
+            population[i] = SalaryTaxKernel.of(TaxCalculatorApplicationService.toInput(employee, rules), rules);
+        }
+        return population;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+}
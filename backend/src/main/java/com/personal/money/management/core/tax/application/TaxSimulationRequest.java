@@ -0,0 +1,55 @@
+package com.personal.money.management.core.tax.application;
+
+import java.util.List;
+
+/**
+ * Request DTO for a Monte Carlo tax simulation.
+ * Either {@code population} lists the employees, or {@code template} plus
+ * {@code salaryMean}, {@code salaryStandardDeviation} and {@code populationSize}
+ * describe a workforce sampled from a normal salary distribution.
+ * Raises are percentages (5.0 for 5%).
+ */
+public class TaxSimulationRequest {
+    private List<SalaryCalculationRequest> population;
+    private SalaryCalculationRequest template;
+    private long salaryMean;
+    private long salaryStandardDeviation;
+    private int populationSize;
+    private double raiseMean;
+    private double raiseStandardDeviation;
+    private int trials;
+    private Long seed;
+    private Integer histogramBins;
+
+    public TaxSimulationRequest() {}
+
+    public List<SalaryCalculationRequest> getPopulation() { return population; }
+    public void setPopulation(List<SalaryCalculationRequest> population) { this.population = population; }
+
+    public SalaryCalculationRequest getTemplate() { return template; }
+    public void setTemplate(SalaryCalculationRequest template) { this.template = template; }
+
+    public long getSalaryMean() { return salaryMean; }
+    public void setSalaryMean(long salaryMean) { this.salaryMean = salaryMean; }
+
+    public long getSalaryStandardDeviation() { return salaryStandardDeviation; }
+    public void setSalaryStandardDeviation(long salaryStandardDeviation) { this.salaryStandardDeviation = salaryStandardDeviation; }
+
+    public int getPopulationSize() { return populationSize; }
+    public void setPopulationSize(int populationSize) { this.populationSize = populationSize; }
+
+    public double getRaiseMean() { return raiseMean; }
+    public void setRaiseMean(double raiseMean) { this.raiseMean = raiseMean; }
+
+    public double getRaiseStandardDeviation() { return raiseStandardDeviation; }
+    public void setRaiseStandardDeviation(double raiseStandardDeviation) { this.raiseStandardDeviation = raiseStandardDeviation; }
+
+    public int getTrials() { return trials; }
+    public void setTrials(int trials) { this.trials = trials; }
+
+    public Long getSeed() { return seed; }
+    public void setSeed(Long seed) { this.seed = seed; }
+
+    public Integer getHistogramBins() { return histogramBins; }
+    public void setHistogramBins(Integer histogramBins) { this.histogramBins = histogramBins; }
+}
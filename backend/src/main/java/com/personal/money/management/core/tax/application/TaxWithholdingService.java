@@ -0,0 +1,97 @@
+package com.personal.money.management.core.tax.application;
+
+import com.personal.money.management.core.shared.infrastructure.monitoring.UseCaseTimed;
+import com.personal.money.management.core.tax.domain.model.SalaryCalculationInput;
+import com.personal.money.management.core.tax.domain.model.SalaryCalculationResult;
+import com.personal.money.management.core.tax.domain.model.WithholdingYearToDate;
+import com.personal.money.management.core.tax.domain.service.TaxEngine;
+import com.personal.money.management.core.tax.domain.service.TaxPayrollResultRepository;
+import com.personal.money.management.core.tax.domain.service.TaxWithholdingYtdRepository;
+import com.personal.money.management.core.tax.infrastructure.persistence.TaxPayrollResultEntity;
+import com.personal.money.management.core.tax.infrastructure.persistence.TaxWithholdingYtdEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Application Service for year-to-date tax withholding
+ * Records each month's withholding once and settles the year from running totals
+ */
+@Service
+@UseCaseTimed
+public class TaxWithholdingService {
+
+    private final TaxEngine taxEngine;
+    private final TaxWithholdingYtdRepository withholdingRepository;
+    private final TaxPayrollResultRepository payrollResultRepository;
+
+    public TaxWithholdingService(TaxEngine taxEngine,
+                                 TaxWithholdingYtdRepository withholdingRepository,
+                                 TaxPayrollResultRepository payrollResultRepository) {
+        this.taxEngine = taxEngine;
+        this.withholdingRepository = withholdingRepository;
+        this.payrollResultRepository = payrollResultRepository;
+    }
+
+    /**
+     * Calculate one month's salary tax and add it to the employee's year-to-date totals
+     *
+     * @param employeeId The employee the month belongs to
+     * @param year The tax year
+     * @param month The month, after the last one recorded for the year
+     * @param request The month's salary details
+     * @return Updated year-to-date totals with the month's result and settlements
+     */
+    @Transactional
+    public WithholdingYearToDateResponse recordMonth(String employeeId, int year, int month,
+                                                     SalaryCalculationRequest request) {
+        validateKey(employeeId, year);
+        SalaryCalculationInput input = TaxCalculatorApplicationService.toInput(request, taxEngine);
+        SalaryCalculationResult result = taxEngine.calculateSalary(input);
+
+        TaxWithholdingYtdEntity entity = withholdingRepository.findByEmployeeIdAndYear(employeeId, year)
+                .orElseGet(() -> new TaxWithholdingYtdEntity(employeeId, year));
+        WithholdingYearToDate ytd = entity.toDomain();
+        ytd.record(month, input, result);
+        entity.apply(ytd);
+        withholdingRepository.save(entity);
+        payrollResultRepository.save(new TaxPayrollResultEntity(employeeId, year, month, input, result));
+
+        return toResponse(ytd, result);
+    }
+
+    /**
+     * Year-to-date totals with the settlement so far and projected to year end
+     */
+    @Transactional(readOnly = true)
+    public Optional<WithholdingYearToDateResponse> getYearToDate(String employeeId, int year) {
+        validateKey(employeeId, year);
+        return withholdingRepository.findByEmployeeIdAndYear(employeeId, year)
+                .map(entity -> toResponse(entity.toDomain(), null));
+    }
+
+    private WithholdingYearToDateResponse toResponse(WithholdingYearToDate ytd, SalaryCalculationResult monthResult) {
+        return new WithholdingYearToDateResponse(
+                ytd.getEmployeeId(),
+                ytd.getYear(),
+                ytd.getLastMonth(),
+                ytd.getMonthsRecorded(),
+                ytd.getTotals(),
+                monthResult,
+                taxEngine.calculateAnnualTaxSettlement(ytd.toSettlementInput()),
+                taxEngine.calculateAnnualTaxSettlement(ytd.toProjectedSettlementInput()));
+    }
+
+    private static void validateKey(String employeeId, int year) {
+        if (employeeId == null || employeeId.isBlank()) {
+            throw new IllegalArgumentException("Employee id is required");
+        }
+        if (employeeId.length() > 100) {
+            throw new IllegalArgumentException("Employee id must be at most 100 characters");
+        }
+        if (year < 1000 || year > 9999) {
+            throw new IllegalArgumentException("Year must have four digits");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.personal.money.management.core.tax.application;
+
+import com.personal.money.management.core.tax.domain.model.AnnualTaxSettlementResult;
+import com.personal.money.management.core.tax.domain.model.SalaryCalculationResult;
+import com.personal.money.management.core.tax.domain.model.WithholdingAmounts;
+
+/**
+ * Response DTO for year-to-date withholding of one employee
+ */
+public class WithholdingYearToDateResponse {
+    private final String employeeId;
+    private final int year;
+    private final int lastMonth;
+    private final int monthsRecorded;
+    private final WithholdingAmounts totals;
+    private final SalaryCalculationResult monthResult;         // Only when a month was just recorded
+    private final AnnualTaxSettlementResult settlementToDate;
+    private final AnnualTaxSettlementResult projectedSettlement;
+
+    public WithholdingYearToDateResponse(String employeeId, int year, int lastMonth, int monthsRecorded,
+                                         WithholdingAmounts totals, SalaryCalculationResult monthResult,
+                                         AnnualTaxSettlementResult settlementToDate,
+                                         AnnualTaxSettlementResult projectedSettlement) {
+        this.employeeId = employeeId;
+        this.year = year;
+        this.lastMonth = lastMonth;
+        this.monthsRecorded = monthsRecorded;
+        this.totals = totals;
+        this.monthResult = monthResult;
+        this.settlementToDate = settlementToDate;
+        this.projectedSettlement = projectedSettlement;
+    }
+
+    public String getEmployeeId() { return employeeId; }
+    public int getYear() { return year; }
+    public int getLastMonth() { return lastMonth; }
+    public int getMonthsRecorded() { return monthsRecorded; }
+    public WithholdingAmounts getTotals() { return totals; }
+    public SalaryCalculationResult getMonthResult() { return monthResult; }
+    public AnnualTaxSettlementResult getSettlementToDate() { return settlementToDate; }
+    public AnnualTaxSettlementResult getProjectedSettlement() { return projectedSettlement; }
+}
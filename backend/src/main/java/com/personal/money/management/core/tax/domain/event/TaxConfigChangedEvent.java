@@ -0,0 +1,21 @@
+package com.personal.money.management.core.tax.domain.event;
+
+import java.util.List;
+
+/**
+ * Published when the tax configuration changes.
+ */
+public class TaxConfigChangedEvent {
+    private final List<String> bracketValues;
+
+    public TaxConfigChangedEvent(List<String> bracketValues) {
+        this.bracketValues = List.copyOf(bracketValues);
+    }
+
+    /**
+     * The tax bracket sets written; empty when the whole configuration was reset
+     */
+    public List<String> getBracketValues() {
+        return bracketValues;
+    }
+}
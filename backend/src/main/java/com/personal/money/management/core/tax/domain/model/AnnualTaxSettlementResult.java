@@ -7,7 +7,7 @@ public class AnnualTaxSettlementResult {
     
     private final String year;
     private final long totalIncome;                    // Tổng thu nhập = lương + thưởng
-    private final long totalDeductions;                // Tổng khấu trừ (bản thân + phụ thuộc + khác)
+    private final long totalDeductions;                // Tổng khấu trừ (bản thân + phụ thuộc + khác + bảo hiểm)
     private final long taxableIncome;                  // Thu nhập chịu thuế = tổng - khấu trừ
     private final long calculatedTax;                  // Thuế tính toán
     private final long taxAlreadyPaid;                 // Thuế đã nộp
@@ -0,0 +1,27 @@
+package com.personal.money.management.core.tax.domain.model;
+
+/**
+ * An accelerated way to tax many incomes against an ordered schedule, for
+ * {@link ProgressiveTaxSchedule#taxOn(long[], long[])}.
+ *
+ * <p>Implementations live in infrastructure and are found with
+ * {@link java.util.ServiceLoader}; without one, batches are taxed one income at a time.
+ * Results must match {@link ProgressiveTaxSchedule#taxOn(long)} bit for bit.</p>
+ */
+public interface BatchTaxKernel {
+
+    /**
+     * Whether this kernel can run in the current JVM
+     */
+    boolean isAvailable();
+
+    /**
+     * Taxes a leading run of {@code incomes} into {@code taxes}.
+     *
+     * @param upperBounds ascending bracket thresholds
+     * @param rates the rate of each bracket, as a fraction
+     * @param taxBelow tax owed on all brackets before index i, with one more entry than the brackets
+     * @return How many leading incomes were taxed; the caller taxes the rest
+     */
+    int taxOn(long[] upperBounds, double[] rates, long[] taxBelow, long[] incomes, long[] taxes, int length);
+}
@@ -0,0 +1,102 @@
+package com.personal.money.management.core.tax.domain.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable snapshot of the whole tax configuration, compiled for calculation.
+ *
+ * <p>Built once per configuration change and then shared by every calculation
+ * thread; no lookup touches the database.</p>
+ */
+public final class CompiledTaxRules implements TaxRuleSet {
+
+    private final long version;
+    // A null schedule marks a bracket set that exists but has no details
+    private final Map<String, ProgressiveTaxSchedule> schedules;
+    private final Map<String, WageZoneValue> wageZones;
+    // Newest effective date first
+    private final List<DeductionBracketValue> deductionBrackets;
+    // Annual thresholds, keyed by the effective date of the monthly bracket set
+    private final NavigableMap<LocalDate, ProgressiveTaxSchedule> annualSchedules;
+
+    /**
+     * @param schedulesByEffectiveDate monthly bracket sets by the date they take effect;
+     *                                 scaled to annual thresholds once, here
+     */
+    public CompiledTaxRules(long version,
+                            Map<String, ProgressiveTaxSchedule> schedules,
+                            Map<LocalDate, ProgressiveTaxSchedule> schedulesByEffectiveDate,
+                            Map<String, WageZoneValue> wageZones,
+                            List<DeductionBracketValue> deductionBrackets) {
+        this.version = version;
+        this.schedules = Collections.unmodifiableMap(new HashMap<>(schedules));
+        NavigableMap<LocalDate, ProgressiveTaxSchedule> annual = new TreeMap<>();
+        schedulesByEffectiveDate.forEach((effectiveDate, monthly) -> annual.put(effectiveDate, monthly.scaled(12)));
+        this.annualSchedules = Collections.unmodifiableNavigableMap(annual);
+        this.wageZones = Collections.unmodifiableMap(new HashMap<>(wageZones));
+        List<DeductionBracketValue> sorted = new ArrayList<>(deductionBrackets);
+        sorted.sort(Comparator.comparing(DeductionBracketValue::getEffectiveDate).reversed());
+        this.deductionBrackets = Collections.unmodifiableList(sorted);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ProgressiveTaxSchedule taxSchedule(TaxBracketType type) {
+        String code = type.getCode();
+        if (!schedules.containsKey(code)) {
+            throw new IllegalArgumentException("Tax bracket not found for value: " + code);
+        }
+        ProgressiveTaxSchedule schedule = schedules.get(code);
+        if (schedule == null) {
+            throw new IllegalArgumentException("No tax bracket details found for value: " + code);
+        }
+        return schedule;
+    }
+
+    @Override
+    public WageZoneValue wageZone(String value) {
+        WageZoneValue zone = wageZones.get(value);
+        if (zone == null) {
+            throw new IllegalArgumentException("Wage zone not found for value: " + value);
+        }
+        return zone;
+    }
+
+    /**
+     * Every wage zone, in no particular order
+     */
+    public Collection<WageZoneValue> wageZones() {
+        return wageZones.values();
+    }
+
+    @Override
+    public DeductionBracketValue deductionBracket(LocalDate date) {
+        for (DeductionBracketValue bracket : deductionBrackets) {
+            if (!bracket.getEffectiveDate().isAfter(date)) {
+                return bracket;
+            }
+        }
+        throw new IllegalArgumentException("No deduction bracket found for date: " + date);
+    }
+
+    @Override
+    public ProgressiveTaxSchedule annualTaxSchedule(int year) {
+        Map.Entry<LocalDate, ProgressiveTaxSchedule> entry = annualSchedules.floorEntry(LocalDate.of(year, 12, 31));
+        if (entry == null) {
+            throw new IllegalArgumentException("No tax bracket in effect for year: " + year);
+        }
+        return entry.getValue();
+    }
+}
@@ -0,0 +1,165 @@
+package com.personal.money.management.core.tax.domain.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Progressive tax brackets compiled into flat arrays.
+ *
+ * <p>The tax owed on every full bracket below each threshold is precomputed, so
+ * {@link #taxOn(long)} only rounds the part of the income falling in the last
+ * bracket it reaches. Each bracket's share is rounded separately, exactly as when
+ * the brackets are summed one by one.</p>
+ */
+public final class ProgressiveTaxSchedule {
+
+    // Null when no accelerated kernel can run here; batches are then taxed one by one
+    static final BatchTaxKernel BATCH_KERNEL = ServiceLoader.load(BatchTaxKernel.class, BatchTaxKernel.class.getClassLoader()).stream()
+            .map(ServiceLoader.Provider::get)
+            .filter(BatchTaxKernel::isAvailable)
+            .findFirst()
+            .orElse(null);
+
+    private final long[] upperBounds;
+    private final double[] rates;
+    // Tax owed on all brackets before index i, each rounded on its own
+    private final long[] taxBelow;
+    // False when a threshold drops below the one before it; such schedules are
+    // walked bracket by bracket so they tax exactly as they always did
+    private final boolean ordered;
+
+    private ProgressiveTaxSchedule(long[] upperBounds, double[] rates, boolean ordered) {
+        this.upperBounds = upperBounds;
+        this.rates = rates;
+        this.ordered = ordered;
+        this.taxBelow = new long[upperBounds.length + 1];
+        long lower = 0;
+        for (int i = 0; i < upperBounds.length; i++) {
+            taxBelow[i + 1] = taxBelow[i] + Math.round((upperBounds[i] - lower) * rates[i]);
+            lower = upperBounds[i];
+        }
+    }
+
+    /**
+     * @param brackets ordered by threshold; rates as fractions (0.05 for 5%)
+     */
+    public static ProgressiveTaxSchedule of(List<TaxBracket> brackets) {
+        if (brackets == null || brackets.isEmpty()) {
+            throw new IllegalArgumentException("At least one tax bracket is required");
+        }
+        long[] upperBounds = new long[brackets.size()];
+        double[] rates = new double[brackets.size()];
+        boolean ordered = true;
+        long previous = 0;
+        for (int i = 0; i < brackets.size(); i++) {
+            TaxBracket bracket = brackets.get(i);
+            if (bracket.getThreshold() < previous) {
+                ordered = false;
+            }
+            upperBounds[i] = bracket.getThreshold();
+            rates[i] = bracket.getRate();
+            previous = bracket.getThreshold();
+        }
+        return new ProgressiveTaxSchedule(upperBounds, rates, ordered);
+    }
+
+    /**
+     * The same brackets with every threshold multiplied by {@code factor}, e.g. 12 to
+     * turn monthly thresholds into annual ones. An open top bracket stays open.
+     */
+    public ProgressiveTaxSchedule scaled(int factor) {
+        if (factor <= 0) {
+            throw new IllegalArgumentException("Scale factor must be positive");
+        }
+        long[] scaledBounds = new long[upperBounds.length];
+        for (int i = 0; i < upperBounds.length; i++) {
+            scaledBounds[i] = upperBounds[i] > Long.MAX_VALUE / factor ? Long.MAX_VALUE : upperBounds[i] * factor;
+        }
+        return new ProgressiveTaxSchedule(scaledBounds, rates.clone(), ordered);
+    }
+
+    public long taxOn(long taxableIncome) {
+        if (taxableIncome <= 0) {
+            return 0;
+        }
+        if (!ordered) {
+            return walk(taxableIncome);
+        }
+        long lower = 0;
+        for (int i = 0; i < upperBounds.length; i++) {
+            if (taxableIncome <= upperBounds[i]) {
+                return taxBelow[i] + Math.round((taxableIncome - lower) * rates[i]);
+            }
+            lower = upperBounds[i];
+        }
+        // Income above a finite top threshold is not taxed further
+        return taxBelow[upperBounds.length];
+    }
+
+    /**
+     * Taxes every income of {@code incomes} into the same index of {@code taxes}, exactly
+     * as {@link #taxOn(long)} would. Ordered schedules go through the {@link BatchTaxKernel}
+     * when one is available.
+     */
+    public void taxOn(long[] incomes, long[] taxes) {
+        taxOn(incomes, taxes, incomes.length);
+    }
+
+    /**
+     * Taxes the first {@code length} incomes, as {@link #taxOn(long[], long[])}
+     */
+    public void taxOn(long[] incomes, long[] taxes, int length) {
+        if (length < 0 || length > incomes.length || length > taxes.length) {
+            throw new IllegalArgumentException("Length exceeds the income or tax array");
+        }
+        int taxed = ordered && BATCH_KERNEL != null
+                ? BATCH_KERNEL.taxOn(upperBounds, rates, taxBelow, incomes, taxes, length)
+                : 0;
+        for (int i = taxed; i < length; i++) {
+            taxes[i] = taxOn(incomes[i]);
+        }
+    }
+
+    /**
+     * The taxable income up to which this schedule and {@code other} give the same tax
+     * for every income, so only incomes above it can be taxed differently.
+     *
+     * @return {@link Long#MAX_VALUE} when the schedules are identical
+     */
+    public long unchangedUpTo(ProgressiveTaxSchedule other) {
+        if (Arrays.equals(upperBounds, other.upperBounds) && Arrays.equals(rates, other.rates)) {
+            return Long.MAX_VALUE;
+        }
+        if (!ordered || !other.ordered) {
+            return 0;
+        }
+        long lower = 0;
+        for (int i = 0; i < upperBounds.length && i < other.upperBounds.length; i++) {
+            if (Double.compare(rates[i], other.rates[i]) != 0) {
+                return lower;
+            }
+            if (upperBounds[i] != other.upperBounds[i]) {
+                // Same rate, so both agree until the nearer threshold
+                return Math.min(upperBounds[i], other.upperBounds[i]);
+            }
+            lower = upperBounds[i];
+        }
+        // One schedule has more brackets than the other
+        return lower;
+    }
+
+    private long walk(long taxableIncome) {
+        long tax = 0;
+        long previousThreshold = 0;
+        for (int i = 0; i < upperBounds.length && taxableIncome > previousThreshold; i++) {
+            tax += Math.round((Math.min(taxableIncome, upperBounds[i]) - previousThreshold) * rates[i]);
+            previousThreshold = upperBounds[i];
+        }
+        return tax;
+    }
+
+    public int size() {
+        return upperBounds.length;
+    }
+}
@@ -0,0 +1,42 @@
+package com.personal.money.management.core.tax.domain.model;
+
+/**
+ * Value object for the stored payroll results a configuration change can affect:
+ * those of one bracket type with taxable income above a threshold, or those of one
+ * wage zone with gross salary above a threshold
+ */
+public final class RecomputationRange {
+
+    private final TaxBracketType taxBracketType;   // null for a wage zone range
+    private final String wageZone;                 // null for a bracket type range
+    private final long above;
+
+    public RecomputationRange(TaxBracketType taxBracketType, long taxableIncomeAbove) {
+        this(taxBracketType, null, taxableIncomeAbove);
+    }
+
+    private RecomputationRange(TaxBracketType taxBracketType, String wageZone, long above) {
+        this.taxBracketType = taxBracketType;
+        this.wageZone = wageZone;
+        this.above = above;
+    }
+
+    public static RecomputationRange ofWageZone(String wageZone, long grossSalaryAbove) {
+        return new RecomputationRange(null, wageZone, grossSalaryAbove);
+    }
+
+    public boolean isWageZone() { return wageZone != null; }
+    public TaxBracketType getTaxBracketType() { return taxBracketType; }
+    public String getWageZone() { return wageZone; }
+    /** The threshold of a bracket type range */
+    public long getTaxableIncomeAbove() { return above; }
+    /** The threshold of a wage zone range */
+    public long getGrossSalaryAbove() { return above; }
+
+    @Override
+    public String toString() {
+        return isWageZone()
+                ? "wage zone " + wageZone + " above " + above
+                : taxBracketType.getCode() + " above " + above;
+    }
+}
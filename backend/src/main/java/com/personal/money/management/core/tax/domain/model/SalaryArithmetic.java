@@ -0,0 +1,42 @@
+package com.personal.money.management.core.tax.domain.model;
+
+/**
+ * The monthly salary arithmetic on primitives: insurance contributions, deductions and
+ * taxable income, as Vietnam's personal income tax rules define them.
+ *
+ * <p>The single definition shared by the row-by-row calculation, the simulation kernel
+ * and the columnar calculator, so their results cannot drift apart. Allocates nothing.</p>
+ */
+public final class SalaryArithmetic {
+
+    private SalaryArithmetic() {
+    }
+
+    /**
+     * One insurance contribution: {@code ratePercent} of {@code base}, rounded
+     */
+    public static long contribution(long base, double ratePercent) {
+        return Math.round(base * ratePercent / 100);
+    }
+
+    /**
+     * Unemployment insurance (BHTN): on the gross salary, capped by the wage zone
+     */
+    public static long unemploymentInsurance(long grossSalary, long insuranceCap, double ratePercent) {
+        return contribution(Math.min(grossSalary, insuranceCap), ratePercent);
+    }
+
+    /**
+     * The personal deduction plus the deduction for every dependent
+     */
+    public static long totalDeduction(long personalDeduction, int dependents, long dependentDeductionPerPerson) {
+        return personalDeduction + dependents * dependentDeductionPerPerson;
+    }
+
+    /**
+     * Income after insurance plus any bonus, less deductions; never negative
+     */
+    public static long taxableIncome(long incomeAfterInsurance, long bonus, long totalDeduction) {
+        return Math.max(incomeAfterInsurance + bonus - totalDeduction, 0);
+    }
+}
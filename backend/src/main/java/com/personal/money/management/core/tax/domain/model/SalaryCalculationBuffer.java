@@ -0,0 +1,99 @@
+package com.personal.money.management.core.tax.domain.model;
+
+/**
+ * Reusable, mutable holder for one salary calculation's figures.
+ *
+ * <p>Batch and sweep calculations write every row into the same buffer and hand it to
+ * a consumer that reads it before the next row overwrites it, so no result object is
+ * created per row. Not thread-safe; use one buffer per thread. {@link #toResult()}
+ * copies the figures into the immutable {@link SalaryCalculationResult}.</p>
+ */
+public final class SalaryCalculationBuffer {
+    private long grossSalary;
+    private long bhxh;
+    private long bhyt;
+    private long bhtn;
+    private long totalInsurance;
+    private long incomeAfterInsurance;
+    private long tetBonus;
+    private long totalDeduction;
+    private long taxableIncome;
+    private long totalTax;
+    private long salaryTax;
+    private long bonusTax;
+    private long netBeforeAllowance;
+    private long taxFreeAllowance;
+    private long otherDeduction;
+    private long netMonthly;
+    private long netBonus;
+    private long totalNetSalary;
+
+    /**
+     * Fill the buffer from a calculation. Derived figures are computed here so every
+     * caller derives them the same way.
+     */
+    public void set(long grossSalary, long bhxh, long bhyt, long bhtn, long tetBonus,
+                    long totalDeduction, long totalTax, long salaryTax,
+                    long taxFreeAllowance, long otherDeduction) {
+        this.grossSalary = grossSalary;
+        this.bhxh = bhxh;
+        this.bhyt = bhyt;
+        this.bhtn = bhtn;
+        this.totalInsurance = bhxh + bhyt + bhtn;
+        this.incomeAfterInsurance = grossSalary - totalInsurance;
+        this.tetBonus = tetBonus;
+        this.totalDeduction = totalDeduction;
+        this.taxableIncome = Math.max(incomeAfterInsurance + tetBonus - totalDeduction, 0);
+        this.totalTax = totalTax;
+        this.salaryTax = salaryTax;
+        this.bonusTax = Math.max(totalTax - salaryTax, 0);
+        this.netBeforeAllowance = grossSalary - totalInsurance - salaryTax;
+        this.taxFreeAllowance = taxFreeAllowance;
+        this.otherDeduction = otherDeduction;
+        this.netMonthly = netBeforeAllowance + taxFreeAllowance - otherDeduction;
+        this.netBonus = tetBonus - bonusTax;
+        this.totalNetSalary = netMonthly + netBonus;
+    }
+
+    public SalaryCalculationResult toResult() {
+        return new SalaryCalculationResult(
+            grossSalary,
+            bhxh,
+            bhyt,
+            bhtn,
+            totalInsurance,
+            incomeAfterInsurance,
+            tetBonus,
+            totalDeduction,
+            taxableIncome,
+            totalTax,
+            salaryTax,
+            bonusTax,
+            netBeforeAllowance,
+            taxFreeAllowance,
+            otherDeduction,
+            netMonthly,
+            netBonus,
+            totalNetSalary
+        );
+    }
+
+    public long getGrossSalary() { return grossSalary; }
+    public long getBhxh() { return bhxh; }
+    public long getBhyt() { return bhyt; }
+    public long getBhtn() { return bhtn; }
+    public long getTotalInsurance() { return totalInsurance; }
+    public long getIncomeAfterInsurance() { return incomeAfterInsurance; }
+    public long getTetBonus() { return tetBonus; }
+    public long getTotalDeduction() { return totalDeduction; }
+    public long getTaxableIncome() { return taxableIncome; }
+    public long getTotalTax() { return totalTax; }
+    public long getSalaryTax() { return salaryTax; }
+    public long getBonusTax() { return bonusTax; }
+    public long getNetBeforeAllowance() { return netBeforeAllowance; }
+    public long getTaxFreeAllowance() { return taxFreeAllowance; }
+    public long getOtherDeduction() { return otherDeduction; }
+    public long getNetMonthly() { return netMonthly; }
+    public long getNetBonus() { return netBonus; }
+    public long getTotalNetSalary() { return totalNetSalary; }
+}
@@ -0,0 +1,96 @@
+package com.personal.money.management.core.tax.domain.model;
+
+/**
+ * A block of salary calculation inputs stored column by column.
+ *
+ * <p>One primitive array per {@link SalaryCalculationInput} field, so a columnar dataset
+ * can be copied in without creating an object per row. Of the wage zone only the
+ * insurance cap is kept, the one figure a calculation reads. Rows {@code 0} to
+ * {@link #size()} are valid; the block is refilled in place.</p>
+ */
+public final class SalaryInputBlock {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final long[] grossSalary;
+    private final long[] tetBonus;
+    private final long[] insuranceBase;
+    private final int[] dependents;
+    private final double[] bhxhRate;
+    private final double[] bhytRate;
+    private final double[] bhtnRate;
+    private final long[] personalDeduction;
+    private final long[] dependentDeductionPerPerson;
+    private final long[] taxFreeAllowance;
+    private final long[] otherDeduction;
+    private final TaxBracketType[] taxBracketType;
+    private final long[] insuranceCap;
+    private int size;
+
+    public SalaryInputBlock(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Block capacity must be positive");
+        }
+        this.grossSalary = new long[capacity];
+        this.tetBonus = new long[capacity];
+        this.insuranceBase = new long[capacity];
+        this.dependents = new int[capacity];
+        this.bhxhRate = new double[capacity];
+        this.bhytRate = new double[capacity];
+        this.bhtnRate = new double[capacity];
+        this.personalDeduction = new long[capacity];
+        this.dependentDeductionPerPerson = new long[capacity];
+        this.taxFreeAllowance = new long[capacity];
+        this.otherDeduction = new long[capacity];
+        this.taxBracketType = new TaxBracketType[capacity];
+        this.insuranceCap = new long[capacity];
+    }
+
+    /**
+     * Copy one input into row {@code row}
+     */
+    public void set(int row, SalaryCalculationInput input) {
+        grossSalary[row] = input.getGrossSalary();
+        tetBonus[row] = input.getTetBonus();
+        insuranceBase[row] = input.getInsuranceBase();
+        dependents[row] = input.getDependents();
+        bhxhRate[row] = input.getBhxhRate();
+        bhytRate[row] = input.getBhytRate();
+        bhtnRate[row] = input.getBhtnRate();
+        personalDeduction[row] = input.getPersonalDeduction();
+        dependentDeductionPerPerson[row] = input.getDependentDeductionPerPerson();
+        taxFreeAllowance[row] = input.getTaxFreeAllowance();
+        otherDeduction[row] = input.getOtherDeduction();
+        taxBracketType[row] = input.getTaxBracketType();
+        insuranceCap[row] = input.getWageZone().getInsuranceCap();
+    }
+
+    public int capacity() {
+        return grossSalary.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        if (size < 0 || size > capacity()) {
+            throw new IllegalArgumentException("Block size must be between 0 and " + capacity());
+        }
+        this.size = size;
+    }
+
+    public long[] getGrossSalary() { return grossSalary; }
+    public long[] getTetBonus() { return tetBonus; }
+    public long[] getInsuranceBase() { return insuranceBase; }
+    public int[] getDependents() { return dependents; }
+    public double[] getBhxhRate() { return bhxhRate; }
+    public double[] getBhytRate() { return bhytRate; }
+    public double[] getBhtnRate() { return bhtnRate; }
+    public long[] getPersonalDeduction() { return personalDeduction; }
+    public long[] getDependentDeductionPerPerson() { return dependentDeductionPerPerson; }
+    public long[] getTaxFreeAllowance() { return taxFreeAllowance; }
+    public long[] getOtherDeduction() { return otherDeduction; }
+    public TaxBracketType[] getTaxBracketType() { return taxBracketType; }
+    public long[] getInsuranceCap() { return insuranceCap; }
+}
@@ -0,0 +1,77 @@
+package com.personal.money.management.core.tax.domain.model;
+
+/**
+ * A block of salary calculation results stored column by column, one {@code long[]}
+ * per {@link SalaryResultColumn}. Rows {@code 0} to {@link #size()} are valid; the
+ * block is overwritten in place by every calculation.
+ */
+public final class SalaryResultBlock {
+
+    private static final SalaryResultColumn[] COLUMNS = SalaryResultColumn.values();
+
+    private final long[][] columns;
+    private int size;
+
+    public SalaryResultBlock(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Block capacity must be positive");
+        }
+        this.columns = new long[COLUMNS.length][capacity];
+    }
+
+    /**
+     * Copy the figures of {@code buffer} into row {@code row}
+     */
+    public void set(int row, SalaryCalculationBuffer buffer) {
+        columns[SalaryResultColumn.GROSS_SALARY.ordinal()][row] = buffer.getGrossSalary();
+        columns[SalaryResultColumn.BHXH.ordinal()][row] = buffer.getBhxh();
+        columns[SalaryResultColumn.BHYT.ordinal()][row] = buffer.getBhyt();
+        columns[SalaryResultColumn.BHTN.ordinal()][row] = buffer.getBhtn();
+        columns[SalaryResultColumn.TOTAL_INSURANCE.ordinal()][row] = buffer.getTotalInsurance();
+        columns[SalaryResultColumn.INCOME_AFTER_INSURANCE.ordinal()][row] = buffer.getIncomeAfterInsurance();
+        columns[SalaryResultColumn.TET_BONUS.ordinal()][row] = buffer.getTetBonus();
+        columns[SalaryResultColumn.TOTAL_DEDUCTION.ordinal()][row] = buffer.getTotalDeduction();
+        columns[SalaryResultColumn.TAXABLE_INCOME.ordinal()][row] = buffer.getTaxableIncome();
+        columns[SalaryResultColumn.TOTAL_TAX.ordinal()][row] = buffer.getTotalTax();
+        columns[SalaryResultColumn.SALARY_TAX.ordinal()][row] = buffer.getSalaryTax();
+        columns[SalaryResultColumn.BONUS_TAX.ordinal()][row] = buffer.getBonusTax();
+        columns[SalaryResultColumn.NET_BEFORE_ALLOWANCE.ordinal()][row] = buffer.getNetBeforeAllowance();
+        columns[SalaryResultColumn.TAX_FREE_ALLOWANCE.ordinal()][row] = buffer.getTaxFreeAllowance();
+        columns[SalaryResultColumn.OTHER_DEDUCTION.ordinal()][row] = buffer.getOtherDeduction();
+        columns[SalaryResultColumn.NET_MONTHLY.ordinal()][row] = buffer.getNetMonthly();
+        columns[SalaryResultColumn.NET_BONUS.ordinal()][row] = buffer.getNetBonus();
+        columns[SalaryResultColumn.TOTAL_NET_SALARY.ordinal()][row] = buffer.getTotalNetSalary();
+    }
+
+    /**
+     * Copy row {@code row} out into an immutable result
+     */
+    public SalaryCalculationResult toResult(int row) {
+        long[] figures = new long[COLUMNS.length];
+        for (int column = 0; column < COLUMNS.length; column++) {
+            figures[column] = columns[column][row];
+        }
+        return new SalaryCalculationResult(figures[0], figures[1], figures[2], figures[3], figures[4],
+                figures[5], figures[6], figures[7], figures[8], figures[9], figures[10], figures[11],
+                figures[12], figures[13], figures[14], figures[15], figures[16], figures[17]);
+    }
+
+    public long[] column(SalaryResultColumn column) {
+        return columns[column.ordinal()];
+    }
+
+    public int capacity() {
+        return columns[0].length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        if (size < 0 || size > capacity()) {
+            throw new IllegalArgumentException("Block size must be between 0 and " + capacity());
+        }
+        this.size = size;
+    }
+}
@@ -0,0 +1,26 @@
+package com.personal.money.management.core.tax.domain.model;
+
+/**
+ * The figures of a {@link SalaryCalculationResult}, one column each in a
+ * {@link SalaryResultBlock}, in the order they are stored
+ */
+public enum SalaryResultColumn {
+    GROSS_SALARY,
+    BHXH,
+    BHYT,
+    BHTN,
+    TOTAL_INSURANCE,
+    INCOME_AFTER_INSURANCE,
+    TET_BONUS,
+    TOTAL_DEDUCTION,
+    TAXABLE_INCOME,
+    TOTAL_TAX,
+    SALARY_TAX,
+    BONUS_TAX,
+    NET_BEFORE_ALLOWANCE,
+    TAX_FREE_ALLOWANCE,
+    OTHER_DEDUCTION,
+    NET_MONTHLY,
+    NET_BONUS,
+    TOTAL_NET_SALARY
+}
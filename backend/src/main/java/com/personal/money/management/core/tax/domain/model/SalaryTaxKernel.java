@@ -0,0 +1,65 @@
+package com.personal.money.management.core.tax.domain.model;
+
+/**
+ * One employee's monthly tax reduced to primitive arithmetic.
+ *
+ * <p>Gives the same total tax as {@code TaxCalculationService.calculateSalary} for the
+ * input it was built from, through the same {@link SalaryArithmetic}, without allocating
+ * a result, so a simulation can evaluate it millions of times. {@link #totalTax(double)} scales the gross salary and insurance
+ * base together, as a raise would.</p>
+ */
+public final class SalaryTaxKernel {
+
+    private final long grossSalary;
+    private final long insuranceBase;
+    private final long tetBonus;
+    private final double bhxhRate;
+    private final double bhytRate;
+    private final double bhtnRate;
+    private final long insuranceCap;
+    private final long totalDeduction;
+    private final ProgressiveTaxSchedule schedule;
+
+    private SalaryTaxKernel(SalaryCalculationInput input, ProgressiveTaxSchedule schedule) {
+        this.grossSalary = input.getGrossSalary();
+        this.insuranceBase = input.getInsuranceBase();
+        this.tetBonus = input.getTetBonus();
+        this.bhxhRate = input.getBhxhRate();
+        this.bhytRate = input.getBhytRate();
+        this.bhtnRate = input.getBhtnRate();
+        this.insuranceCap = input.getWageZone().getInsuranceCap();
+        this.totalDeduction = SalaryArithmetic.totalDeduction(
+                input.getPersonalDeduction(), input.getDependents(), input.getDependentDeductionPerPerson());
+        this.schedule = schedule;
+    }
+
+    public static SalaryTaxKernel of(SalaryCalculationInput input, TaxRuleSet rules) {
+        return new SalaryTaxKernel(input, rules.taxSchedule(input.getTaxBracketType()));
+    }
+
+    public long getGrossSalary() {
+        return grossSalary;
+    }
+
+    public long totalTax() {
+        return totalTax(grossSalary, insuranceBase);
+    }
+
+    /**
+     * Total tax with the gross salary and insurance base multiplied by {@code salaryFactor}
+     * (1.05 for a 5% raise); a negative factor counts as no salary at all
+     */
+    public long totalTax(double salaryFactor) {
+        if (salaryFactor <= 0) {
+            return totalTax(0, 0);
+        }
+        return totalTax(Math.round(grossSalary * salaryFactor), Math.round(insuranceBase * salaryFactor));
+    }
+
+    private long totalTax(long gross, long base) {
+        long insurance = SalaryArithmetic.contribution(base, bhxhRate)
+                + SalaryArithmetic.contribution(base, bhytRate)
+                + SalaryArithmetic.unemploymentInsurance(gross, insuranceCap, bhtnRate);
+        return schedule.taxOn(SalaryArithmetic.taxableIncome(gross - insurance, tetBonus, totalDeduction));
+    }
+}
@@ -0,0 +1,26 @@
+package com.personal.money.management.core.tax.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * The tax configuration a calculation reads: bracket schedules, wage zones and
+ * deduction levels. Lookups of unknown values throw {@link IllegalArgumentException}.
+ */
+public interface TaxRuleSet {
+
+    ProgressiveTaxSchedule taxSchedule(TaxBracketType type);
+
+    WageZoneValue wageZone(String value);
+
+    /**
+     * The deduction bracket in effect on {@code date}: the latest one whose effective
+     * date is not after it.
+     */
+    DeductionBracketValue deductionBracket(LocalDate date);
+
+    /**
+     * The bracket set in effect at the end of {@code year}, with thresholds scaled from
+     * monthly to annual amounts.
+     */
+    ProgressiveTaxSchedule annualTaxSchedule(int year);
+}
@@ -0,0 +1,121 @@
+package com.personal.money.management.core.tax.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Value Object summarizing the distribution of workforce tax cost over simulated trials
+ */
+public class TaxSimulationResult {
+
+    private static final double[] QUANTILES = {0.01, 0.05, 0.25, 0.50, 0.75, 0.95, 0.99};
+
+    private final int trials;
+    private final long evaluations;
+    private final long baselineTotalTax;
+    private final double meanTotalTax;
+    private final double standardDeviation;
+    private final long minTotalTax;
+    private final long maxTotalTax;
+    private final Map<String, Long> quantiles;
+    private final List<Bin> histogram;
+
+    private TaxSimulationResult(int trials, long evaluations, long baselineTotalTax, double meanTotalTax,
+                                double standardDeviation, long minTotalTax, long maxTotalTax,
+                                Map<String, Long> quantiles, List<Bin> histogram) {
+        this.trials = trials;
+        this.evaluations = evaluations;
+        this.baselineTotalTax = baselineTotalTax;
+        this.meanTotalTax = meanTotalTax;
+        this.standardDeviation = standardDeviation;
+        this.minTotalTax = minTotalTax;
+        this.maxTotalTax = maxTotalTax;
+        this.quantiles = quantiles;
+        this.histogram = histogram;
+    }
+
+    /**
+     * @param totalTaxPerTrial workforce tax of each trial; sorted in place
+     * @param baselineTotalTax workforce tax before any perturbation
+     * @param evaluations      salary tax evaluations the trials took
+     * @param bins             histogram bins between the smallest and largest trial
+     */
+    public static TaxSimulationResult summarize(long[] totalTaxPerTrial, long baselineTotalTax,
+                                                long evaluations, int bins) {
+        if (totalTaxPerTrial.length == 0) {
+            throw new IllegalArgumentException("At least one trial is required");
+        }
+        Arrays.parallelSort(totalTaxPerTrial);
+        int n = totalTaxPerTrial.length;
+        double mean = 0;
+        double sumOfSquares = 0;
+        // Welford's update keeps the variance exact for totals in the trillions
+        for (int i = 0; i < n; i++) {
+            double delta = totalTaxPerTrial[i] - mean;
+            mean += delta / (i + 1);
+            sumOfSquares += delta * (totalTaxPerTrial[i] - mean);
+        }
+        Map<String, Long> quantiles = new LinkedHashMap<>();
+        for (double q : QUANTILES) {
+            int rank = (int) Math.ceil(q * n);
+            quantiles.put("p" + Math.round(q * 100), totalTaxPerTrial[Math.max(rank, 1) - 1]);
+        }
+        return new TaxSimulationResult(n, evaluations, baselineTotalTax, mean,
+                n > 1 ? Math.sqrt(sumOfSquares / (n - 1)) : 0,
+                totalTaxPerTrial[0], totalTaxPerTrial[n - 1],
+                Collections.unmodifiableMap(quantiles), histogram(totalTaxPerTrial, bins));
+    }
+
+    private static List<Bin> histogram(long[] sorted, int bins) {
+        long min = sorted[0];
+        long max = sorted[sorted.length - 1];
+        if (min == max) {
+            return List.of(new Bin(min, max, sorted.length));
+        }
+        double width = (double) (max - min) / bins;
+        long[] counts = new long[bins];
+        for (long value : sorted) {
+            counts[Math.min((int) ((value - min) / width), bins - 1)]++;
+        }
+        List<Bin> histogram = new ArrayList<>(bins);
+        for (int i = 0; i < bins; i++) {
+            long lower = min + Math.round(i * width);
+            long upper = i == bins - 1 ? max : min + Math.round((i + 1) * width);
+            histogram.add(new Bin(lower, upper, counts[i]));
+        }
+        return Collections.unmodifiableList(histogram);
+    }
+
+    public int getTrials() { return trials; }
+    public long getEvaluations() { return evaluations; }
+    public long getBaselineTotalTax() { return baselineTotalTax; }
+    public double getMeanTotalTax() { return meanTotalTax; }
+    public double getStandardDeviation() { return standardDeviation; }
+    public long getMinTotalTax() { return minTotalTax; }
+    public long getMaxTotalTax() { return maxTotalTax; }
+    public Map<String, Long> getQuantiles() { return quantiles; }
+    public List<Bin> getHistogram() { return histogram; }
+
+    /**
+     * Trials whose workforce tax fell in [lower, upper); the last bin includes upper
+     */
+    public static class Bin {
+        private final long lower;
+        private final long upper;
+        private final long count;
+
+        public Bin(long lower, long upper, long count) {
+            this.lower = lower;
+            this.upper = upper;
+            this.count = count;
+        }
+
+        public long getLower() { return lower; }
+        public long getUpper() { return upper; }
+        public long getCount() { return count; }
+    }
+}
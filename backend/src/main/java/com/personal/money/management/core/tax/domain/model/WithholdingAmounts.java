@@ -0,0 +1,93 @@
+package com.personal.money.management.core.tax.domain.model;
+
+/**
+ * Value object for the withholding figures of one month or a sum of months
+ */
+public final class WithholdingAmounts {
+
+    public static final WithholdingAmounts ZERO = new WithholdingAmounts(0, 0, 0, 0, 0, 0, 0, 0);
+
+    private final long grossSalary;
+    private final long bonus;
+    private final long bhxh;
+    private final long bhyt;
+    private final long bhtn;
+    private final long personalDeduction;
+    private final long dependentDeduction;         // Amount for all dependents together
+    private final long taxWithheld;
+
+    public WithholdingAmounts(long grossSalary, long bonus, long bhxh, long bhyt, long bhtn,
+                              long personalDeduction, long dependentDeduction, long taxWithheld) {
+        this.grossSalary = grossSalary;
+        this.bonus = bonus;
+        this.bhxh = bhxh;
+        this.bhyt = bhyt;
+        this.bhtn = bhtn;
+        this.personalDeduction = personalDeduction;
+        this.dependentDeduction = dependentDeduction;
+        this.taxWithheld = taxWithheld;
+    }
+
+    /**
+     * Figures of one calculated month, including any bonus paid in it
+     */
+    public static WithholdingAmounts ofMonth(SalaryCalculationInput input, SalaryCalculationResult result) {
+        return new WithholdingAmounts(
+                result.getGrossSalary(),
+                result.getTetBonus(),
+                result.getBhxh(),
+                result.getBhyt(),
+                result.getBhtn(),
+                input.getPersonalDeduction(),
+                input.getDependents() * input.getDependentDeductionPerPerson(),
+                result.getTotalTax());
+    }
+
+    /**
+     * The month as it would repeat: salary only, without the bonus and the tax on it
+     */
+    public static WithholdingAmounts runRateOf(SalaryCalculationInput input, SalaryCalculationResult result) {
+        return new WithholdingAmounts(
+                result.getGrossSalary(),
+                0,
+                result.getBhxh(),
+                result.getBhyt(),
+                result.getBhtn(),
+                input.getPersonalDeduction(),
+                input.getDependents() * input.getDependentDeductionPerPerson(),
+                result.getSalaryTax());
+    }
+
+    public WithholdingAmounts plus(WithholdingAmounts other) {
+        return new WithholdingAmounts(
+                grossSalary + other.grossSalary,
+                bonus + other.bonus,
+                bhxh + other.bhxh,
+                bhyt + other.bhyt,
+                bhtn + other.bhtn,
+                personalDeduction + other.personalDeduction,
+                dependentDeduction + other.dependentDeduction,
+                taxWithheld + other.taxWithheld);
+    }
+
+    public WithholdingAmounts times(int months) {
+        return new WithholdingAmounts(
+                grossSalary * months,
+                bonus * months,
+                bhxh * months,
+                bhyt * months,
+                bhtn * months,
+                personalDeduction * months,
+                dependentDeduction * months,
+                taxWithheld * months);
+    }
+
+    public long getGrossSalary() { return grossSalary; }
+    public long getBonus() { return bonus; }
+    public long getBhxh() { return bhxh; }
+    public long getBhyt() { return bhyt; }
+    public long getBhtn() { return bhtn; }
+    public long getPersonalDeduction() { return personalDeduction; }
+    public long getDependentDeduction() { return dependentDeduction; }
+    public long getTaxWithheld() { return taxWithheld; }
+}
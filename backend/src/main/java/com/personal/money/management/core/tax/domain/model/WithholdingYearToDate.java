@@ -0,0 +1,89 @@
+package com.personal.money.management.core.tax.domain.model;
+
+/**
+ * Year-to-date withholding of one employee for one tax year.
+ *
+ * <p>Keeps running totals and the latest month, so recording a month and settling
+ * the year are both constant time: no earlier month is read again.</p>
+ */
+public class WithholdingYearToDate {
+
+    private final String employeeId;
+    private final int year;
+    private int lastMonth;                         // 0 until the first month is recorded
+    private int monthsRecorded;
+    private WithholdingAmounts totals;
+    private WithholdingAmounts runRate;            // Latest month without its bonus
+
+    public WithholdingYearToDate(String employeeId, int year) {
+        this(employeeId, year, 0, 0, WithholdingAmounts.ZERO, WithholdingAmounts.ZERO);
+    }
+
+    public WithholdingYearToDate(String employeeId, int year, int lastMonth, int monthsRecorded,
+                                 WithholdingAmounts totals, WithholdingAmounts runRate) {
+        this.employeeId = employeeId;
+        this.year = year;
+        this.lastMonth = lastMonth;
+        this.monthsRecorded = monthsRecorded;
+        this.totals = totals;
+        this.runRate = runRate;
+    }
+
+    /**
+     * Adds a calculated month. Months are recorded in order, each once; skipped
+     * months simply contribute nothing.
+     */
+    public void record(int month, SalaryCalculationInput input, SalaryCalculationResult result) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Month must be between 1 and 12");
+        }
+        if (month <= lastMonth) {
+            throw new IllegalArgumentException("Month " + month + " of " + year
+                    + " is not after the last recorded month " + lastMonth);
+        }
+        totals = totals.plus(WithholdingAmounts.ofMonth(input, result));
+        runRate = WithholdingAmounts.runRateOf(input, result);
+        lastMonth = month;
+        monthsRecorded++;
+    }
+
+    /**
+     * Settlement of the months recorded so far, as if the year ended now
+     */
+    public AnnualTaxSettlementInput toSettlementInput() {
+        return toSettlementInput(totals);
+    }
+
+    /**
+     * Settlement of the full year, assuming every month after the last recorded one
+     * repeats its salary, insurance, deductions and withholding
+     */
+    public AnnualTaxSettlementInput toProjectedSettlementInput() {
+        return toSettlementInput(totals.plus(runRate.times(12 - lastMonth)));
+    }
+
+    private AnnualTaxSettlementInput toSettlementInput(WithholdingAmounts amounts) {
+        // Dependents can change during the year, so their deduction is carried as one
+        // accumulated amount rather than a per-dependent rate
+        return new AnnualTaxSettlementInput(
+                String.valueOf(year),
+                amounts.getGrossSalary(),
+                amounts.getBonus(),
+                amounts.getPersonalDeduction(),
+                amounts.getDependentDeduction(),
+                amounts.getDependentDeduction() > 0 ? 1 : 0,
+                0,
+                0,
+                amounts.getBhxh(),
+                amounts.getBhyt(),
+                amounts.getBhtn(),
+                amounts.getTaxWithheld());
+    }
+
+    public String getEmployeeId() { return employeeId; }
+    public int getYear() { return year; }
+    public int getLastMonth() { return lastMonth; }
+    public int getMonthsRecorded() { return monthsRecorded; }
+    public WithholdingAmounts getTotals() { return totals; }
+    public WithholdingAmounts getRunRate() { return runRate; }
+}
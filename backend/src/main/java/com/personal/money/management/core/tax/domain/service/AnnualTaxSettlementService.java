@@ -2,6 +2,7 @@ package com.personal.money.management.core.tax.domain.service;
 
 import com.personal.money.management.core.tax.domain.model.AnnualTaxSettlementInput;
 import com.personal.money.management.core.tax.domain.model.AnnualTaxSettlementResult;
+import com.personal.money.management.core.tax.domain.model.TaxRuleSet;
 
 /**
  * Domain Service for Annual Tax Settlement Calculation
@@ -9,7 +10,14 @@ import com.personal.money.management.core.tax.domain.model.AnnualTaxSettlementRe
  */
 public class AnnualTaxSettlementService {
     
-    public AnnualTaxSettlementService() {
+    private final TaxRuleSet rules;
+    
+    /**
+     * @param rules source of the bracket set for the settlement year; the shared
+     *              {@link TaxEngine} passes its compiled snapshot
+     */
+    public AnnualTaxSettlementService(TaxRuleSet rules) {
+        this.rules = rules;
     }
     
     /**
@@ -19,7 +27,8 @@ public class AnnualTaxSettlementService {
      * 1. Total Income = Gross Salary + Bonus
      * 2. Total Deductions = Personal + (Dependent × Number) + Other + Insurance
      * 3. Taxable Income = Total Income - Total Deductions
-     * 4. Calculate Tax based on Taxable Income using tax brackets
+     * 4. Calculate Tax based on Taxable Income using the bracket set in effect at the
+     *    end of the year, with monthly thresholds scaled to annual ones (× 12)
      * 5. Tax Due = Calculated Tax - Tax Already Paid
      *    - If positive: taxpayer owes tax
      *    - If negative: taxpayer gets refund
@@ -32,30 +41,26 @@ public class AnnualTaxSettlementService {
         // Step 1: Calculate total income
         long totalIncome = input.getTotalGrossSalary() + input.getTotalBonus();
         
-        // Step 2: Calculate total deductions
+        // Step 2: Calculate total deductions, compulsory insurance included
+        long insuranceContributions = input.getBhxhContribution() + 
+                                     input.getBhytContribution() + 
+                                     input.getBhtnContribution();
         long dependentDeductionTotal = input.getDependentDeduction() * input.getNumberOfDependents();
         long totalDeductions = input.getPersonalDeduction() + 
                               dependentDeductionTotal + 
-                              input.getOtherDeduction();
+                              input.getOtherDeduction() +
+                              insuranceContributions;
         
         // Step 3: Calculate taxable income (should not be negative)
         long taxableIncome = Math.max(0, totalIncome - totalDeductions);
         
         // Step 4: Calculate tax based on taxable income
-        // Use the 5-bracket system for annual settlement (standard in Vietnam)
-        // Or determine bracket based on year
-        long calculatedTax = calculateTaxOnIncome(taxableIncome);
-        
-        // Step 5: Subtract insurance contributions (deductible)
-        long insuranceContributions = input.getBhxhContribution() + 
-                                     input.getBhytContribution() + 
-                                     input.getBhtnContribution();
-        long taxAfterInsurance = Math.max(0, calculatedTax - insuranceContributions);
+        long calculatedTax = rules.annualTaxSchedule(parseYear(input.getYear())).taxOn(taxableIncome);
         
-        // Step 6: Calculate tax due
-        long taxDue = taxAfterInsurance - input.getTaxAlreadyPaid();
+        // Step 5: Calculate tax due
+        long taxDue = calculatedTax - input.getTaxAlreadyPaid();
         
-        // Step 7: Determine settlement status
+        // Step 6: Determine settlement status
         String settlementStatus;
         if (taxDue > 0) {
             settlementStatus = "due";  // Phải nộp
@@ -70,7 +75,7 @@ public class AnnualTaxSettlementService {
             totalIncome,
             totalDeductions,
             taxableIncome,
-            taxAfterInsurance,
+            calculatedTax,
             input.getTaxAlreadyPaid(),
             taxDue,
             settlementStatus,
@@ -81,39 +86,11 @@ public class AnnualTaxSettlementService {
         );
     }
     
-    /**
-     * Calculate tax based on taxable income using 5-bracket system
-     * Vietnam's standard tax brackets for income tax
-     * 
-     * Brackets:
-     * 0 - 10M: 5%
-     * 10M - 30M: 10%
-     * 30M - 60M: 20%
-     * 60M - 100M: 30%
-     * 100M+: 35%
-     * 
-     * @param taxableIncome The taxable income amount
-     * @return Calculated tax amount
-     */
-    private long calculateTaxOnIncome(long taxableIncome) {
-        if (taxableIncome <= 0) {
-            return 0;
+    private static int parseYear(String year) {
+        try {
+            return Integer.parseInt(year.trim());
+        } catch (NumberFormatException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid year: " + year);
         }
-        
-        long tax = 0;
-        
-        if (taxableIncome <= 10_000_000) {
-            tax = (long) (taxableIncome * 0.05);
-        } else if (taxableIncome <= 30_000_000) {
-            tax = (long) (10_000_000 * 0.05 + (taxableIncome - 10_000_000) * 0.10);
-        } else if (taxableIncome <= 60_000_000) {
-            tax = (long) (10_000_000 * 0.05 + 20_000_000 * 0.10 + (taxableIncome - 30_000_000) * 0.20);
-        } else if (taxableIncome <= 100_000_000) {
-            tax = (long) (10_000_000 * 0.05 + 20_000_000 * 0.10 + 30_000_000 * 0.20 + (taxableIncome - 60_000_000) * 0.30);
-        } else {
-            tax = (long) (10_000_000 * 0.05 + 20_000_000 * 0.10 + 30_000_000 * 0.20 + 40_000_000 * 0.30 + (taxableIncome - 100_000_000) * 0.35);
-        }
-        
-        return tax;
     }
 }
@@ -0,0 +1,117 @@
+package com.personal.money.management.core.tax.domain.service;
+
+import com.personal.money.management.core.tax.domain.model.SalaryArithmetic;
+import com.personal.money.management.core.tax.domain.model.SalaryCalculationBuffer;
+import com.personal.money.management.core.tax.domain.model.SalaryInputBlock;
+import com.personal.money.management.core.tax.domain.model.SalaryResultBlock;
+import com.personal.money.management.core.tax.domain.model.TaxBracketType;
+import com.personal.money.management.core.tax.domain.model.TaxRuleSet;
+
+/**
+ * Calculates salaries a block of columns at a time against one rule set.
+ *
+ * <p>Insurance and taxable incomes are computed column by column, then taxed in one
+ * batch per bracket type, and every figure is derived through the same
+ * {@link SalaryArithmetic} as {@link TaxCalculationService#calculateSalary}, so each row
+ * matches the row-by-row result. Not thread-safe: scratch columns are reused between blocks.</p>
+ */
+class ColumnarSalaryCalculator {
+
+    private final TaxRuleSet rules;
+    private final SalaryCalculationBuffer buffer = new SalaryCalculationBuffer();
+    private long[] bhxh = new long[0];
+    private long[] bhyt = new long[0];
+    private long[] bhtn = new long[0];
+    private long[] totalDeduction = new long[0];
+    // Taxable incomes of row i at 2i (salary and bonus) and 2i + 1 (salary only)
+    private long[] incomes = new long[0];
+    private long[] taxes = new long[0];
+    // Incomes of one bracket type gathered for a batch, and the rows they came from
+    private long[] gatheredIncomes = new long[0];
+    private long[] gatheredTaxes = new long[0];
+    private int[] gatheredRows = new int[0];
+
+    ColumnarSalaryCalculator(TaxRuleSet rules) {
+        this.rules = rules;
+    }
+
+    void calculate(SalaryInputBlock in, SalaryResultBlock out) {
+        int size = in.size();
+        if (out.capacity() < size) {
+            throw new IllegalArgumentException("Result block is smaller than the input block");
+        }
+        ensureCapacity(size);
+        long[] grossSalary = in.getGrossSalary();
+        long[] insuranceBase = in.getInsuranceBase();
+        long[] insuranceCap = in.getInsuranceCap();
+        long[] tetBonus = in.getTetBonus();
+        int[] dependents = in.getDependents();
+        for (int row = 0; row < size; row++) {
+            // Insurance: BHXH and BHYT on the insurance base, BHTN capped by wage zone
+            bhxh[row] = SalaryArithmetic.contribution(insuranceBase[row], in.getBhxhRate()[row]);
+            bhyt[row] = SalaryArithmetic.contribution(insuranceBase[row], in.getBhytRate()[row]);
+            bhtn[row] = SalaryArithmetic.unemploymentInsurance(grossSalary[row], insuranceCap[row], in.getBhtnRate()[row]);
+            long incomeAfterInsurance = grossSalary[row] - (bhxh[row] + bhyt[row] + bhtn[row]);
+
+            totalDeduction[row] = SalaryArithmetic.totalDeduction(
+                    in.getPersonalDeduction()[row], dependents[row], in.getDependentDeductionPerPerson()[row]);
+
+            incomes[2 * row] = SalaryArithmetic.taxableIncome(incomeAfterInsurance, tetBonus[row], totalDeduction[row]);
+            incomes[2 * row + 1] = SalaryArithmetic.taxableIncome(incomeAfterInsurance, 0, totalDeduction[row]);
+        }
+        taxByBracketType(in.getTaxBracketType(), size);
+        for (int row = 0; row < size; row++) {
+            buffer.set(grossSalary[row], bhxh[row], bhyt[row], bhtn[row], tetBonus[row], totalDeduction[row],
+                    taxes[2 * row], taxes[2 * row + 1], in.getTaxFreeAllowance()[row], in.getOtherDeduction()[row]);
+            out.set(row, buffer);
+        }
+        out.setSize(size);
+    }
+
+    private void taxByBracketType(TaxBracketType[] types, int size) {
+        int taxed = 0;
+        for (TaxBracketType type : TaxBracketType.values()) {
+            int count = 0;
+            for (int row = 0; row < size; row++) {
+                if (types[row] == type) {
+                    gatheredRows[count] = row;
+                    gatheredIncomes[2 * count] = incomes[2 * row];
+                    gatheredIncomes[2 * count + 1] = incomes[2 * row + 1];
+                    count++;
+                }
+            }
+            if (count == 0) {
+                continue;
+            }
+            if (count == size) {
+                // The usual case: one bracket type for the whole block, taxed in place
+                rules.taxSchedule(type).taxOn(incomes, taxes, 2 * size);
+                return;
+            }
+            rules.taxSchedule(type).taxOn(gatheredIncomes, gatheredTaxes, 2 * count);
+            for (int i = 0; i < count; i++) {
+                taxes[2 * gatheredRows[i]] = gatheredTaxes[2 * i];
+                taxes[2 * gatheredRows[i] + 1] = gatheredTaxes[2 * i + 1];
+            }
+            taxed += count;
+        }
+        if (taxed < size) {
+            throw new IllegalArgumentException("Every row needs a tax bracket type");
+        }
+    }
+
+    private void ensureCapacity(int size) {
+        if (bhxh.length >= size) {
+            return;
+        }
+        bhxh = new long[size];
+        bhyt = new long[size];
+        bhtn = new long[size];
+        totalDeduction = new long[size];
+        incomes = new long[2 * size];
+        taxes = new long[2 * size];
+        gatheredIncomes = new long[2 * size];
+        gatheredTaxes = new long[2 * size];
+        gatheredRows = new int[size];
+    }
+}
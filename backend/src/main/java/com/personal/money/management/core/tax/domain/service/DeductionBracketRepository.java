@@ -4,8 +4,10 @@ import com.personal.money.management.core.tax.infrastructure.persistence.Deducti
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -18,6 +20,10 @@ public interface DeductionBracketRepository extends JpaRepository<DeductionBrack
     /**
      * Find deduction bracket by value code
      */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.annotations.QueryHints.CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.annotations.QueryHints.CACHE_REGION, value = "tax.queries")
+    })
     Optional<DeductionBracketEntity> findByValue(String value);
     
     /**
@@ -0,0 +1,94 @@
+package com.personal.money.management.core.tax.domain.service;
+
+import com.personal.money.management.core.tax.domain.model.SalaryTaxKernel;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Domain Service simulating workforce tax cost under normally distributed raises.
+ *
+ * <p>Each trial draws one raise per employee and sums the resulting monthly tax. Trials
+ * are split across a {@link ForkJoinPool}; every split hands one half a
+ * {@link SplittableRandom#split() split} generator, so no generator is shared between
+ * threads and a seed reproduces the same trials whatever the parallelism. The inner loop
+ * only does arithmetic on {@link SalaryTaxKernel}s and allocates nothing.</p>
+ */
+public class MonteCarloTaxSimulator {
+
+    // Trials below which a task stops splitting
+    private static final int TRIALS_PER_TASK = 64;
+
+    private final ForkJoinPool pool;
+
+    public MonteCarloTaxSimulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * @param population    one kernel per employee
+     * @param raiseMean     mean raise as a fraction (0.05 for 5%)
+     * @param raiseStdDev   standard deviation of the raise as a fraction
+     * @param trials        number of trials
+     * @param seed          seed of the root generator
+     * @return Workforce tax of each trial, in trial order
+     */
+    public long[] simulate(SalaryTaxKernel[] population, double raiseMean, double raiseStdDev,
+                           int trials, long seed) {
+        long[] totals = new long[trials];
+        pool.invoke(new TrialRange(population, raiseMean, raiseStdDev, totals, 0, trials, new SplittableRandom(seed)));
+        return totals;
+    }
+
+    /**
+     * Workforce tax with no raise at all
+     */
+    public static long baseline(SalaryTaxKernel[] population) {
+        long total = 0;
+        for (SalaryTaxKernel kernel : population) {
+            total += kernel.totalTax();
+        }
+        return total;
+    }
+
+    private static final class TrialRange extends RecursiveAction {
+        private final SalaryTaxKernel[] population;
+        private final double raiseMean;
+        private final double raiseStdDev;
+        private final long[] totals;
+        private final int from;
+        private final int to;
+        private final SplittableRandom random;
+
+        TrialRange(SalaryTaxKernel[] population, double raiseMean, double raiseStdDev,
+                   long[] totals, int from, int to, SplittableRandom random) {
+            this.population = population;
+            this.raiseMean = raiseMean;
+            this.raiseStdDev = raiseStdDev;
+            this.totals = totals;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TRIALS_PER_TASK) {
+                for (int trial = from; trial < to; trial++) {
+                    long total = 0;
+                    for (SalaryTaxKernel kernel : population) {
+                        total += kernel.totalTax(1 + raiseMean + raiseStdDev * random.nextGaussian());
+                    }
+                    totals[trial] = total;
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            // Split before forking so the halves draw from fixed, independent streams
+            TrialRange right = new TrialRange(population, raiseMean, raiseStdDev, totals, middle, to, random.split());
+            TrialRange left = new TrialRange(population, raiseMean, raiseStdDev, totals, from, middle, random);
+            invokeAll(left, right);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.personal.money.management.core.tax.domain.service;
+
+import com.personal.money.management.core.tax.domain.model.CompiledTaxRules;
+import com.personal.money.management.core.tax.domain.model.ProgressiveTaxSchedule;
+import com.personal.money.management.core.tax.domain.model.RecomputationRange;
+import com.personal.money.management.core.tax.domain.model.TaxBracketType;
+import com.personal.money.management.core.tax.domain.model.TaxRuleSet;
+import com.personal.money.management.core.tax.domain.model.WageZoneValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Domain Service comparing two rule sets to find the payroll results a change affects.
+ *
+ * <p>A stored month depends on the rules through its bracket schedule and through the
+ * insurance cap of its wage zone, which bounds the unemployment insurance deducted
+ * before tax. Monthly deductions come with each month's input, and the deduction
+ * brackets only enter the annual settlement, which is derived from the year-to-date
+ * totals on every read; neither needs recomputing.</p>
+ */
+public class PayrollRecomputationPlanner {
+
+    /**
+     * One range per bracket type whose schedule changed, starting where the two
+     * schedules first tax an income differently, and one per wage zone whose insurance
+     * cap changed, starting at the lower of the two caps. Bracket types and wage zones
+     * missing from either rule set are left alone: there is nothing to recompute them with.
+     */
+    public List<RecomputationRange> plan(CompiledTaxRules before, CompiledTaxRules after) {
+        List<RecomputationRange> ranges = new ArrayList<>();
+        for (TaxBracketType type : TaxBracketType.values()) {
+            ProgressiveTaxSchedule oldSchedule = scheduleOrNull(before, type);
+            ProgressiveTaxSchedule newSchedule = scheduleOrNull(after, type);
+            if (oldSchedule == null || newSchedule == null) {
+                continue;
+            }
+            long unchangedUpTo = oldSchedule.unchangedUpTo(newSchedule);
+            if (unchangedUpTo != Long.MAX_VALUE) {
+                ranges.add(new RecomputationRange(type, unchangedUpTo));
+            }
+        }
+        for (WageZoneValue oldZone : before.wageZones()) {
+            WageZoneValue newZone = wageZoneOrNull(after, oldZone.getValue());
+            if (newZone != null && newZone.getInsuranceCap() != oldZone.getInsuranceCap()) {
+                ranges.add(RecomputationRange.ofWageZone(oldZone.getValue(),
+                        Math.min(oldZone.getInsuranceCap(), newZone.getInsuranceCap())));
+            }
+        }
+        return ranges;
+    }
+
+    private static ProgressiveTaxSchedule scheduleOrNull(TaxRuleSet rules, TaxBracketType type) {
+        try {
+            return rules.taxSchedule(type);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static WageZoneValue wageZoneOrNull(TaxRuleSet rules, String value) {
+        try {
+            return rules.wageZone(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
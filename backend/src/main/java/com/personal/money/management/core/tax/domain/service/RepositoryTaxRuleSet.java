@@ -0,0 +1,107 @@
+package com.personal.money.management.core.tax.domain.service;
+
+import com.personal.money.management.core.tax.domain.model.DeductionBracketValue;
+import com.personal.money.management.core.tax.domain.model.ProgressiveTaxSchedule;
+import com.personal.money.management.core.tax.domain.model.TaxBracket;
+import com.personal.money.management.core.tax.domain.model.TaxBracketType;
+import com.personal.money.management.core.tax.domain.model.TaxRuleSet;
+import com.personal.money.management.core.tax.domain.model.WageZoneValue;
+import com.personal.money.management.core.tax.infrastructure.persistence.DeductionBracketEntity;
+import com.personal.money.management.core.tax.infrastructure.persistence.TaxBracketDetailEntity;
+import com.personal.money.management.core.tax.infrastructure.persistence.TaxBracketEntity;
+import com.personal.money.management.core.tax.infrastructure.persistence.WageZoneEntity;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tax rules read from the repositories on every lookup. Also holds the
+ * entity-to-domain conversions shared with {@link TaxEngine}.
+ */
+public class RepositoryTaxRuleSet implements TaxRuleSet {
+
+    private final TaxBracketRepository taxBracketRepository;
+    private final DeductionBracketRepository deductionBracketRepository;
+    private final WageZoneRepository wageZoneRepository;
+
+    public RepositoryTaxRuleSet(TaxBracketRepository taxBracketRepository,
+                                DeductionBracketRepository deductionBracketRepository,
+                                WageZoneRepository wageZoneRepository) {
+        this.taxBracketRepository = taxBracketRepository;
+        this.deductionBracketRepository = deductionBracketRepository;
+        this.wageZoneRepository = wageZoneRepository;
+    }
+
+    @Override
+    public ProgressiveTaxSchedule taxSchedule(TaxBracketType type) {
+        String bracketValue = type.getCode();
+        TaxBracketEntity entity = taxBracketRepository.findByValue(bracketValue)
+                .orElseThrow(() -> new IllegalArgumentException("Tax bracket not found for value: " + bracketValue));
+        if (entity.getDetails() == null || entity.getDetails().isEmpty()) {
+            throw new IllegalArgumentException("No tax bracket details found for value: " + bracketValue);
+        }
+        return toSchedule(entity);
+    }
+
+    @Override
+    public WageZoneValue wageZone(String value) {
+        return wageZoneRepository.findByValue(value)
+                .map(RepositoryTaxRuleSet::toWageZone)
+                .orElseThrow(() -> new IllegalArgumentException("Wage zone not found for value: " + value));
+    }
+
+    @Override
+    public DeductionBracketValue deductionBracket(LocalDate date) {
+        List<DeductionBracketEntity> entities = deductionBracketRepository.findLatestEffectiveByDate(date);
+        if (entities.isEmpty()) {
+            throw new IllegalArgumentException("No deduction bracket found for date: " + date);
+        }
+        return toDeductionBracket(entities.get(0));
+    }
+
+    @Override
+    public ProgressiveTaxSchedule annualTaxSchedule(int year) {
+        LocalDate yearEnd = LocalDate.of(year, 12, 31);
+        // Newest effective date first
+        for (TaxBracketEntity entity : taxBracketRepository.findAllOrderByEffectiveDate()) {
+            if (entity.getEffectiveDate() != null && !entity.getEffectiveDate().isAfter(yearEnd)
+                    && entity.getDetails() != null && !entity.getDetails().isEmpty()) {
+                return toSchedule(entity).scaled(12);
+            }
+        }
+        throw new IllegalArgumentException("No tax bracket in effect for year: " + year);
+    }
+
+    /**
+     * Details ordered by bracket order; an open top bracket becomes
+     * {@link Long#MAX_VALUE} and percentage rates (5) become fractions (0.05).
+     */
+    static ProgressiveTaxSchedule toSchedule(TaxBracketEntity entity) {
+        List<TaxBracket> brackets = entity.getDetails().stream()
+                .sorted(Comparator.comparing(TaxBracketDetailEntity::getBracketOrder))
+                .map(detail -> new TaxBracket(
+                        detail.getMaxIncome() != null ? detail.getMaxIncome() : Long.MAX_VALUE,
+                        detail.getRate() / 100.0))
+                .collect(Collectors.toList());
+        return ProgressiveTaxSchedule.of(brackets);
+    }
+
+    static WageZoneValue toWageZone(WageZoneEntity entity) {
+        return new WageZoneValue(
+                entity.getValue(),
+                entity.getLabel(),
+                entity.getMinimumWage(),
+                entity.getInsuranceCap());
+    }
+
+    static DeductionBracketValue toDeductionBracket(DeductionBracketEntity entity) {
+        return new DeductionBracketValue(
+                entity.getValue(),
+                entity.getLabel(),
+                entity.getPersonalDeduction(),
+                entity.getDependentDeduction(),
+                entity.getEffectiveDate());
+    }
+}
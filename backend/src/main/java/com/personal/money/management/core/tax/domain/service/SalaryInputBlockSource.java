@@ -0,0 +1,16 @@
+package com.personal.money.management.core.tax.domain.service;
+
+import com.personal.money.management.core.tax.domain.model.SalaryInputBlock;
+
+/**
+ * Supplies salary calculation inputs a block at a time, e.g. from a columnar dataset
+ */
+public interface SalaryInputBlockSource {
+
+    /**
+     * Overwrite {@code block} with the next rows, up to its capacity, and set its size
+     *
+     * @return The number of rows filled; 0 once every row has been supplied
+     */
+    int fill(SalaryInputBlock block);
+}
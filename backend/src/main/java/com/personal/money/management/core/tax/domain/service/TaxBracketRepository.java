@@ -3,9 +3,11 @@ package com.personal.money.management.core.tax.domain.service;
 import com.personal.money.management.core.tax.infrastructure.persistence.TaxBracketEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,10 +21,17 @@ public interface TaxBracketRepository extends JpaRepository<TaxBracketEntity, St
     /**
      * Find a tax bracket by its value (e.g., "7-bracket", "5-bracket")
      */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.annotations.QueryHints.CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.annotations.QueryHints.CACHE_REGION, value = "tax.queries")
+    })
     Optional<TaxBracketEntity> findByValue(String value);
     
     /**
-     * Find all tax brackets ordered by effective date
+     * Find all tax brackets ordered by effective date. Like the other list finders it
+     * bypasses the query cache: a cached id list read while a bracket is deleted could
+     * name a row that no longer exists. Their details still load from the collection
+     * cache.
      */
     @Query("SELECT t FROM TaxBracketEntity t ORDER BY t.effectiveDate DESC")
     List<TaxBracketEntity> findAllOrderByEffectiveDate();
@@ -1,17 +1,14 @@
 package com.personal.money.management.core.tax.domain.service;
 
-import com.personal.money.management.core.tax.domain.model.TaxBracket;
 import com.personal.money.management.core.tax.domain.model.DeductionBracketValue;
+import com.personal.money.management.core.tax.domain.model.SalaryArithmetic;
+import com.personal.money.management.core.tax.domain.model.SalaryCalculationBuffer;
 import com.personal.money.management.core.tax.domain.model.WageZoneValue;
 import com.personal.money.management.core.tax.domain.model.TaxBracketType;
+import com.personal.money.management.core.tax.domain.model.TaxRuleSet;
 import com.personal.money.management.core.tax.domain.model.SalaryCalculationInput;
 import com.personal.money.management.core.tax.domain.model.SalaryCalculationResult;
-import com.personal.money.management.core.tax.infrastructure.persistence.TaxBracketEntity;
-import com.personal.money.management.core.tax.infrastructure.persistence.DeductionBracketEntity;
-import com.personal.money.management.core.tax.infrastructure.persistence.WageZoneEntity;
 import java.time.LocalDate;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Domain Service for tax calculations following Vietnam's personal income tax rules
@@ -22,16 +19,20 @@ import java.util.stream.Collectors;
  */
 public class TaxCalculationService {
     
-    private final TaxBracketRepository taxBracketRepository;
-    private final DeductionBracketRepository deductionBracketRepository;
-    private final WageZoneRepository wageZoneRepository;
+    private final TaxRuleSet rules;
     
     public TaxCalculationService(TaxBracketRepository taxBracketRepository,
                                  DeductionBracketRepository deductionBracketRepository,
                                  WageZoneRepository wageZoneRepository) {
-        this.taxBracketRepository = taxBracketRepository;
-        this.deductionBracketRepository = deductionBracketRepository;
-        this.wageZoneRepository = wageZoneRepository;
+        this(new RepositoryTaxRuleSet(taxBracketRepository, deductionBracketRepository, wageZoneRepository));
+    }
+
+    /**
+     * @param rules where brackets, wage zones and deductions are looked up; the
+     *              shared {@link TaxEngine} passes its compiled snapshot
+     */
+    public TaxCalculationService(TaxRuleSet rules) {
+        this.rules = rules;
     }
 
     /**
@@ -45,53 +46,7 @@ public class TaxCalculationService {
         if (taxableIncome <= 0) {
             return 0;
         }
-
-        // Get brackets from database
-        List<TaxBracket> brackets = getTaxBracketsFromDatabase(taxBracketType);
-        
-        long tax = 0;
-        long previousThreshold = 0;
-
-        for (TaxBracket bracket : brackets) {
-            if (taxableIncome > previousThreshold) {
-                long taxableInThisBracket = Math.min(taxableIncome, bracket.getThreshold()) - previousThreshold;
-                tax += Math.round(taxableInThisBracket * bracket.getRate());
-                previousThreshold = bracket.getThreshold();
-            } else {
-                break;
-            }
-        }
-
-        return tax;
-    }
-    
-    /**
-     * Get tax brackets from database by bracket type value
-     * 
-     * @param taxBracketType The tax bracket type enum
-     * @return List of TaxBracket objects ordered by bracket order
-     */
-    private List<TaxBracket> getTaxBracketsFromDatabase(TaxBracketType taxBracketType) {
-        String bracketValue = taxBracketType.getCode();  // e.g., "7-bracket" or "5-bracket"
-        var entityOptional = taxBracketRepository.findByValue(bracketValue);
-        
-        if (entityOptional.isEmpty()) {
-            throw new IllegalArgumentException("Tax bracket not found for value: " + bracketValue);
-        }
-        
-        TaxBracketEntity entity = entityOptional.get();
-        if (entity.getDetails() == null || entity.getDetails().isEmpty()) {
-            throw new IllegalArgumentException("No tax bracket details found for value: " + bracketValue);
-        }
-        
-        // Convert database entities to domain TaxBracket objects
-        return entity.getDetails().stream()
-            .sorted((a, b) -> a.getBracketOrder().compareTo(b.getBracketOrder()))
-            .map(detail -> new TaxBracket(
-                detail.getMaxIncome() != null ? detail.getMaxIncome() : Long.MAX_VALUE, 
-                detail.getRate() / 100.0  // Convert percentage (5) to decimal (0.05)
-            ))
-            .collect(Collectors.toList());
+        return rules.taxSchedule(taxBracketType).taxOn(taxableIncome);
     }
     
     /**
@@ -100,20 +55,7 @@ public class TaxCalculationService {
      * @return DeductionBracketValue or null if not found
      */
     public DeductionBracketValue getDeductionBracket(LocalDate date) {
-        var entities = deductionBracketRepository.findLatestEffectiveByDate(date);
-        
-        if (entities.isEmpty()) {
-            throw new IllegalArgumentException("No deduction bracket found for date: " + date);
-        }
-        
-        DeductionBracketEntity entity = entities.get(0);
-        return new DeductionBracketValue(
-            entity.getValue(),
-            entity.getLabel(),
-            entity.getPersonalDeduction(),
-            entity.getDependentDeduction(),
-            entity.getEffectiveDate()
-        );
+        return rules.deductionBracket(date);
     }
     
     /**
@@ -122,19 +64,7 @@ public class TaxCalculationService {
      * @return WageZoneValue or null if not found
      */
     public WageZoneValue getWageZone(String wageZoneValue) {
-        var entityOptional = wageZoneRepository.findByValue(wageZoneValue);
-        
-        if (entityOptional.isEmpty()) {
-            throw new IllegalArgumentException("Wage zone not found for value: " + wageZoneValue);
-        }
-        
-        WageZoneEntity entity = entityOptional.get();
-        return new WageZoneValue(
-            entity.getValue(),
-            entity.getLabel(),
-            entity.getMinimumWage(),
-            entity.getInsuranceCap()
-        );
+        return rules.wageZone(wageZoneValue);
     }
 
     /**
@@ -144,13 +74,13 @@ public class TaxCalculationService {
         long insuranceBase = input.getInsuranceBase();
         
         // Calculate BHXH and BHYT based on insurance base
-        long bhxh = Math.round(insuranceBase * input.getBhxhRate() / 100);
-        long bhyt = Math.round(insuranceBase * input.getBhytRate() / 100);
+        long bhxh = SalaryArithmetic.contribution(insuranceBase, input.getBhxhRate());
+        long bhyt = SalaryArithmetic.contribution(insuranceBase, input.getBhytRate());
 
         // Calculate BHTN with zone-based cap
         WageZoneValue wageZone = input.getWageZone();
-        long bhtnBase = Math.min(input.getGrossSalary(), wageZone.getInsuranceCap());
-        long bhtn = Math.round(bhtnBase * input.getBhtnRate() / 100);
+        long bhtn = SalaryArithmetic.unemploymentInsurance(
+                input.getGrossSalary(), wageZone.getInsuranceCap(), input.getBhtnRate());
 
         long totalInsurance = bhxh + bhyt + bhtn;
 
@@ -161,52 +91,38 @@ public class TaxCalculationService {
      * Calculate complete salary with tax
      */
     public SalaryCalculationResult calculateSalary(SalaryCalculationInput input) {
-        // Calculate insurance
-        InsuranceBreakdown insuranceBreakdown = calculateInsurance(input);
-        long totalInsurance = insuranceBreakdown.getTotalInsurance();
-        long incomeAfterInsurance = input.getGrossSalary() - totalInsurance;
+        SalaryCalculationBuffer buffer = new SalaryCalculationBuffer();
+        calculateSalary(input, input.getGrossSalary(), buffer);
+        return buffer.toResult();
+    }
 
-        // Calculate deductions
-        long dependentDeduction = input.getDependents() * input.getDependentDeductionPerPerson();
-        long totalDeduction = input.getPersonalDeduction() + dependentDeduction;
+    /**
+     * Calculate complete salary with tax into a reusable buffer, allocating nothing
+     *
+     * @param input Everything but the gross salary, which {@code grossSalary} replaces
+     * @param grossSalary The gross salary to calculate for
+     * @param out Overwritten with the result
+     */
+    public void calculateSalary(SalaryCalculationInput input, long grossSalary, SalaryCalculationBuffer out) {
+        // Calculate insurance: BHXH and BHYT on the insurance base, BHTN capped by wage zone
+        long insuranceBase = input.getInsuranceBase();
+        long bhxh = SalaryArithmetic.contribution(insuranceBase, input.getBhxhRate());
+        long bhyt = SalaryArithmetic.contribution(insuranceBase, input.getBhytRate());
+        long bhtn = SalaryArithmetic.unemploymentInsurance(
+                grossSalary, input.getWageZone().getInsuranceCap(), input.getBhtnRate());
+        long incomeAfterInsurance = grossSalary - (bhxh + bhyt + bhtn);
 
-        // Calculate taxable income (salary + bonus - deduction)
-        long totalIncomeForTax = incomeAfterInsurance + input.getTetBonus();
-        long taxableIncome = Math.max(totalIncomeForTax - totalDeduction, 0);
+        // Calculate deductions
+        long totalDeduction = SalaryArithmetic.totalDeduction(
+                input.getPersonalDeduction(), input.getDependents(), input.getDependentDeductionPerPerson());
 
-        // Calculate total tax
+        // Total tax on salary + bonus, and salary-only tax for the breakdown
+        long taxableIncome = SalaryArithmetic.taxableIncome(incomeAfterInsurance, input.getTetBonus(), totalDeduction);
         long totalTax = calculateProgressiveTax(taxableIncome, input.getTaxBracketType());
-
-        // Calculate salary-only tax (for breakdown)
-        long salaryTaxableIncome = Math.max(incomeAfterInsurance - totalDeduction, 0);
+        long salaryTaxableIncome = SalaryArithmetic.taxableIncome(incomeAfterInsurance, 0, totalDeduction);
         long salaryTax = calculateProgressiveTax(salaryTaxableIncome, input.getTaxBracketType());
-        long bonusTax = Math.max(totalTax - salaryTax, 0);
-
-        // Calculate final net amounts
-        long netBeforeAllowance = input.getGrossSalary() - totalInsurance - salaryTax;
-        long netMonthly = netBeforeAllowance + input.getTaxFreeAllowance() - input.getOtherDeduction();
-        long netBonus = input.getTetBonus() - bonusTax;
-        long totalNetSalary = netMonthly + netBonus;
 
-        return new SalaryCalculationResult(
-            input.getGrossSalary(),
-            insuranceBreakdown.getBhxh(),
-            insuranceBreakdown.getBhyt(),
-            insuranceBreakdown.getBhtn(),
-            totalInsurance,
-            incomeAfterInsurance,
-            input.getTetBonus(),
-            totalDeduction,
-            taxableIncome,
-            totalTax,
-            salaryTax,
-            bonusTax,
-            netBeforeAllowance,
-            input.getTaxFreeAllowance(),
-            input.getOtherDeduction(),
-            netMonthly,
-            netBonus,
-            totalNetSalary
-        );
+        out.set(grossSalary, bhxh, bhyt, bhtn, input.getTetBonus(), totalDeduction, totalTax, salaryTax,
+                input.getTaxFreeAllowance(), input.getOtherDeduction());
     }
 }
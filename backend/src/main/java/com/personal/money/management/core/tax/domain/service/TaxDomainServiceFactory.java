@@ -8,22 +8,17 @@ import org.springframework.stereotype.Service;
 @Service
 public class TaxDomainServiceFactory {
     
-    private final TaxBracketRepository taxBracketRepository;
-    private final DeductionBracketRepository deductionBracketRepository;
-    private final WageZoneRepository wageZoneRepository;
+    private final TaxEngine taxEngine;
     
-    public TaxDomainServiceFactory(TaxBracketRepository taxBracketRepository,
-                                   DeductionBracketRepository deductionBracketRepository,
-                                   WageZoneRepository wageZoneRepository) {
-        this.taxBracketRepository = taxBracketRepository;
-        this.deductionBracketRepository = deductionBracketRepository;
-        this.wageZoneRepository = wageZoneRepository;
+    public TaxDomainServiceFactory(TaxEngine taxEngine) {
+        this.taxEngine = taxEngine;
     }
 
     /**
-     * Create a new instance of TaxCalculationService
+     * A TaxCalculationService over the engine's compiled rules; cheap, as nothing is
+     * loaded until the rules change
      */
     public TaxCalculationService createTaxCalculationService() {
-        return new TaxCalculationService(taxBracketRepository, deductionBracketRepository, wageZoneRepository);
+        return new TaxCalculationService(taxEngine);
     }
 }
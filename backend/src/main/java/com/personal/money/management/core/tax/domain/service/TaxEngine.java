@@ -0,0 +1,205 @@
+package com.personal.money.management.core.tax.domain.service;
+
+import com.personal.money.management.core.shared.infrastructure.refdata.VersionedSnapshot;
+import com.personal.money.management.core.tax.domain.model.AnnualTaxSettlementInput;
+import com.personal.money.management.core.tax.domain.model.AnnualTaxSettlementResult;
+import com.personal.money.management.core.tax.domain.model.CompiledTaxRules;
+import com.personal.money.management.core.tax.domain.model.DeductionBracketValue;
+import com.personal.money.management.core.tax.domain.model.ProgressiveTaxSchedule;
+import com.personal.money.management.core.tax.domain.model.SalaryCalculationBuffer;
+import com.personal.money.management.core.tax.domain.model.SalaryCalculationInput;
+import com.personal.money.management.core.tax.domain.model.SalaryCalculationResult;
+import com.personal.money.management.core.tax.domain.model.SalaryInputBlock;
+import com.personal.money.management.core.tax.domain.model.SalaryResultBlock;
+import com.personal.money.management.core.tax.domain.model.TaxBracketType;
+import com.personal.money.management.core.tax.domain.model.TaxRuleSet;
+import com.personal.money.management.core.tax.domain.model.WageZoneValue;
+import com.personal.money.management.core.tax.infrastructure.persistence.DeductionBracketEntity;
+import com.personal.money.management.core.tax.infrastructure.persistence.TaxBracketEntity;
+import com.personal.money.management.core.tax.infrastructure.persistence.WageZoneEntity;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * The single tax engine shared by every monthly, annual and batch calculation.
+ *
+ * <p>Holds the tax configuration compiled into a {@link CompiledTaxRules} snapshot.
+ * The snapshot is rebuilt from the repositories only after {@link #reloadAfterCommit()};
+ * otherwise calculations never touch the database. Stateless by contract: the only
+ * mutable state is the snapshot reference, swapped atomically.</p>
+ */
+@Service
+public class TaxEngine implements TaxRuleSet {
+
+    private final TaxBracketRepository taxBracketRepository;
+    private final DeductionBracketRepository deductionBracketRepository;
+    private final WageZoneRepository wageZoneRepository;
+    private final VersionedSnapshot<CompiledTaxRules> rules = new VersionedSnapshot<>();
+    private final TaxCalculationService taxCalculationService;
+    private final AnnualTaxSettlementService annualTaxSettlementService;
+
+    public TaxEngine(TaxBracketRepository taxBracketRepository,
+                     DeductionBracketRepository deductionBracketRepository,
+                     WageZoneRepository wageZoneRepository) {
+        this.taxBracketRepository = taxBracketRepository;
+        this.deductionBracketRepository = deductionBracketRepository;
+        this.wageZoneRepository = wageZoneRepository;
+        this.taxCalculationService = new TaxCalculationService(this);
+        this.annualTaxSettlementService = new AnnualTaxSettlementService(this);
+    }
+
+    /**
+     * Current compiled rules, rebuilt when the configuration changed since the last build.
+     */
+    public CompiledTaxRules rules() {
+        return rules.get(this::compile);
+    }
+
+    /**
+     * Discards the compiled rules, see {@link VersionedSnapshot#invalidate()}.
+     */
+    public void reloadAfterCommit() {
+        rules.invalidate();
+    }
+
+    public SalaryCalculationResult calculateSalary(SalaryCalculationInput input) {
+        return taxCalculationService.calculateSalary(input);
+    }
+
+    /**
+     * Calculates every input against one snapshot, so a configuration change during the
+     * batch cannot mix old and new rules.
+     */
+    public List<SalaryCalculationResult> calculateSalaries(List<SalaryCalculationInput> inputs) {
+        List<SalaryCalculationResult> results = new ArrayList<>(inputs.size());
+        calculateSalaries(inputs, buffer -> results.add(buffer.toResult()));
+        return results;
+    }
+
+    /**
+     * Calculates every input against one snapshot into a single reused buffer, handed to
+     * {@code sink} once per input in order. The sink must consume the buffer before returning.
+     */
+    public void calculateSalaries(List<SalaryCalculationInput> inputs, Consumer<SalaryCalculationBuffer> sink) {
+        TaxCalculationService pinned = new TaxCalculationService(rules());
+        SalaryCalculationBuffer buffer = new SalaryCalculationBuffer();
+        for (SalaryCalculationInput input : inputs) {
+            pinned.calculateSalary(input, input.getGrossSalary(), buffer);
+            sink.accept(buffer);
+        }
+    }
+
+    /**
+     * Calculates {@code template} for every gross salary from {@code from} to {@code to}
+     * inclusive in steps of {@code step}, against one snapshot and into one reused buffer.
+     */
+    public void sweepGrossSalary(SalaryCalculationInput template, long from, long to, long step,
+                                 Consumer<SalaryCalculationBuffer> sink) {
+        TaxCalculationService pinned = new TaxCalculationService(rules());
+        SalaryCalculationBuffer buffer = new SalaryCalculationBuffer();
+        for (long grossSalary = from; grossSalary <= to; grossSalary += step) {
+            pinned.calculateSalary(template, grossSalary, buffer);
+            sink.accept(buffer);
+            if (grossSalary > Long.MAX_VALUE - step) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Calculates every block {@code source} supplies against one snapshot, column by
+     * column. Each calculated block goes to {@code sink}, which must consume it before
+     * returning; both blocks are reused for the next rows.
+     *
+     * @return The number of rows calculated
+     */
+    public long calculateSalaries(SalaryInputBlockSource source, Consumer<SalaryResultBlock> sink) {
+        ColumnarSalaryCalculator calculator = new ColumnarSalaryCalculator(rules());
+        SalaryInputBlock in = new SalaryInputBlock(SalaryInputBlock.DEFAULT_CAPACITY);
+        SalaryResultBlock out = new SalaryResultBlock(SalaryInputBlock.DEFAULT_CAPACITY);
+        long rows = 0;
+        for (int filled = source.fill(in); filled > 0; filled = source.fill(in)) {
+            calculator.calculate(in, out);
+            sink.accept(out);
+            rows += filled;
+        }
+        return rows;
+    }
+
+    public AnnualTaxSettlementResult calculateAnnualTaxSettlement(AnnualTaxSettlementInput input) {
+        return annualTaxSettlementService.calculateAnnualTaxSettlement(input);
+    }
+
+    /**
+     * Settles every input against one snapshot; no row reads the database.
+     */
+    public List<AnnualTaxSettlementResult> calculateAnnualTaxSettlements(List<AnnualTaxSettlementInput> inputs) {
+        AnnualTaxSettlementService pinned = new AnnualTaxSettlementService(rules());
+        List<AnnualTaxSettlementResult> results = new ArrayList<>(inputs.size());
+        for (AnnualTaxSettlementInput input : inputs) {
+            results.add(pinned.calculateAnnualTaxSettlement(input));
+        }
+        return results;
+    }
+
+    public long calculateProgressiveTax(long taxableIncome, TaxBracketType taxBracketType) {
+        return taxCalculationService.calculateProgressiveTax(taxableIncome, taxBracketType);
+    }
+
+    public WageZoneValue getWageZone(String wageZoneValue) {
+        return wageZone(wageZoneValue);
+    }
+
+    public DeductionBracketValue getDeductionBracket(LocalDate date) {
+        return deductionBracket(date);
+    }
+
+    @Override
+    public ProgressiveTaxSchedule taxSchedule(TaxBracketType type) {
+        return rules().taxSchedule(type);
+    }
+
+    @Override
+    public WageZoneValue wageZone(String value) {
+        return rules().wageZone(value);
+    }
+
+    @Override
+    public DeductionBracketValue deductionBracket(LocalDate date) {
+        return rules().deductionBracket(date);
+    }
+
+    @Override
+    public ProgressiveTaxSchedule annualTaxSchedule(int year) {
+        return rules().annualTaxSchedule(year);
+    }
+
+    private CompiledTaxRules compile(long version) {
+        Map<String, ProgressiveTaxSchedule> schedules = new HashMap<>();
+        Map<LocalDate, ProgressiveTaxSchedule> schedulesByEffectiveDate = new HashMap<>();
+        for (TaxBracketEntity entity : taxBracketRepository.findAllOrderByEffectiveDate()) {
+            ProgressiveTaxSchedule schedule = entity.getDetails() == null || entity.getDetails().isEmpty()
+                    ? null
+                    : RepositoryTaxRuleSet.toSchedule(entity);
+            schedules.put(entity.getValue(), schedule);
+            if (schedule != null && entity.getEffectiveDate() != null) {
+                schedulesByEffectiveDate.putIfAbsent(entity.getEffectiveDate(), schedule);
+            }
+        }
+        Map<String, WageZoneValue> wageZones = new HashMap<>();
+        for (WageZoneEntity entity : wageZoneRepository.findAll()) {
+            wageZones.put(entity.getValue(), RepositoryTaxRuleSet.toWageZone(entity));
+        }
+        List<DeductionBracketValue> deductionBrackets = new ArrayList<>();
+        for (DeductionBracketEntity entity : deductionBracketRepository.findAllOrderByEffectiveDate()) {
+            deductionBrackets.add(RepositoryTaxRuleSet.toDeductionBracket(entity));
+        }
+        return new CompiledTaxRules(version, schedules, schedulesByEffectiveDate, wageZones, deductionBrackets);
+    }
+}
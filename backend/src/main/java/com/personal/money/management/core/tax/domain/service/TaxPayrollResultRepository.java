@@ -0,0 +1,43 @@
+package com.personal.money.management.core.tax.domain.service;
+
+import com.personal.money.management.core.tax.infrastructure.persistence.TaxPayrollResultEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for TaxPayrollResult entity
+ */
+@Repository
+public interface TaxPayrollResultRepository extends JpaRepository<TaxPayrollResultEntity, String> {
+    /**
+     * Count results of a bracket type with taxable income above a threshold
+     */
+    long countByBracketTypeAndTaxableIncomeGreaterThan(String bracketType, long taxableIncome);
+
+    /**
+     * Employees and years with results of a bracket type with taxable income above a threshold
+     */
+    List<EmployeeYear> findDistinctByBracketTypeAndTaxableIncomeGreaterThan(String bracketType, long taxableIncome);
+
+    /**
+     * Count results of a wage zone with gross salary above a threshold
+     */
+    long countByWageZoneAndGrossSalaryGreaterThan(String wageZone, long grossSalary);
+
+    /**
+     * Employees and years with results of a wage zone with gross salary above a threshold
+     */
+    List<EmployeeYear> findDistinctByWageZoneAndGrossSalaryGreaterThan(String wageZone, long grossSalary);
+
+    List<TaxPayrollResultEntity> findByEmployeeIdAndYear(String employeeId, int year);
+
+    /**
+     * The employee and tax year a result belongs to
+     */
+    interface EmployeeYear {
+        String getEmployeeId();
+        int getYear();
+    }
+}
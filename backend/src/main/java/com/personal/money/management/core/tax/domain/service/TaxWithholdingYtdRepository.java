@@ -0,0 +1,18 @@
+package com.personal.money.management.core.tax.domain.service;
+
+import com.personal.money.management.core.tax.infrastructure.persistence.TaxWithholdingYtdEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository for TaxWithholdingYtd entity
+ */
+@Repository
+public interface TaxWithholdingYtdRepository extends JpaRepository<TaxWithholdingYtdEntity, String> {
+    /**
+     * Find the year-to-date row of an employee for a tax year
+     */
+    Optional<TaxWithholdingYtdEntity> findByEmployeeIdAndYear(String employeeId, int year);
+}
@@ -4,8 +4,10 @@ import com.personal.money.management.core.tax.infrastructure.persistence.WageZon
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +19,10 @@ public interface WageZoneRepository extends JpaRepository<WageZoneEntity, String
     /**
      * Find wage zone by value code
      */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.annotations.QueryHints.CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.annotations.QueryHints.CACHE_REGION, value = "tax.queries")
+    })
     Optional<WageZoneEntity> findByValue(String value);
     
     /**
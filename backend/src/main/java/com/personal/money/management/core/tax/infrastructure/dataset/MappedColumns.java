@@ -0,0 +1,144 @@
+package com.personal.money.management.core.tax.infrastructure.dataset;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link PayrollDatasetFormat} file with each column mapped into memory on its own,
+ * so a column may hold up to 2 GB regardless of the file size
+ */
+final class MappedColumns implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final long rowCount;
+    private final MappedByteBuffer[] columns;
+
+    private MappedColumns(FileChannel channel, long rowCount, MappedByteBuffer[] columns) {
+        this.channel = channel;
+        this.rowCount = rowCount;
+        this.columns = columns;
+    }
+
+    /**
+     * Map an existing dataset read-only, checking its header against the expected schema
+     */
+    static MappedColumns open(Path path, int magic, int[] widths) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(PayrollDatasetFormat.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+                // Keep reading until the header is complete or the file ends
+            }
+            if (header.hasRemaining() || header.getInt(0) != magic) {
+                throw new IllegalArgumentException("Not a payroll dataset of the expected kind: " + path.getFileName());
+            }
+            short version = header.getShort(4);
+            if (version != PayrollDatasetFormat.SCHEMA_VERSION) {
+                throw new IllegalArgumentException("Unsupported payroll dataset schema version: " + version);
+            }
+            if (header.getShort(6) != widths.length) {
+                throw new IllegalArgumentException("Payroll dataset has " + header.getShort(6)
+                        + " columns, expected " + widths.length);
+            }
+            long rowCount = header.getLong(8);
+            checkRowCount(rowCount, widths);
+            if (channel.size() < fileSize(rowCount, widths)) {
+                throw new IllegalArgumentException("Payroll dataset is truncated: " + path.getFileName());
+            }
+            return new MappedColumns(channel, rowCount, map(channel, FileChannel.MapMode.READ_ONLY, rowCount, widths));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Create or truncate a dataset of {@code rowCount} zeroed rows, write its header and
+     * map every column for writing
+     */
+    static MappedColumns create(Path path, int magic, int[] widths, long rowCount) throws IOException {
+        checkRowCount(rowCount, widths);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(PayrollDatasetFormat.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(0, magic);
+            header.putShort(4, PayrollDatasetFormat.SCHEMA_VERSION);
+            header.putShort(6, (short) widths.length);
+            header.putLong(8, rowCount);
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            return new MappedColumns(channel, rowCount, map(channel, FileChannel.MapMode.READ_WRITE, rowCount, widths));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    long rowCount() {
+        return rowCount;
+    }
+
+    ByteBuffer column(int index) {
+        return columns[index];
+    }
+
+    /**
+     * Flush written columns to the file
+     */
+    void force() {
+        for (MappedByteBuffer column : columns) {
+            column.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // The mappings stay valid until collected; closing the channel does not unmap them
+        channel.close();
+    }
+
+    private static MappedByteBuffer[] map(FileChannel channel, FileChannel.MapMode mode,
+                                          long rowCount, int[] widths) throws IOException {
+        MappedByteBuffer[] columns = new MappedByteBuffer[widths.length];
+        long offset = PayrollDatasetFormat.HEADER_BYTES;
+        for (int i = 0; i < widths.length; i++) {
+            long bytes = rowCount * widths[i];
+            columns[i] = channel.map(mode, offset, bytes);
+            columns[i].order(ByteOrder.LITTLE_ENDIAN);
+            offset = align(offset + bytes);
+        }
+        return columns;
+    }
+
+    private static long fileSize(long rowCount, int[] widths) {
+        long offset = PayrollDatasetFormat.HEADER_BYTES;
+        long end = offset;
+        for (int width : widths) {
+            end = offset + rowCount * width;
+            offset = align(end);
+        }
+        return end;
+    }
+
+    private static long align(long offset) {
+        return (offset + 7) & ~7L;
+    }
+
+    private static void checkRowCount(long rowCount, int[] widths) {
+        int widest = 0;
+        for (int width : widths) {
+            widest = Math.max(widest, width);
+        }
+        if (rowCount < 0 || rowCount > Integer.MAX_VALUE / widest) {
+            throw new IllegalArgumentException("A payroll dataset holds between 0 and "
+                    + Integer.MAX_VALUE / widest + " rows");
+        }
+    }
+}
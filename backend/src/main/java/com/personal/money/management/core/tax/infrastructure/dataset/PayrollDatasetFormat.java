@@ -0,0 +1,85 @@
+package com.personal.money.management.core.tax.infrastructure.dataset;
+
+import com.personal.money.management.core.tax.domain.model.SalaryResultColumn;
+import com.personal.money.management.core.tax.domain.model.TaxBracketType;
+
+import java.util.Arrays;
+
+/**
+ * Columnar binary format for payroll datasets, memory-mapped rather than parsed.
+ *
+ * <p>Little-endian throughout. A 32-byte header holds the magic number, the schema
+ * version, the column count and the row count; the rest is reserved and zero. Columns
+ * follow in schema order, each a fixed-width primitive array of one value per row,
+ * starting on an 8-byte boundary.</p>
+ *
+ * <p>Input datasets hold one column per {@code SalaryCalculationInput} field: gross
+ * salary, Tet bonus, insurance base (long), dependents (int), BHXH, BHYT and BHTN rates
+ * (double, percent), personal deduction, deduction per dependent, tax-free allowance,
+ * other deduction (long), tax bracket type (byte, {@link #bracketTypeId}) and the wage
+ * zone's insurance cap (long). Result datasets hold one long column per
+ * {@link SalaryResultColumn}.</p>
+ */
+public final class PayrollDatasetFormat {
+
+    /** "MKPI" */
+    public static final int INPUT_MAGIC = 0x49504B4D;
+    /** "MKPR" */
+    public static final int RESULT_MAGIC = 0x52504B4D;
+    public static final short SCHEMA_VERSION = 1;
+    public static final int HEADER_BYTES = 32;
+
+    static final int GROSS_SALARY = 0;
+    static final int TET_BONUS = 1;
+    static final int INSURANCE_BASE = 2;
+    static final int DEPENDENTS = 3;
+    static final int BHXH_RATE = 4;
+    static final int BHYT_RATE = 5;
+    static final int BHTN_RATE = 6;
+    static final int PERSONAL_DEDUCTION = 7;
+    static final int DEPENDENT_DEDUCTION_PER_PERSON = 8;
+    static final int TAX_FREE_ALLOWANCE = 9;
+    static final int OTHER_DEDUCTION = 10;
+    static final int TAX_BRACKET_TYPE = 11;
+    static final int INSURANCE_CAP = 12;
+
+    /** Bytes per value of each input column, in schema order */
+    static final int[] INPUT_COLUMN_WIDTHS = {8, 8, 8, 4, 8, 8, 8, 8, 8, 8, 8, 1, 8};
+    /** Bytes per value of each result column, in {@link SalaryResultColumn} order */
+    static final int[] RESULT_COLUMN_WIDTHS = resultColumnWidths();
+
+    private PayrollDatasetFormat() {
+    }
+
+    /**
+     * The stored id of a bracket type: its number of brackets, which stays stable
+     * when bracket types are added or reordered
+     */
+    public static byte bracketTypeId(TaxBracketType type) {
+        switch (type) {
+            case SEVEN_BRACKET:
+                return 7;
+            case FIVE_BRACKET:
+                return 5;
+            default:
+                throw new IllegalArgumentException("No dataset id for tax bracket type: " + type);
+        }
+    }
+
+    public static TaxBracketType bracketType(byte id) {
+        switch (id) {
+            case 7:
+                return TaxBracketType.SEVEN_BRACKET;
+            case 5:
+                return TaxBracketType.FIVE_BRACKET;
+            default:
+                throw new IllegalArgumentException("Unknown tax bracket type id in dataset: " + id);
+        }
+    }
+
+    private static int[] resultColumnWidths() {
+        int[] widths = new int[SalaryResultColumn.values().length];
+        Arrays.fill(widths, 8);
+        return widths;
+    }
+}
@@ -0,0 +1,100 @@
+package com.personal.money.management.core.tax.infrastructure.dataset;
+
+import com.personal.money.management.core.tax.domain.model.SalaryInputBlock;
+import com.personal.money.management.core.tax.domain.model.TaxBracketType;
+import com.personal.money.management.core.tax.domain.service.SalaryInputBlockSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.file.Path;
+
+import static com.personal.money.management.core.tax.infrastructure.dataset.PayrollDatasetFormat.*;
+
+/**
+ * Reads an input dataset a block at a time straight from the mapped columns: each
+ * column is bulk-copied into the block's array, with no per-row parsing or objects.
+ * Not thread-safe.
+ */
+public final class PayrollDatasetReader implements SalaryInputBlockSource, AutoCloseable {
+
+    private final MappedColumns columns;
+    private final LongBuffer grossSalary;
+    private final LongBuffer tetBonus;
+    private final LongBuffer insuranceBase;
+    private final IntBuffer dependents;
+    private final DoubleBuffer bhxhRate;
+    private final DoubleBuffer bhytRate;
+    private final DoubleBuffer bhtnRate;
+    private final LongBuffer personalDeduction;
+    private final LongBuffer dependentDeductionPerPerson;
+    private final LongBuffer taxFreeAllowance;
+    private final LongBuffer otherDeduction;
+    private final ByteBuffer taxBracketType;
+    private final LongBuffer insuranceCap;
+    private byte[] bracketTypeIds = new byte[0];
+    private int position;
+
+    private PayrollDatasetReader(MappedColumns columns) {
+        this.columns = columns;
+        this.grossSalary = columns.column(GROSS_SALARY).asLongBuffer();
+        this.tetBonus = columns.column(TET_BONUS).asLongBuffer();
+        this.insuranceBase = columns.column(INSURANCE_BASE).asLongBuffer();
+        this.dependents = columns.column(DEPENDENTS).asIntBuffer();
+        this.bhxhRate = columns.column(BHXH_RATE).asDoubleBuffer();
+        this.bhytRate = columns.column(BHYT_RATE).asDoubleBuffer();
+        this.bhtnRate = columns.column(BHTN_RATE).asDoubleBuffer();
+        this.personalDeduction = columns.column(PERSONAL_DEDUCTION).asLongBuffer();
+        this.dependentDeductionPerPerson = columns.column(DEPENDENT_DEDUCTION_PER_PERSON).asLongBuffer();
+        this.taxFreeAllowance = columns.column(TAX_FREE_ALLOWANCE).asLongBuffer();
+        this.otherDeduction = columns.column(OTHER_DEDUCTION).asLongBuffer();
+        this.taxBracketType = columns.column(TAX_BRACKET_TYPE);
+        this.insuranceCap = columns.column(INSURANCE_CAP).asLongBuffer();
+    }
+
+    /**
+     * @throws IllegalArgumentException when the file is not an input dataset of this schema version
+     */
+    public static PayrollDatasetReader open(Path path) throws IOException {
+        return new PayrollDatasetReader(MappedColumns.open(path, INPUT_MAGIC, INPUT_COLUMN_WIDTHS));
+    }
+
+    public long rowCount() {
+        return columns.rowCount();
+    }
+
+    @Override
+    public int fill(SalaryInputBlock block) {
+        int rows = (int) Math.min(block.capacity(), columns.rowCount() - position);
+        grossSalary.get(position, block.getGrossSalary(), 0, rows);
+        tetBonus.get(position, block.getTetBonus(), 0, rows);
+        insuranceBase.get(position, block.getInsuranceBase(), 0, rows);
+        dependents.get(position, block.getDependents(), 0, rows);
+        bhxhRate.get(position, block.getBhxhRate(), 0, rows);
+        bhytRate.get(position, block.getBhytRate(), 0, rows);
+        bhtnRate.get(position, block.getBhtnRate(), 0, rows);
+        personalDeduction.get(position, block.getPersonalDeduction(), 0, rows);
+        dependentDeductionPerPerson.get(position, block.getDependentDeductionPerPerson(), 0, rows);
+        taxFreeAllowance.get(position, block.getTaxFreeAllowance(), 0, rows);
+        otherDeduction.get(position, block.getOtherDeduction(), 0, rows);
+        insuranceCap.get(position, block.getInsuranceCap(), 0, rows);
+        if (bracketTypeIds.length < rows) {
+            bracketTypeIds = new byte[block.capacity()];
+        }
+        taxBracketType.get(position, bracketTypeIds, 0, rows);
+        TaxBracketType[] types = block.getTaxBracketType();
+        for (int row = 0; row < rows; row++) {
+            types[row] = bracketType(bracketTypeIds[row]);
+        }
+        position += rows;
+        block.setSize(rows);
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        columns.close();
+    }
+}
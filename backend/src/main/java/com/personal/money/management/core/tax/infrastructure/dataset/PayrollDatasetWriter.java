@@ -0,0 +1,101 @@
+package com.personal.money.management.core.tax.infrastructure.dataset;
+
+import com.personal.money.management.core.tax.domain.model.SalaryInputBlock;
+import com.personal.money.management.core.tax.domain.model.TaxBracketType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.file.Path;
+
+import static com.personal.money.management.core.tax.infrastructure.dataset.PayrollDatasetFormat.*;
+
+/**
+ * Writes an input dataset of a known row count a block at a time into the mapped
+ * columns. Closing flushes the file and fails unless every row was written.
+ * Not thread-safe.
+ */
+public final class PayrollDatasetWriter implements AutoCloseable {
+
+    private final MappedColumns columns;
+    private final LongBuffer grossSalary;
+    private final LongBuffer tetBonus;
+    private final LongBuffer insuranceBase;
+    private final IntBuffer dependents;
+    private final DoubleBuffer bhxhRate;
+    private final DoubleBuffer bhytRate;
+    private final DoubleBuffer bhtnRate;
+    private final LongBuffer personalDeduction;
+    private final LongBuffer dependentDeductionPerPerson;
+    private final LongBuffer taxFreeAllowance;
+    private final LongBuffer otherDeduction;
+    private final ByteBuffer taxBracketType;
+    private final LongBuffer insuranceCap;
+    private int position;
+
+    private PayrollDatasetWriter(MappedColumns columns) {
+        this.columns = columns;
+        this.grossSalary = columns.column(GROSS_SALARY).asLongBuffer();
+        this.tetBonus = columns.column(TET_BONUS).asLongBuffer();
+        this.insuranceBase = columns.column(INSURANCE_BASE).asLongBuffer();
+        this.dependents = columns.column(DEPENDENTS).asIntBuffer();
+        this.bhxhRate = columns.column(BHXH_RATE).asDoubleBuffer();
+        this.bhytRate = columns.column(BHYT_RATE).asDoubleBuffer();
+        this.bhtnRate = columns.column(BHTN_RATE).asDoubleBuffer();
+        this.personalDeduction = columns.column(PERSONAL_DEDUCTION).asLongBuffer();
+        this.dependentDeductionPerPerson = columns.column(DEPENDENT_DEDUCTION_PER_PERSON).asLongBuffer();
+        this.taxFreeAllowance = columns.column(TAX_FREE_ALLOWANCE).asLongBuffer();
+        this.otherDeduction = columns.column(OTHER_DEDUCTION).asLongBuffer();
+        this.taxBracketType = columns.column(TAX_BRACKET_TYPE);
+        this.insuranceCap = columns.column(INSURANCE_CAP).asLongBuffer();
+    }
+
+    /**
+     * Create or overwrite {@code path} as an input dataset of {@code rowCount} rows
+     */
+    public static PayrollDatasetWriter create(Path path, long rowCount) throws IOException {
+        return new PayrollDatasetWriter(MappedColumns.create(path, INPUT_MAGIC, INPUT_COLUMN_WIDTHS, rowCount));
+    }
+
+    /**
+     * Append the rows of {@code block}
+     */
+    public void write(SalaryInputBlock block) {
+        int rows = block.size();
+        if (rows > columns.rowCount() - position) {
+            throw new IllegalStateException("More rows written than the dataset was created for");
+        }
+        grossSalary.put(position, block.getGrossSalary(), 0, rows);
+        tetBonus.put(position, block.getTetBonus(), 0, rows);
+        insuranceBase.put(position, block.getInsuranceBase(), 0, rows);
+        dependents.put(position, block.getDependents(), 0, rows);
+        bhxhRate.put(position, block.getBhxhRate(), 0, rows);
+        bhytRate.put(position, block.getBhytRate(), 0, rows);
+        bhtnRate.put(position, block.getBhtnRate(), 0, rows);
+        personalDeduction.put(position, block.getPersonalDeduction(), 0, rows);
+        dependentDeductionPerPerson.put(position, block.getDependentDeductionPerPerson(), 0, rows);
+        taxFreeAllowance.put(position, block.getTaxFreeAllowance(), 0, rows);
+        otherDeduction.put(position, block.getOtherDeduction(), 0, rows);
+        insuranceCap.put(position, block.getInsuranceCap(), 0, rows);
+        TaxBracketType[] types = block.getTaxBracketType();
+        for (int row = 0; row < rows; row++) {
+            taxBracketType.put(position + row, bracketTypeId(types[row]));
+        }
+        position += rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            columns.force();
+        } finally {
+            columns.close();
+        }
+        if (position != columns.rowCount()) {
+            throw new IllegalStateException("Dataset created for " + columns.rowCount()
+                    + " rows but " + position + " were written");
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.personal.money.management.core.tax.infrastructure.dataset;
+
+import com.personal.money.management.core.tax.domain.model.SalaryResultBlock;
+import com.personal.money.management.core.tax.domain.model.SalaryResultColumn;
+
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.file.Path;
+
+/**
+ * Reads a result dataset a block at a time straight from the mapped columns.
+ * Not thread-safe.
+ */
+public final class SalaryResultDatasetReader implements AutoCloseable {
+
+    private static final SalaryResultColumn[] COLUMNS = SalaryResultColumn.values();
+
+    private final MappedColumns columns;
+    private final LongBuffer[] views;
+    private int position;
+
+    private SalaryResultDatasetReader(MappedColumns columns) {
+        this.columns = columns;
+        this.views = new LongBuffer[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            views[i] = columns.column(i).asLongBuffer();
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException when the file is not a result dataset of this schema version
+     */
+    public static SalaryResultDatasetReader open(Path path) throws IOException {
+        return new SalaryResultDatasetReader(MappedColumns.open(
+                path, PayrollDatasetFormat.RESULT_MAGIC, PayrollDatasetFormat.RESULT_COLUMN_WIDTHS));
+    }
+
+    public long rowCount() {
+        return columns.rowCount();
+    }
+
+    /**
+     * Overwrite {@code block} with the next rows, up to its capacity
+     *
+     * @return The number of rows read; 0 once every row has been read
+     */
+    public int fill(SalaryResultBlock block) {
+        int rows = (int) Math.min(block.capacity(), columns.rowCount() - position);
+        for (int i = 0; i < COLUMNS.length; i++) {
+            views[i].get(position, block.column(COLUMNS[i]), 0, rows);
+        }
+        position += rows;
+        block.setSize(rows);
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        columns.close();
+    }
+}
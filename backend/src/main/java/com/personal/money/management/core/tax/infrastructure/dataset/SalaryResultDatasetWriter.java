@@ -0,0 +1,67 @@
+package com.personal.money.management.core.tax.infrastructure.dataset;
+
+import com.personal.money.management.core.tax.domain.model.SalaryResultBlock;
+import com.personal.money.management.core.tax.domain.model.SalaryResultColumn;
+
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Writes a result dataset of a known row count from calculated blocks, one mapped
+ * long column per {@link SalaryResultColumn}. Closing flushes the file and fails
+ * unless every row was written. Not thread-safe.
+ */
+public final class SalaryResultDatasetWriter implements Consumer<SalaryResultBlock>, AutoCloseable {
+
+    private static final SalaryResultColumn[] COLUMNS = SalaryResultColumn.values();
+
+    private final MappedColumns columns;
+    private final LongBuffer[] views;
+    private int position;
+
+    private SalaryResultDatasetWriter(MappedColumns columns) {
+        this.columns = columns;
+        this.views = new LongBuffer[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            views[i] = columns.column(i).asLongBuffer();
+        }
+    }
+
+    /**
+     * Create or overwrite {@code path} as a result dataset of {@code rowCount} rows
+     */
+    public static SalaryResultDatasetWriter create(Path path, long rowCount) throws IOException {
+        return new SalaryResultDatasetWriter(MappedColumns.create(
+                path, PayrollDatasetFormat.RESULT_MAGIC, PayrollDatasetFormat.RESULT_COLUMN_WIDTHS, rowCount));
+    }
+
+    /**
+     * Append the rows of {@code block}
+     */
+    @Override
+    public void accept(SalaryResultBlock block) {
+        int rows = block.size();
+        if (rows > columns.rowCount() - position) {
+            throw new IllegalStateException("More rows written than the dataset was created for");
+        }
+        for (int i = 0; i < COLUMNS.length; i++) {
+            views[i].put(position, block.column(COLUMNS[i]), 0, rows);
+        }
+        position += rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            columns.force();
+        } finally {
+            columns.close();
+        }
+        if (position != columns.rowCount()) {
+            throw new IllegalStateException("Dataset created for " + columns.rowCount()
+                    + " rows but " + position + " were written");
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.personal.money.management.core.tax.infrastructure.persistence;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -11,6 +14,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "DEDUCTION_BRACKET", schema = "CORE")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tax.deduction-bracket")
 public class DeductionBracketEntity {
     
     @Id
@@ -1,5 +1,8 @@
 package com.personal.money.management.core.tax.infrastructure.persistence;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 import java.time.LocalDateTime;
 
@@ -10,6 +13,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "TAX_BRACKET_DETAIL", schema = "CORE")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tax.bracket-detail")
 public class TaxBracketDetailEntity {
     
     @Id
@@ -1,5 +1,8 @@
 package com.personal.money.management.core.tax.infrastructure.persistence;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -11,6 +14,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "TAX_BRACKET", schema = "CORE")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tax.bracket")
 public class TaxBracketEntity {
     
     @Id
@@ -32,6 +37,7 @@ public class TaxBracketEntity {
     private LocalDateTime updatedAt;
     
     @OneToMany(mappedBy = "bracket", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tax.bracket.details")
     @OrderBy("bracketOrder ASC")
     private java.util.List<TaxBracketDetailEntity> details;
     
@@ -0,0 +1,57 @@
+package com.personal.money.management.core.tax.infrastructure.persistence;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Drops the cached tax configuration from the second-level and query caches.
+ *
+ * <p>Hibernate already keeps the regions consistent for writes it can see, which
+ * is all the diff-based update, bulk replace and reset paths need; this is the
+ * explicit hook for the admin create and delete paths.</p>
+ */
+@Component
+public class TaxConfigCacheEvictor {
+
+    static final String QUERY_REGION = "tax.queries";
+    private static final String DETAILS_ROLE = TaxBracketEntity.class.getName() + ".details";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public TaxConfigCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Evicts once the current transaction commits, so a concurrent reader cannot
+     * repopulate the cache with rows that are about to change. Evicts immediately
+     * when no transaction is active.
+     */
+    public void evictAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAll();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictAll();
+            }
+        });
+    }
+
+    public void evictAll() {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(TaxBracketEntity.class);
+        cache.evictEntityData(TaxBracketDetailEntity.class);
+        cache.evictEntityData(DeductionBracketEntity.class);
+        cache.evictEntityData(WageZoneEntity.class);
+        cache.evictCollectionData(DETAILS_ROLE);
+        cache.evictQueryRegion(QUERY_REGION);
+    }
+}
@@ -0,0 +1,133 @@
+package com.personal.money.management.core.tax.infrastructure.persistence;
+
+import com.personal.money.management.core.tax.domain.model.SalaryCalculationInput;
+import com.personal.money.management.core.tax.domain.model.SalaryCalculationResult;
+import com.personal.money.management.core.tax.domain.model.TaxBracketType;
+import com.personal.money.management.core.tax.domain.model.WageZoneValue;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity for TAX_PAYROLL_RESULT table
+ * Infrastructure Layer - Persistence Model
+ * The tax result of one employee's payroll month and the inputs it was calculated
+ * from, kept for recomputation
+ */
+@Entity
+@Table(name = "TAX_PAYROLL_RESULT", schema = "CORE")
+public class TaxPayrollResultEntity {
+
+    @Id
+    private String id;
+
+    @Column(name = "EMPLOYEE_ID", nullable = false)
+    private String employeeId;
+
+    @Column(name = "TAX_YEAR", nullable = false)
+    private int year;
+
+    @Column(name = "PAY_MONTH", nullable = false)
+    private int month;
+
+    @Column(name = "BRACKET_TYPE", nullable = false)
+    private String bracketType;
+
+    @Column(name = "WAGE_ZONE", nullable = false)
+    private String wageZone;
+
+    @Column(name = "GROSS_SALARY", nullable = false)
+    private long grossSalary;
+
+    @Column(name = "TET_BONUS", nullable = false)
+    private long tetBonus;
+
+    @Column(name = "INSURANCE_BASE", nullable = false)
+    private long insuranceBase;
+
+    @Column(name = "DEPENDENTS", nullable = false)
+    private int dependents;
+
+    @Column(name = "BHXH_RATE", nullable = false)
+    private double bhxhRate;
+
+    @Column(name = "BHYT_RATE", nullable = false)
+    private double bhytRate;
+
+    @Column(name = "BHTN_RATE", nullable = false)
+    private double bhtnRate;
+
+    @Column(name = "PERSONAL_DEDUCTION", nullable = false)
+    private long personalDeduction;
+
+    @Column(name = "DEPENDENT_DEDUCTION_PER_PERSON", nullable = false)
+    private long dependentDeductionPerPerson;
+
+    @Column(name = "TAXABLE_INCOME", nullable = false)
+    private long taxableIncome;
+
+    @Column(name = "SALARY_TAXABLE_INCOME", nullable = false)
+    private long salaryTaxableIncome;
+
+    @Column(name = "TOTAL_TAX", nullable = false)
+    private long totalTax;
+
+    @Column(name = "SALARY_TAX", nullable = false)
+    private long salaryTax;
+
+    @Column(name = "UPDATED_AT")
+    private LocalDateTime updatedAt;
+
+    protected TaxPayrollResultEntity() {}
+
+    public TaxPayrollResultEntity(String employeeId, int year, int month,
+                                  SalaryCalculationInput input, SalaryCalculationResult result) {
+        this.id = UUID.randomUUID().toString();
+        this.employeeId = employeeId;
+        this.year = year;
+        this.month = month;
+        this.bracketType = input.getTaxBracketType().getCode();
+        this.wageZone = input.getWageZone().getValue();
+        this.grossSalary = input.getGrossSalary();
+        this.tetBonus = input.getTetBonus();
+        this.insuranceBase = input.getInsuranceBase();
+        this.dependents = input.getDependents();
+        this.bhxhRate = input.getBhxhRate();
+        this.bhytRate = input.getBhytRate();
+        this.bhtnRate = input.getBhtnRate();
+        this.personalDeduction = input.getPersonalDeduction();
+        this.dependentDeductionPerPerson = input.getDependentDeductionPerPerson();
+        recomputed(result);
+    }
+
+    /**
+     * The month's input, with the wage zone as the rules now define it. Allowances and
+     * other deductions are left out: they change the net pay, never the tax.
+     */
+    public SalaryCalculationInput toInput(WageZoneValue currentWageZone) {
+        return new SalaryCalculationInput(grossSalary, tetBonus, insuranceBase, dependents,
+                bhxhRate, bhytRate, bhtnRate, personalDeduction, dependentDeductionPerPerson, 0, 0,
+                TaxBracketType.fromCode(bracketType), currentWageZone);
+    }
+
+    public void recomputed(SalaryCalculationResult result) {
+        this.taxableIncome = result.getTaxableIncome();
+        this.salaryTaxableIncome = Math.max(result.getIncomeAfterInsurance() - result.getTotalDeduction(), 0);
+        this.totalTax = result.getTotalTax();
+        this.salaryTax = result.getSalaryTax();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getId() { return id; }
+    public String getEmployeeId() { return employeeId; }
+    public int getYear() { return year; }
+    public int getMonth() { return month; }
+    public String getBracketType() { return bracketType; }
+    public String getWageZone() { return wageZone; }
+    public long getGrossSalary() { return grossSalary; }
+    public long getTaxableIncome() { return taxableIncome; }
+    public long getSalaryTaxableIncome() { return salaryTaxableIncome; }
+    public long getTotalTax() { return totalTax; }
+    public long getSalaryTax() { return salaryTax; }
+}
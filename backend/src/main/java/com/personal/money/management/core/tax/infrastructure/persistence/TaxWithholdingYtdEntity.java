@@ -0,0 +1,136 @@
+package com.personal.money.management.core.tax.infrastructure.persistence;
+
+import com.personal.money.management.core.tax.domain.model.WithholdingAmounts;
+import com.personal.money.management.core.tax.domain.model.WithholdingYearToDate;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity for TAX_WITHHOLDING_YTD table
+ * Infrastructure Layer - Persistence Model
+ * One row per employee and tax year with running withholding totals
+ */
+@Entity
+@Table(name = "TAX_WITHHOLDING_YTD", schema = "CORE")
+public class TaxWithholdingYtdEntity {
+
+    @Id
+    private String id;
+
+    @Column(name = "EMPLOYEE_ID", nullable = false)
+    private String employeeId;
+
+    @Column(name = "TAX_YEAR", nullable = false)
+    private int year;
+
+    @Column(name = "LAST_MONTH", nullable = false)
+    private int lastMonth;
+
+    @Column(name = "MONTHS_RECORDED", nullable = false)
+    private int monthsRecorded;
+
+    @Column(name = "GROSS_SALARY", nullable = false)
+    private long grossSalary;
+
+    @Column(name = "BONUS", nullable = false)
+    private long bonus;
+
+    @Column(name = "BHXH", nullable = false)
+    private long bhxh;
+
+    @Column(name = "BHYT", nullable = false)
+    private long bhyt;
+
+    @Column(name = "BHTN", nullable = false)
+    private long bhtn;
+
+    @Column(name = "PERSONAL_DEDUCTION", nullable = false)
+    private long personalDeduction;
+
+    @Column(name = "DEPENDENT_DEDUCTION", nullable = false)
+    private long dependentDeduction;
+
+    @Column(name = "TAX_WITHHELD", nullable = false)
+    private long taxWithheld;
+
+    @Column(name = "LAST_GROSS_SALARY", nullable = false)
+    private long lastGrossSalary;
+
+    @Column(name = "LAST_BHXH", nullable = false)
+    private long lastBhxh;
+
+    @Column(name = "LAST_BHYT", nullable = false)
+    private long lastBhyt;
+
+    @Column(name = "LAST_BHTN", nullable = false)
+    private long lastBhtn;
+
+    @Column(name = "LAST_PERSONAL_DEDUCTION", nullable = false)
+    private long lastPersonalDeduction;
+
+    @Column(name = "LAST_DEPENDENT_DEDUCTION", nullable = false)
+    private long lastDependentDeduction;
+
+    @Column(name = "LAST_SALARY_TAX", nullable = false)
+    private long lastSalaryTax;
+
+    @Version
+    @Column(name = "VERSION", nullable = false)
+    private Long version;
+
+    @Column(name = "UPDATED_AT")
+    private LocalDateTime updatedAt;
+
+    protected TaxWithholdingYtdEntity() {}
+
+    public TaxWithholdingYtdEntity(String employeeId, int year) {
+        this.id = UUID.randomUUID().toString();
+        this.employeeId = employeeId;
+        this.year = year;
+    }
+
+    public WithholdingYearToDate toDomain() {
+        return new WithholdingYearToDate(
+                employeeId,
+                year,
+                lastMonth,
+                monthsRecorded,
+                new WithholdingAmounts(grossSalary, bonus, bhxh, bhyt, bhtn,
+                        personalDeduction, dependentDeduction, taxWithheld),
+                new WithholdingAmounts(lastGrossSalary, 0, lastBhxh, lastBhyt, lastBhtn,
+                        lastPersonalDeduction, lastDependentDeduction, lastSalaryTax));
+    }
+
+    /**
+     * Copies the state of {@code ytd} into this row
+     */
+    public void apply(WithholdingYearToDate ytd) {
+        WithholdingAmounts totals = ytd.getTotals();
+        WithholdingAmounts runRate = ytd.getRunRate();
+        this.lastMonth = ytd.getLastMonth();
+        this.monthsRecorded = ytd.getMonthsRecorded();
+        this.grossSalary = totals.getGrossSalary();
+        this.bonus = totals.getBonus();
+        this.bhxh = totals.getBhxh();
+        this.bhyt = totals.getBhyt();
+        this.bhtn = totals.getBhtn();
+        this.personalDeduction = totals.getPersonalDeduction();
+        this.dependentDeduction = totals.getDependentDeduction();
+        this.taxWithheld = totals.getTaxWithheld();
+        this.lastGrossSalary = runRate.getGrossSalary();
+        this.lastBhxh = runRate.getBhxh();
+        this.lastBhyt = runRate.getBhyt();
+        this.lastBhtn = runRate.getBhtn();
+        this.lastPersonalDeduction = runRate.getPersonalDeduction();
+        this.lastDependentDeduction = runRate.getDependentDeduction();
+        this.lastSalaryTax = runRate.getTaxWithheld();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getId() { return id; }
+    public String getEmployeeId() { return employeeId; }
+    public int getYear() { return year; }
+    public Long getVersion() { return version; }
+}
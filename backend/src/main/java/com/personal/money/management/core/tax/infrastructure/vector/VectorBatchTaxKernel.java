@@ -0,0 +1,26 @@
+package com.personal.money.management.core.tax.infrastructure.vector;
+
+import com.personal.money.management.core.tax.domain.model.BatchTaxKernel;
+
+/**
+ * {@link BatchTaxKernel} on the Vector API, registered for {@link java.util.ServiceLoader}.
+ *
+ * <p>The Vector API is an incubator module, resolved only when the JVM is started with
+ * {@code --add-modules jdk.incubator.vector} (the {@code vector} Maven profile does so).
+ * This class touches none of it, so it loads either way; {@link VectorTaxKernel} is only
+ * reached when the module is present.</p>
+ */
+public final class VectorBatchTaxKernel implements BatchTaxKernel {
+
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    @Override
+    public boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    @Override
+    public int taxOn(long[] upperBounds, double[] rates, long[] taxBelow, long[] incomes, long[] taxes, int length) {
+        return AVAILABLE ? VectorTaxKernel.taxOn(upperBounds, rates, taxBelow, incomes, taxes, length) : 0;
+    }
+}
@@ -0,0 +1,63 @@
+package com.personal.money.management.core.tax.infrastructure.vector;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Lane-wise progressive tax over an ordered schedule, with the incubating Vector API.
+ *
+ * <p>Only loaded by {@link VectorBatchTaxKernel} once the {@code jdk.incubator.vector}
+ * module is known to be present. Every lane
+ * picks its bracket by comparing against each threshold in turn, then adds the rounded
+ * share of its last bracket to the tax owed below it. Rounding is done as
+ * {@link Math#round(double)} does it, so results match the scalar path bit for bit.</p>
+ */
+final class VectorTaxKernel {
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorTaxKernel() {
+    }
+
+    /**
+     * Taxes whole vectors from the start of {@code incomes}.
+     *
+     * @return How many leading incomes were taxed; the caller taxes the rest
+     */
+    static int taxOn(long[] upperBounds, double[] rates, long[] taxBelow,
+                     long[] incomes, long[] taxes, int length) {
+        if (LONGS.length() != DOUBLES.length()) {
+            return 0;
+        }
+        int last = upperBounds.length - 1;
+        int bound = LONGS.loopBound(length);
+        for (int offset = 0; offset < bound; offset += LONGS.length()) {
+            LongVector income = LongVector.fromArray(LONGS, incomes, offset);
+            LongVector lower = LongVector.zero(LONGS);
+            LongVector below = LongVector.zero(LONGS);
+            DoubleVector rate = DoubleVector.broadcast(DOUBLES, rates[0]);
+            for (int i = 1; i <= last; i++) {
+                VectorMask<Long> reached = income.compare(VectorOperators.GT, upperBounds[i - 1]);
+                lower = lower.blend(upperBounds[i - 1], reached);
+                below = below.blend(taxBelow[i], reached);
+                rate = rate.blend(rates[i], reached.cast(DOUBLES));
+            }
+            DoubleVector share = ((DoubleVector) income.sub(lower).convert(VectorOperators.L2D, 0)).mul(rate);
+            // Math.round is floor(share + 0.5) without rounding the sum; share is never
+            // negative, so take the whole part and round up on a fraction of one half
+            LongVector whole = (LongVector) share.convert(VectorOperators.D2L, 0);
+            DoubleVector fraction = share.sub((DoubleVector) whole.convert(VectorOperators.L2D, 0));
+            VectorMask<Long> roundUp = fraction.compare(VectorOperators.GE, 0.5).cast(LONGS);
+            LongVector tax = below.add(whole.lanewise(VectorOperators.ADD, 1L, roundUp));
+            // Income above a finite top threshold is not taxed further
+            tax = tax.blend(taxBelow[last + 1], income.compare(VectorOperators.GT, upperBounds[last]));
+            tax = tax.blend(0L, income.compare(VectorOperators.LE, 0L));
+            tax.intoArray(taxes, offset);
+        }
+        return bound;
+    }
+}
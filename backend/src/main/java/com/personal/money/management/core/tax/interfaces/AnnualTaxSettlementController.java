@@ -6,6 +6,8 @@ import com.personal.money.management.core.tax.domain.model.AnnualTaxSettlementRe
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * REST Controller for Annual Tax Settlement
  */
@@ -37,4 +39,22 @@ public class AnnualTaxSettlementController {
             return ResponseEntity.internalServerError().build();
         }
     }
+    
+    /**
+     * Calculate annual tax settlement for many employees at once
+     * 
+     * @param requests One settlement request per employee
+     * @return Settlement results in request order
+     */
+    @PostMapping("/calculate-bulk")
+    public ResponseEntity<List<AnnualTaxSettlementResult>> calculateAnnualTaxSettlements(
+            @RequestBody List<AnnualTaxSettlementRequest> requests) {
+        try {
+            return ResponseEntity.ok(annualTaxSettlementService.calculateAnnualTaxSettlements(requests));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package com.personal.money.management.core.tax.interfaces;
+
+import com.personal.money.management.core.tax.application.PayrollDatasetApplicationService;
+import com.personal.money.management.core.tax.application.PayrollDatasetRequest;
+import com.personal.money.management.core.tax.application.PayrollDatasetSummary;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for calculating columnar payroll datasets held on the server
+ */
+@RestController
+@RequestMapping("/api/tax/datasets")
+public class PayrollDatasetController {
+
+    private final PayrollDatasetApplicationService datasetService;
+
+    public PayrollDatasetController(PayrollDatasetApplicationService datasetService) {
+        this.datasetService = datasetService;
+    }
+
+    /**
+     * Calculate an input dataset into a result dataset against one rule snapshot
+     *
+     * @param request Input and output dataset names within the dataset directory
+     * @return Rows calculated and time taken
+     */
+    @PostMapping("/calculate")
+    public ResponseEntity<PayrollDatasetSummary> calculate(@RequestBody PayrollDatasetRequest request) {
+        try {
+            return ResponseEntity.ok(datasetService.calculate(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
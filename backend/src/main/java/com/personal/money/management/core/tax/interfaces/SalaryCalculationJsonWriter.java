@@ -0,0 +1,81 @@
+package com.personal.money.management.core.tax.interfaces;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.personal.money.management.core.tax.domain.model.SalaryCalculationBuffer;
+import org.springframework.http.MediaType;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Streams salary calculations to the response as a JSON array, field by field.
+ *
+ * <p>Each buffer is written straight to the generator with the field names of
+ * {@link com.personal.money.management.core.tax.application.SalaryCalculationResponse},
+ * so no response object is built or reflected over. The response is only committed
+ * when the first row arrives, so validation errors raised before it still map to a
+ * normal error response.</p>
+ */
+final class SalaryCalculationJsonWriter implements Consumer<SalaryCalculationBuffer> {
+
+    private final JsonFactory jsonFactory;
+    private final HttpServletResponse response;
+    private JsonGenerator generator;
+
+    SalaryCalculationJsonWriter(JsonFactory jsonFactory, HttpServletResponse response) {
+        this.jsonFactory = jsonFactory;
+        this.response = response;
+    }
+
+    @Override
+    public void accept(SalaryCalculationBuffer result) {
+        try {
+            start();
+            generator.writeStartObject();
+            generator.writeNumberField("grossSalary", result.getGrossSalary());
+            generator.writeNumberField("bhxh", result.getBhxh());
+            generator.writeNumberField("bhyt", result.getBhyt());
+            generator.writeNumberField("bhtn", result.getBhtn());
+            generator.writeNumberField("totalInsurance", result.getTotalInsurance());
+            generator.writeNumberField("incomeAfterInsurance", result.getIncomeAfterInsurance());
+            generator.writeNumberField("tetBonus", result.getTetBonus());
+            generator.writeNumberField("totalDeduction", result.getTotalDeduction());
+            generator.writeNumberField("taxableIncome", result.getTaxableIncome());
+            generator.writeNumberField("totalTax", result.getTotalTax());
+            generator.writeNumberField("salaryTax", result.getSalaryTax());
+            generator.writeNumberField("bonusTax", result.getBonusTax());
+            generator.writeNumberField("netBeforeAllowance", result.getNetBeforeAllowance());
+            generator.writeNumberField("taxFreeAllowance", result.getTaxFreeAllowance());
+            generator.writeNumberField("otherDeduction", result.getOtherDeduction());
+            generator.writeNumberField("netMonthly", result.getNetMonthly());
+            generator.writeNumberField("netBonus", result.getNetBonus());
+            generator.writeNumberField("totalNetSalary", result.getTotalNetSalary());
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Ends the array; writes an empty one when no row arrived. Not called when the
+     * calculation fails, so an error before the first row leaves the response untouched.
+     */
+    void finish() throws IOException {
+        start();
+        generator.writeEndArray();
+        generator.close();
+    }
+
+    private void start() throws IOException {
+        if (generator != null) {
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        generator = jsonFactory.createGenerator(response.getOutputStream());
+        generator.writeStartArray();
+    }
+}
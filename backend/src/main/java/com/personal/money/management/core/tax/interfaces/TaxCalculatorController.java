@@ -1,13 +1,19 @@
 package com.personal.money.management.core.tax.interfaces;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.personal.money.management.core.tax.application.SalaryCalculationRequest;
 import com.personal.money.management.core.tax.application.SalaryCalculationResponse;
+import com.personal.money.management.core.tax.application.SalaryCalculationSweepRequest;
 import com.personal.money.management.core.tax.application.TaxCalculatorApplicationService;
 import com.personal.money.management.core.tax.application.TaxConfigService;
 import com.personal.money.management.core.tax.domain.model.SalaryCalculationResult;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+
 /**
  * REST Controller for Tax Calculator API
  * Handles HTTP requests and responses
@@ -19,12 +25,15 @@ public class TaxCalculatorController {
 
     private final TaxCalculatorApplicationService taxCalculatorApplicationService;
     private final TaxConfigService taxConfigService;
+    private final ObjectMapper objectMapper;
 
     public TaxCalculatorController(
             TaxCalculatorApplicationService taxCalculatorApplicationService,
-            TaxConfigService taxConfigService) {
+            TaxConfigService taxConfigService,
+            ObjectMapper objectMapper) {
         this.taxCalculatorApplicationService = taxCalculatorApplicationService;
         this.taxConfigService = taxConfigService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -60,6 +69,34 @@ public class TaxCalculatorController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Calculate many salaries against one rule snapshot, streamed as a JSON array in
+     * request order. Each result is written straight from a reused buffer.
+     * @param requests One SalaryCalculationRequest per salary
+     * @param response Receives the results
+     */
+    @PostMapping("/calculate-batch")
+    public void calculateSalaryTaxes(@RequestBody List<SalaryCalculationRequest> requests,
+                                     HttpServletResponse response) throws IOException {
+        SalaryCalculationJsonWriter writer = new SalaryCalculationJsonWriter(objectMapper.getFactory(), response);
+        taxCalculatorApplicationService.calculateSalaryTaxes(requests, writer);
+        writer.finish();
+    }
+
+    /**
+     * Calculate one salary profile over a range of gross salaries, streamed as a JSON
+     * array in ascending gross salary order
+     * @param request Template profile and gross salary range
+     * @param response Receives the results
+     */
+    @PostMapping("/calculate-sweep")
+    public void sweepSalaryTax(@RequestBody SalaryCalculationSweepRequest request,
+                               HttpServletResponse response) throws IOException {
+        SalaryCalculationJsonWriter writer = new SalaryCalculationJsonWriter(objectMapper.getFactory(), response);
+        taxCalculatorApplicationService.sweepSalaryTax(request, writer);
+        writer.finish();
+    }
+
     /**
      * Get tax configuration options
      * Returns all available tax brackets, deduction brackets, and wage zones
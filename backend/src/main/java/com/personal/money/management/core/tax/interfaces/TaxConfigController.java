@@ -7,6 +7,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * REST Controller for Tax Configuration Management
  * Handles CRUD operations for tax brackets, deductions, and wage zones
@@ -32,6 +34,17 @@ public class TaxConfigController {
         return ResponseEntity.ok(taxConfigService.getTaxConfig());
     }
     
+    /**
+     * Replace several tax bracket sets atomically
+     * PUT /api/tax/brackets
+     * @param requests The bracket sets to create or update, each with a distinct value
+     * @return One TaxBracketResponse per set; 400 with nothing written when any set is invalid
+     */
+    @PutMapping
+    public ResponseEntity<List<TaxBracketResponse>> replaceTaxBrackets(@RequestBody List<TaxBracketRequest> requests) {
+        return ResponseEntity.ok(taxConfigService.replaceTaxBrackets(requests));
+    }
+    
     /**
      * Get a specific tax bracket by value
      * GET /api/tax/brackets/bracket/{value}
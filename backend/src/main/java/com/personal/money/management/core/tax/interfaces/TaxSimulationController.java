@@ -0,0 +1,38 @@
+package com.personal.money.management.core.tax.interfaces;
+
+import com.personal.money.management.core.tax.application.TaxSimulationApplicationService;
+import com.personal.money.management.core.tax.application.TaxSimulationRequest;
+import com.personal.money.management.core.tax.domain.model.TaxSimulationResult;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for tax cost simulations
+ */
+@RestController
+@RequestMapping("/api/tax/simulation")
+public class TaxSimulationController {
+
+    private final TaxSimulationApplicationService simulationService;
+
+    public TaxSimulationController(TaxSimulationApplicationService simulationService) {
+        this.simulationService = simulationService;
+    }
+
+    /**
+     * Simulate workforce tax cost under normally distributed raises
+     *
+     * @param request Population or salary distribution, raise distribution and trial count
+     * @return Mean, quantiles and histogram of the total tax across trials
+     */
+    @PostMapping("/monte-carlo")
+    public ResponseEntity<TaxSimulationResult> simulate(@RequestBody TaxSimulationRequest request) {
+        try {
+            return ResponseEntity.ok(simulationService.simulate(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.personal.money.management.core.tax.interfaces;
+
+import com.personal.money.management.core.tax.application.SalaryCalculationRequest;
+import com.personal.money.management.core.tax.application.TaxWithholdingService;
+import com.personal.money.management.core.tax.application.WithholdingYearToDateResponse;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for year-to-date tax withholding
+ */
+@RestController
+@RequestMapping("/api/tax/withholding")
+public class TaxWithholdingController {
+
+    private final TaxWithholdingService taxWithholdingService;
+
+    public TaxWithholdingController(TaxWithholdingService taxWithholdingService) {
+        this.taxWithholdingService = taxWithholdingService;
+    }
+
+    /**
+     * Record a month's salary for an employee and return the updated year-to-date totals
+     */
+    @PostMapping("/{employeeId}/{year}/months/{month}")
+    public ResponseEntity<WithholdingYearToDateResponse> recordMonth(
+            @PathVariable String employeeId,
+            @PathVariable int year,
+            @PathVariable int month,
+            @RequestBody SalaryCalculationRequest request) {
+        try {
+            return ResponseEntity.ok(taxWithholdingService.recordMonth(employeeId, year, month, request));
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            // Another month for the same employee and year was recorded concurrently
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * Year-to-date totals of an employee with the settlement so far and projected to year end
+     */
+    @GetMapping("/{employeeId}/{year}")
+    public ResponseEntity<WithholdingYearToDateResponse> getYearToDate(
+            @PathVariable String employeeId,
+            @PathVariable int year) {
+        return taxWithholdingService.getYearToDate(employeeId, year)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,31 @@
+-- Append-only transaction journal. Ids come from a pooled sequence so that
+-- inserts can be batched; the id order is the journal order.
+CREATE SEQUENCE ledger_journal_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE ledger_journal (
+    id BIGINT PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    category_id BIGINT,
+    direction VARCHAR(10) NOT NULL CHECK (direction IN ('INCOME', 'EXPENSE')),
+    amount NUMBER(19, 4) NOT NULL CHECK (amount > 0),
+    currency VARCHAR(10) NOT NULL,
+    occurred_on DATE NOT NULL,
+    description VARCHAR(1000),
+    recorded_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT fk_ledger_journal_account FOREIGN KEY (account_id) REFERENCES account(id),
+    CONSTRAINT fk_ledger_journal_category FOREIGN KEY (category_id) REFERENCES categories(id)
+);
+
+CREATE INDEX idx_ledger_journal_account_id ON ledger_journal(account_id, id);
+CREATE INDEX idx_ledger_journal_account_date ON ledger_journal(account_id, occurred_on);
+
+-- Running totals per account, maintained in the same transaction as the journal
+CREATE TABLE account_balance (
+    account_id BIGINT PRIMARY KEY,
+    currency VARCHAR(10) NOT NULL,
+    net_movement NUMBER(19, 4) DEFAULT 0 NOT NULL,
+    entry_count BIGINT DEFAULT 0 NOT NULL,
+    last_entry_id BIGINT,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_account_balance_account FOREIGN KEY (account_id) REFERENCES account(id)
+);
@@ -0,0 +1,22 @@
+-- Closure table of the category hierarchy: one row per (ancestor, descendant)
+-- pair, including each category paired with itself at depth 0.
+CREATE TABLE category_closure (
+    ancestor_id BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth INT NOT NULL,
+    CONSTRAINT pk_category_closure PRIMARY KEY (ancestor_id, descendant_id),
+    CONSTRAINT fk_category_closure_ancestor FOREIGN KEY (ancestor_id) REFERENCES categories(id),
+    CONSTRAINT fk_category_closure_descendant FOREIGN KEY (descendant_id) REFERENCES categories(id)
+);
+
+CREATE INDEX idx_category_closure_descendant ON category_closure(descendant_id, depth);
+
+-- Backfill from the existing parent links
+INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE tree(ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0 FROM categories
+    UNION ALL
+    SELECT t.ancestor_id, c.id, t.depth + 1
+    FROM tree t JOIN categories c ON c.parent_id = t.descendant_id
+)
+SELECT ancestor_id, descendant_id, depth FROM tree;
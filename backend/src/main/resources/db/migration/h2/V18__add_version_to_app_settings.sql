@@ -0,0 +1,2 @@
+-- Bumped on every settings write; replicas poll it to detect changes made elsewhere
+ALTER TABLE app_settings ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,28 @@
+-- Year-to-date withholding totals per employee and tax year, updated once per recorded month.
+-- LAST_* columns hold the latest month, used to project the rest of the year.
+CREATE TABLE TAX_WITHHOLDING_YTD (
+    ID VARCHAR(50) PRIMARY KEY,
+    EMPLOYEE_ID VARCHAR(100) NOT NULL,
+    TAX_YEAR INT NOT NULL,
+    LAST_MONTH INT NOT NULL,
+    MONTHS_RECORDED INT NOT NULL,
+    GROSS_SALARY BIGINT NOT NULL,
+    BONUS BIGINT NOT NULL,
+    BHXH BIGINT NOT NULL,
+    BHYT BIGINT NOT NULL,
+    BHTN BIGINT NOT NULL,
+    PERSONAL_DEDUCTION BIGINT NOT NULL,
+    DEPENDENT_DEDUCTION BIGINT NOT NULL,
+    TAX_WITHHELD BIGINT NOT NULL,
+    LAST_GROSS_SALARY BIGINT NOT NULL,
+    LAST_BHXH BIGINT NOT NULL,
+    LAST_BHYT BIGINT NOT NULL,
+    LAST_BHTN BIGINT NOT NULL,
+    LAST_PERSONAL_DEDUCTION BIGINT NOT NULL,
+    LAST_DEPENDENT_DEDUCTION BIGINT NOT NULL,
+    LAST_SALARY_TAX BIGINT NOT NULL,
+    VERSION BIGINT DEFAULT 0 NOT NULL,
+    UPDATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT UK_TAX_WITHHOLDING_YTD UNIQUE (EMPLOYEE_ID, TAX_YEAR),
+    CONSTRAINT CHK_TAX_WITHHOLDING_MONTH CHECK (LAST_MONTH BETWEEN 1 AND 12)
+);
@@ -0,0 +1,30 @@
+-- Monthly payroll tax results with the inputs they were calculated from, kept so a tax
+-- configuration change can recompute only the affected rows. Indexed by bracket type and
+-- taxable income, as a bracket change only affects incomes above it, and by wage zone and
+-- gross salary, as an insurance cap change only affects salaries above the lower cap.
+CREATE TABLE TAX_PAYROLL_RESULT (
+    ID VARCHAR(50) PRIMARY KEY,
+    EMPLOYEE_ID VARCHAR(100) NOT NULL,
+    TAX_YEAR INT NOT NULL,
+    PAY_MONTH INT NOT NULL,
+    BRACKET_TYPE VARCHAR(50) NOT NULL,
+    WAGE_ZONE VARCHAR(50) NOT NULL,
+    GROSS_SALARY BIGINT NOT NULL,
+    TET_BONUS BIGINT NOT NULL,
+    INSURANCE_BASE BIGINT NOT NULL,
+    DEPENDENTS INT NOT NULL,
+    BHXH_RATE DOUBLE PRECISION NOT NULL,
+    BHYT_RATE DOUBLE PRECISION NOT NULL,
+    BHTN_RATE DOUBLE PRECISION NOT NULL,
+    PERSONAL_DEDUCTION BIGINT NOT NULL,
+    DEPENDENT_DEDUCTION_PER_PERSON BIGINT NOT NULL,
+    TAXABLE_INCOME BIGINT NOT NULL,
+    SALARY_TAXABLE_INCOME BIGINT NOT NULL,
+    TOTAL_TAX BIGINT NOT NULL,
+    SALARY_TAX BIGINT NOT NULL,
+    UPDATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT UK_TAX_PAYROLL_RESULT UNIQUE (EMPLOYEE_ID, TAX_YEAR, PAY_MONTH)
+);
+
+CREATE INDEX IDX_TAX_PAYROLL_RESULT_INCOME ON TAX_PAYROLL_RESULT(BRACKET_TYPE, TAXABLE_INCOME);
+CREATE INDEX IDX_TAX_PAYROLL_RESULT_ZONE ON TAX_PAYROLL_RESULT(WAGE_ZONE, GROSS_SALARY);
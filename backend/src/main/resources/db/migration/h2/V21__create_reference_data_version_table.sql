@@ -0,0 +1,12 @@
+-- One version per bounded context, bumped in the same transaction as every reference-data
+-- write. Replicas poll it to drop in-process caches after writes made elsewhere.
+CREATE TABLE REFERENCE_DATA_VERSION (
+    CONTEXT VARCHAR(50) PRIMARY KEY,
+    VERSION BIGINT DEFAULT 0 NOT NULL,
+    UPDATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO REFERENCE_DATA_VERSION (CONTEXT) VALUES ('TAX');
+INSERT INTO REFERENCE_DATA_VERSION (CONTEXT) VALUES ('CATEGORY');
+INSERT INTO REFERENCE_DATA_VERSION (CONTEXT) VALUES ('CURRENCY');
+INSERT INTO REFERENCE_DATA_VERSION (CONTEXT) VALUES ('SETTINGS');
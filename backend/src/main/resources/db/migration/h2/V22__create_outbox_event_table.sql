@@ -0,0 +1,14 @@
+-- Transactional outbox: domain events written in the same transaction as the aggregate
+-- change and removed once every projection handler has processed them. Dispatched in
+-- ID order; ATTEMPTS and LAST_ERROR record failed deliveries, which are retried up to a
+-- configured limit and then parked in place.
+CREATE TABLE OUTBOX_EVENT (
+    ID BIGINT AUTO_INCREMENT PRIMARY KEY,
+    AGGREGATE_TYPE VARCHAR(50) NOT NULL,
+    AGGREGATE_ID VARCHAR(100) NOT NULL,
+    EVENT_TYPE VARCHAR(100) NOT NULL,
+    PAYLOAD VARCHAR(4000) NOT NULL,
+    CREATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    ATTEMPTS INT DEFAULT 0 NOT NULL,
+    LAST_ERROR VARCHAR(1000)
+);
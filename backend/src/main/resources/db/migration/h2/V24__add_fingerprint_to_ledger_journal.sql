@@ -0,0 +1,6 @@
+-- Content fingerprint of entries imported from bank statements, so re-importing an
+-- overlapping statement skips lines already journaled. NULL for entries recorded
+-- directly; the unique index only constrains fingerprinted rows.
+ALTER TABLE ledger_journal ADD COLUMN fingerprint VARCHAR(64);
+
+CREATE UNIQUE INDEX uk_ledger_journal_fingerprint ON ledger_journal(fingerprint);
@@ -0,0 +1,18 @@
+-- Keyword rules that assign a category to uncategorized transactions. A rule applies
+-- when its keyword occurs as whole words in the folded description and the optional
+-- account and amount bounds hold; the highest priority wins.
+CREATE TABLE categorization_rule (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    keyword VARCHAR(200) NOT NULL,
+    category_id BIGINT NOT NULL,
+    account_id BIGINT,
+    min_amount NUMBER(19, 4),
+    max_amount NUMBER(19, 4),
+    priority INT DEFAULT 0 NOT NULL,
+    active BOOLEAN DEFAULT TRUE NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT fk_categorization_rule_category FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE CASCADE,
+    CONSTRAINT fk_categorization_rule_account FOREIGN KEY (account_id) REFERENCES account(id) ON DELETE CASCADE
+);
+
+INSERT INTO REFERENCE_DATA_VERSION (CONTEXT) VALUES ('CATEGORIZATION_RULE');
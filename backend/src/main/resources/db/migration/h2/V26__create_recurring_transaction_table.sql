@@ -0,0 +1,25 @@
+-- Templates of transactions that repeat every interval_count days, weeks, months or
+-- years from start_date. next_run_on is the date of the next occurrence still to be
+-- journaled, NULL once end_date is passed; the scheduler reads due templates through
+-- its index, so a poll costs the number of due templates, not of all templates.
+CREATE TABLE recurring_transaction (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    category_id BIGINT,
+    direction VARCHAR(10) NOT NULL CHECK (direction IN ('INCOME', 'EXPENSE')),
+    amount NUMBER(19, 4) NOT NULL CHECK (amount > 0),
+    currency VARCHAR(10) NOT NULL,
+    description VARCHAR(1000),
+    frequency VARCHAR(10) NOT NULL CHECK (frequency IN ('DAILY', 'WEEKLY', 'MONTHLY', 'YEARLY')),
+    interval_count INT DEFAULT 1 NOT NULL CHECK (interval_count > 0),
+    start_date DATE NOT NULL,
+    end_date DATE,
+    occurrences_generated INT DEFAULT 0 NOT NULL,
+    next_run_on DATE,
+    version BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT fk_recurring_transaction_account FOREIGN KEY (account_id) REFERENCES account(id) ON DELETE CASCADE,
+    CONSTRAINT fk_recurring_transaction_category FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE SET NULL
+);
+
+CREATE INDEX idx_recurring_transaction_next_run ON recurring_transaction(next_run_on);
+CREATE INDEX idx_recurring_transaction_account ON recurring_transaction(account_id);
@@ -0,0 +1,31 @@
+-- Append-only transaction journal. Ids come from a pooled sequence so that
+-- inserts can be batched; the id order is the journal order.
+CREATE SEQUENCE CORE.ledger_journal_seq START WITH 1 INCREMENT BY 50 NOCYCLE;
+
+CREATE TABLE CORE.ledger_journal (
+    id NUMBER(19) PRIMARY KEY,
+    account_id NUMBER NOT NULL,
+    category_id NUMBER,
+    direction VARCHAR2(10) NOT NULL CHECK (direction IN ('INCOME', 'EXPENSE')),
+    amount NUMBER(19, 4) NOT NULL CHECK (amount > 0),
+    currency VARCHAR2(10) NOT NULL,
+    occurred_on DATE NOT NULL,
+    description VARCHAR2(1000),
+    recorded_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT fk_ledger_journal_account FOREIGN KEY (account_id) REFERENCES CORE.account(id),
+    CONSTRAINT fk_ledger_journal_category FOREIGN KEY (category_id) REFERENCES CORE.categories(id)
+);
+
+CREATE INDEX idx_ledger_journal_account_id ON CORE.ledger_journal(account_id, id);
+CREATE INDEX idx_ledger_journal_account_date ON CORE.ledger_journal(account_id, occurred_on);
+
+-- Running totals per account, maintained in the same transaction as the journal
+CREATE TABLE CORE.account_balance (
+    account_id NUMBER PRIMARY KEY,
+    currency VARCHAR2(10) NOT NULL,
+    net_movement NUMBER(19, 4) DEFAULT 0 NOT NULL,
+    entry_count NUMBER(19) DEFAULT 0 NOT NULL,
+    last_entry_id NUMBER(19),
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_account_balance_account FOREIGN KEY (account_id) REFERENCES CORE.account(id)
+);
@@ -0,0 +1,17 @@
+-- Cumulative journal movement per account at the end of a day or month.
+-- Daily rows are pruned after a retention window; monthly rows are kept.
+CREATE TABLE CORE.account_balance_snapshot (
+    account_id NUMBER NOT NULL,
+    granularity VARCHAR2(10) NOT NULL CHECK (granularity IN ('DAY', 'MONTH')),
+    snapshot_date DATE NOT NULL,
+    net_movement NUMBER(19, 4) NOT NULL,
+    CONSTRAINT pk_account_balance_snapshot PRIMARY KEY (account_id, granularity, snapshot_date),
+    CONSTRAINT fk_balance_snapshot_account FOREIGN KEY (account_id) REFERENCES CORE.account(id)
+);
+
+CREATE INDEX idx_balance_snapshot_account_date ON CORE.account_balance_snapshot(account_id, snapshot_date);
+
+-- Recording time up to which each account's journal is folded into snapshots
+ALTER TABLE CORE.account_balance ADD snapshot_watermark TIMESTAMP;
+
+CREATE INDEX idx_ledger_journal_account_recorded ON CORE.ledger_journal(account_id, recorded_at);
@@ -0,0 +1,22 @@
+-- Closure table of the category hierarchy: one row per (ancestor, descendant)
+-- pair, including each category paired with itself at depth 0.
+CREATE TABLE CORE.category_closure (
+    ancestor_id NUMBER NOT NULL,
+    descendant_id NUMBER NOT NULL,
+    depth NUMBER(5) NOT NULL,
+    CONSTRAINT pk_category_closure PRIMARY KEY (ancestor_id, descendant_id),
+    CONSTRAINT fk_category_closure_ancestor FOREIGN KEY (ancestor_id) REFERENCES CORE.categories(id),
+    CONSTRAINT fk_category_closure_descendant FOREIGN KEY (descendant_id) REFERENCES CORE.categories(id)
+);
+
+CREATE INDEX idx_category_closure_descendant ON CORE.category_closure(descendant_id, depth);
+
+-- Backfill from the existing parent links
+INSERT INTO CORE.category_closure (ancestor_id, descendant_id, depth)
+WITH tree (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0 FROM CORE.categories
+    UNION ALL
+    SELECT t.ancestor_id, c.id, t.depth + 1
+    FROM tree t JOIN CORE.categories c ON c.parent_id = t.descendant_id
+)
+SELECT ancestor_id, descendant_id, depth FROM tree;
@@ -0,0 +1,2 @@
+-- Bumped on every settings write; replicas poll it to detect changes made elsewhere
+ALTER TABLE CORE.app_settings ADD version NUMBER(19) DEFAULT 0 NOT NULL;
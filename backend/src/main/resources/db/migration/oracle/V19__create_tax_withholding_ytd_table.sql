@@ -0,0 +1,28 @@
+-- Year-to-date withholding totals per employee and tax year, updated once per recorded month.
+-- LAST_* columns hold the latest month, used to project the rest of the year.
+CREATE TABLE CORE.TAX_WITHHOLDING_YTD (
+    ID VARCHAR2(50) PRIMARY KEY,
+    EMPLOYEE_ID VARCHAR2(100) NOT NULL,
+    TAX_YEAR NUMBER(4) NOT NULL,
+    LAST_MONTH NUMBER(2) NOT NULL,
+    MONTHS_RECORDED NUMBER(2) NOT NULL,
+    GROSS_SALARY NUMBER(19,0) NOT NULL,
+    BONUS NUMBER(19,0) NOT NULL,
+    BHXH NUMBER(19,0) NOT NULL,
+    BHYT NUMBER(19,0) NOT NULL,
+    BHTN NUMBER(19,0) NOT NULL,
+    PERSONAL_DEDUCTION NUMBER(19,0) NOT NULL,
+    DEPENDENT_DEDUCTION NUMBER(19,0) NOT NULL,
+    TAX_WITHHELD NUMBER(19,0) NOT NULL,
+    LAST_GROSS_SALARY NUMBER(19,0) NOT NULL,
+    LAST_BHXH NUMBER(19,0) NOT NULL,
+    LAST_BHYT NUMBER(19,0) NOT NULL,
+    LAST_BHTN NUMBER(19,0) NOT NULL,
+    LAST_PERSONAL_DEDUCTION NUMBER(19,0) NOT NULL,
+    LAST_DEPENDENT_DEDUCTION NUMBER(19,0) NOT NULL,
+    LAST_SALARY_TAX NUMBER(19,0) NOT NULL,
+    VERSION NUMBER(19) DEFAULT 0 NOT NULL,
+    UPDATED_AT TIMESTAMP DEFAULT SYSTIMESTAMP,
+    CONSTRAINT UK_TAX_WITHHOLDING_YTD UNIQUE (EMPLOYEE_ID, TAX_YEAR),
+    CONSTRAINT CHK_TAX_WITHHOLDING_MONTH CHECK (LAST_MONTH BETWEEN 1 AND 12)
+);
@@ -0,0 +1,30 @@
+-- Monthly payroll tax results with the inputs they were calculated from, kept so a tax
+-- configuration change can recompute only the affected rows. Indexed by bracket type and
+-- taxable income, as a bracket change only affects incomes above it, and by wage zone and
+-- gross salary, as an insurance cap change only affects salaries above the lower cap.
+CREATE TABLE CORE.TAX_PAYROLL_RESULT (
+    ID VARCHAR2(50) PRIMARY KEY,
+    EMPLOYEE_ID VARCHAR2(100) NOT NULL,
+    TAX_YEAR NUMBER(4) NOT NULL,
+    PAY_MONTH NUMBER(2) NOT NULL,
+    BRACKET_TYPE VARCHAR2(50) NOT NULL,
+    WAGE_ZONE VARCHAR2(50) NOT NULL,
+    GROSS_SALARY NUMBER(19,0) NOT NULL,
+    TET_BONUS NUMBER(19,0) NOT NULL,
+    INSURANCE_BASE NUMBER(19,0) NOT NULL,
+    DEPENDENTS NUMBER(2) NOT NULL,
+    BHXH_RATE DOUBLE PRECISION NOT NULL,
+    BHYT_RATE DOUBLE PRECISION NOT NULL,
+    BHTN_RATE DOUBLE PRECISION NOT NULL,
+    PERSONAL_DEDUCTION NUMBER(19,0) NOT NULL,
+    DEPENDENT_DEDUCTION_PER_PERSON NUMBER(19,0) NOT NULL,
+    TAXABLE_INCOME NUMBER(19,0) NOT NULL,
+    SALARY_TAXABLE_INCOME NUMBER(19,0) NOT NULL,
+    TOTAL_TAX NUMBER(19,0) NOT NULL,
+    SALARY_TAX NUMBER(19,0) NOT NULL,
+    UPDATED_AT TIMESTAMP DEFAULT SYSTIMESTAMP,
+    CONSTRAINT UK_TAX_PAYROLL_RESULT UNIQUE (EMPLOYEE_ID, TAX_YEAR, PAY_MONTH)
+);
+
+CREATE INDEX IDX_TAX_PAYROLL_RESULT_INCOME ON CORE.TAX_PAYROLL_RESULT(BRACKET_TYPE, TAXABLE_INCOME);
+CREATE INDEX IDX_TAX_PAYROLL_RESULT_ZONE ON CORE.TAX_PAYROLL_RESULT(WAGE_ZONE, GROSS_SALARY);
@@ -0,0 +1,12 @@
+-- One version per bounded context, bumped in the same transaction as every reference-data
+-- write. Replicas poll it to drop in-process caches after writes made elsewhere.
+CREATE TABLE CORE.REFERENCE_DATA_VERSION (
+    CONTEXT VARCHAR2(50) PRIMARY KEY,
+    VERSION NUMBER(19) DEFAULT 0 NOT NULL,
+    UPDATED_AT TIMESTAMP DEFAULT SYSTIMESTAMP
+);
+
+INSERT INTO CORE.REFERENCE_DATA_VERSION (CONTEXT) VALUES ('TAX');
+INSERT INTO CORE.REFERENCE_DATA_VERSION (CONTEXT) VALUES ('CATEGORY');
+INSERT INTO CORE.REFERENCE_DATA_VERSION (CONTEXT) VALUES ('CURRENCY');
+INSERT INTO CORE.REFERENCE_DATA_VERSION (CONTEXT) VALUES ('SETTINGS');
@@ -0,0 +1,14 @@
+-- Transactional outbox: domain events written in the same transaction as the aggregate
+-- change and removed once every projection handler has processed them. Dispatched in
+-- ID order; ATTEMPTS and LAST_ERROR record failed deliveries, which are retried up to a
+-- configured limit and then parked in place.
+CREATE TABLE CORE.OUTBOX_EVENT (
+    ID NUMBER(19) GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    AGGREGATE_TYPE VARCHAR2(50) NOT NULL,
+    AGGREGATE_ID VARCHAR2(100) NOT NULL,
+    EVENT_TYPE VARCHAR2(100) NOT NULL,
+    PAYLOAD VARCHAR2(4000) NOT NULL,
+    CREATED_AT TIMESTAMP DEFAULT SYSTIMESTAMP NOT NULL,
+    ATTEMPTS NUMBER(10) DEFAULT 0 NOT NULL,
+    LAST_ERROR VARCHAR2(1000)
+);
@@ -0,0 +1,25 @@
+-- Income and expense totals per (month, category, account, currency), maintained in
+-- the same transaction as the journal. Uncategorized entries use category 0; roll-up
+-- to parent categories happens at query time, so re-parenting needs no rewrite.
+CREATE TABLE CORE.spending_cube (
+    period_month DATE NOT NULL,
+    category_id NUMBER NOT NULL,
+    account_id NUMBER NOT NULL,
+    currency VARCHAR2(10) NOT NULL,
+    income NUMBER(19, 4) DEFAULT 0 NOT NULL,
+    expense NUMBER(19, 4) DEFAULT 0 NOT NULL,
+    entry_count NUMBER(19) DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_spending_cube PRIMARY KEY (period_month, category_id, account_id, currency),
+    CONSTRAINT fk_spending_cube_account FOREIGN KEY (account_id) REFERENCES CORE.account(id)
+);
+
+CREATE INDEX idx_spending_cube_account_month ON CORE.spending_cube(account_id, period_month);
+
+-- Backfill from the existing journal
+INSERT INTO CORE.spending_cube (period_month, category_id, account_id, currency, income, expense, entry_count)
+SELECT TRUNC(occurred_on, 'MM'), COALESCE(category_id, 0), account_id, currency,
+       SUM(CASE WHEN direction = 'INCOME' THEN amount ELSE 0 END),
+       SUM(CASE WHEN direction = 'EXPENSE' THEN amount ELSE 0 END),
+       COUNT(*)
+FROM CORE.ledger_journal
+GROUP BY TRUNC(occurred_on, 'MM'), COALESCE(category_id, 0), account_id, currency;
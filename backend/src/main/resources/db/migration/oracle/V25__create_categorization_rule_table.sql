@@ -0,0 +1,18 @@
+-- Keyword rules that assign a category to uncategorized transactions. A rule applies
+-- when its keyword occurs as whole words in the folded description and the optional
+-- account and amount bounds hold; the highest priority wins.
+CREATE TABLE CORE.categorization_rule (
+    id NUMBER(19) GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    keyword VARCHAR2(200) NOT NULL,
+    category_id NUMBER NOT NULL,
+    account_id NUMBER,
+    min_amount NUMBER(19, 4),
+    max_amount NUMBER(19, 4),
+    priority NUMBER(10) DEFAULT 0 NOT NULL,
+    active NUMBER(1) DEFAULT 1 NOT NULL,
+    created_at TIMESTAMP DEFAULT SYSTIMESTAMP NOT NULL,
+    CONSTRAINT fk_categorization_rule_category FOREIGN KEY (category_id) REFERENCES CORE.categories(id) ON DELETE CASCADE,
+    CONSTRAINT fk_categorization_rule_account FOREIGN KEY (account_id) REFERENCES CORE.account(id) ON DELETE CASCADE
+);
+
+INSERT INTO CORE.REFERENCE_DATA_VERSION (CONTEXT) VALUES ('CATEGORIZATION_RULE');
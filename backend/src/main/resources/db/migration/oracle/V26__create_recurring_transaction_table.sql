@@ -0,0 +1,26 @@
+-- Templates of transactions that repeat every interval_count days, weeks, months or
+-- years from start_date. next_run_on is the date of the next occurrence still to be
+-- journaled, NULL once end_date is passed; the scheduler reads due templates through
+-- its index, so a poll costs the number of due templates, not of all templates.
+CREATE TABLE CORE.recurring_transaction (
+    id NUMBER(19) GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    account_id NUMBER NOT NULL,
+    category_id NUMBER,
+    direction VARCHAR2(10) NOT NULL CHECK (direction IN ('INCOME', 'EXPENSE')),
+    amount NUMBER(19, 4) NOT NULL CHECK (amount > 0),
+    currency VARCHAR2(10) NOT NULL,
+    description VARCHAR2(1000),
+    frequency VARCHAR2(10) NOT NULL CHECK (frequency IN ('DAILY', 'WEEKLY', 'MONTHLY', 'YEARLY')),
+    interval_count NUMBER(10) DEFAULT 1 NOT NULL CHECK (interval_count > 0),
+    start_date DATE NOT NULL,
+    end_date DATE,
+    occurrences_generated NUMBER(10) DEFAULT 0 NOT NULL,
+    next_run_on DATE,
+    version NUMBER(19) DEFAULT 0 NOT NULL,
+    CONSTRAINT fk_recurring_transaction_account FOREIGN KEY (account_id) REFERENCES CORE.account(id) ON DELETE CASCADE,
+    CONSTRAINT fk_recurring_transaction_category FOREIGN KEY (category_id) REFERENCES CORE.categories(id) ON DELETE SET NULL
+);
+
+-- Finished templates have no next run and stay out of this index
+CREATE INDEX idx_recurring_transaction_next_run ON CORE.recurring_transaction(next_run_on);
+CREATE INDEX idx_recurring_transaction_account ON CORE.recurring_transaction(account_id);
@@ -0,0 +1,2 @@
+-- Account names are cached in process by the name search index
+INSERT INTO CORE.REFERENCE_DATA_VERSION (CONTEXT) VALUES ('ACCOUNT');
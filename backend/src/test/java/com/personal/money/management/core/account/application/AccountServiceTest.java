@@ -1,14 +1,20 @@
 package com.personal.money.management.core.account.application;
 
 import com.personal.money.management.core.account.application.exception.AccountNotFoundException;
+import com.personal.money.management.core.account.domain.event.AccountDeletedEvent;
+import com.personal.money.management.core.account.domain.event.AccountSavedEvent;
 import com.personal.money.management.core.account.domain.model.Account;
 import com.personal.money.management.core.account.domain.model.AccountType;
 import com.personal.money.management.core.account.domain.repository.AccountRepository;
 import com.personal.money.management.core.shared.domain.valueobject.AccountName;
 import com.personal.money.management.core.shared.domain.valueobject.Money;
 import com.personal.money.management.core.shared.domain.valueobject.CurrencyCode;
+import com.personal.money.management.core.shared.infrastructure.outbox.Outbox;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataContext;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
@@ -21,12 +27,18 @@ import static org.mockito.Mockito.*;
 class AccountServiceTest {
 
     private AccountRepository accountRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private Outbox outbox;
+    private ReferenceDataVersions referenceDataVersions;
     private AccountService accountService;
 
     @BeforeEach
     void setUp() {
+        eventPublisher = mock(ApplicationEventPublisher.class);
         accountRepository = mock(AccountRepository.class);
-        accountService = new AccountService(accountRepository);
+        outbox = mock(Outbox.class);
+        referenceDataVersions = mock(ReferenceDataVersions.class);
+        accountService = new AccountService(accountRepository, eventPublisher, outbox, referenceDataVersions);
     }
 
     @Test
@@ -40,6 +52,9 @@ class AccountServiceTest {
 
         assertEquals(account, created);
         verify(accountRepository).save(account);
+        verify(eventPublisher).publishEvent(any(AccountSavedEvent.class));
+        verify(outbox).append(eq("Account"), eq(account.getId()), any(AccountSavedEvent.class));
+        verify(referenceDataVersions).bump(ReferenceDataContext.ACCOUNT);
     }
 
     @Test
@@ -88,6 +103,9 @@ class AccountServiceTest {
         accountService.deleteAccount(id);
 
         verify(accountRepository).deleteById(id);
+        verify(eventPublisher).publishEvent(any(AccountDeletedEvent.class));
+        verify(outbox).append(eq("Account"), eq(id), any(AccountDeletedEvent.class));
+        verify(referenceDataVersions).bump(ReferenceDataContext.ACCOUNT);
     }
 
     @Test
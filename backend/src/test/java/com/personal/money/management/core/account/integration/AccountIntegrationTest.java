@@ -10,6 +10,7 @@ import com.personal.money.management.core.shared.domain.valueobject.Money;
 import com.personal.money.management.core.shared.domain.valueobject.CurrencyCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
@@ -17,12 +18,22 @@ import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.*;
 
 import java.math.BigDecimal;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+/**
+ * Isolated because the total balance spans every account, including those other
+ * test classes create; only the accounts named here are removed between tests, as
+ * accounts with ledger entries cannot be deleted.
+ */
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Isolated
 public class AccountIntegrationTest {
 
+    private static final Set<String> ACCOUNT_NAMES = Set.of(
+            "Integration Test Account", "Updated Account", "Old Account", "Delete Account", "A1", "A2", "A3");
+
     @LocalServerPort
     private int port;
 
@@ -37,7 +48,9 @@ public class AccountIntegrationTest {
     @BeforeEach
     void setUp() {
         baseUrl = "http://localhost:" + port + "/api/accounts";
-        accountRepository.findAll().forEach(account -> accountRepository.deleteById(account.getId()));
+        accountRepository.findAll().stream()
+                .filter(account -> ACCOUNT_NAMES.contains(account.getName().getValue()))
+                .forEach(account -> accountRepository.deleteById(account.getId()));
     }
 
     @Test
@@ -115,6 +128,7 @@ public class AccountIntegrationTest {
         Money balance3 = Money.of(BigDecimal.valueOf(200), CurrencyCode.of("USD"));
         Account a3 = new Account(name3, balance3, AccountType.CREDIT_CARD, "desc3");
         
+        BigDecimal before = restTemplate.getForObject(baseUrl + "/total-balance", BigDecimal.class);
         accountRepository.save(a1);
         accountRepository.save(a2);
         accountRepository.save(a3);
@@ -123,6 +137,6 @@ public class AccountIntegrationTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         BigDecimal total = response.getBody();
         assertNotNull(total);
-        assertEquals(0, BigDecimal.valueOf(300).compareTo(total));
+        assertEquals(0, BigDecimal.valueOf(300).compareTo(total.subtract(before)));
     }
 }
@@ -0,0 +1,120 @@
+package com.personal.money.management.core.category.application;
+
+import com.personal.money.management.core.account.application.exception.AccountNotFoundException;
+import com.personal.money.management.core.account.domain.repository.AccountRepository;
+import com.personal.money.management.core.category.application.exception.CategorizationRuleNotFoundException;
+import com.personal.money.management.core.category.application.exception.CategoryNotFoundException;
+import com.personal.money.management.core.category.domain.model.CategorizationRule;
+import com.personal.money.management.core.category.domain.model.Category;
+import com.personal.money.management.core.category.domain.model.CategoryType;
+import com.personal.money.management.core.category.domain.repository.CategorizationRuleRepository;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataContext;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CategorizationRuleServiceTest {
+
+    private static final Category GROCERIES = Category.reconstruct(1L, "Groceries", "icon", CategoryType.EXPENSE, null);
+    private static final Category SALARY = Category.reconstruct(2L, "Salary", "icon", CategoryType.INCOME, null);
+
+    private CategorizationRuleRepository ruleRepository;
+    private CategoryService categoryService;
+    private AccountRepository accountRepository;
+    private ReferenceDataVersions referenceDataVersions;
+    private CategorizationRuleService service;
+
+    @BeforeEach
+    void setUp() {
+        ruleRepository = mock(CategorizationRuleRepository.class);
+        categoryService = mock(CategoryService.class);
+        accountRepository = mock(AccountRepository.class);
+        referenceDataVersions = mock(ReferenceDataVersions.class);
+        service = new CategorizationRuleService(ruleRepository, categoryService, accountRepository, referenceDataVersions);
+
+        when(categoryService.getCatalog()).thenReturn(CategoryCatalog.of(1, List.of(GROCERIES, SALARY)));
+        when(ruleRepository.findAll()).thenReturn(List.of(rule(10L, "whole foods", 1L), rule(11L, "payroll", 2L)));
+    }
+
+    @Test
+    void categorize_shouldCompileRulesOnceAndReuseTheEngine() {
+        assertEquals(Optional.of(1L), categorize("WHOLE FOODS MARKET", CategoryType.EXPENSE));
+        assertEquals(Optional.of(2L), categorize("ACME PAYROLL", CategoryType.INCOME));
+        assertEquals(Optional.empty(), categorize("ACME PAYROLL", CategoryType.EXPENSE));
+
+        verify(ruleRepository, times(1)).findAll();
+    }
+
+    @Test
+    void categorize_shouldRecompileAfterARuleWrite() {
+        categorize("WHOLE FOODS MARKET", CategoryType.EXPENSE);
+        when(ruleRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(ruleRepository.findAll()).thenReturn(List.of(rule(12L, "trader joe", 1L)));
+
+        service.createRule("Trader Joe", 1L, null, null, null, 0, true);
+
+        assertEquals(Optional.empty(), categorize("WHOLE FOODS MARKET", CategoryType.EXPENSE));
+        assertEquals(Optional.of(1L), categorize("TRADER JOE'S #55", CategoryType.EXPENSE));
+        verify(referenceDataVersions).bump(ReferenceDataContext.CATEGORIZATION_RULE);
+    }
+
+    @Test
+    void categorize_shouldRecompileWhenTheCatalogChanges() {
+        categorize("WHOLE FOODS MARKET", CategoryType.EXPENSE);
+        // Groceries deleted elsewhere: its rule drops out of the next engine
+        when(categoryService.getCatalog()).thenReturn(CategoryCatalog.of(2, List.of(SALARY)));
+
+        assertEquals(Optional.empty(), categorize("WHOLE FOODS MARKET", CategoryType.EXPENSE));
+        verify(ruleRepository, times(2)).findAll();
+    }
+
+    @Test
+    void referenceDataChanged_shouldRecompileOnNextUse() {
+        categorize("WHOLE FOODS MARKET", CategoryType.EXPENSE);
+
+        service.referenceDataChanged();
+        categorize("WHOLE FOODS MARKET", CategoryType.EXPENSE);
+
+        verify(ruleRepository, times(2)).findAll();
+    }
+
+    @Test
+    void createRule_shouldRejectUnknownCategoryAndAccount() {
+        assertThrows(CategoryNotFoundException.class, () -> service.createRule("x", 99L, null, null, null, 0, true));
+        when(accountRepository.findById(5L)).thenReturn(Optional.empty());
+        assertThrows(AccountNotFoundException.class, () -> service.createRule("x", 1L, 5L, null, null, 0, true));
+        verify(ruleRepository, never()).save(any());
+        verifyNoInteractions(referenceDataVersions);
+    }
+
+    @Test
+    void createRule_shouldRejectInvalidRule() {
+        assertThrows(IllegalArgumentException.class, () -> service.createRule("--", 1L, null, null, null, 0, true));
+        assertThrows(IllegalArgumentException.class, () -> service.createRule("rent", 1L, null,
+                new BigDecimal("10"), new BigDecimal("5"), 0, true));
+    }
+
+    @Test
+    void deleteRule_withUnknownId_shouldThrow() {
+        when(ruleRepository.findById(42L)).thenReturn(Optional.empty());
+
+        assertThrows(CategorizationRuleNotFoundException.class, () -> service.deleteRule(42L));
+        verify(ruleRepository, never()).deleteById(any());
+    }
+
+    private Optional<Long> categorize(String description, CategoryType type) {
+        return service.categorize(description, 3L, BigDecimal.TEN, type);
+    }
+
+    private static CategorizationRule rule(Long id, String keyword, Long categoryId) {
+        return CategorizationRule.reconstruct(id, keyword, categoryId, null, null, null, 0, true);
+    }
+}
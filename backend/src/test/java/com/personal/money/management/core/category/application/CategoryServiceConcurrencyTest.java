@@ -5,8 +5,11 @@ import com.personal.money.management.core.category.domain.CategoryFactory;
 import com.personal.money.management.core.category.domain.model.Category;
 import com.personal.money.management.core.category.domain.model.CategoryType;
 import com.personal.money.management.core.category.domain.repository.CategoryRepository;
+import com.personal.money.management.core.shared.infrastructure.outbox.Outbox;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 import org.mockito.Mockito;
 import org.springframework.dao.OptimisticLockingFailureException;
 
@@ -28,7 +31,8 @@ public class CategoryServiceConcurrencyTest {
     @BeforeEach
     public void setUp() {
         categoryRepository = mock(CategoryRepository.class);
-        categoryService = new CategoryService(categoryRepository);
+        categoryService = new CategoryService(categoryRepository, mock(ApplicationEventPublisher.class),
+                mock(ReferenceDataVersions.class), mock(Outbox.class));
     }
 
     @Test
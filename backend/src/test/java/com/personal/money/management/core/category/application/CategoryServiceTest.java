@@ -5,11 +5,17 @@ import com.personal.money.management.core.category.application.exception.Categor
 import com.personal.money.management.core.category.application.exception.CategoryConflictException;
 import com.personal.money.management.core.category.application.exception.CategoryHasChildException;
 import com.personal.money.management.core.category.domain.CategoryFactory;
+import com.personal.money.management.core.category.domain.event.CategorySavedEvent;
 import com.personal.money.management.core.category.domain.model.Category;
+import com.personal.money.management.core.category.domain.model.CategoryNode;
 import com.personal.money.management.core.category.domain.model.CategoryType;
 import com.personal.money.management.core.category.domain.repository.CategoryRepository;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataContext;
+import com.personal.money.management.core.shared.infrastructure.outbox.Outbox;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 import org.mockito.ArgumentCaptor;
 
 import java.util.Collections;
@@ -26,12 +32,18 @@ import static org.mockito.Mockito.*;
  */
 class CategoryServiceTest {
     private CategoryRepository categoryRepository;
+    private ApplicationEventPublisher eventPublisher;
     private CategoryService categoryService;
+    private ReferenceDataVersions referenceDataVersions;
+    private Outbox outbox;
 
     @BeforeEach
     void setUp() {
+        eventPublisher = mock(ApplicationEventPublisher.class);
         categoryRepository = mock(CategoryRepository.class);
-        categoryService = new CategoryService(categoryRepository);
+        referenceDataVersions = mock(ReferenceDataVersions.class);
+        outbox = mock(Outbox.class);
+        categoryService = new CategoryService(categoryRepository, eventPublisher, referenceDataVersions, outbox);
     }
 
     @Test
@@ -62,6 +74,9 @@ class CategoryServiceTest {
         assertEquals(icon, toSave.getIcon());
         assertEquals(type, toSave.getType());
         assertEquals(parent, toSave.getParent());
+        verify(eventPublisher).publishEvent(any(CategorySavedEvent.class));
+        verify(outbox).append(eq("Category"), eq(2L), any(CategorySavedEvent.class));
+        verify(referenceDataVersions).bump(ReferenceDataContext.CATEGORY);
     }
 
     @Test
@@ -100,6 +115,77 @@ class CategoryServiceTest {
         verify(categoryRepository).findAllSortedByName();
     }
 
+    @Test
+    void getCategoryTree_shouldLinkChildrenUnderParentsInOnePass() {
+        Category food = Category.reconstruct(1L, "Food", "f", CategoryType.EXPENSE, null);
+        Category transport = Category.reconstruct(2L, "Transport", "tr", CategoryType.EXPENSE, null);
+        when(categoryRepository.findAllSortedByName()).thenReturn(List.of(
+                Category.reconstruct(3L, "Bus", "b", CategoryType.EXPENSE, transport),
+                food,
+                Category.reconstruct(4L, "Taxi", "t", CategoryType.EXPENSE, transport),
+                transport));
+
+        List<CategoryNode> tree = categoryService.getCategoryTree();
+
+        assertEquals(2, tree.size());
+        assertEquals("Food", tree.get(0).getName());
+        assertEquals("Transport", tree.get(1).getName());
+        assertEquals(List.of("Bus", "Taxi"), tree.get(1).getChildren().stream().map(CategoryNode::getName).toList());
+        verify(categoryRepository, never()).findById(any());
+    }
+
+    @Test
+    void getCatalog_shouldBeReusedUntilAWriteInvalidatesIt() {
+        Category food = Category.reconstruct(1L, "Food", "f", CategoryType.EXPENSE, null);
+        when(categoryRepository.findAllSortedByName()).thenReturn(List.of(food));
+
+        CategoryCatalog first = categoryService.getCatalog();
+        assertSame(first, categoryService.getCatalog());
+        assertEquals(food, categoryService.getAllCategoriesSortedByName().get(0));
+        assertEquals(food, first.findById(1L).orElseThrow());
+        verify(categoryRepository, times(1)).findAllSortedByName();
+
+        when(categoryRepository.findByName("Bills")).thenReturn(Optional.empty());
+        when(categoryRepository.save(any(Category.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        categoryService.createCategory("Bills", "b", CategoryType.EXPENSE, null);
+
+        CategoryCatalog second = categoryService.getCatalog();
+        assertNotSame(first, second);
+        assertTrue(second.getVersion() > first.getVersion());
+        verify(categoryRepository, times(2)).findAllSortedByName();
+    }
+
+    @Test
+    void getCatalog_shouldBeRebuiltAfterAWriteOnAnotherInstance() {
+        when(categoryRepository.findAllSortedByName()).thenReturn(List.of());
+        CategoryCatalog first = categoryService.getCatalog();
+
+        categoryService.referenceDataChanged();
+
+        assertNotSame(first, categoryService.getCatalog());
+        verify(categoryRepository, times(2)).findAllSortedByName();
+        verify(referenceDataVersions, never()).bump(any());
+    }
+
+    @Test
+    void getCatalog_shouldNotBeModifiable() {
+        when(categoryRepository.findAllSortedByName()).thenReturn(List.of(
+                Category.reconstruct(1L, "Food", "f", CategoryType.EXPENSE, null)));
+
+        CategoryCatalog catalog = categoryService.getCatalog();
+
+        assertThrows(UnsupportedOperationException.class, () -> catalog.getCategories().clear());
+        assertThrows(UnsupportedOperationException.class, () -> catalog.getTree().clear());
+    }
+
+    @Test
+    void getDescendants_shouldThrowIfCategoryNotFound() {
+        when(categoryRepository.findById(5L)).thenReturn(Optional.empty());
+
+        assertThrows(CategoryNotFoundException.class, () -> categoryService.getDescendants(5L));
+        verify(categoryRepository, never()).findDescendants(any());
+    }
+
     @Test
     void updateCategory_shouldUpdateAndSaveCategory() {
         Long categoryId = 1L;
@@ -175,6 +261,7 @@ class CategoryServiceTest {
 
         when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(category));
         when(categoryRepository.findById(parentId)).thenReturn(Optional.of(parent));
+        when(categoryRepository.isInSubtree(categoryId, parentId)).thenReturn(true);
 
         assertThrows(CategoryCyclicDependencyException.class, () -> {
             categoryService.updateCategory(categoryId, "name", "icon", CategoryType.EXPENSE, parentId);
@@ -0,0 +1,100 @@
+package com.personal.money.management.core.category.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategorizationEngineTest {
+
+    private static final Map<Long, CategoryType> TYPES = Map.of(
+            1L, CategoryType.EXPENSE, 2L, CategoryType.EXPENSE, 3L, CategoryType.INCOME, 4L, CategoryType.EXPENSE);
+
+    @Test
+    void classify_shouldMatchWholeWordsIgnoringCaseAccentsAndPunctuation() {
+        CategorizationEngine engine = CategorizationEngine.compile(List.of(rule(10L, "Cà phê", 1L, 0)), TYPES);
+
+        assertEquals(Optional.of(10L), classify(engine, "POS *CA-PHE Highlands #221", "5"));
+        assertEquals(Optional.empty(), classify(engine, "Capheine supplements", "5"));
+    }
+
+    @Test
+    void classify_shouldPreferPriorityThenTheLongestKeyword() {
+        CategorizationEngine engine = CategorizationEngine.compile(List.of(
+                rule(10L, "uber", 1L, 0),
+                rule(11L, "uber eats", 2L, 0),
+                rule(12L, "eats", 4L, 5)), TYPES);
+
+        assertEquals(Optional.of(12L), classify(engine, "UBER EATS order", "20"));
+        assertEquals(Optional.of(10L), classify(engine, "Uber trip", "20"));
+
+        CategorizationEngine samePriority = CategorizationEngine.compile(List.of(
+                rule(10L, "uber", 1L, 0),
+                rule(11L, "uber eats", 2L, 0)), TYPES);
+        assertEquals(Optional.of(11L), classify(samePriority, "UBER EATS order", "20"));
+    }
+
+    @Test
+    void classify_shouldFindKeywordsThatAreSuffixesOfPartialMatches() {
+        // "she sells" fails over to "sells" on the shared suffix
+        CategorizationEngine engine = CategorizationEngine.compile(List.of(
+                rule(10L, "she sells shells", 1L, 0),
+                rule(11L, "sells", 2L, 0)), TYPES);
+
+        assertEquals(Optional.of(11L), classify(engine, "she sells sea shells", "1"));
+    }
+
+    @Test
+    void classify_shouldApplyAccountAmountAndTypePredicates() {
+        CategorizationEngine engine = CategorizationEngine.compile(List.of(
+                CategorizationRule.reconstruct(10L, "transfer", 1L, 9L, null, null, 10, true),
+                CategorizationRule.reconstruct(11L, "transfer", 2L, null, new BigDecimal("100"), new BigDecimal("500"), 5, true),
+                CategorizationRule.reconstruct(12L, "transfer", 3L, null, null, null, 0, true)), TYPES);
+
+        assertEquals(Optional.of(10L), engine.classify("Transfer", 9L, new BigDecimal("50"), CategoryType.EXPENSE)
+                .map(CategorizationRule::getId));
+        assertEquals(Optional.of(11L), engine.classify("Transfer", 8L, new BigDecimal("100"), CategoryType.EXPENSE)
+                .map(CategorizationRule::getId));
+        assertEquals(Optional.empty(), engine.classify("Transfer", 8L, new BigDecimal("501"), CategoryType.EXPENSE));
+        assertEquals(Optional.of(12L), engine.classify("Transfer", 9L, new BigDecimal("50"), CategoryType.INCOME)
+                .map(CategorizationRule::getId));
+    }
+
+    @Test
+    void compile_shouldLeaveOutInactiveRulesAndRulesOfMissingCategories() {
+        CategorizationEngine engine = CategorizationEngine.compile(List.of(
+                CategorizationRule.reconstruct(10L, "rent", 1L, null, null, null, 0, false),
+                rule(11L, "rent", 99L, 0)), TYPES);
+
+        assertEquals(0, engine.size());
+        assertEquals(Optional.empty(), classify(engine, "Rent May", "900"));
+    }
+
+    @Test
+    void classify_shouldAgreeWithScanningEveryRule() {
+        List<CategorizationRule> rules = new ArrayList<>();
+        for (long i = 0; i < 2_000; i++) {
+            rules.add(rule(i, "merchant " + i, 1L + i % 2, (int) (i % 7)));
+        }
+        CategorizationEngine engine = CategorizationEngine.compile(rules, TYPES);
+
+        assertEquals(2_000, engine.size());
+        assertEquals(Optional.of(1234L), classify(engine, "card payment MERCHANT 1234 ref 77", "1"));
+        // "merchant 12" and "merchant 123" are not whole-word matches in "merchant 1234"
+        assertEquals(Optional.of(12L), classify(engine, "merchant 12 and merchant 1234", "1"));
+        assertEquals(Optional.empty(), classify(engine, "merchant", "1"));
+    }
+
+    private static Optional<Long> classify(CategorizationEngine engine, String description, String amount) {
+        return engine.classify(description, 1L, new BigDecimal(amount), CategoryType.EXPENSE).map(CategorizationRule::getId);
+    }
+
+    private static CategorizationRule rule(Long id, String keyword, Long categoryId, int priority) {
+        return CategorizationRule.reconstruct(id, keyword, categoryId, null, null, null, priority, true);
+    }
+}
@@ -1,6 +1,7 @@
 package com.personal.money.management.core.category.infrastructure.persistence;
 
 import com.personal.money.management.core.category.domain.model.Category;
+import com.personal.money.management.core.category.domain.model.CategoryNode;
 import com.personal.money.management.core.category.domain.model.CategoryType;
 import com.personal.money.management.core.category.domain.repository.CategoryRepository;
 import org.junit.jupiter.api.Test;
@@ -9,6 +10,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import com.personal.money.management.core.PersonalMoneyManagementApplication;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -45,4 +47,32 @@ class CategoryRepositoryImplIntegrationTest {
         assertNotNull(foundChild.getParent());
         assertEquals(savedParent.getId(), foundChild.getParent().getId());
     }
+
+    @Test
+    void closure_shouldFollowCreateMoveAndDelete() {
+        Category root = categoryRepository.save(new Category("Root", "r", CategoryType.EXPENSE, null));
+        Category other = categoryRepository.save(new Category("Other", "o", CategoryType.EXPENSE, null));
+        Category child = categoryRepository.save(new Category("Child", "c", CategoryType.EXPENSE, root));
+        Category grandChild = categoryRepository.save(new Category("GrandChild", "g", CategoryType.EXPENSE, child));
+
+        assertEquals(List.of("Child", "GrandChild"), names(categoryRepository.findDescendants(root.getId())));
+        assertTrue(categoryRepository.isInSubtree(root.getId(), grandChild.getId()));
+        assertTrue(categoryRepository.isInSubtree(child.getId(), child.getId()));
+        assertFalse(categoryRepository.isInSubtree(grandChild.getId(), root.getId()));
+
+        // move the Child subtree below Other
+        child.setParent(other);
+        categoryRepository.save(child);
+
+        assertTrue(categoryRepository.findDescendants(root.getId()).isEmpty());
+        assertEquals(List.of("Child", "GrandChild"), names(categoryRepository.findDescendants(other.getId())));
+        assertTrue(categoryRepository.isInSubtree(other.getId(), grandChild.getId()));
+
+        categoryRepository.deleteById(grandChild.getId());
+        assertEquals(List.of("Child"), names(categoryRepository.findDescendants(other.getId())));
+    }
+
+    private static List<String> names(List<CategoryNode> nodes) {
+        return nodes.stream().map(CategoryNode::getName).toList();
+    }
 }
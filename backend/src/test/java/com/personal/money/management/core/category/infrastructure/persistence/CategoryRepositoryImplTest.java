@@ -20,12 +20,15 @@ class CategoryRepositoryImplTest {
     @Mock
     private CategoryJpaRepository jpa;
 
+    @Mock
+    private CategoryClosureJpaRepository closure;
+
     private CategoryRepositoryImpl repo;
 
     @BeforeEach
     void init() {
         MockitoAnnotations.openMocks(this);
-        repo = new CategoryRepositoryImpl(jpa);
+        repo = new CategoryRepositoryImpl(jpa, closure);
     }
 
     @Test
@@ -53,6 +56,26 @@ class CategoryRepositoryImplTest {
         Category out = repo.save(existingDomain);
         assertThat(out).isNotNull();
         verify(jpa).findById(20L);
+        // the new category got its self path, the unchanged parent needs no closure update
+        verify(closure).save(any(CategoryClosureEntity.class));
+        verify(closure, never()).detachSubtree(any());
+    }
+
+    @Test
+    void save_moving_category_rewires_closure() {
+        CategoryEntity oldParent = new CategoryEntity(1L, "Old", "o", CategoryType.EXPENSE, null, 1L);
+        CategoryEntity newParent = new CategoryEntity(2L, "New", "n", CategoryType.EXPENSE, null, 1L);
+        CategoryEntity existing = new CategoryEntity(3L, "Child", "c", CategoryType.EXPENSE, oldParent, 1L);
+        when(jpa.findById(3L)).thenReturn(Optional.of(existing));
+        when(jpa.findById(2L)).thenReturn(Optional.of(newParent));
+        when(jpa.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        Category moved = Category.reconstruct(3L, "Child", "c", CategoryType.EXPENSE,
+                Category.reconstruct(2L, "New", "n", CategoryType.EXPENSE, null));
+        repo.save(moved);
+
+        verify(closure).detachSubtree(3L);
+        verify(closure).attachSubtree(3L, 2L);
     }
 
     @Test
@@ -68,6 +91,7 @@ class CategoryRepositoryImplTest {
         assertThat(all).hasSize(1);
 
         repo.deleteById(1L);
+        verify(closure).deleteAllPaths(1L);
         verify(jpa).deleteById(1L);
     }
 
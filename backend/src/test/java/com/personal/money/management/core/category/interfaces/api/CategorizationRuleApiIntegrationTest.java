@@ -0,0 +1,141 @@
+package com.personal.money.management.core.category.interfaces.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.money.management.core.PersonalMoneyManagementApplication;
+import com.personal.money.management.core.account.domain.model.Account;
+import com.personal.money.management.core.account.domain.model.AccountType;
+import com.personal.money.management.core.account.domain.repository.AccountRepository;
+import com.personal.money.management.core.category.application.CategoryService;
+import com.personal.money.management.core.category.domain.model.CategoryType;
+import com.personal.money.management.core.category.interfaces.api.dto.CategorizationRuleRequest;
+import com.personal.money.management.core.ledger.domain.model.TransactionDirection;
+import com.personal.money.management.core.ledger.interfaces.api.dto.TransactionRequest;
+import com.personal.money.management.core.shared.domain.valueobject.AccountName;
+import com.personal.money.management.core.shared.domain.valueobject.CurrencyCode;
+import com.personal.money.management.core.shared.domain.valueobject.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Rules through the API and their effect on transactions recorded without a
+ * category. Keywords are unique per test, as the compiled rules are shared by
+ * every concurrently running test.
+ */
+@SpringBootTest(classes = PersonalMoneyManagementApplication.class)
+@AutoConfigureMockMvc
+@Transactional
+class CategorizationRuleApiIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private CategoryService categoryService;
+
+    private final String merchant = "merchant" + System.nanoTime();
+    private Long accountId;
+    private Long categoryId;
+
+    @BeforeEach
+    void createAccountAndCategory() {
+        accountId = accountRepository.save(new Account(
+                AccountName.of("Rules Wallet " + System.nanoTime()),
+                Money.of(BigDecimal.valueOf(1000), CurrencyCode.of("USD")),
+                AccountType.CASH,
+                null)).getId();
+        categoryId = categoryService.createCategory("Rules " + System.nanoTime(), "icon", CategoryType.EXPENSE, null)
+                .getId();
+    }
+
+    @Test
+    void rules_shouldCategorizeNewTransactionsUntilDeactivated() throws Exception {
+        String id = mockMvc.perform(post("/api/categorization-rules")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(rule(true))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", notNullValue()))
+                .andExpect(jsonPath("$.categoryId").value(categoryId))
+                .andReturn().getResponse().getContentAsString();
+        Long ruleId = objectMapper.readTree(id).get("id").asLong();
+
+        record("POS " + merchant.toUpperCase() + " #12")
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.categoryId").value(categoryId));
+
+        mockMvc.perform(put("/api/categorization-rules/" + ruleId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(rule(false))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.active").value(false));
+
+        record("POS " + merchant + " #13")
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.categoryId").value(nullValue()));
+
+        mockMvc.perform(delete("/api/categorization-rules/" + ruleId))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/categorization-rules/" + ruleId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void create_withUnknownCategory_shouldReturnNotFound() throws Exception {
+        CategorizationRuleRequest request = rule(true);
+        request.setCategoryId(-1L);
+
+        mockMvc.perform(post("/api/categorization-rules")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void create_withBlankKeyword_shouldReturnBadRequest() throws Exception {
+        CategorizationRuleRequest request = rule(true);
+        request.setKeyword(" ");
+
+        mockMvc.perform(post("/api/categorization-rules")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions record(String description) throws Exception {
+        TransactionRequest request = new TransactionRequest();
+        request.setAccountId(accountId);
+        request.setDirection(TransactionDirection.EXPENSE);
+        request.setAmount(new BigDecimal("12.50"));
+        request.setCurrency("USD");
+        request.setOccurredOn(LocalDate.of(2025, 5, 1));
+        request.setDescription(description);
+        return mockMvc.perform(post("/api/ledger/transactions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private CategorizationRuleRequest rule(boolean active) {
+        CategorizationRuleRequest request = new CategorizationRuleRequest();
+        request.setKeyword(merchant);
+        request.setCategoryId(categoryId);
+        request.setActive(active);
+        return request;
+    }
+}
@@ -307,4 +307,47 @@ class CategoryApiIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void getTree_shouldNestChildrenAndRejectMovingParentBelowItsChild() throws Exception {
+        Long food = createCategory("Food", null);
+        Long dining = createCategory("Dining", food);
+        Long coffee = createCategory("Coffee", dining);
+        createCategory("Bills", null);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/categories/tree"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].name").value("Bills"))
+                .andExpect(jsonPath("$[1].name").value("Food"))
+                .andExpect(jsonPath("$[1].children[0].name").value("Dining"))
+                .andExpect(jsonPath("$[1].children[0].children[0].id").value(coffee.intValue()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/categories/{id}/descendants", food))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("Coffee", "Dining")));
+
+        CategoryRequest moveFood = new CategoryRequest();
+        moveFood.setName("Food");
+        moveFood.setIcon("icon");
+        moveFood.setType(CategoryType.EXPENSE);
+        moveFood.setParentId(coffee);
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/categories/{id}", food)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(moveFood)))
+                .andExpect(status().isConflict());
+    }
+
+    private Long createCategory(String name, Long parentId) throws Exception {
+        CategoryRequest request = new CategoryRequest();
+        request.setName(name);
+        request.setIcon("icon");
+        request.setType(CategoryType.EXPENSE);
+        request.setParentId(parentId);
+        String response = mockMvc.perform(post("/api/categories")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
 }
@@ -1,16 +1,22 @@
 package com.personal.money.management.core.category.interfaces.api;
 
+import com.personal.money.management.core.category.application.CategoryCatalog;
 import com.personal.money.management.core.category.application.CategoryService;
 import com.personal.money.management.core.category.domain.model.Category;
 import com.personal.money.management.core.category.domain.model.CategoryType;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.http.MediaType;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.mockito.Mockito.when;
@@ -25,6 +31,7 @@ import static org.mockito.ArgumentMatchers.anyString;
  * Integration tested separately.
  */
 @WebMvcTest(CategoryController.class)
+@Import(CategoryResponseCache.class)
 class CategoryControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -162,4 +169,27 @@ class CategoryControllerTest {
         mockMvc.perform(org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete("/api/categories/{id}", categoryId))
                 .andExpect(status().isConflict());
     }
+
+    @Test
+    void getAllSortedByName_shouldAnswerNotModifiedForMatchingETag() throws Exception {
+        Category category = Category.reconstruct(1L, "Groceries", "shopping_cart", CategoryType.EXPENSE, null);
+        when(categoryService.getCatalog()).thenReturn(CategoryCatalog.of(0L, List.of(category)));
+
+        String etag = mockMvc.perform(get("/api/categories"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$[0].name").value("Groceries"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/categories").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        when(categoryService.getCatalog()).thenReturn(CategoryCatalog.of(1L, List.of(
+                Category.reconstruct(1L, "Groceries", "basket", CategoryType.EXPENSE, null))));
+
+        mockMvc.perform(get("/api/categories").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].icon").value("basket"));
+    }
 }
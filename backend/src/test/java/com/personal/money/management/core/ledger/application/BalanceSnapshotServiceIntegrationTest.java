@@ -0,0 +1,85 @@
+package com.personal.money.management.core.ledger.application;
+
+import com.personal.money.management.core.PersonalMoneyManagementApplication;
+import com.personal.money.management.core.account.domain.model.Account;
+import com.personal.money.management.core.account.domain.model.AccountType;
+import com.personal.money.management.core.account.domain.repository.AccountRepository;
+import com.personal.money.management.core.ledger.domain.model.BalancePoint;
+import com.personal.money.management.core.ledger.domain.model.LedgerTransaction;
+import com.personal.money.management.core.ledger.domain.model.TransactionDirection;
+import com.personal.money.management.core.shared.domain.valueobject.AccountName;
+import com.personal.money.management.core.shared.domain.valueobject.CurrencyCode;
+import com.personal.money.management.core.shared.domain.valueobject.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = PersonalMoneyManagementApplication.class)
+@Transactional
+class BalanceSnapshotServiceIntegrationTest {
+
+    @Autowired
+    private LedgerService ledgerService;
+    @Autowired
+    private BalanceSnapshotService snapshotService;
+    @Autowired
+    private AccountRepository accountRepository;
+
+    private Long accountId;
+
+    @BeforeEach
+    void createAccount() {
+        accountId = accountRepository.save(new Account(
+                AccountName.of("Snapshot Wallet " + System.nanoTime()),
+                Money.of(BigDecimal.valueOf(1000), CurrencyCode.of("USD")),
+                AccountType.CASH,
+                null)).getId();
+    }
+
+    @Test
+    void historicalBalance_shouldMatchJournalBeforeAndAfterCompaction() {
+        ledgerService.recordTransactions(List.of(
+                transaction(TransactionDirection.INCOME, "500", LocalDate.of(2024, 1, 15)),
+                transaction(TransactionDirection.EXPENSE, "120", LocalDate.of(2024, 2, 3)),
+                transaction(TransactionDirection.EXPENSE, "80", LocalDate.of(2024, 3, 20))));
+
+        assertBalance(LocalDate.of(2024, 2, 29), "1380");
+
+        snapshotService.compactAccount(accountId, LocalDateTime.now());
+        assertBalance(LocalDate.of(2024, 1, 14), "1000");
+        assertBalance(LocalDate.of(2024, 2, 29), "1380");
+        assertBalance(LocalDate.of(2024, 12, 31), "1300");
+
+        // Back-dated entry recorded after compaction is picked up from the journal
+        ledgerService.recordTransaction(transaction(TransactionDirection.EXPENSE, "30", LocalDate.of(2024, 1, 20)));
+        assertBalance(LocalDate.of(2024, 2, 29), "1350");
+
+        snapshotService.compactAccount(accountId, LocalDateTime.now());
+        assertBalance(LocalDate.of(2024, 1, 31), "1470");
+        assertBalance(LocalDate.of(2024, 2, 29), "1350");
+
+        List<BalancePoint> history = snapshotService.getMonthlyBalances(accountId, YearMonth.of(2024, 1), YearMonth.of(2024, 4));
+        assertEquals(4, history.size());
+        assertEquals(0, history.get(3).getBalance().compareTo(new BigDecimal("1270")));
+    }
+
+    private void assertBalance(LocalDate date, String expected) {
+        BigDecimal balance = snapshotService.getBalanceAt(accountId, date).getBalance();
+        assertEquals(0, balance.compareTo(new BigDecimal(expected)), "balance on " + date + " was " + balance);
+    }
+
+    private LedgerTransaction transaction(TransactionDirection direction, String amount, LocalDate date) {
+        return new LedgerTransaction(accountId, null, direction,
+                Money.of(new BigDecimal(amount), CurrencyCode.of("USD")), date, null);
+    }
+}
@@ -0,0 +1,122 @@
+package com.personal.money.management.core.ledger.application;
+
+import com.personal.money.management.core.account.domain.model.Account;
+import com.personal.money.management.core.account.domain.model.AccountType;
+import com.personal.money.management.core.account.domain.repository.AccountRepository;
+import com.personal.money.management.core.ledger.domain.model.BalancePoint;
+import com.personal.money.management.core.ledger.domain.model.BalanceSnapshot;
+import com.personal.money.management.core.ledger.domain.model.DailyMovement;
+import com.personal.money.management.core.ledger.domain.model.SnapshotGranularity;
+import com.personal.money.management.core.ledger.domain.repository.AccountBalanceRepository;
+import com.personal.money.management.core.ledger.domain.repository.BalanceSnapshotRepository;
+import com.personal.money.management.core.ledger.domain.repository.LedgerRepository;
+import com.personal.money.management.core.shared.domain.valueobject.AccountName;
+import com.personal.money.management.core.shared.domain.valueobject.CurrencyCode;
+import com.personal.money.management.core.shared.domain.valueobject.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BalanceSnapshotServiceTest {
+
+    private static final Long ACCOUNT_ID = 1L;
+
+    private LedgerRepository ledgerRepository;
+    private AccountBalanceRepository accountBalanceRepository;
+    private BalanceSnapshotRepository snapshotRepository;
+    private AccountRepository accountRepository;
+    private BalanceSnapshotService service;
+
+    @BeforeEach
+    void setUp() {
+        ledgerRepository = mock(LedgerRepository.class);
+        accountBalanceRepository = mock(AccountBalanceRepository.class);
+        snapshotRepository = mock(BalanceSnapshotRepository.class);
+        accountRepository = mock(AccountRepository.class);
+        service = new BalanceSnapshotService(ledgerRepository, accountBalanceRepository, snapshotRepository, accountRepository);
+
+        when(accountRepository.findById(ACCOUNT_ID)).thenReturn(Optional.of(Account.reconstruct(ACCOUNT_ID,
+                AccountName.of("Wallet"), Money.of(BigDecimal.valueOf(1000), CurrencyCode.of("USD")),
+                AccountType.CASH, null, true)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void compactAccount_shouldRebuildFromEarliestAffectedDateWithMonthEnds() {
+        LocalDateTime watermark = LocalDateTime.of(2025, 3, 1, 0, 0);
+        LocalDateTime cutoff = LocalDateTime.of(2025, 4, 10, 12, 0);
+        when(accountBalanceRepository.lockSnapshotWatermark(ACCOUNT_ID)).thenReturn(Optional.of(watermark));
+        when(ledgerRepository.findEarliestDateRecordedBetween(ACCOUNT_ID, watermark, cutoff))
+                .thenReturn(Optional.of(LocalDate.of(2025, 2, 20)));
+        when(snapshotRepository.findLatestOnOrBefore(ACCOUNT_ID, LocalDate.of(2025, 2, 19))).thenReturn(Optional.of(
+                new BalanceSnapshot(ACCOUNT_ID, LocalDate.of(2025, 2, 10), SnapshotGranularity.DAY, new BigDecimal("100"))));
+        when(ledgerRepository.sumDailyMovements(ACCOUNT_ID, LocalDate.of(2025, 2, 10), cutoff)).thenReturn(List.of(
+                new DailyMovement(LocalDate.of(2025, 2, 15), new BigDecimal("10")),
+                new DailyMovement(LocalDate.of(2025, 2, 20), new BigDecimal("-30")),
+                new DailyMovement(LocalDate.of(2025, 4, 2), new BigDecimal("5"))));
+
+        service.compactAccount(ACCOUNT_ID, cutoff);
+
+        verify(snapshotRepository).deleteFrom(ACCOUNT_ID, LocalDate.of(2025, 2, 20));
+        ArgumentCaptor<List<BalanceSnapshot>> captor = ArgumentCaptor.forClass(List.class);
+        verify(snapshotRepository).saveAll(captor.capture());
+        List<BalanceSnapshot> saved = captor.getValue();
+        assertEquals(4, saved.size());
+        assertSnapshot(saved.get(0), LocalDate.of(2025, 2, 20), SnapshotGranularity.DAY, "80");
+        assertSnapshot(saved.get(1), LocalDate.of(2025, 2, 28), SnapshotGranularity.MONTH, "80");
+        assertSnapshot(saved.get(2), LocalDate.of(2025, 3, 31), SnapshotGranularity.MONTH, "80");
+        assertSnapshot(saved.get(3), LocalDate.of(2025, 4, 2), SnapshotGranularity.DAY, "85");
+        verify(accountBalanceRepository).updateSnapshotWatermark(ACCOUNT_ID, cutoff);
+    }
+
+    @Test
+    void compactAccount_withoutNewEntries_shouldOnlyAdvanceWatermark() {
+        LocalDateTime cutoff = LocalDateTime.of(2025, 4, 10, 12, 0);
+        when(accountBalanceRepository.lockSnapshotWatermark(ACCOUNT_ID)).thenReturn(Optional.empty());
+        when(ledgerRepository.findEarliestDateRecordedBetween(eq(ACCOUNT_ID), any(), eq(cutoff))).thenReturn(Optional.empty());
+
+        service.compactAccount(ACCOUNT_ID, cutoff);
+
+        verify(snapshotRepository, never()).saveAll(anyList());
+        verify(accountBalanceRepository).updateSnapshotWatermark(ACCOUNT_ID, cutoff);
+    }
+
+    @Test
+    void getBalanceAt_shouldCombineSnapshotTailAndBackdatedEntries() {
+        LocalDateTime watermark = LocalDateTime.of(2025, 3, 1, 0, 0);
+        LocalDate snapshotDate = LocalDate.of(2025, 1, 31);
+        LocalDate date = LocalDate.of(2025, 2, 14);
+        when(accountBalanceRepository.findSnapshotWatermark(ACCOUNT_ID)).thenReturn(Optional.of(watermark));
+        when(snapshotRepository.findLatestOnOrBefore(ACCOUNT_ID, date)).thenReturn(Optional.of(
+                new BalanceSnapshot(ACCOUNT_ID, snapshotDate, SnapshotGranularity.MONTH, new BigDecimal("-200"))));
+        when(ledgerRepository.sumMovements(ACCOUNT_ID, snapshotDate, date)).thenReturn(new BigDecimal("50"));
+        when(ledgerRepository.sumMovementsRecordedAfter(ACCOUNT_ID, watermark, snapshotDate)).thenReturn(new BigDecimal("-5"));
+
+        BalancePoint point = service.getBalanceAt(ACCOUNT_ID, date);
+
+        assertEquals(0, point.getBalance().compareTo(new BigDecimal("845")));
+    }
+
+    @Test
+    void getMonthlyBalances_shouldRejectInvertedRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getMonthlyBalances(ACCOUNT_ID, YearMonth.of(2025, 5), YearMonth.of(2025, 1)));
+    }
+
+    private static void assertSnapshot(BalanceSnapshot snapshot, LocalDate date, SnapshotGranularity granularity, String amount) {
+        assertEquals(date, snapshot.getSnapshotDate());
+        assertEquals(granularity, snapshot.getGranularity());
+        assertEquals(0, snapshot.getNetMovement().compareTo(new BigDecimal(amount)));
+    }
+}
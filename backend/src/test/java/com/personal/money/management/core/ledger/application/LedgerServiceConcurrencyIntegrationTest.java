@@ -0,0 +1,81 @@
+package com.personal.money.management.core.ledger.application;
+
+import com.personal.money.management.core.PersonalMoneyManagementApplication;
+import com.personal.money.management.core.account.domain.model.Account;
+import com.personal.money.management.core.account.domain.model.AccountType;
+import com.personal.money.management.core.account.domain.repository.AccountRepository;
+import com.personal.money.management.core.ledger.domain.model.AccountBalance;
+import com.personal.money.management.core.ledger.domain.model.LedgerTransaction;
+import com.personal.money.management.core.ledger.domain.model.TransactionDirection;
+import com.personal.money.management.core.shared.domain.valueobject.AccountName;
+import com.personal.money.management.core.shared.domain.valueobject.CurrencyCode;
+import com.personal.money.management.core.shared.domain.valueobject.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * First movements of a new account recorded by two transactions at once. Commits
+ * for real, on an account and a month no other test uses.
+ */
+@SpringBootTest(classes = PersonalMoneyManagementApplication.class)
+class LedgerServiceConcurrencyIntegrationTest {
+
+    @Autowired
+    private LedgerService ledgerService;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void recordTransaction_concurrentFirstMovements_shouldBothBeApplied() throws Exception {
+        Long accountId = accountRepository.save(new Account(
+                AccountName.of("Concurrent Wallet " + System.nanoTime()),
+                Money.of(BigDecimal.valueOf(100), CurrencyCode.of("USD")),
+                AccountType.CASH,
+                null)).getId();
+        TransactionTemplate transactions = new TransactionTemplate(transactionManager);
+        CountDownLatch firstRecorded = new CountDownLatch(1);
+
+        // The first transaction creates the balance and cube rows and commits only
+        // once the second one has started writing the same rows
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transactions.executeWithoutResult(status -> {
+            ledgerService.recordTransaction(transaction(accountId, "10"));
+            firstRecorded.countDown();
+            sleep();
+        }));
+        assertTrue(firstRecorded.await(10, TimeUnit.SECONDS));
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> transactions.executeWithoutResult(
+                status -> ledgerService.recordTransaction(transaction(accountId, "15"))));
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+
+        AccountBalance balance = ledgerService.getCurrentBalance(accountId);
+        assertEquals(2, balance.getEntryCount());
+        assertEquals(0, balance.getBalance().compareTo(new BigDecimal("125")));
+    }
+
+    private static LedgerTransaction transaction(Long accountId, String amount) {
+        return new LedgerTransaction(accountId, null, TransactionDirection.INCOME,
+                Money.of(new BigDecimal(amount), CurrencyCode.of("USD")), LocalDate.of(2031, 7, 1), "Concurrent");
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(300);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
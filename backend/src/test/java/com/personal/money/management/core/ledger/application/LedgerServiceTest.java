@@ -0,0 +1,251 @@
+package com.personal.money.management.core.ledger.application;
+
+import com.personal.money.management.core.account.application.exception.AccountNotFoundException;
+import com.personal.money.management.core.account.domain.model.Account;
+import com.personal.money.management.core.account.domain.model.AccountType;
+import com.personal.money.management.core.account.domain.repository.AccountRepository;
+import com.personal.money.management.core.category.application.CategorizationRuleService;
+import com.personal.money.management.core.category.domain.model.Category;
+import com.personal.money.management.core.category.domain.model.CategoryType;
+import com.personal.money.management.core.category.domain.repository.CategoryRepository;
+import com.personal.money.management.core.ledger.domain.event.SpendingRecordedEvent;
+import com.personal.money.management.core.ledger.domain.model.AccountBalance;
+import com.personal.money.management.core.ledger.domain.model.LedgerTransaction;
+import com.personal.money.management.core.ledger.domain.model.SpendingCell;
+import com.personal.money.management.core.ledger.domain.model.TransactionDirection;
+import com.personal.money.management.core.ledger.domain.repository.AccountBalanceRepository;
+import com.personal.money.management.core.ledger.domain.repository.LedgerRepository;
+import com.personal.money.management.core.shared.domain.valueobject.AccountName;
+import com.personal.money.management.core.shared.domain.valueobject.CurrencyCode;
+import com.personal.money.management.core.shared.domain.valueobject.Money;
+import com.personal.money.management.core.shared.infrastructure.outbox.Outbox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LedgerServiceTest {
+
+    private LedgerRepository ledgerRepository;
+    private AccountBalanceRepository accountBalanceRepository;
+    private AccountRepository accountRepository;
+    private CategoryRepository categoryRepository;
+    private CategorizationRuleService categorizationRuleService;
+    private Outbox outbox;
+    private LedgerService ledgerService;
+
+    @BeforeEach
+    void setUp() {
+        ledgerRepository = mock(LedgerRepository.class);
+        accountBalanceRepository = mock(AccountBalanceRepository.class);
+        accountRepository = mock(AccountRepository.class);
+        categoryRepository = mock(CategoryRepository.class);
+        categorizationRuleService = mock(CategorizationRuleService.class);
+        outbox = mock(Outbox.class);
+        ledgerService = new LedgerService(ledgerRepository, accountBalanceRepository, accountRepository, categoryRepository,
+                categorizationRuleService, outbox);
+
+        AtomicLong sequence = new AtomicLong(100);
+        when(ledgerRepository.appendAll(anyList())).thenAnswer(invocation -> {
+            List<LedgerTransaction> input = invocation.getArgument(0);
+            List<LedgerTransaction> saved = new ArrayList<>();
+            for (LedgerTransaction t : input) {
+                saved.add(LedgerTransaction.reconstruct(sequence.incrementAndGet(), t.getAccountId(), t.getCategoryId(),
+                        t.getDirection(), t.getAmount(), t.getOccurredOn(), t.getDescription()));
+            }
+            return saved;
+        });
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(account(1L, "USD", 500)));
+    }
+
+    @Test
+    void recordTransactions_shouldJournalInDateOrderAndApplyOneMovementPerAccount() {
+        List<LedgerTransaction> batch = List.of(
+                transaction(1L, TransactionDirection.EXPENSE, "30", LocalDate.of(2025, 3, 10)),
+                transaction(1L, TransactionDirection.INCOME, "100", LocalDate.of(2025, 3, 1)),
+                transaction(1L, TransactionDirection.EXPENSE, "20", LocalDate.of(2025, 3, 5))
+        );
+
+        List<LedgerTransaction> recorded = ledgerService.recordTransactions(batch);
+
+        assertEquals(List.of(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 5), LocalDate.of(2025, 3, 10)),
+                recorded.stream().map(LedgerTransaction::getOccurredOn).toList());
+        ArgumentCaptor<BigDecimal> delta = ArgumentCaptor.forClass(BigDecimal.class);
+        verify(accountBalanceRepository, times(1)).applyMovement(eq(1L), eq("USD"), delta.capture(), eq(3), eq(103L));
+        assertEquals(0, delta.getValue().compareTo(new BigDecimal("50")));
+        verify(accountRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void recordTransactions_shouldApplyMovementsInAscendingAccountOrder() {
+        when(accountRepository.findById(2L)).thenReturn(Optional.of(account(2L, "USD", 0)));
+        List<LedgerTransaction> batch = List.of(
+                transaction(2L, TransactionDirection.EXPENSE, "10", LocalDate.of(2025, 3, 1)),
+                transaction(1L, TransactionDirection.EXPENSE, "20", LocalDate.of(2025, 3, 2)));
+
+        ledgerService.recordTransactions(batch);
+
+        InOrder balances = inOrder(accountBalanceRepository);
+        balances.verify(accountBalanceRepository).applyMovement(eq(1L), eq("USD"), any(), eq(1), anyLong());
+        balances.verify(accountBalanceRepository).applyMovement(eq(2L), eq("USD"), any(), eq(1), anyLong());
+        InOrder events = inOrder(outbox);
+        events.verify(outbox).append(eq(LedgerService.OUTBOX_AGGREGATE), eq(1L), any());
+        events.verify(outbox).append(eq(LedgerService.OUTBOX_AGGREGATE), eq(2L), any());
+    }
+
+    @Test
+    void recordTransactions_shouldFoldEntriesIntoOneCubeCellPerMonthAndCategory() {
+        when(categoryRepository.findById(7L))
+                .thenReturn(Optional.of(Category.reconstruct(7L, "Groceries", "icon", CategoryType.EXPENSE, null)));
+        List<LedgerTransaction> batch = List.of(
+                categorized(7L, "30", LocalDate.of(2025, 3, 10)),
+                categorized(7L, "20", LocalDate.of(2025, 3, 2)),
+                categorized(7L, "5", LocalDate.of(2025, 4, 1)),
+                transaction(1L, TransactionDirection.INCOME, "100", LocalDate.of(2025, 3, 1)),
+                transaction(1L, TransactionDirection.EXPENSE, "1", LocalDate.of(2025, 3, 4)));
+
+        ledgerService.recordTransactions(batch);
+
+        ArgumentCaptor<SpendingRecordedEvent> event = ArgumentCaptor.forClass(SpendingRecordedEvent.class);
+        verify(outbox, times(1)).append(eq(LedgerService.OUTBOX_AGGREGATE), eq(1L), event.capture());
+        List<SpendingCell> cells = event.getValue().getCells();
+        assertEquals(3, cells.size());
+        SpendingCell uncategorized = cells.get(0);
+        assertNull(uncategorized.getCategoryId());
+        assertEquals(YearMonth.of(2025, 3), uncategorized.getMonth());
+        assertEquals(0, uncategorized.getIncome().compareTo(new BigDecimal("100")));
+        assertEquals(0, uncategorized.getExpense().compareTo(BigDecimal.ONE));
+        assertEquals(2, uncategorized.getEntryCount());
+        SpendingCell march = cells.get(1);
+        assertEquals(7L, march.getCategoryId());
+        assertEquals("USD", march.getCurrency());
+        assertEquals(0, march.getExpense().compareTo(new BigDecimal("50")));
+        assertEquals(0, march.getIncome().signum());
+        assertEquals(2, march.getEntryCount());
+        assertEquals(YearMonth.of(2025, 4), cells.get(2).getMonth());
+        assertEquals(1, cells.get(2).getEntryCount());
+    }
+
+    @Test
+    void recordTransactions_shouldSplitTheCellsOfAnAccountAcrossEvents() {
+        List<LedgerTransaction> batch = new ArrayList<>();
+        for (int month = 0; month < LedgerService.CELLS_PER_EVENT + 5; month++) {
+            batch.add(transaction(1L, TransactionDirection.EXPENSE, "1", LocalDate.of(2020, 1, 1).plusMonths(month)));
+        }
+
+        ledgerService.recordTransactions(batch);
+
+        ArgumentCaptor<SpendingRecordedEvent> events = ArgumentCaptor.forClass(SpendingRecordedEvent.class);
+        verify(outbox, times(2)).append(eq(LedgerService.OUTBOX_AGGREGATE), eq(1L), events.capture());
+        assertEquals(LedgerService.CELLS_PER_EVENT, events.getAllValues().get(0).getCells().size());
+        assertEquals(5, events.getAllValues().get(1).getCells().size());
+    }
+
+    @Test
+    void recordTransactions_shouldCategorizeOnlyUncategorizedEntriesByRule() {
+        when(categoryRepository.findById(7L))
+                .thenReturn(Optional.of(Category.reconstruct(7L, "Groceries", "icon", CategoryType.EXPENSE, null)));
+        when(categorizationRuleService.categorize(eq("WHOLE FOODS #12"), eq(1L), any(), eq(CategoryType.EXPENSE)))
+                .thenReturn(Optional.of(7L));
+        LedgerTransaction matched = new LedgerTransaction(1L, null, TransactionDirection.EXPENSE,
+                Money.of(new BigDecimal("42"), CurrencyCode.of("USD")), LocalDate.of(2025, 3, 1), "WHOLE FOODS #12");
+        LedgerTransaction unmatched = transaction(1L, TransactionDirection.INCOME, "10", LocalDate.of(2025, 3, 2));
+        LedgerTransaction explicit = categorized(7L, "5", LocalDate.of(2025, 3, 3));
+
+        List<LedgerTransaction> recorded = ledgerService.recordTransactions(List.of(matched, unmatched, explicit));
+
+        assertEquals(7L, recorded.get(0).getCategoryId());
+        assertNull(recorded.get(1).getCategoryId());
+        assertEquals(7L, recorded.get(2).getCategoryId());
+        verify(categorizationRuleService, times(2)).categorize(any(), any(), any(), any());
+    }
+
+    @Test
+    void recordTransactions_shouldRejectCurrencyMismatch() {
+        LedgerTransaction euro = new LedgerTransaction(1L, null, TransactionDirection.EXPENSE,
+                Money.of(BigDecimal.TEN, CurrencyCode.of("EUR")), LocalDate.of(2025, 1, 1), null);
+
+        assertThrows(IllegalArgumentException.class, () -> ledgerService.recordTransactions(List.of(euro)));
+        verifyNoInteractions(ledgerRepository, accountBalanceRepository, outbox);
+    }
+
+    @Test
+    void recordTransactions_shouldRejectCategoryOfOtherType() {
+        when(categoryRepository.findById(7L))
+                .thenReturn(Optional.of(Category.reconstruct(7L, "Salary", "icon", CategoryType.INCOME, null)));
+        LedgerTransaction expense = new LedgerTransaction(1L, 7L, TransactionDirection.EXPENSE,
+                Money.of(BigDecimal.TEN, CurrencyCode.of("USD")), LocalDate.of(2025, 1, 1), null);
+
+        assertThrows(IllegalArgumentException.class, () -> ledgerService.recordTransaction(expense));
+        verifyNoInteractions(ledgerRepository);
+    }
+
+    @Test
+    void recordTransactions_shouldRejectUnknownAccount() {
+        when(accountRepository.findById(2L)).thenReturn(Optional.empty());
+
+        assertThrows(AccountNotFoundException.class,
+                () -> ledgerService.recordTransaction(transaction(2L, TransactionDirection.INCOME, "5", LocalDate.now())));
+    }
+
+    @Test
+    void recordTransactions_shouldRejectEmptyBatch() {
+        assertThrows(IllegalArgumentException.class, () -> ledgerService.recordTransactions(List.of()));
+    }
+
+    @Test
+    void getCurrentBalance_shouldAddNetMovementToOpeningBalance() {
+        when(accountBalanceRepository.findByAccountId(1L)).thenReturn(Optional.of(
+                new AccountBalance(1L, "USD", BigDecimal.ZERO, new BigDecimal("-120.50"), 4, 99L)));
+
+        AccountBalance balance = ledgerService.getCurrentBalance(1L);
+
+        assertEquals(0, balance.getBalance().compareTo(new BigDecimal("379.50")));
+        assertEquals(4, balance.getEntryCount());
+    }
+
+    @Test
+    void getCurrentBalance_withoutMovements_shouldReturnOpeningBalance() {
+        when(accountBalanceRepository.findByAccountId(1L)).thenReturn(Optional.empty());
+
+        AccountBalance balance = ledgerService.getCurrentBalance(1L);
+
+        assertEquals(0, balance.getBalance().compareTo(new BigDecimal("500")));
+        assertNull(balance.getLastEntryId());
+    }
+
+    @Test
+    void getRecentTransactions_withUnknownAccount_shouldThrowNotFound() {
+        when(accountRepository.findById(2L)).thenReturn(Optional.empty());
+
+        assertThrows(AccountNotFoundException.class, () -> ledgerService.getRecentTransactions(2L, 10));
+        verifyNoInteractions(ledgerRepository);
+    }
+
+    private static Account account(Long id, String currency, long openingBalance) {
+        return Account.reconstruct(id, AccountName.of("Account " + id),
+                Money.of(BigDecimal.valueOf(openingBalance), CurrencyCode.of(currency)), AccountType.CASH, null, true);
+    }
+
+    private static LedgerTransaction categorized(Long categoryId, String amount, LocalDate date) {
+        return new LedgerTransaction(1L, categoryId, TransactionDirection.EXPENSE,
+                Money.of(new BigDecimal(amount), CurrencyCode.of("USD")), date, null);
+    }
+
+    private static LedgerTransaction transaction(Long accountId, TransactionDirection direction, String amount, LocalDate date) {
+        return new LedgerTransaction(accountId, null, direction,
+                Money.of(new BigDecimal(amount), CurrencyCode.of("USD")), date, null);
+    }
+}
@@ -0,0 +1,202 @@
+package com.personal.money.management.core.ledger.application;
+
+import com.personal.money.management.core.account.domain.model.Account;
+import com.personal.money.management.core.account.domain.model.AccountType;
+import com.personal.money.management.core.account.domain.repository.AccountRepository;
+import com.personal.money.management.core.category.domain.model.Category;
+import com.personal.money.management.core.category.domain.model.CategoryType;
+import com.personal.money.management.core.category.domain.repository.CategoryRepository;
+import com.personal.money.management.core.ledger.application.exception.RecurringTransactionNotFoundException;
+import com.personal.money.management.core.ledger.domain.model.LedgerTransaction;
+import com.personal.money.management.core.ledger.domain.model.RecurrenceFrequency;
+import com.personal.money.management.core.ledger.domain.model.RecurringTransaction;
+import com.personal.money.management.core.ledger.domain.model.TransactionDirection;
+import com.personal.money.management.core.ledger.domain.repository.RecurringTransactionRepository;
+import com.personal.money.management.core.shared.domain.valueobject.AccountName;
+import com.personal.money.management.core.shared.domain.valueobject.CurrencyCode;
+import com.personal.money.management.core.shared.domain.valueobject.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RecurringTransactionServiceTest {
+
+    private static final Long ACCOUNT_ID = 7L;
+    private static final Money RENT = Money.of(new BigDecimal("1200"), CurrencyCode.of("USD"));
+
+    private RecurringTransactionRepository recurringTransactionRepository;
+    private LedgerService ledgerService;
+    private AccountRepository accountRepository;
+    private CategoryRepository categoryRepository;
+    private RecurringTransactionService service;
+    private final List<List<LedgerTransaction>> recordedBatches = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        recurringTransactionRepository = mock(RecurringTransactionRepository.class);
+        ledgerService = mock(LedgerService.class);
+        accountRepository = mock(AccountRepository.class);
+        categoryRepository = mock(CategoryRepository.class);
+        service = new RecurringTransactionService(recurringTransactionRepository, ledgerService, accountRepository,
+                categoryRepository, mock(PlatformTransactionManager.class));
+
+        when(ledgerService.recordTransactions(anyList())).thenAnswer(invocation -> {
+            List<LedgerTransaction> batch = List.copyOf(invocation.<List<LedgerTransaction>>getArgument(0));
+            recordedBatches.add(batch);
+            return batch;
+        });
+    }
+
+    @Test
+    void generateDue_shouldCatchUpMissedMonthsAndKeepTheStartDayOfMonth() {
+        RecurringTransaction rent = template(RecurrenceFrequency.MONTHLY, LocalDate.of(2025, 1, 31), null, 0);
+        when(recurringTransactionRepository.findDue(LocalDate.of(2025, 4, 30), 100)).thenReturn(List.of(rent));
+
+        RecurringTransactionService.GenerationResult result = service.generateDue(LocalDate.of(2025, 4, 30), 100);
+
+        assertEquals(1, result.getTemplates());
+        assertEquals(4, result.getOccurrences());
+        assertEquals(List.of(LocalDate.of(2025, 1, 31), LocalDate.of(2025, 2, 28), LocalDate.of(2025, 3, 31),
+                        LocalDate.of(2025, 4, 30)),
+                recordedBatches.get(0).stream().map(LedgerTransaction::getOccurredOn).collect(Collectors.toList()));
+        RecurringTransaction saved = savedTemplates().get(0);
+        assertEquals(4, saved.getOccurrencesGenerated());
+        assertEquals(LocalDate.of(2025, 5, 31), saved.getNextRunOn());
+    }
+
+    @Test
+    void generateDue_shouldStopAtTheEndDate() {
+        RecurringTransaction subscription = template(RecurrenceFrequency.WEEKLY, LocalDate.of(2025, 5, 1),
+                LocalDate.of(2025, 5, 20), 1);
+        when(recurringTransactionRepository.findDue(any(), anyInt())).thenReturn(List.of(subscription));
+
+        RecurringTransactionService.GenerationResult result = service.generateDue(LocalDate.of(2025, 6, 30), 100);
+
+        // May 8 and 15; May 22 is past the end date
+        assertEquals(2, result.getOccurrences());
+        RecurringTransaction saved = savedTemplates().get(0);
+        assertEquals(3, saved.getOccurrencesGenerated());
+        assertNull(saved.getNextRunOn());
+    }
+
+    @Test
+    void generateDue_shouldJournalALongBacklogInBoundedBatchesAndSaveOnce() {
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        LocalDate today = start.plusDays(LedgerService.MAX_BATCH_SIZE + 499L);
+        when(recurringTransactionRepository.findDue(any(), anyInt()))
+                .thenReturn(List.of(template(RecurrenceFrequency.DAILY, start, null, 0)));
+
+        RecurringTransactionService.GenerationResult result = service.generateDue(today, 100);
+
+        assertEquals(LedgerService.MAX_BATCH_SIZE + 500, result.getOccurrences());
+        assertEquals(2, recordedBatches.size());
+        assertEquals(LedgerService.MAX_BATCH_SIZE, recordedBatches.get(0).size());
+        assertEquals(500, recordedBatches.get(1).size());
+        assertEquals(today.plusDays(1), savedTemplates().get(0).getNextRunOn());
+    }
+
+    @Test
+    void generateDue_shouldSkipAFailingTemplateAndGenerateTheRest() {
+        RecurringTransaction failing = RecurringTransaction.reconstruct(1L, ACCOUNT_ID, null,
+                TransactionDirection.EXPENSE, RENT, "Rent", RecurrenceFrequency.MONTHLY, 1,
+                LocalDate.of(2025, 4, 1), null, 0, 0L);
+        RecurringTransaction gym = RecurringTransaction.reconstruct(2L, ACCOUNT_ID, null,
+                TransactionDirection.EXPENSE, RENT, "Gym", RecurrenceFrequency.MONTHLY, 1,
+                LocalDate.of(2025, 4, 2), null, 0, 0L);
+        when(recurringTransactionRepository.findDue(any(), anyInt())).thenReturn(List.of(failing, gym));
+        when(recurringTransactionRepository.save(any())).thenAnswer(invocation -> {
+            RecurringTransaction template = invocation.getArgument(0);
+            if (template.getId().equals(1L)) {
+                throw new OptimisticLockingFailureException("advanced elsewhere");
+            }
+            return template;
+        });
+
+        RecurringTransactionService.GenerationResult result = service.generateDue(LocalDate.of(2025, 4, 30), 100);
+
+        assertEquals(1, result.getTemplates());
+        assertEquals(1, result.getOccurrences());
+        assertEquals(1, result.getFailed());
+        verify(recurringTransactionRepository, times(2)).save(any());
+    }
+
+    @Test
+    void generateDue_shouldReadTheNextPageAfterTheLastTemplateRead() {
+        RecurringTransaction first = template(RecurrenceFrequency.MONTHLY, LocalDate.of(2025, 4, 1), null, 0);
+        RecurringTransaction second = RecurringTransaction.reconstruct(2L, ACCOUNT_ID, null,
+                TransactionDirection.EXPENSE, RENT, "Gym", RecurrenceFrequency.MONTHLY, 1,
+                LocalDate.of(2025, 4, 2), null, 0, 0L);
+        LocalDate today = LocalDate.of(2025, 4, 30);
+        when(recurringTransactionRepository.findDue(today, 1)).thenReturn(List.of(first));
+        when(recurringTransactionRepository.findDueAfter(today, first, 1)).thenReturn(List.of(second));
+        when(recurringTransactionRepository.findDueAfter(today, second, 1)).thenReturn(List.of());
+
+        RecurringTransactionService.GenerationResult result = service.generateDue(today, 1);
+
+        assertEquals(2, result.getTemplates());
+        verify(recurringTransactionRepository, times(2)).save(any());
+    }
+
+    @Test
+    void generateDue_withNothingDue_shouldWriteNothing() {
+        when(recurringTransactionRepository.findDue(any(), anyInt())).thenReturn(List.of());
+
+        RecurringTransactionService.GenerationResult result = service.generateDue(LocalDate.of(2025, 5, 1), 100);
+
+        assertEquals(0, result.getTemplates());
+        verifyNoInteractions(ledgerService);
+        verify(recurringTransactionRepository, never()).save(any());
+    }
+
+    @Test
+    void create_shouldUseTheAccountCurrencyAndRejectACategoryOfTheOtherType() {
+        when(accountRepository.findById(ACCOUNT_ID)).thenReturn(Optional.of(Account.reconstruct(ACCOUNT_ID,
+                AccountName.of("Checking"), Money.of(BigDecimal.ZERO, CurrencyCode.of("EUR")),
+                AccountType.BANK_ACCOUNT, null, true)));
+        when(categoryRepository.findById(3L)).thenReturn(Optional.of(
+                Category.reconstruct(3L, "Salary", "icon", CategoryType.INCOME, null)));
+        when(recurringTransactionRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        RecurringTransaction created = service.create(ACCOUNT_ID, 3L, TransactionDirection.INCOME,
+                new BigDecimal("3000"), "Salary", RecurrenceFrequency.MONTHLY, 1, LocalDate.of(2025, 1, 25), null);
+
+        assertEquals("EUR", created.getAmount().getCurrency().getCode());
+        assertThrows(IllegalArgumentException.class, () -> service.create(ACCOUNT_ID, 3L,
+                TransactionDirection.EXPENSE, new BigDecimal("10"), "Refund", RecurrenceFrequency.MONTHLY, 1,
+                LocalDate.of(2025, 1, 25), null));
+    }
+
+    @Test
+    void delete_withUnknownTemplate_shouldThrowNotFound() {
+        when(recurringTransactionRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(RecurringTransactionNotFoundException.class, () -> service.delete(99L));
+        verify(recurringTransactionRepository, never()).deleteById(any());
+    }
+
+    private List<RecurringTransaction> savedTemplates() {
+        ArgumentCaptor<RecurringTransaction> captor = ArgumentCaptor.forClass(RecurringTransaction.class);
+        verify(recurringTransactionRepository, atLeastOnce()).save(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static RecurringTransaction template(RecurrenceFrequency frequency, LocalDate start, LocalDate end,
+                                                 int generated) {
+        return RecurringTransaction.reconstruct(1L, ACCOUNT_ID, null, TransactionDirection.EXPENSE, RENT, "Rent",
+                frequency, 1, start, end, generated, 0L);
+    }
+}
@@ -0,0 +1,54 @@
+package com.personal.money.management.core.ledger.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.personal.money.management.core.ledger.domain.event.SpendingRecordedEvent;
+import com.personal.money.management.core.ledger.domain.model.SpendingCell;
+import com.personal.money.management.core.ledger.domain.repository.SpendingCubeRepository;
+import com.personal.money.management.core.shared.infrastructure.outbox.OutboxMessage;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SpendingCubeProjectionTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void handle_shouldApplyTheCellsOfTheEventAsWritten() {
+        SpendingCubeRepository repository = mock(SpendingCubeRepository.class);
+        SpendingCubeProjection projection = new SpendingCubeProjection(repository);
+        SpendingRecordedEvent event = new SpendingRecordedEvent(List.of(
+                new SpendingCell(YearMonth.of(2025, 3), 7L, 1L, "USD", BigDecimal.ZERO, new BigDecimal("50.25"), 2),
+                new SpendingCell(YearMonth.of(2025, 4), null, 1L, "USD", new BigDecimal("100"), BigDecimal.ZERO, 1)));
+
+        assertEquals(Set.of("SpendingRecordedEvent"), projection.eventTypes());
+        projection.handle(new OutboxMessage(1L, LedgerService.OUTBOX_AGGREGATE, "1", "SpendingRecordedEvent",
+                objectMapper.valueToTree(event), LocalDateTime.now()));
+
+        ArgumentCaptor<List<SpendingCell>> movements = ArgumentCaptor.forClass(List.class);
+        verify(repository).applyMovements(movements.capture());
+        SpendingCell march = movements.getValue().get(0);
+        assertEquals(YearMonth.of(2025, 3), march.getMonth());
+        assertEquals(7L, march.getCategoryId());
+        assertEquals(1L, march.getAccountId());
+        assertEquals("USD", march.getCurrency());
+        assertEquals(0, march.getExpense().compareTo(new BigDecimal("50.25")));
+        assertEquals(2, march.getEntryCount());
+        SpendingCell april = movements.getValue().get(1);
+        assertNull(april.getCategoryId());
+        assertEquals(0, april.getIncome().compareTo(new BigDecimal("100")));
+    }
+}
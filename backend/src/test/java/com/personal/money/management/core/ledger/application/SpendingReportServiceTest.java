@@ -0,0 +1,116 @@
+package com.personal.money.management.core.ledger.application;
+
+import com.personal.money.management.core.account.application.exception.AccountNotFoundException;
+import com.personal.money.management.core.account.domain.model.Account;
+import com.personal.money.management.core.account.domain.repository.AccountRepository;
+import com.personal.money.management.core.category.application.CategoryCatalog;
+import com.personal.money.management.core.category.application.CategoryService;
+import com.personal.money.management.core.category.domain.model.Category;
+import com.personal.money.management.core.category.domain.model.CategoryType;
+import com.personal.money.management.core.ledger.domain.model.CategorySpending;
+import com.personal.money.management.core.ledger.domain.model.SpendingCell;
+import com.personal.money.management.core.ledger.domain.repository.SpendingCubeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SpendingReportServiceTest {
+
+    private static final YearMonth MAY = YearMonth.of(2025, 5);
+    private static final YearMonth JUNE = YearMonth.of(2025, 6);
+
+    private SpendingCubeRepository spendingCubeRepository;
+    private CategoryService categoryService;
+    private AccountRepository accountRepository;
+    private SpendingReportService service;
+
+    @BeforeEach
+    void setUp() {
+        spendingCubeRepository = mock(SpendingCubeRepository.class);
+        categoryService = mock(CategoryService.class);
+        accountRepository = mock(AccountRepository.class);
+        service = new SpendingReportService(spendingCubeRepository, categoryService, accountRepository);
+
+        // Food > Dining > Coffee, and Transport on its own
+        Category food = Category.reconstruct(1L, "Food", "icon", CategoryType.EXPENSE, null);
+        Category dining = Category.reconstruct(2L, "Dining", "icon", CategoryType.EXPENSE, food);
+        Category coffee = Category.reconstruct(3L, "Coffee", "icon", CategoryType.EXPENSE, dining);
+        Category transport = Category.reconstruct(4L, "Transport", "icon", CategoryType.EXPENSE, null);
+        when(categoryService.getCatalog()).thenReturn(CategoryCatalog.of(1, List.of(coffee, dining, food, transport)));
+    }
+
+    @Test
+    void getMonthlySpending_shouldRollEveryCellUpToAllItsAncestors() {
+        when(spendingCubeRepository.findCells(MAY, JUNE, null)).thenReturn(List.of(
+                cell(MAY, 3L, 10L, "4.50", 3),
+                cell(MAY, 3L, 11L, "1.50", 1),
+                cell(MAY, 2L, 10L, "40", 2),
+                cell(MAY, 4L, 10L, "12", 1),
+                cell(JUNE, 1L, 10L, "7", 1)));
+
+        List<CategorySpending> report = service.getMonthlySpending(MAY, JUNE, null);
+
+        assertEquals(List.of("Coffee", "Dining", "Food", "Transport", "Food"),
+                report.stream().map(CategorySpending::getCategoryName).toList());
+        assertSpending(report.get(0), MAY, 3L, "6.00", 4);
+        assertSpending(report.get(1), MAY, 2L, "46.00", 6);
+        assertSpending(report.get(2), MAY, 1L, "46.00", 6);
+        assertSpending(report.get(3), MAY, 4L, "12", 1);
+        assertSpending(report.get(4), JUNE, 1L, "7", 1);
+    }
+
+    @Test
+    void getMonthlySpending_shouldKeepCurrenciesApartAndListUncategorizedLast() {
+        when(spendingCubeRepository.findCells(MAY, MAY, 10L)).thenReturn(List.of(
+                cell(MAY, null, 10L, "3", 1),
+                new SpendingCell(MAY, 4L, 10L, "EUR", BigDecimal.ZERO, new BigDecimal("8"), 1),
+                cell(MAY, 4L, 10L, "5", 1),
+                cell(MAY, 99L, 10L, "2", 1)));
+        when(accountRepository.findById(10L)).thenReturn(Optional.of(mock(Account.class)));
+
+        List<CategorySpending> report = service.getMonthlySpending(MAY, MAY, 10L);
+
+        assertEquals(4, report.size());
+        assertEquals("EUR", report.get(0).getCurrency());
+        assertSpending(report.get(1), MAY, 4L, "5", 1);
+        // A category newer than the cached catalog is still reported, unnamed
+        assertSpending(report.get(2), MAY, 99L, "2", 1);
+        assertNull(report.get(2).getCategoryName());
+        assertSpending(report.get(3), MAY, null, "3", 1);
+    }
+
+    @Test
+    void getMonthlySpending_shouldRejectInvalidRanges() {
+        assertThrows(IllegalArgumentException.class, () -> service.getMonthlySpending(JUNE, MAY, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getMonthlySpending(MAY, MAY.plusMonths(SpendingReportService.MAX_REPORT_MONTHS + 1), null));
+        verifyNoInteractions(spendingCubeRepository);
+    }
+
+    @Test
+    void getMonthlySpending_shouldRejectUnknownAccount() {
+        when(accountRepository.findById(5L)).thenReturn(Optional.empty());
+
+        assertThrows(AccountNotFoundException.class, () -> service.getMonthlySpending(MAY, JUNE, 5L));
+        verifyNoInteractions(spendingCubeRepository);
+    }
+
+    private static SpendingCell cell(YearMonth month, Long categoryId, Long accountId, String expense, long count) {
+        return new SpendingCell(month, categoryId, accountId, "USD", BigDecimal.ZERO, new BigDecimal(expense), count);
+    }
+
+    private static void assertSpending(CategorySpending spending, YearMonth month, Long categoryId,
+                                       String expense, long count) {
+        assertEquals(month, spending.getMonth());
+        assertEquals(categoryId, spending.getCategoryId());
+        assertEquals(0, spending.getExpense().compareTo(new BigDecimal(expense)));
+        assertEquals(count, spending.getEntryCount());
+    }
+}
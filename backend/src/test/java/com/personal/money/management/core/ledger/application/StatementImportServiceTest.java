@@ -0,0 +1,180 @@
+package com.personal.money.management.core.ledger.application;
+
+import com.personal.money.management.core.account.application.exception.AccountNotFoundException;
+import com.personal.money.management.core.account.domain.model.Account;
+import com.personal.money.management.core.account.domain.model.AccountType;
+import com.personal.money.management.core.account.domain.repository.AccountRepository;
+import com.personal.money.management.core.ledger.domain.model.LedgerTransaction;
+import com.personal.money.management.core.ledger.domain.model.StatementFormat;
+import com.personal.money.management.core.ledger.domain.model.StatementImportResult;
+import com.personal.money.management.core.ledger.domain.model.TransactionDirection;
+import com.personal.money.management.core.ledger.domain.model.TransactionFingerprint;
+import com.personal.money.management.core.ledger.domain.repository.LedgerRepository;
+import com.personal.money.management.core.shared.domain.valueobject.AccountName;
+import com.personal.money.management.core.shared.domain.valueobject.CurrencyCode;
+import com.personal.money.management.core.shared.domain.valueobject.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class StatementImportServiceTest {
+
+    private static final Long ACCOUNT_ID = 7L;
+
+    private LedgerService ledgerService;
+    private LedgerRepository ledgerRepository;
+    private AccountRepository accountRepository;
+    private StatementImportService service;
+    // Fingerprints "journaled" so far
+    private final Set<String> journal = new HashSet<>();
+    private final List<List<LedgerTransaction>> recordedChunks = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ledgerService = mock(LedgerService.class);
+        ledgerRepository = mock(LedgerRepository.class);
+        accountRepository = mock(AccountRepository.class);
+        service = new StatementImportService(ledgerService, ledgerRepository, accountRepository);
+
+        when(accountRepository.findById(ACCOUNT_ID)).thenReturn(Optional.of(Account.reconstruct(ACCOUNT_ID,
+                AccountName.of("Checking"), Money.of(BigDecimal.ZERO, CurrencyCode.of("USD")), AccountType.BANK_ACCOUNT, null, true)));
+        when(ledgerRepository.findExistingFingerprints(anyCollection())).thenAnswer(invocation -> {
+            Set<String> existing = new HashSet<>(invocation.<Collection<String>>getArgument(0));
+            existing.retainAll(journal);
+            return existing;
+        });
+        when(ledgerService.recordTransactions(anyList())).thenAnswer(invocation -> {
+            List<LedgerTransaction> chunk = List.copyOf(invocation.<List<LedgerTransaction>>getArgument(0));
+            chunk.forEach(transaction -> journal.add(transaction.getFingerprint()));
+            recordedChunks.add(chunk);
+            return chunk;
+        });
+    }
+
+    @Test
+    void importStatement_shouldJournalSignedLinesAsIncomeAndExpense() {
+        StatementImportResult result = service.importStatement(ACCOUNT_ID, StatementFormat.CSV, csv(
+                "2025-05-01,Salary,2500.00",
+                "2025-05-02,Coffee,-3.50",
+                "2025-05-02,Fee reversal,0.00"));
+
+        assertCounts(result, 3, 2, 0, 1);
+        List<LedgerTransaction> recorded = recordedChunks.get(0);
+        assertEquals(TransactionDirection.INCOME, recorded.get(0).getDirection());
+        assertEquals(TransactionDirection.EXPENSE, recorded.get(1).getDirection());
+        assertEquals(0, recorded.get(1).getAmount().getAmount().compareTo(new BigDecimal("3.50")));
+        assertNull(recorded.get(1).getCategoryId());
+        assertEquals(TransactionFingerprint.of(ACCOUNT_ID, LocalDate.of(2025, 5, 2), new BigDecimal("-3.50"), "Coffee", 0),
+                recorded.get(1).getFingerprint());
+    }
+
+    @Test
+    void importStatement_ofAnOverlappingStatement_shouldSkipLinesAlreadyJournaled() {
+        service.importStatement(ACCOUNT_ID, StatementFormat.CSV, csv(
+                "2025-05-01,Salary,2500.00",
+                "2025-05-02,Coffee,-3.50"));
+
+        // Same lines exported again with different formatting, plus a new one
+        StatementImportResult result = service.importStatement(ACCOUNT_ID, StatementFormat.CSV, csv(
+                "01/05/2025,SALARY,2500",
+                "02/05/2025,  coffee ,-3.5",
+                "03/05/2025,Rent,-900"));
+
+        assertCounts(result, 3, 1, 2, 0);
+        assertEquals(List.of("Rent"), recordedChunks.get(1).stream().map(LedgerTransaction::getDescription).toList());
+    }
+
+    @Test
+    void importStatement_shouldKeepIdenticalLinesOfOneStatementApart() {
+        service.importStatement(ACCOUNT_ID, StatementFormat.CSV, csv("2025-05-02,Coffee,-3.50"));
+
+        StatementImportResult result = service.importStatement(ACCOUNT_ID, StatementFormat.CSV, csv(
+                "2025-05-02,Coffee,-3.50",
+                "2025-05-02,Coffee,-3.50"));
+
+        assertCounts(result, 2, 1, 1, 0);
+    }
+
+    @Test
+    void importStatement_shouldNumberIdenticalLinesPerDateInEitherDateOrder() {
+        StatementImportResult result = service.importStatement(ACCOUNT_ID, StatementFormat.CSV, csv(
+                "2025-05-03,Coffee,-3.50",
+                "2025-05-03,Coffee,-3.50",
+                "2025-05-02,Coffee,-3.50"));
+
+        assertCounts(result, 3, 3, 0, 0);
+        assertEquals(3, recordedChunks.get(0).stream().map(LedgerTransaction::getFingerprint).distinct().count());
+    }
+
+    @Test
+    void importStatement_withTheLinesOfADateApart_shouldReject() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () ->
+                service.importStatement(ACCOUNT_ID, StatementFormat.CSV, csv(
+                        "2025-05-01,Salary,2500",
+                        "2025-05-02,Coffee,-3.50",
+                        "2025-05-01,Coffee,-3.50")));
+
+        assertTrue(error.getMessage().contains("2025-05-01"));
+        verify(ledgerService, never()).recordTransactions(anyList());
+    }
+
+    @Test
+    void importStatement_shouldJournalAndLookUpDuplicatesOneChunkAtATime() {
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < StatementImportService.CHUNK_SIZE + 20; i++) {
+            rows.add("2025-05-01,Purchase " + i + ",-" + (i + 1));
+        }
+
+        StatementImportResult result = service.importStatement(ACCOUNT_ID, StatementFormat.CSV, csv(rows.toArray(String[]::new)));
+
+        assertCounts(result, StatementImportService.CHUNK_SIZE + 20, StatementImportService.CHUNK_SIZE + 20, 0, 0);
+        assertEquals(List.of(StatementImportService.CHUNK_SIZE, 20), recordedChunks.stream().map(List::size).toList());
+        // One lookup per chunk, never a scan of the account's existing fingerprints
+        verify(ledgerRepository, times(2)).findExistingFingerprints(anyCollection());
+    }
+
+    @Test
+    void importStatement_withMalformedLine_shouldReject() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () ->
+                service.importStatement(ACCOUNT_ID, StatementFormat.CSV, csv("2025-05-01,Salary,lots")));
+
+        assertTrue(error.getMessage().contains("line 2"));
+        verify(ledgerService, never()).recordTransactions(anyList());
+    }
+
+    @Test
+    void importStatement_withUnknownAccount_shouldThrow() {
+        when(accountRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(AccountNotFoundException.class, () ->
+                service.importStatement(99L, StatementFormat.CSV, csv("2025-05-01,Salary,1")));
+    }
+
+    private static void assertCounts(StatementImportResult result, int linesRead, int imported, int duplicates, int skipped) {
+        assertEquals(linesRead, result.getLinesRead());
+        assertEquals(imported, result.getImported());
+        assertEquals(duplicates, result.getDuplicates());
+        assertEquals(skipped, result.getSkipped());
+    }
+
+    private static InputStream csv(String... rows) {
+        String content = "date,description,amount\n" + String.join("\n", rows) + "\n";
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,86 @@
+package com.personal.money.management.core.ledger.infrastructure.statement;
+
+import com.personal.money.management.core.ledger.domain.model.StatementFormat;
+import com.personal.money.management.core.ledger.domain.model.StatementLine;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementReaderTest {
+
+    @Test
+    void csv_shouldLocateColumnsByHeaderAndUnquoteFields() throws IOException {
+        List<StatementLine> lines = read(StatementFormat.CSV,
+                "\uFEFFReference,Amount,Date,Description\n"
+                        + "A1,-12.40,2025-05-02,\"Grocer, \"\"Main St\"\"\"\n"
+                        + "\n"
+                        + "A2,100,03/05/2025,Refund\n");
+
+        assertEquals(2, lines.size());
+        assertLine(lines.get(0), LocalDate.of(2025, 5, 2), "-12.40", "Grocer, \"Main St\"");
+        assertLine(lines.get(1), LocalDate.of(2025, 5, 3), "100", "Refund");
+    }
+
+    @Test
+    void csv_withoutAmountColumn_shouldReject() {
+        assertThrows(IllegalArgumentException.class, () -> read(StatementFormat.CSV, "date,description\n2025-05-01,x\n"));
+    }
+
+    @Test
+    void ofx_shouldReadSgmlTransactionsWithoutClosingTags() throws IOException {
+        List<StatementLine> lines = read(StatementFormat.OFX,
+                "OFXHEADER:100\nDATA:OFXSGML\n\n<OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><CURDEF>USD<BANKTRANLIST>\n"
+                        + "<STMTTRN><TRNTYPE>DEBIT<DTPOSTED>20250502120000[-5:EST]<TRNAMT>-3,50<FITID>1<NAME>COFFEE &amp; CO<MEMO>Card 1234</STMTTRN>\n"
+                        + "<STMTTRN><TRNTYPE>CREDIT<DTPOSTED>20250501<TRNAMT>2500.00<FITID>2<NAME>SALARY</STMTTRN>\n"
+                        + "</BANKTRANLIST><LEDGERBAL><BALAMT>1000<DTASOF>20250531</LEDGERBAL></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>\n");
+
+        assertEquals(2, lines.size());
+        assertLine(lines.get(0), LocalDate.of(2025, 5, 2), "-3.50", "COFFEE & CO Card 1234");
+        assertLine(lines.get(1), LocalDate.of(2025, 5, 1), "2500.00", "SALARY");
+    }
+
+    @Test
+    void ofx_shouldReadXmlTransactions() throws IOException {
+        List<StatementLine> lines = read(StatementFormat.OFX,
+                "<?xml version=\"1.0\"?><?OFX OFXHEADER=\"200\"?><OFX><BANKTRANLIST>"
+                        + "<STMTTRN><DTPOSTED>20250503</DTPOSTED><TRNAMT>-900</TRNAMT><MEMO>Rent</MEMO></STMTTRN>"
+                        + "</BANKTRANLIST></OFX>");
+
+        assertEquals(1, lines.size());
+        assertLine(lines.get(0), LocalDate.of(2025, 5, 3), "-900", "Rent");
+    }
+
+    @Test
+    void ofx_withoutAmount_shouldReject() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> read(StatementFormat.OFX,
+                "<OFX><STMTTRN><DTPOSTED>20250503<NAME>Rent</STMTTRN></OFX>"));
+
+        assertTrue(error.getMessage().contains("transaction 1"));
+    }
+
+    private static List<StatementLine> read(StatementFormat format, String content) throws IOException {
+        List<StatementLine> lines = new ArrayList<>();
+        try (StatementReader reader = StatementReader.open(format,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)))) {
+            StatementLine line;
+            while ((line = reader.next()) != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    private static void assertLine(StatementLine line, LocalDate date, String amount, String description) {
+        assertEquals(date, line.getDate());
+        assertEquals(new BigDecimal(amount), line.getAmount());
+        assertEquals(description, line.getDescription());
+    }
+}
@@ -0,0 +1,238 @@
+package com.personal.money.management.core.ledger.interfaces.api;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.money.management.core.PersonalMoneyManagementApplication;
+import com.personal.money.management.core.account.domain.model.Account;
+import com.personal.money.management.core.account.domain.model.AccountType;
+import com.personal.money.management.core.account.domain.repository.AccountRepository;
+import com.personal.money.management.core.category.application.CategoryService;
+import com.personal.money.management.core.category.domain.model.CategoryType;
+import com.personal.money.management.core.ledger.domain.model.TransactionDirection;
+import com.personal.money.management.core.ledger.interfaces.api.dto.TransactionRequest;
+import com.personal.money.management.core.shared.domain.valueobject.AccountName;
+import com.personal.money.management.core.shared.domain.valueobject.CurrencyCode;
+import com.personal.money.management.core.shared.domain.valueobject.Money;
+import com.personal.money.management.core.ledger.application.SpendingCubeProjection;
+import com.personal.money.management.core.shared.infrastructure.outbox.OutboxEventEntity;
+import com.personal.money.management.core.shared.infrastructure.outbox.OutboxEventRepository;
+import com.personal.money.management.core.shared.infrastructure.outbox.OutboxMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the Ledger API against the H2 schema created by Flyway.
+ */
+@SpringBootTest(classes = PersonalMoneyManagementApplication.class)
+@AutoConfigureMockMvc
+@Transactional
+class LedgerApiIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private SpendingCubeProjection spendingCubeProjection;
+
+    private Long accountId;
+
+    @BeforeEach
+    void createAccount() {
+        Account account = accountRepository.save(new Account(
+                AccountName.of("Ledger Wallet " + System.nanoTime()),
+                Money.of(BigDecimal.valueOf(1000), CurrencyCode.of("USD")),
+                AccountType.CASH,
+                null));
+        accountId = account.getId();
+    }
+
+    @Test
+    void recordBatch_shouldAppendInDateOrderAndMaintainRunningBalance() throws Exception {
+        List<TransactionRequest> batch = List.of(
+                request(TransactionDirection.EXPENSE, "250.25", LocalDate.of(2025, 5, 3)),
+                request(TransactionDirection.INCOME, "100", LocalDate.of(2025, 5, 1)));
+
+        mockMvc.perform(post("/api/ledger/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].occurredOn").value("2025-05-01"))
+                .andExpect(jsonPath("$[1].occurredOn").value("2025-05-03"));
+
+        mockMvc.perform(post("/api/ledger/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request(TransactionDirection.EXPENSE, "49.75", LocalDate.of(2025, 5, 4)))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", notNullValue()));
+
+        mockMvc.perform(get("/api/ledger/accounts/" + accountId + "/balance"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(800.0))
+                .andExpect(jsonPath("$.entryCount").value(3));
+
+        mockMvc.perform(get("/api/ledger/accounts/" + accountId + "/transactions").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].occurredOn").value("2025-05-04"));
+    }
+
+    @Test
+    void recordTransaction_withCurrencyMismatch_shouldReturnBadRequest() throws Exception {
+        TransactionRequest request = request(TransactionDirection.INCOME, "10", LocalDate.of(2025, 5, 1));
+        request.setCurrency("EUR");
+
+        mockMvc.perform(post("/api/ledger/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void recordTransaction_withUnknownAccount_shouldReturnNotFound() throws Exception {
+        TransactionRequest request = request(TransactionDirection.INCOME, "10", LocalDate.of(2025, 5, 1));
+        request.setAccountId(-1L);
+
+        mockMvc.perform(post("/api/ledger/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void spending_shouldRollChildCategoriesUpIntoTheirParents() throws Exception {
+        long suffix = System.nanoTime();
+        Long food = categoryService.createCategory("Food " + suffix, "icon", CategoryType.EXPENSE, null).getId();
+        Long dining = categoryService.createCategory("Dining " + suffix, "icon", CategoryType.EXPENSE, food).getId();
+        List<TransactionRequest> batch = List.of(
+                request(TransactionDirection.EXPENSE, "30", LocalDate.of(2025, 5, 3), dining),
+                request(TransactionDirection.EXPENSE, "20", LocalDate.of(2025, 5, 9), food),
+                request(TransactionDirection.EXPENSE, "10", LocalDate.of(2025, 6, 1), dining),
+                request(TransactionDirection.INCOME, "100", LocalDate.of(2025, 5, 1)));
+        mockMvc.perform(post("/api/ledger/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/ledger/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request(TransactionDirection.EXPENSE, "5", LocalDate.of(2025, 5, 20), dining))))
+                .andExpect(status().isCreated());
+        // The uncommitted events are invisible to the background dispatcher
+        assertEquals(2, projectSpending());
+
+        mockMvc.perform(get("/api/ledger/spending")
+                        .param("from", "2025-05").param("to", "2025-06").param("accountId", accountId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(5)))
+                .andExpect(jsonPath("$[0].month").value("2025-05"))
+                .andExpect(jsonPath("$[0].categoryId").value(dining))
+                .andExpect(jsonPath("$[0].expense").value(35.0))
+                .andExpect(jsonPath("$[0].entryCount").value(2))
+                .andExpect(jsonPath("$[1].categoryId").value(food))
+                .andExpect(jsonPath("$[1].expense").value(55.0))
+                .andExpect(jsonPath("$[1].entryCount").value(3))
+                .andExpect(jsonPath("$[2].categoryId").value(nullValue()))
+                .andExpect(jsonPath("$[2].income").value(100.0))
+                .andExpect(jsonPath("$[3].month").value("2025-06"))
+                .andExpect(jsonPath("$[3].expense").value(10.0))
+                .andExpect(jsonPath("$[4].categoryId").value(food))
+                .andExpect(jsonPath("$[4].expense").value(10.0));
+    }
+
+    /**
+     * Hands this test's pending spending events to the projection, in the test transaction
+     */
+    private int projectSpending() throws Exception {
+        List<OutboxEventEntity> events = outboxEventRepository.findByAggregateTypeAndAggregateIdOrderById(
+                "SpendingCube", accountId.toString());
+        for (OutboxEventEntity event : events) {
+            spendingCubeProjection.handle(new OutboxMessage(event.getId(), event.getAggregateType(),
+                    event.getAggregateId(), event.getEventType(), objectMapper.reader()
+                    .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS).readTree(event.getPayload()),
+                    event.getCreatedAt()));
+        }
+        return events.size();
+    }
+
+    @Test
+    void spending_withReversedRange_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/ledger/spending").param("from", "2025-06").param("to", "2025-05"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void importStatement_ofAnOverlappingStatement_shouldJournalOnlyNewLines() throws Exception {
+        importStatement("CSV", "date,description,amount\n"
+                + "2025-05-01,Salary,2500.00\n"
+                + "2025-05-02,Coffee,-3.50\n")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2));
+
+        importStatement("OFX", "<OFX><BANKTRANLIST>"
+                + "<STMTTRN><DTPOSTED>20250502<TRNAMT>-3.50<NAME>COFFEE</STMTTRN>"
+                + "<STMTTRN><DTPOSTED>20250503<TRNAMT>-900<NAME>Rent</STMTTRN>"
+                + "</BANKTRANLIST></OFX>")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.linesRead").value(2))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.duplicates").value(1));
+
+        mockMvc.perform(get("/api/ledger/accounts/" + accountId + "/balance"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(2596.5))
+                .andExpect(jsonPath("$.entryCount").value(3));
+    }
+
+    @Test
+    void importStatement_withMalformedFile_shouldReturnBadRequest() throws Exception {
+        importStatement("CSV", "when,what\n2025-05-01,Salary\n")
+                .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions importStatement(String format, String content) throws Exception {
+        return mockMvc.perform(post("/api/ledger/accounts/" + accountId + "/statements")
+                .param("format", format)
+                .contentType(MediaType.TEXT_PLAIN)
+                .content(content));
+    }
+
+    private TransactionRequest request(TransactionDirection direction, String amount, LocalDate date, Long categoryId) {
+        TransactionRequest request = request(direction, amount, date);
+        request.setCategoryId(categoryId);
+        return request;
+    }
+
+    private TransactionRequest request(TransactionDirection direction, String amount, LocalDate date) {
+        TransactionRequest request = new TransactionRequest();
+        request.setAccountId(accountId);
+        request.setDirection(direction);
+        request.setAmount(new BigDecimal(amount));
+        request.setCurrency("USD");
+        request.setOccurredOn(date);
+        request.setDescription("test");
+        return request;
+    }
+}
@@ -0,0 +1,112 @@
+package com.personal.money.management.core.ledger.interfaces.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.money.management.core.PersonalMoneyManagementApplication;
+import com.personal.money.management.core.account.domain.model.Account;
+import com.personal.money.management.core.account.domain.model.AccountType;
+import com.personal.money.management.core.account.domain.repository.AccountRepository;
+import com.personal.money.management.core.ledger.application.RecurringTransactionService;
+import com.personal.money.management.core.ledger.domain.model.RecurrenceFrequency;
+import com.personal.money.management.core.ledger.domain.model.TransactionDirection;
+import com.personal.money.management.core.ledger.interfaces.api.dto.RecurringTransactionRequest;
+import com.personal.money.management.core.shared.domain.valueobject.AccountName;
+import com.personal.money.management.core.shared.domain.valueobject.CurrencyCode;
+import com.personal.money.management.core.shared.domain.valueobject.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Recurring transactions against the H2 schema. Templates start in 2100 so the
+ * running scheduler, which generates up to today, never picks them up.
+ */
+@SpringBootTest(classes = PersonalMoneyManagementApplication.class)
+@AutoConfigureMockMvc
+@Transactional
+class RecurringTransactionApiIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private RecurringTransactionService recurringTransactionService;
+
+    private Long accountId;
+
+    @BeforeEach
+    void createAccount() {
+        Account account = accountRepository.save(new Account(
+                AccountName.of("Recurring Wallet " + System.nanoTime()),
+                Money.of(BigDecimal.valueOf(5000), CurrencyCode.of("USD")),
+                AccountType.CASH,
+                null));
+        accountId = account.getId();
+    }
+
+    @Test
+    void generateDue_shouldJournalMissedOccurrencesOnceAndAdvanceTheTemplate() throws Exception {
+        mockMvc.perform(post("/api/ledger/recurring-transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request(LocalDate.of(2100, 1, 31)))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.currency").value("USD"))
+                .andExpect(jsonPath("$.nextRunOn").value("2100-01-31"));
+
+        RecurringTransactionService.GenerationResult first =
+                recurringTransactionService.generateDue(LocalDate.of(2100, 4, 30), 100);
+        RecurringTransactionService.GenerationResult second =
+                recurringTransactionService.generateDue(LocalDate.of(2100, 4, 30), 100);
+
+        assertEquals(4, first.getOccurrences());
+        assertEquals(0, second.getTemplates());
+        mockMvc.perform(get("/api/ledger/accounts/" + accountId + "/balance"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(200.0))
+                .andExpect(jsonPath("$.entryCount").value(4));
+        mockMvc.perform(get("/api/ledger/recurring-transactions").param("accountId", accountId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].occurrencesGenerated").value(4))
+                .andExpect(jsonPath("$[0].nextRunOn").value("2100-05-31"));
+    }
+
+    @Test
+    void create_withEndDateBeforeStart_shouldReturnBadRequestAndDeleteUnknownNotFound() throws Exception {
+        RecurringTransactionRequest request = request(LocalDate.of(2100, 1, 31));
+        request.setEndDate(LocalDate.of(2099, 12, 31));
+
+        mockMvc.perform(post("/api/ledger/recurring-transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(delete("/api/ledger/recurring-transactions/-1"))
+                .andExpect(status().isNotFound());
+    }
+
+    private RecurringTransactionRequest request(LocalDate startDate) {
+        RecurringTransactionRequest request = new RecurringTransactionRequest();
+        request.setAccountId(accountId);
+        request.setDirection(TransactionDirection.EXPENSE);
+        request.setAmount(new BigDecimal("1200"));
+        request.setDescription("Rent");
+        request.setFrequency(RecurrenceFrequency.MONTHLY);
+        request.setStartDate(startDate);
+        return request;
+    }
+}
@@ -0,0 +1,110 @@
+package com.personal.money.management.core.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a weighted request mix at a fixed arrival rate (an open workload).
+ *
+ * <p>Requests are sent on schedule whether or not earlier ones have completed, and
+ * latency is measured from the scheduled send time rather than the actual one, so a
+ * stalled server shows up as latency instead of silently lowering the load
+ * (coordinated omission). When more than {@code maxInFlight} requests are
+ * outstanding the next one is dropped and counted as an error.</p>
+ */
+final class ArrivalRateLoadGenerator {
+
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final HttpClient client;
+    private final List<WeightedRequest> mix;
+    private final int totalWeight;
+    private final long seed;
+    private final int maxInFlight;
+
+    ArrivalRateLoadGenerator(HttpClient client, List<WeightedRequest> mix, long seed, int maxInFlight) {
+        this.client = client;
+        this.mix = List.copyOf(mix);
+        this.totalWeight = mix.stream().mapToInt(WeightedRequest::getWeight).sum();
+        this.seed = seed;
+        this.maxInFlight = maxInFlight;
+    }
+
+    LatencyReport run(double requestsPerSecond, Duration duration) {
+        Map<String, Tally> tallies = new LinkedHashMap<>();
+        for (WeightedRequest request : mix) {
+            tallies.put(request.getName(), new Tally());
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        AtomicInteger inFlight = new AtomicInteger();
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        long total = (long) (requestsPerSecond * duration.toMillis() / 1000.0);
+        long start = System.nanoTime();
+
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            WeightedRequest next = pick(random);
+            Tally tally = tallies.get(next.getName());
+            tally.sent.incrementAndGet();
+            if (inFlight.get() >= maxInFlight) {
+                tally.errors.incrementAndGet();
+                continue;
+            }
+            inFlight.incrementAndGet();
+            client.sendAsync(next.newRequest(random), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+                        tally.latencies.recordValue(Math.max(micros, 1));
+                        if (failure != null || response.statusCode() >= 400) {
+                            tally.errors.incrementAndGet();
+                        }
+                        inFlight.decrementAndGet();
+                    });
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+
+        Map<String, LatencyReport.Stats> stats = new LinkedHashMap<>();
+        tallies.forEach((name, tally) ->
+                stats.put(name, LatencyReport.Stats.of(tally.latencies, tally.sent.get(), tally.errors.get())));
+        return new LatencyReport(stats, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private WeightedRequest pick(SplittableRandom random) {
+        int roll = random.nextInt(totalWeight);
+        for (WeightedRequest request : mix) {
+            roll -= request.getWeight();
+            if (roll < 0) {
+                return request;
+            }
+        }
+        return mix.get(mix.size() - 1);
+    }
+
+    private static final class Tally {
+        // Latencies in microseconds
+        private final Histogram latencies = new ConcurrentHistogram(3);
+        private final AtomicLong sent = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+    }
+}
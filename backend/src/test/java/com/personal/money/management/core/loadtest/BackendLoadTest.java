@@ -0,0 +1,233 @@
+package com.personal.money.management.core.loadtest;
+
+import com.personal.money.management.core.PersonalMoneyManagementApplication;
+import com.personal.money.management.core.shared.infrastructure.adapter.ExchangeRateAdapter;
+import com.personal.money.management.core.shared.infrastructure.adapter.StubExchangeRateAdapter;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives a mixed read-heavy workload against the backend booted on the H2
+ * {@code local} profile and compares latency percentiles with a stored baseline.
+ *
+ * <p>Runs only under {@code mvn -Pload-test verify -DskipUnitTests=true}. Fully
+ * offline: the exchange-rate provider URL points at a stub endpoint inside the
+ * application, backed by {@link StubExchangeRateAdapter}.</p>
+ *
+ * <p>Tuning, as system properties: {@code loadtest.rate} (requests per second),
+ * {@code loadtest.duration-seconds}, {@code loadtest.warmup-seconds},
+ * {@code loadtest.tolerance} (allowed slowdown factor against the baseline),
+ * {@code loadtest.slack-ms} and {@code loadtest.max-error-rate}. Every run writes its
+ * results to {@code target/load-test/latest.properties}; copy that file over
+ * {@code src/test/resources/load-test/baseline.properties} to accept a new
+ * baseline.</p>
+ */
+@SpringBootTest(classes = PersonalMoneyManagementApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT,
+        properties = {
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "logging.level.org.flywaydb=WARN",
+                "spring.jpa.show-sql=false"
+        })
+class BackendLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(BackendLoadTest.class);
+
+    private static final String BASELINE = "/load-test/baseline.properties";
+    private static final Path LATEST = Paths.get("target", "load-test", "latest.properties");
+    private static final int PORT = freePort();
+    private static final long SEED = 42L;
+    private static final int SEEDED_ACCOUNTS = 40;
+    private static final int SEEDED_CATEGORIES = 80;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("server.port", () -> PORT);
+        registry.add("exchangerates.api.url", () -> url(StubExchangeRateProvider.PATH));
+    }
+
+    @Test
+    void mixedWorkload_shouldStayWithinBaseline() throws Exception {
+        seed();
+        ArrivalRateLoadGenerator generator = new ArrivalRateLoadGenerator(client, workload(), SEED, 2_000);
+        double rate = doubleProperty("loadtest.rate", 50);
+
+        generator.run(rate, Duration.ofSeconds(longProperty("loadtest.warmup-seconds", 10)));
+        LatencyReport report = generator.run(rate, Duration.ofSeconds(longProperty("loadtest.duration-seconds", 30)));
+
+        logger.info("Load test results:\n{}", report.format());
+        write(report.toProperties());
+
+        assertTrue(report.errorRate() <= doubleProperty("loadtest.max-error-rate", 0.01),
+                "Error rate too high:\n" + report.format());
+        Properties baseline = baseline();
+        if (baseline.isEmpty()) {
+            logger.warn("No baseline at {}; skipping comparison", BASELINE);
+            return;
+        }
+        List<String> regressions = report.regressionsAgainst(baseline,
+                doubleProperty("loadtest.tolerance", 2.0), doubleProperty("loadtest.slack-ms", 5.0));
+        assertTrue(regressions.isEmpty(), "Slower than baseline:\n" + String.join("\n", regressions));
+    }
+
+    /**
+     * Roughly what the frontend does: mostly reference-data and list reads, with the
+     * salary calculator as the main compute path.
+     */
+    private List<WeightedRequest> workload() {
+        String[] bases = {"EUR", "USD", "VND"};
+        return List.of(
+                new WeightedRequest("POST /api/tax/calculate", 30,
+                        random -> post("/api/tax/calculate", salaryRequest(random))),
+                new WeightedRequest("GET /api/tax/config", 15, random -> get("/api/tax/config")),
+                new WeightedRequest("GET /api/exchange-rates/latest", 20,
+                        random -> get("/api/exchange-rates/latest?base=" + bases[random.nextInt(bases.length)])),
+                new WeightedRequest("GET /api/accounts", 20, random -> get("/api/accounts")),
+                new WeightedRequest("GET /api/categories", 15, random -> get("/api/categories")));
+    }
+
+    private void seed() throws IOException, InterruptedException {
+        for (int i = 0; i < SEEDED_ACCOUNTS; i++) {
+            send(post("/api/accounts", String.format(
+                    "{\"accountName\":\"Load Account %03d\",\"initBalance\":%d,\"type\":\"CASH\",\"currency\":\"%s\"}",
+                    i, 1_000 + i * 37, i % 2 == 0 ? "USD" : "VND")));
+        }
+        for (int i = 0; i < SEEDED_CATEGORIES; i++) {
+            send(post("/api/categories", String.format(
+                    "{\"name\":\"Load Category %03d\",\"icon\":\"tag\",\"type\":\"%s\"}",
+                    i, i % 4 == 0 ? "INCOME" : "EXPENSE")));
+        }
+    }
+
+    private static String salaryRequest(SplittableRandom random) {
+        long gross = 10_000_000L + random.nextLong(0, 140) * 1_000_000L;
+        return String.format("{\"grossSalary\":%d,\"tetBonus\":%d,\"insuranceBase\":%d,\"dependents\":%d,"
+                        + "\"bhxhRate\":8.0,\"bhytRate\":1.5,\"bhtnRate\":1.0,\"personalDeduction\":11000000,"
+                        + "\"dependentDeductionPerPerson\":4400000,\"taxFreeAllowance\":0,\"otherDeduction\":0,"
+                        + "\"taxBracketType\":\"%s\",\"wageZone\":\"I\"}",
+                gross, random.nextBoolean() ? gross : 0, Math.min(gross, 46_800_000L), random.nextInt(0, 4),
+                random.nextBoolean() ? "7-bracket" : "5-bracket");
+    }
+
+    private void send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertTrue(response.statusCode() < 300, "Seeding failed: " + response.statusCode() + " " + response.body());
+    }
+
+    private static HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(url(path))).timeout(Duration.ofSeconds(30)).GET().build();
+    }
+
+    private static HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(url(path)))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static String url(String path) {
+        return "http://localhost:" + PORT + path;
+    }
+
+    private static Properties baseline() throws IOException {
+        Properties baseline = new Properties();
+        try (InputStream in = BackendLoadTest.class.getResourceAsStream(BASELINE)) {
+            if (in != null) {
+                baseline.load(in);
+            }
+        }
+        return baseline;
+    }
+
+    private static void write(Properties results) throws IOException {
+        Files.createDirectories(LATEST.getParent());
+        try (OutputStream out = Files.newOutputStream(LATEST)) {
+            results.store(out, "Load test results; copy to src/test/resources" + BASELINE + " to accept as baseline");
+        }
+    }
+
+    private static long longProperty(String name, long defaultValue) {
+        return Long.parseLong(System.getProperty(name, Long.toString(defaultValue)));
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        return Double.parseDouble(System.getProperty(name, Double.toString(defaultValue)));
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @TestConfiguration
+    static class OfflineProviderConfig {
+        @Bean
+        StubExchangeRateProvider stubExchangeRateProvider() {
+            return new StubExchangeRateProvider(new StubExchangeRateAdapter());
+        }
+    }
+
+    /**
+     * Serves the provider's JSON shape from the stub adapter, so the
+     * database-miss path of the exchange-rate service stays in the workload.
+     */
+    @RestController
+    static class StubExchangeRateProvider {
+        static final String PATH = "/load-test/exchange-provider/latest";
+
+        private final ExchangeRateAdapter adapter;
+
+        StubExchangeRateProvider(ExchangeRateAdapter adapter) {
+            this.adapter = adapter;
+        }
+
+        @GetMapping(PATH)
+        Map<String, Object> latest() {
+            double eurVnd = adapter.getCurrentExchangeRate("EUR", "VND").doubleValue();
+            double usdVnd = adapter.getCurrentExchangeRate("USD", "VND").doubleValue();
+            Map<String, Double> rates = new LinkedHashMap<>();
+            rates.put("EUR", 1.0);
+            rates.put("VND", eurVnd);
+            rates.put("USD", eurVnd / usdVnd);
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("base", "EUR");
+            body.put("rates", rates);
+            return body;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.personal.money.management.core.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Latency percentiles and error counts of one load-test run, per request name.
+ *
+ * <p>Serializes to flat properties ({@code <name>.p95.ms}, ...) so a run can be
+ * stored as the baseline for later runs to be compared against.</p>
+ */
+final class LatencyReport {
+
+    static final String[] PERCENTILES = {"p50", "p95", "p99"};
+
+    private final Map<String, Stats> stats;
+    private final Duration elapsed;
+
+    LatencyReport(Map<String, Stats> stats, Duration elapsed) {
+        this.stats = Collections.unmodifiableMap(new LinkedHashMap<>(stats));
+        this.elapsed = elapsed;
+    }
+
+    Map<String, Stats> getStats() {
+        return stats;
+    }
+
+    long totalSent() {
+        return stats.values().stream().mapToLong(s -> s.sent).sum();
+    }
+
+    double errorRate() {
+        long sent = totalSent();
+        return sent == 0 ? 0.0 : (double) stats.values().stream().mapToLong(s -> s.errors).sum() / sent;
+    }
+
+    Properties toProperties() {
+        Properties properties = new Properties();
+        stats.forEach((name, s) -> {
+            properties.setProperty(name + ".p50.ms", format(s.p50Millis));
+            properties.setProperty(name + ".p95.ms", format(s.p95Millis));
+            properties.setProperty(name + ".p99.ms", format(s.p99Millis));
+            properties.setProperty(name + ".errors", Long.toString(s.errors));
+            properties.setProperty(name + ".sent", Long.toString(s.sent));
+        });
+        return properties;
+    }
+
+    /**
+     * Percentiles that got slower than {@code tolerance} times the baseline. Gaps under
+     * {@code slackMillis} are ignored, so sub-millisecond noise on fast endpoints does
+     * not fail a run. Names missing from the baseline are skipped.
+     */
+    List<String> regressionsAgainst(Properties baseline, double tolerance, double slackMillis) {
+        List<String> regressions = new ArrayList<>();
+        stats.forEach((name, s) -> {
+            double[] current = {s.p50Millis, s.p95Millis, s.p99Millis};
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                String key = name + "." + PERCENTILES[i] + ".ms";
+                String stored = baseline.getProperty(key);
+                if (stored == null) {
+                    continue;
+                }
+                double limit = Math.max(Double.parseDouble(stored) * tolerance, Double.parseDouble(stored) + slackMillis);
+                if (current[i] > limit) {
+                    regressions.add(String.format(Locale.ROOT, "%s %s: %s ms (baseline %s ms, limit %s ms)",
+                            name, PERCENTILES[i], format(current[i]), stored, format(limit)));
+                }
+            }
+        });
+        return regressions;
+    }
+
+    String format() {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%-32s %8s %7s %9s %9s %9s %9s%n",
+                "request", "sent", "errors", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        stats.forEach((name, s) -> table.append(String.format(Locale.ROOT, "%-32s %8d %7d %9.2f %9.2f %9.2f %9.2f%n",
+                name, s.sent, s.errors, s.p50Millis, s.p95Millis, s.p99Millis, s.maxMillis)));
+        table.append(String.format(Locale.ROOT, "%d requests in %.1f s, error rate %.2f%%",
+                totalSent(), elapsed.toMillis() / 1000.0, errorRate() * 100));
+        return table.toString();
+    }
+
+    private static String format(double millis) {
+        return String.format(Locale.ROOT, "%.3f", millis);
+    }
+
+    static final class Stats {
+        private final long sent;
+        private final long errors;
+        private final double p50Millis;
+        private final double p95Millis;
+        private final double p99Millis;
+        private final double maxMillis;
+
+        Stats(long sent, long errors, double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+            this.sent = sent;
+            this.errors = errors;
+            this.p50Millis = p50Millis;
+            this.p95Millis = p95Millis;
+            this.p99Millis = p99Millis;
+            this.maxMillis = maxMillis;
+        }
+
+        /**
+         * @param micros completed request latencies in microseconds
+         */
+        static Stats of(Histogram micros, long sent, long errors) {
+            return new Stats(sent, errors,
+                    micros.getValueAtPercentile(50) / 1000.0,
+                    micros.getValueAtPercentile(95) / 1000.0,
+                    micros.getValueAtPercentile(99) / 1000.0,
+                    micros.getMaxValue() / 1000.0);
+        }
+
+        long getSent() {
+            return sent;
+        }
+
+        long getErrors() {
+            return errors;
+        }
+
+        double getP95Millis() {
+            return p95Millis;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.personal.money.management.core.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * One kind of request in a workload mix, drawn in proportion to its weight. The
+ * factory draws any varying request parameters from the run's seeded random, so a
+ * run replays the same requests every time.
+ */
+final class WeightedRequest {
+    private final String name;
+    private final int weight;
+    private final Function<SplittableRandom, HttpRequest> factory;
+
+    WeightedRequest(String name, int weight, Function<SplittableRandom, HttpRequest> factory) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Weight must be positive: " + name);
+        }
+        this.name = name;
+        this.weight = weight;
+        this.factory = factory;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    int getWeight() {
+        return weight;
+    }
+
+    HttpRequest newRequest(SplittableRandom random) {
+        return factory.apply(random);
+    }
+}
@@ -0,0 +1,87 @@
+package com.personal.money.management.core.search.application;
+
+import com.personal.money.management.core.account.domain.event.AccountDeletedEvent;
+import com.personal.money.management.core.account.domain.event.AccountSavedEvent;
+import com.personal.money.management.core.account.domain.model.Account;
+import com.personal.money.management.core.account.domain.model.AccountType;
+import com.personal.money.management.core.account.domain.repository.AccountRepository;
+import com.personal.money.management.core.category.domain.event.CategorySavedEvent;
+import com.personal.money.management.core.category.domain.model.Category;
+import com.personal.money.management.core.category.domain.model.CategoryType;
+import com.personal.money.management.core.category.domain.repository.CategoryRepository;
+import com.personal.money.management.core.search.domain.model.NameMatch;
+import com.personal.money.management.core.search.domain.model.SearchableType;
+import com.personal.money.management.core.shared.domain.valueobject.AccountName;
+import com.personal.money.management.core.shared.domain.valueobject.CurrencyCode;
+import com.personal.money.management.core.shared.domain.valueobject.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class NameSearchServiceTest {
+
+    private CategoryRepository categoryRepository;
+    private AccountRepository accountRepository;
+    private NameSearchService nameSearchService;
+
+    @BeforeEach
+    void setUp() {
+        categoryRepository = mock(CategoryRepository.class);
+        accountRepository = mock(AccountRepository.class);
+        nameSearchService = new NameSearchService(categoryRepository, accountRepository);
+
+        when(categoryRepository.findAllSortedByName()).thenReturn(List.of(
+                Category.reconstruct(1L, "Food", "f", CategoryType.EXPENSE, null)));
+        when(accountRepository.findAll()).thenReturn(List.of(Account.reconstruct(5L, AccountName.of("Food card"),
+                Money.of(BigDecimal.TEN, CurrencyCode.of("USD")), AccountType.CASH, null, true)));
+        nameSearchService.rebuildIndex();
+    }
+
+    @Test
+    void search_shouldFindCategoriesAndAccountsLoadedAtStartup() {
+        List<NameMatch> matches = nameSearchService.search("foo", null, 10);
+
+        assertEquals(2, matches.size());
+        assertEquals(SearchableType.CATEGORY, matches.get(0).getType());
+        assertEquals(SearchableType.ACCOUNT, matches.get(1).getType());
+        assertEquals(5L, matches.get(1).getId());
+    }
+
+    @Test
+    void events_shouldUpdateIndexIncrementally() {
+        nameSearchService.onCategorySaved(new CategorySavedEvent(2L, "Fuel"));
+        nameSearchService.onAccountDeleted(new AccountDeletedEvent(5L));
+        nameSearchService.onAccountSaved(new AccountSavedEvent(6L, "Fund"));
+
+        List<NameMatch> matches = nameSearchService.search("fu", null, 10);
+
+        assertEquals(List.of("Fuel", "Fund"), matches.stream().map(NameMatch::getName).toList());
+        assertTrue(nameSearchService.search("card", null, 10).isEmpty());
+        verify(categoryRepository, times(1)).findAllSortedByName();
+    }
+
+    @Test
+    void reloadAccounts_shouldPickUpAccountsChangedElsewhere() {
+        when(accountRepository.findAll()).thenReturn(List.of(Account.reconstruct(7L, AccountName.of("Fuel card"),
+                Money.of(BigDecimal.TEN, CurrencyCode.of("USD")), AccountType.CASH, null, true)));
+
+        new AccountNameChangeListener(nameSearchService).referenceDataChanged();
+
+        assertEquals(List.of(7L), nameSearchService.search("card", SearchableType.ACCOUNT, 10).stream()
+                .map(NameMatch::getId).toList());
+    }
+
+    @Test
+    void search_shouldRejectOutOfRangeLimitAndOverlongQuery() {
+        assertThrows(IllegalArgumentException.class, () -> nameSearchService.search("food", null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> nameSearchService.search("food", null, NameSearchService.MAX_LIMIT + 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> nameSearchService.search("x".repeat(NameSearchService.MAX_QUERY_LENGTH + 1), null, 10));
+    }
+}
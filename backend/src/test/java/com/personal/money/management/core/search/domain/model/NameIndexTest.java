@@ -0,0 +1,101 @@
+package com.personal.money.management.core.search.domain.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameIndexTest {
+
+    private NameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NameIndex();
+        index.put(SearchableType.CATEGORY, 1L, "Ăn uống");
+        index.put(SearchableType.CATEGORY, 2L, "Tiền điện");
+        index.put(SearchableType.CATEGORY, 3L, "Groceries");
+        index.put(SearchableType.ACCOUNT, 1L, "Vietcombank Savings");
+        index.put(SearchableType.ACCOUNT, 2L, "Cash wallet");
+    }
+
+    private List<String> names(List<NameMatch> matches) {
+        return matches.stream().map(NameMatch::getName).collect(Collectors.toList());
+    }
+
+    @Test
+    void search_shouldMatchWordPrefixesIgnoringCaseAndAccents() {
+        assertEquals(List.of("Ăn uống"), names(index.search("an u", null, 10)));
+        assertEquals(List.of("Tiền điện"), names(index.search("DIEN", null, 10)));
+        assertEquals(List.of("Vietcombank Savings"), names(index.search("sav", SearchableType.ACCOUNT, 10)));
+    }
+
+    @Test
+    void search_shouldRequireEveryQueryWord() {
+        assertTrue(index.search("cash savings", null, 10).isEmpty());
+        assertEquals(List.of("Cash wallet"), names(index.search("wal ca", null, 10)));
+    }
+
+    @Test
+    void search_shouldTolerateOneTypoInLongerWords() {
+        List<NameMatch> matches = index.search("grocr", null, 10);
+        assertEquals(List.of("Groceries"), names(matches));
+        assertEquals(1, matches.get(0).getEdits());
+
+        assertTrue(index.search("grx", null, 10).isEmpty(), "Short words are matched exactly");
+        assertTrue(index.search("gxxceries", null, 10).isEmpty(), "Two typos are too many");
+    }
+
+    @Test
+    void search_shouldFilterByTypeAndRankExactBeforeFuzzy() {
+        index.put(SearchableType.ACCOUNT, 3L, "Cast iron fund");
+        List<NameMatch> matches = index.search("cash", null, 10);
+
+        assertEquals(List.of("Cash wallet", "Cast iron fund"), names(matches));
+        assertEquals(List.of(0, 1), matches.stream().map(NameMatch::getEdits).collect(Collectors.toList()));
+        assertTrue(index.search("cash", SearchableType.CATEGORY, 10).isEmpty());
+    }
+
+    @Test
+    void search_shouldReturnOnlyTopK() {
+        for (long id = 10; id < 40; id++) {
+            index.put(SearchableType.CATEGORY, id, "Bill " + id);
+        }
+
+        List<NameMatch> matches = index.search("bill", null, 3);
+
+        assertEquals(List.of("Bill 10", "Bill 11", "Bill 12"), names(matches));
+    }
+
+    @Test
+    void put_shouldReplaceRenamedRecordAndRemoveShouldForgetIt() {
+        index.put(SearchableType.CATEGORY, 3L, "Supermarket");
+
+        assertTrue(index.search("groc", null, 10).isEmpty());
+        assertEquals(List.of("Supermarket"), names(index.search("super", null, 10)));
+
+        index.remove(SearchableType.CATEGORY, 3L);
+        assertTrue(index.search("super", null, 10).isEmpty());
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void replaceAll_shouldOnlyReplaceRecordsOfThatType() {
+        index.replaceAll(SearchableType.CATEGORY, Map.of(7L, "Travel"));
+
+        assertEquals(List.of("Travel"), names(index.search("tra", SearchableType.CATEGORY, 10)));
+        assertTrue(index.search("tien", null, 10).isEmpty());
+        assertEquals(List.of("Cash wallet"), names(index.search("cash", null, 10)));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void search_shouldReturnNothingForBlankQuery() {
+        assertTrue(index.search("  ", null, 10).isEmpty());
+        assertTrue(index.search(null, null, 10).isEmpty());
+    }
+}
@@ -1,7 +1,10 @@
 package com.personal.money.management.core.settings.application;
 
+import com.personal.money.management.core.settings.domain.model.AppSettings;
 import com.personal.money.management.core.settings.infrastructure.persistence.AppSettingsEntity;
 import com.personal.money.management.core.settings.infrastructure.persistence.AppSettingsRepository;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataContext;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -19,36 +22,72 @@ import static org.mockito.Mockito.*;
 class AppSettingsServiceTest {
     private AppSettingsRepository repository;
     private AppSettingsService service;
+    private ReferenceDataVersions referenceDataVersions;
 
     @BeforeEach
     void setUp() {
         repository = mock(AppSettingsRepository.class);
-        service = new AppSettingsService(repository);
+        referenceDataVersions = mock(ReferenceDataVersions.class);
+        service = new AppSettingsService(repository, referenceDataVersions);
+    }
+
+    private static AppSettingsEntity entity(String currency, long version) {
+        AppSettingsEntity entity = new AppSettingsEntity();
+        entity.setId(1L);
+        entity.setDefaultCurrency(currency);
+        entity.setVersion(version);
+        return entity;
+    }
+
+    private void savesIncrementVersion() {
+        when(repository.saveAndFlush(any(AppSettingsEntity.class))).thenAnswer(invocation -> {
+            AppSettingsEntity saved = invocation.getArgument(0);
+            saved.setVersion(saved.getVersion() == null ? 0L : saved.getVersion() + 1);
+            return saved;
+        });
     }
 
     @Test
     void get_shouldReturnExistingSettings_whenSettingsExist() {
-        AppSettingsEntity existingSettings = new AppSettingsEntity();
-        existingSettings.setId(1L);
-        existingSettings.setDefaultCurrency("EUR");
-
-        when(repository.findById(1L)).thenReturn(Optional.of(existingSettings));
+        when(repository.findById(1L)).thenReturn(Optional.of(entity("EUR", 3L)));
 
-        AppSettingsEntity result = service.get();
+        AppSettings result = service.get();
 
         assertNotNull(result);
         assertEquals(1L, result.getId());
         assertEquals("EUR", result.getDefaultCurrency());
+        assertEquals(3L, result.getVersion());
         verify(repository).findById(1L);
         verify(repository, never()).save(any());
     }
 
+    @Test
+    void get_shouldReadDatabaseOnlyOnce() {
+        when(repository.findById(1L)).thenReturn(Optional.of(entity("EUR", 0L)));
+        service.load();
+
+        service.get();
+        service.get();
+        assertEquals("EUR", service.getDefaultCurrency());
+
+        verify(repository, times(1)).findById(1L);
+    }
+
+    @Test
+    void get_shouldNotExposeSharedSnapshot() {
+        when(repository.findById(1L)).thenReturn(Optional.of(entity("EUR", 0L)));
+
+        service.get().setDefaultCurrency("JPY");
+
+        assertEquals("EUR", service.get().getDefaultCurrency());
+    }
+
     @Test
     void get_shouldCreateDefaultSettings_whenSettingsDoNotExist() {
         when(repository.findById(1L)).thenReturn(Optional.empty());
         when(repository.save(any(AppSettingsEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        AppSettingsEntity result = service.get();
+        AppSettings result = service.get();
 
         assertNotNull(result);
         assertEquals(1L, result.getId());
@@ -63,68 +102,74 @@ class AppSettingsServiceTest {
     }
 
     @Test
-    void updateDefaultCurrency_shouldUpdateExistingSettings() {
-        AppSettingsEntity existingSettings = new AppSettingsEntity();
-        existingSettings.setId(1L);
-        existingSettings.setDefaultCurrency("EUR");
+    void updateDefaultCurrency_shouldWriteThroughAndPublishSnapshot() {
+        AppSettingsEntity existing = entity("EUR", 0L);
+        when(repository.findById(1L)).thenReturn(Optional.of(existing));
+        savesIncrementVersion();
+        service.load();
 
-        when(repository.findById(1L)).thenReturn(Optional.of(existingSettings));
-        when(repository.save(any(AppSettingsEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
-
-        AppSettingsEntity result = service.updateDefaultCurrency("GBP");
+        AppSettings result = service.updateDefaultCurrency("GBP");
 
-        assertNotNull(result);
-        assertEquals(1L, result.getId());
         assertEquals("GBP", result.getDefaultCurrency());
-        verify(repository).findById(1L);
-        verify(repository).save(existingSettings);
+        assertEquals(1L, result.getVersion());
+        verify(repository).saveAndFlush(existing);
+        verify(referenceDataVersions).bump(ReferenceDataContext.SETTINGS);
+        assertEquals("GBP", service.get().getDefaultCurrency());
+        verify(repository, times(2)).findById(1L);
     }
 
     @Test
     void updateDefaultCurrency_shouldCreateSettingsIfNotExist() {
         when(repository.findById(1L)).thenReturn(Optional.empty());
-        when(repository.save(any(AppSettingsEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        savesIncrementVersion();
 
-        AppSettingsEntity result = service.updateDefaultCurrency("GBP");
+        AppSettings result = service.updateDefaultCurrency("GBP");
 
-        assertNotNull(result);
         assertEquals(1L, result.getId());
         assertEquals("GBP", result.getDefaultCurrency());
-        verify(repository).findById(1L);
-        // get() creates default settings, then updateDefaultCurrency saves again
-        verify(repository, times(2)).save(any(AppSettingsEntity.class));
+        verify(repository, times(1)).saveAndFlush(any(AppSettingsEntity.class));
+        verify(repository, never()).save(any());
     }
 
     @Test
     void reset_shouldUpdateCurrencyToUSD() {
-        AppSettingsEntity existingSettings = new AppSettingsEntity();
-        existingSettings.setId(1L);
-        existingSettings.setDefaultCurrency("EUR");
+        AppSettingsEntity existing = entity("EUR", 4L);
+        when(repository.findById(1L)).thenReturn(Optional.of(existing));
+        savesIncrementVersion();
 
-        when(repository.findById(1L)).thenReturn(Optional.of(existingSettings));
-        when(repository.save(any(AppSettingsEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
-
-        AppSettingsEntity result = service.reset();
+        AppSettings result = service.reset();
 
-        assertNotNull(result);
         assertEquals(1L, result.getId());
         assertEquals("USD", result.getDefaultCurrency());
-        verify(repository).findById(1L);
-        verify(repository).save(existingSettings);
+        verify(repository).saveAndFlush(existing);
     }
 
     @Test
-    void reset_shouldCreateSettingsWithUSDIfNotExist() {
-        when(repository.findById(1L)).thenReturn(Optional.empty());
-        when(repository.save(any(AppSettingsEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    void refreshIfChanged_shouldReloadOnlyWhenStoredVersionIsNewer() {
+        when(repository.findById(1L)).thenReturn(Optional.of(entity("EUR", 2L)));
+        service.load();
+
+        when(repository.findVersionById(1L)).thenReturn(Optional.of(2L));
+        assertFalse(service.refreshIfChanged());
+        verify(repository, times(1)).findById(1L);
+
+        when(repository.findVersionById(1L)).thenReturn(Optional.of(3L));
+        when(repository.findCurrentById(1L)).thenReturn(Optional.of(entity("VND", 3L)));
+        assertTrue(service.refreshIfChanged());
+        assertEquals("VND", service.getDefaultCurrency());
+        assertEquals(3L, service.get().getVersion());
+    }
 
-        AppSettingsEntity result = service.reset();
+    @Test
+    void referenceDataChanged_shouldRefreshFromTheStoredVersion() {
+        when(repository.findById(1L)).thenReturn(Optional.of(entity("EUR", 2L)));
+        service.load();
+        when(repository.findVersionById(1L)).thenReturn(Optional.of(3L));
+        when(repository.findCurrentById(1L)).thenReturn(Optional.of(entity("VND", 3L)));
 
-        assertNotNull(result);
-        assertEquals(1L, result.getId());
-        assertEquals("USD", result.getDefaultCurrency());
-        verify(repository).findById(1L);
-        // get() creates default settings, then reset saves again
-        verify(repository, times(2)).save(any(AppSettingsEntity.class));
+        service.referenceDataChanged();
+
+        assertEquals("VND", service.getDefaultCurrency());
+        verify(referenceDataVersions, never()).bump(any());
     }
 }
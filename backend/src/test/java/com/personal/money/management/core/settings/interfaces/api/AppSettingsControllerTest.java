@@ -1,7 +1,7 @@
 package com.personal.money.management.core.settings.interfaces.api;
 
 import com.personal.money.management.core.settings.application.AppSettingsService;
-import com.personal.money.management.core.settings.infrastructure.persistence.AppSettingsEntity;
+import com.personal.money.management.core.settings.domain.model.AppSettings;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -29,9 +29,7 @@ class AppSettingsControllerTest {
 
     @Test
     void get_shouldReturnSettings() throws Exception {
-        AppSettingsEntity settings = new AppSettingsEntity();
-        settings.setId(1L);
-        settings.setDefaultCurrency("USD");
+        AppSettings settings = new AppSettings(1L, "USD", 0L);
 
         when(service.get()).thenReturn(settings);
 
@@ -43,9 +41,7 @@ class AppSettingsControllerTest {
 
     @Test
     void updateCurrency_shouldUpdateAndReturnSettings() throws Exception {
-        AppSettingsEntity updatedSettings = new AppSettingsEntity();
-        updatedSettings.setId(1L);
-        updatedSettings.setDefaultCurrency("EUR");
+        AppSettings updatedSettings = new AppSettings(1L, "EUR", 1L);
 
         when(service.updateDefaultCurrency("EUR")).thenReturn(updatedSettings);
 
@@ -91,9 +87,7 @@ class AppSettingsControllerTest {
 
     @Test
     void reset_shouldResetToDefaultCurrency() throws Exception {
-        AppSettingsEntity resetSettings = new AppSettingsEntity();
-        resetSettings.setId(1L);
-        resetSettings.setDefaultCurrency("USD");
+        AppSettings resetSettings = new AppSettings(1L, "USD", 2L);
 
         when(service.reset()).thenReturn(resetSettings);
 
@@ -0,0 +1,24 @@
+package com.personal.money.management.core.shared.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TextFoldingTest {
+
+    @Test
+    void fold_shouldRemoveCaseAndAccents() {
+        assertEquals("tien dien", TextFolding.fold("Tiền Điện"));
+        assertEquals("an uong", TextFolding.fold("Ăn uống"));
+        assertEquals("cafe", TextFolding.fold("CAFÉ"));
+        assertEquals("", TextFolding.fold(null));
+    }
+
+    @Test
+    void tokens_shouldSplitOnNonWordCharacters() {
+        assertEquals(List.of("vietcombank", "vnd", "01"), TextFolding.tokens("  Vietcombank (VND) - #01 "));
+        assertEquals(List.of(), TextFolding.tokens(" - "));
+    }
+}
@@ -0,0 +1,35 @@
+package com.personal.money.management.core.shared.infrastructure.monitoring;
+
+import org.junit.jupiter.api.function.Executable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Assertions on the number of SQL statements an action executes.
+ *
+ * <p>Counts only statements run on the calling thread, which covers MockMvc
+ * requests and direct service calls. Flushes pending at the end of a test-managed
+ * transaction are not included.</p>
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    public static void assertStatementCount(int expected, Executable action) throws Throwable {
+        assertEquals(expected, countStatements(action), "SQL statements executed");
+    }
+
+    public static void assertStatementCountAtMost(int max, Executable action) throws Throwable {
+        int actual = countStatements(action);
+        assertTrue(actual <= max, "Expected at most " + max + " SQL statements but executed " + actual);
+    }
+
+    public static int countStatements(Executable action) throws Throwable {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            action.execute();
+            return scope.getStatements();
+        }
+    }
+}
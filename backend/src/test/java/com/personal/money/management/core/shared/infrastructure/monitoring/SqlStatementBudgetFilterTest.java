@@ -0,0 +1,77 @@
+package com.personal.money.management.core.shared.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementBudgetFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private SqlStatementBudgetFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new SqlStatementBudgetFilter(registry, 2);
+    }
+
+    @Test
+    void doFilter_shouldRecordStatementsAndTimeByMatchedPattern() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/categories/42");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/categories/{id}");
+            SqlStatementCounter.record(TimeUnit.MILLISECONDS.toNanos(3));
+            SqlStatementCounter.record(TimeUnit.MILLISECONDS.toNanos(4));
+            SqlStatementCounter.record(TimeUnit.MILLISECONDS.toNanos(5));
+        });
+
+        DistributionSummary statements = registry.get(SqlStatementBudgetFilter.STATEMENTS_METRIC)
+                .tags("method", "GET", "uri", "/api/categories/{id}").summary();
+        Timer time = registry.get(SqlStatementBudgetFilter.TIME_METRIC)
+                .tags("method", "GET", "uri", "/api/categories/{id}").timer();
+        assertEquals(1, statements.count());
+        assertEquals(3.0, statements.totalAmount());
+        assertEquals(12.0, time.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void doFilter_withoutMatchedHandler_shouldTagUnknownUri() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/nowhere"), new MockHttpServletResponse(),
+                (req, res) -> { });
+
+        assertEquals(0.0, registry.get(SqlStatementBudgetFilter.STATEMENTS_METRIC)
+                .tags("uri", "UNKNOWN").summary().totalAmount());
+    }
+
+    @Test
+    void record_outsideAnyScope_shouldBeIgnored() throws Throwable {
+        SqlStatementCounter.record(1);
+
+        assertEquals(1, SqlStatementAssertions.countStatements(() -> SqlStatementCounter.record(1)));
+    }
+
+    @Test
+    void nestedScopes_shouldEachSeeInnerStatements() {
+        try (SqlStatementCounter.Scope outer = SqlStatementCounter.open()) {
+            SqlStatementCounter.record(10);
+            try (SqlStatementCounter.Scope inner = SqlStatementCounter.open()) {
+                SqlStatementCounter.record(20);
+                assertEquals(1, inner.getStatements());
+                assertEquals(20, inner.getElapsedNanos());
+            }
+            SqlStatementCounter.record(30);
+            assertEquals(3, outer.getStatements());
+            assertEquals(60, outer.getElapsedNanos());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.personal.money.management.core.shared.infrastructure.monitoring;
+
+import com.personal.money.management.core.PersonalMoneyManagementApplication;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.personal.money.management.core.shared.infrastructure.monitoring.SqlStatementAssertions.assertStatementCount;
+import static com.personal.money.management.core.shared.infrastructure.monitoring.SqlStatementAssertions.countStatements;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets of read endpoints, measured through the proxied data source.
+ */
+@SpringBootTest(classes = PersonalMoneyManagementApplication.class)
+@AutoConfigureMockMvc
+@Transactional
+class SqlStatementBudgetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void getSettings_shouldBeServedWithoutQueries() throws Throwable {
+        mockMvc.perform(get("/api/settings")).andExpect(status().isOk());
+
+        assertStatementCount(0, () -> mockMvc.perform(get("/api/settings")).andExpect(status().isOk()));
+    }
+
+    @Test
+    void getCategories_shouldBeServedFromCatalogOnceLoaded() throws Throwable {
+        mockMvc.perform(get("/api/categories")).andExpect(status().isOk());
+
+        assertStatementCount(0, () -> mockMvc.perform(get("/api/categories")).andExpect(status().isOk()));
+    }
+
+    @Test
+    void getAccounts_shouldRecordStatementsUnderMatchedPattern() throws Throwable {
+        int executed = countStatements(() -> mockMvc.perform(get("/api/accounts")).andExpect(status().isOk()));
+
+        assertTrue(executed > 0);
+        DistributionSummary summary = meterRegistry.get(SqlStatementBudgetFilter.STATEMENTS_METRIC)
+                .tags("method", "GET", "uri", "/api/accounts").summary();
+        assertTrue(summary.count() >= 1);
+        assertTrue(summary.max() >= executed);
+    }
+}
@@ -0,0 +1,75 @@
+package com.personal.money.management.core.shared.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UseCaseTimingAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private SampleService service;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new UseCaseTimingAspect(registry));
+        service = factory.getProxy();
+    }
+
+    @Test
+    void time_shouldTagSuccessAndReportedSource() {
+        assertEquals("cached", service.read(true));
+        assertEquals("loaded", service.read(false));
+
+        assertEquals(1, timer("read", "SUCCESS", "cache").count());
+        assertEquals(1, timer("read", "SUCCESS", "db").count());
+    }
+
+    @Test
+    void time_shouldTagErrorWithExceptionName() {
+        assertThrows(IllegalArgumentException.class, service::fail);
+
+        Timer timer = registry.get(UseCaseTimingAspect.METRIC)
+                .tags("service", "SampleService", "method", "fail", "outcome", "ERROR",
+                        "exception", "IllegalArgumentException", "source", "none")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void mark_outsideUseCase_shouldBeIgnored() {
+        UseCaseSource.mark(UseCaseSource.CACHE);
+
+        service.untouched();
+
+        assertEquals(1, timer("untouched", "SUCCESS", "none").count());
+    }
+
+    private Timer timer(String method, String outcome, String source) {
+        return registry.get(UseCaseTimingAspect.METRIC)
+                .tags("service", "SampleService", "method", method, "outcome", outcome, "source", source)
+                .timer();
+    }
+
+    @UseCaseTimed
+    static class SampleService {
+
+        public String read(boolean cached) {
+            UseCaseSource.mark(cached ? UseCaseSource.CACHE : UseCaseSource.DATABASE);
+            return cached ? "cached" : "loaded";
+        }
+
+        public void fail() {
+            throw new IllegalArgumentException("boom");
+        }
+
+        public void untouched() {
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.personal.money.management.core.shared.infrastructure.monitoring;
+
+import com.personal.money.management.core.PersonalMoneyManagementApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Use case timers recorded through the real service proxies.
+ */
+@SpringBootTest(classes = PersonalMoneyManagementApplication.class)
+@AutoConfigureMockMvc
+@Transactional
+class UseCaseTimingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void getSettings_shouldRecordSnapshotReadsAsCacheHits() throws Exception {
+        mockMvc.perform(get("/api/settings")).andExpect(status().isOk());
+
+        Timer timer = meterRegistry.get(UseCaseTimingAspect.METRIC)
+                .tags("service", "AppSettingsService", "method", "get", "outcome", "SUCCESS", "source", "cache")
+                .timer();
+        assertTrue(timer.count() >= 1);
+    }
+
+    @Test
+    void getUnknownAccount_shouldRecordError() throws Exception {
+        mockMvc.perform(get("/api/ledger/accounts/{id}/balance", Long.MAX_VALUE)).andExpect(status().isNotFound());
+
+        assertFalse(meterRegistry.find(UseCaseTimingAspect.METRIC)
+                .tags("service", "LedgerService", "outcome", "ERROR").timers().isEmpty());
+    }
+}
@@ -0,0 +1,149 @@
+package com.personal.money.management.core.shared.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OutboxDispatcherTest {
+
+    private OutboxEventRepository repository;
+    private PlatformTransactionManager transactionManager;
+    private RecordingHandler handler;
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(OutboxEventRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(repository.claim(any())).thenReturn(1);
+        handler = new RecordingHandler();
+        dispatcher = new OutboxDispatcher(repository, List.of(handler), new ObjectMapper(), transactionManager, 200, 3);
+    }
+
+    @Test
+    void dispatchBatch_shouldFeedHandlersInWriteOrderAndRemoveEachEvent() {
+        givenBatch(event(1L, "Category", "7", "CategorySavedEvent", "{\"name\":\"Food\"}"),
+                event(2L, "Account", "3", "AccountSavedEvent", "{\"name\":\"Cash\"}"),
+                event(3L, "Category", "7", "CategoryDeletedEvent", "{\"categoryId\":7}"));
+
+        assertEquals(3, dispatcher.dispatchBatch());
+
+        assertEquals(List.of(1L, 3L), handler.handledIds());
+        assertEquals("Food", handler.handled.get(0).getPayload().get("name").asText());
+        verify(repository).claim(1L);
+        verify(repository).claim(2L);
+        verify(repository).claim(3L);
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void dispatchBatch_whenAHandlerFails_shouldHoldTheRestOfThatAggregateOnly() {
+        givenBatch(event(1L, "Category", "7", "CategorySavedEvent", "{}"),
+                event(2L, "Category", "8", "CategorySavedEvent", "{}"),
+                event(3L, "Category", "7", "CategoryDeletedEvent", "{}"));
+        handler.failOn = 1L;
+
+        assertEquals(1, dispatcher.dispatchBatch());
+
+        assertEquals(List.of(2L), handler.handledIds());
+        verify(repository, never()).claim(3L);
+        verify(repository).recordFailure(eq(1L), eq("handler failed"));
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void dispatchBatch_whenAnotherReplicaClaimedTheEvent_shouldSkipItsAggregate() {
+        givenBatch(event(1L, "TaxConfig", "TAX", "TaxConfigChangedEvent", "{}"),
+                event(2L, "TaxConfig", "TAX", "TaxConfigChangedEvent", "{}"));
+        when(repository.claim(1L)).thenReturn(0);
+
+        assertEquals(0, dispatcher.dispatchBatch());
+
+        assertTrue(handler.handled.isEmpty());
+        verify(repository, never()).claim(2L);
+        verify(repository, never()).recordFailure(any(), any());
+    }
+
+    @Test
+    void dispatchBatch_shouldRemoveEventsNoHandlerConsumes() {
+        givenBatch(event(1L, "Account", "3", "AccountDeletedEvent", "{\"accountId\":3}"));
+
+        assertEquals(1, dispatcher.dispatchBatch());
+
+        assertTrue(handler.handled.isEmpty());
+        verify(repository).claim(1L);
+    }
+
+    @Test
+    void dispatchBatch_shouldPollOnlyEventsBelowTheAttemptLimit() {
+        givenBatch();
+
+        assertEquals(0, dispatcher.dispatchBatch());
+
+        verify(repository).findOldest(eq(3), any(Pageable.class));
+    }
+
+    @Test
+    void dispatchBatch_shouldReadPayloadAmountsExactly() {
+        givenBatch(event(1L, "Category", "7", "CategorySavedEvent", "{\"amount\":12345678901234567.89}"));
+
+        dispatcher.dispatchBatch();
+
+        assertEquals(new BigDecimal("12345678901234567.89"), handler.handled.get(0).getPayload().get("amount").decimalValue());
+    }
+
+    @Test
+    void poll_shouldSurviveAFailedBatchRead() {
+        when(repository.findOldest(anyInt(), any(Pageable.class))).thenThrow(new IllegalStateException("database down"));
+
+        assertDoesNotThrow(dispatcher::poll);
+        assertTrue(handler.handled.isEmpty());
+    }
+
+    private void givenBatch(OutboxEventEntity... events) {
+        when(repository.findOldest(anyInt(), any(Pageable.class))).thenReturn(List.of(events));
+    }
+
+    private static OutboxEventEntity event(Long id, String aggregateType, String aggregateId, String eventType,
+                                           String payload) {
+        OutboxEventEntity event = new OutboxEventEntity(aggregateType, aggregateId, eventType, payload,
+                LocalDateTime.now());
+        event.setId(id);
+        return event;
+    }
+
+    private static class RecordingHandler implements OutboxEventHandler {
+        private final List<OutboxMessage> handled = new ArrayList<>();
+        private Long failOn;
+
+        @Override
+        public Set<String> eventTypes() {
+            return Set.of("CategorySavedEvent", "CategoryDeletedEvent", "TaxConfigChangedEvent");
+        }
+
+        @Override
+        public void handle(OutboxMessage message) {
+            if (message.getId().equals(failOn)) {
+                throw new IllegalStateException("handler failed");
+            }
+            handled.add(message);
+        }
+
+        private List<Long> handledIds() {
+            return handled.stream().map(OutboxMessage::getId).toList();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.personal.money.management.core.shared.infrastructure.outbox;
+
+import com.personal.money.management.core.PersonalMoneyManagementApplication;
+import com.personal.money.management.core.account.domain.model.Account;
+import com.personal.money.management.core.account.domain.model.AccountType;
+import com.personal.money.management.core.account.domain.repository.AccountRepository;
+import com.personal.money.management.core.category.application.CategoryService;
+import com.personal.money.management.core.category.domain.model.Category;
+import com.personal.money.management.core.category.domain.model.CategoryType;
+import com.personal.money.management.core.ledger.application.LedgerService;
+import com.personal.money.management.core.ledger.domain.model.LedgerTransaction;
+import com.personal.money.management.core.ledger.domain.model.TransactionDirection;
+import com.personal.money.management.core.shared.domain.valueobject.AccountName;
+import com.personal.money.management.core.shared.domain.valueobject.CurrencyCode;
+import com.personal.money.management.core.shared.domain.valueobject.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The outbox against the migrated table and the running dispatcher.
+ */
+@SpringBootTest(classes = PersonalMoneyManagementApplication.class)
+class OutboxIntegrationTest {
+
+    @Autowired
+    private Outbox outbox;
+
+    @Autowired
+    private OutboxEventRepository repository;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Value("${outbox.max-attempts}")
+    private int maxAttempts;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void categoryWrite_shouldStoreItsEventInTheWritingTransaction() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        String name = "outbox-" + UUID.randomUUID();
+
+        String aggregateId = transaction.execute(status -> {
+            Category saved = categoryService.createCategory(name, "icon", CategoryType.EXPENSE, null);
+            String id = String.valueOf(saved.getId());
+            List<OutboxEventEntity> events = repository.findByAggregateTypeAndAggregateIdOrderById("Category", id);
+            assertEquals(1, events.size());
+            assertEquals("CategorySavedEvent", events.get(0).getEventType());
+            assertTrue(events.get(0).getPayload().contains(name));
+            status.setRollbackOnly();
+            return id;
+        });
+
+        assertTrue(repository.findByAggregateTypeAndAggregateIdOrderById("Category", aggregateId).isEmpty());
+    }
+
+    @Test
+    void ledgerWrite_shouldStoreItsSpendingInTheWritingTransaction() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        String aggregateId = transaction.execute(status -> {
+            Account account = accountRepository.save(new Account(AccountName.of("Outbox " + UUID.randomUUID()),
+                    Money.of(BigDecimal.TEN, CurrencyCode.of("USD")), AccountType.CASH, null));
+            ledgerService.recordTransaction(new LedgerTransaction(account.getId(), null, TransactionDirection.EXPENSE,
+                    Money.of(new BigDecimal("4.20"), CurrencyCode.of("USD")), LocalDate.of(2025, 3, 1), "coffee"));
+            String id = String.valueOf(account.getId());
+            List<OutboxEventEntity> events = repository.findByAggregateTypeAndAggregateIdOrderById("SpendingCube", id);
+            assertEquals(1, events.size());
+            assertEquals("SpendingRecordedEvent", events.get(0).getEventType());
+            assertTrue(events.get(0).getPayload().contains("\"month\":\"2025-03\""));
+            status.setRollbackOnly();
+            return id;
+        });
+
+        assertTrue(repository.findByAggregateTypeAndAggregateIdOrderById("SpendingCube", aggregateId).isEmpty());
+    }
+
+    @Test
+    void committedEvents_shouldBeDispatchedAndRemovedInTheBackground() throws InterruptedException {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        String aggregateId = UUID.randomUUID().toString();
+
+        transaction.executeWithoutResult(status -> {
+            outbox.append("OutboxTest", aggregateId, Map.of("step", 1));
+            outbox.append("OutboxTest", aggregateId, Map.of("step", 2));
+        });
+        assertEquals(2, repository.findByAggregateTypeAndAggregateIdOrderById("OutboxTest", aggregateId).size());
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!repository.findByAggregateTypeAndAggregateIdOrderById("OutboxTest", aggregateId).isEmpty()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Outbox events were not dispatched");
+            Thread.sleep(100);
+        }
+    }
+
+    @Test
+    void parkedEvent_shouldStayAndNoLongerHoldBackItsAggregate() throws InterruptedException {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        String aggregateId = UUID.randomUUID().toString();
+
+        Long parked = transaction.execute(status -> {
+            outbox.append("OutboxTest", aggregateId, Map.of("step", 1));
+            Long id = repository.findByAggregateTypeAndAggregateIdOrderById("OutboxTest", aggregateId).get(0).getId();
+            for (int attempt = 0; attempt < maxAttempts; attempt++) {
+                repository.recordFailure(id, "handler failed");
+            }
+            return id;
+        });
+        transaction.executeWithoutResult(status -> outbox.append("OutboxTest", aggregateId, Map.of("step", 2)));
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (repository.findByAggregateTypeAndAggregateIdOrderById("OutboxTest", aggregateId).size() > 1) {
+            assertTrue(System.currentTimeMillis() < deadline, "The event after the parked one was not dispatched");
+            Thread.sleep(100);
+        }
+        List<OutboxEventEntity> remaining = repository.findByAggregateTypeAndAggregateIdOrderById("OutboxTest", aggregateId);
+        assertEquals(parked, remaining.get(0).getId());
+        assertEquals(maxAttempts, remaining.get(0).getAttempts());
+        assertEquals("handler failed", remaining.get(0).getLastError());
+        transaction.executeWithoutResult(status -> repository.deleteById(parked));
+    }
+
+    @Test
+    void append_shouldRequireTheCallersTransaction() {
+        assertThrows(IllegalTransactionStateException.class,
+                () -> outbox.append("OutboxTest", "1", Map.of("step", 1)));
+    }
+}
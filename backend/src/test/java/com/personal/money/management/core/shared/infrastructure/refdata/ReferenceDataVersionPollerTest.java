@@ -0,0 +1,107 @@
+package com.personal.money.management.core.shared.infrastructure.refdata;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReferenceDataVersionPollerTest {
+
+    private ReferenceDataVersions versions;
+    private ReferenceDataChangeListener taxListener;
+    private ReferenceDataChangeListener categoryListener;
+    private ReferenceDataVersionPoller poller;
+    private final Map<ReferenceDataContext, Long> stored = new EnumMap<>(ReferenceDataContext.class);
+
+    @BeforeEach
+    void setUp() {
+        versions = mock(ReferenceDataVersions.class);
+        when(versions.current()).thenAnswer(invocation -> new EnumMap<>(stored));
+        taxListener = listener(ReferenceDataContext.TAX);
+        categoryListener = listener(ReferenceDataContext.CATEGORY);
+        poller = new ReferenceDataVersionPoller(versions, List.of(taxListener, categoryListener));
+        stored.put(ReferenceDataContext.TAX, 0L);
+        stored.put(ReferenceDataContext.CATEGORY, 0L);
+    }
+
+    @Test
+    void refresh_shouldFireNothingForTheVersionsSeededAtStartup() {
+        poller.seed();
+
+        assertEquals(Set.of(), poller.refresh());
+
+        verify(taxListener, never()).referenceDataChanged();
+        verify(categoryListener, never()).referenceDataChanged();
+    }
+
+    @Test
+    void refresh_shouldFireEveryListenerOnceWhenTheSeedFailed() {
+        when(versions.current()).thenThrow(new IllegalStateException("database down"))
+                .thenAnswer(invocation -> new EnumMap<>(stored));
+        poller.seed();
+
+        assertEquals(Set.of(ReferenceDataContext.TAX, ReferenceDataContext.CATEGORY), poller.refresh());
+        assertEquals(Set.of(), poller.refresh());
+
+        verify(taxListener, times(1)).referenceDataChanged();
+        verify(categoryListener, times(1)).referenceDataChanged();
+    }
+
+    @Test
+    void refresh_shouldOnlyFireListenersOfTheContextThatMoved() {
+        poller.seed();
+        stored.put(ReferenceDataContext.CATEGORY, 1L);
+
+        assertEquals(Set.of(ReferenceDataContext.CATEGORY), poller.refresh());
+
+        verify(taxListener, never()).referenceDataChanged();
+        verify(categoryListener, times(1)).referenceDataChanged();
+    }
+
+    @Test
+    void refresh_shouldSkipVersionsThisInstanceCommitted() {
+        poller.seed();
+        stored.put(ReferenceDataContext.TAX, 2L);
+        when(versions.onlyCommittedHere(ReferenceDataContext.TAX, 0L, 2L)).thenReturn(true);
+
+        assertEquals(Set.of(), poller.refresh());
+        stored.put(ReferenceDataContext.TAX, 3L);
+        assertEquals(Set.of(ReferenceDataContext.TAX), poller.refresh());
+
+        verify(versions).onlyCommittedHere(ReferenceDataContext.TAX, 2L, 3L);
+        verify(taxListener, times(1)).referenceDataChanged();
+    }
+
+    @Test
+    void refresh_shouldRetryAContextWhoseListenerFailed() {
+        poller.seed();
+        stored.put(ReferenceDataContext.TAX, 1L);
+        doThrow(new IllegalStateException("boom")).doNothing().when(taxListener).referenceDataChanged();
+
+        assertEquals(Set.of(), poller.refresh());
+        assertEquals(Set.of(ReferenceDataContext.TAX), poller.refresh());
+
+        verify(taxListener, times(2)).referenceDataChanged();
+    }
+
+    @Test
+    void poll_shouldSurviveAFailedVersionRead() {
+        when(versions.current()).thenThrow(new IllegalStateException("database down"));
+
+        assertDoesNotThrow(poller::poll);
+        verify(taxListener, never()).referenceDataChanged();
+        verify(categoryListener, never()).referenceDataChanged();
+    }
+
+    private static ReferenceDataChangeListener listener(ReferenceDataContext context) {
+        ReferenceDataChangeListener listener = mock(ReferenceDataChangeListener.class);
+        when(listener.referenceDataContext()).thenReturn(context);
+        return listener;
+    }
+}
@@ -0,0 +1,69 @@
+package com.personal.money.management.core.shared.infrastructure.refdata;
+
+import com.personal.money.management.core.PersonalMoneyManagementApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Version bumps against the migrated table. Uses the currency context, which no
+ * application write path bumps, so concurrent test classes cannot move it.
+ */
+@SpringBootTest(classes = PersonalMoneyManagementApplication.class)
+class ReferenceDataVersionsIntegrationTest {
+
+    @Autowired
+    private ReferenceDataVersions versions;
+
+    @Autowired
+    private ReferenceDataVersionRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void bump_shouldBecomeVisibleOnlyWhenTheWriteCommits() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long before = versions.current().get(ReferenceDataContext.CURRENCY);
+
+        transaction.executeWithoutResult(status -> {
+            versions.bump(ReferenceDataContext.CURRENCY);
+            status.setRollbackOnly();
+        });
+        assertEquals(before, versions.current().get(ReferenceDataContext.CURRENCY));
+
+        transaction.executeWithoutResult(status -> versions.bump(ReferenceDataContext.CURRENCY));
+        assertEquals(before + 1, versions.current().get(ReferenceDataContext.CURRENCY));
+    }
+
+    @Test
+    void onlyCommittedHere_shouldRecognizeOnlyBumpsThisInstanceCommitted() {
+        // A registry of its own, so the application's poller cannot consume its versions
+        ReferenceDataVersions versions = new ReferenceDataVersions(repository);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long before = this.versions.current().get(ReferenceDataContext.CURRENCY);
+
+        transaction.executeWithoutResult(status -> {
+            versions.bump(ReferenceDataContext.CURRENCY);
+            status.setRollbackOnly();
+        });
+        transaction.executeWithoutResult(status -> versions.bump(ReferenceDataContext.CURRENCY));
+
+        assertTrue(versions.onlyCommittedHere(ReferenceDataContext.CURRENCY, before, before + 1));
+        // Versions no bump here produced, as when another replica writes
+        assertFalse(versions.onlyCommittedHere(ReferenceDataContext.CURRENCY, before + 1, before + 2));
+    }
+
+    @Test
+    void bump_shouldRequireTheCallersTransaction() {
+        assertThrows(IllegalTransactionStateException.class, () -> versions.bump(ReferenceDataContext.CURRENCY));
+    }
+}
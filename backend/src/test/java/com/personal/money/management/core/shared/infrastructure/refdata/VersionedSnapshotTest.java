@@ -0,0 +1,62 @@
+package com.personal.money.management.core.shared.infrastructure.refdata;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionedSnapshotTest {
+
+    private final VersionedSnapshot<String> snapshot = new VersionedSnapshot<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_shouldReuseTheValueUntilInvalidated() {
+        assertEquals("v0", snapshot.get(this::load));
+        assertEquals("v0", snapshot.get(this::load));
+        assertEquals(1, loads.get());
+
+        snapshot.invalidate();
+
+        assertEquals("v1", snapshot.get(this::load));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_shouldRebuildAValueThatIsNoLongerFresh() {
+        snapshot.get(this::load);
+
+        assertEquals("v0", snapshot.get(this::load, value -> false));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidate_insideATransaction_shouldDiscardAgainOnCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        snapshot.invalidate();
+        // Built by the writing transaction, from rows it may still roll back
+        assertEquals("v1", snapshot.get(this::load));
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        assertEquals("v2", snapshot.get(this::load));
+    }
+
+    private String load(long version) {
+        loads.incrementAndGet();
+        return "v" + version;
+    }
+}
@@ -0,0 +1,204 @@
+package com.personal.money.management.core.tax.application;
+
+import com.personal.money.management.core.PersonalMoneyManagementApplication;
+import com.personal.money.management.core.tax.domain.model.CompiledTaxRules;
+import com.personal.money.management.core.tax.domain.model.ProgressiveTaxSchedule;
+import com.personal.money.management.core.tax.domain.model.TaxBracket;
+import com.personal.money.management.core.tax.domain.model.TaxBracketType;
+import com.personal.money.management.core.tax.domain.model.WageZoneValue;
+import com.personal.money.management.core.tax.domain.service.TaxEngine;
+import com.personal.money.management.core.tax.domain.service.TaxPayrollResultRepository;
+import com.personal.money.management.core.tax.domain.service.TaxWithholdingYtdRepository;
+import com.personal.money.management.core.tax.infrastructure.persistence.TaxPayrollResultEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Selective recomputation of stored payroll results. Not transactional: each employee
+ * year commits on a worker thread, so the rows are removed after every test.
+ */
+@SpringBootTest(classes = PersonalMoneyManagementApplication.class)
+class PayrollRecomputationIntegrationTest {
+
+    private static final int YEAR = 2026;
+    private static final List<String> EMPLOYEES = List.of("RECOMP-LOW", "RECOMP-HIGH");
+
+    @Autowired
+    private TaxWithholdingService withholdingService;
+
+    @Autowired
+    private PayrollRecomputationRunner runner;
+
+    @Autowired
+    private TaxEngine taxEngine;
+
+    @Autowired
+    private TaxPayrollResultRepository payrollResultRepository;
+
+    @Autowired
+    private TaxWithholdingYtdRepository withholdingRepository;
+
+    @AfterEach
+    void cleanUp() {
+        for (String employeeId : EMPLOYEES) {
+            payrollResultRepository.deleteAll(payrollResultRepository.findByEmployeeIdAndYear(employeeId, YEAR));
+            withholdingRepository.findByEmployeeIdAndYear(employeeId, YEAR).ifPresent(withholdingRepository::delete);
+        }
+    }
+
+    @Test
+    void recompute_shouldOnlyTouchResultsAboveTheChangedBracket() {
+        for (int month = 1; month <= 3; month++) {
+            withholdingService.recordMonth("RECOMP-LOW", YEAR, month, request(30_000_000));
+            withholdingService.recordMonth("RECOMP-HIGH", YEAR, month, request(200_000_000));
+        }
+        long lowTaxBefore = totalTax("RECOMP-LOW");
+        long highTaxBefore = totalTax("RECOMP-HIGH");
+        long highYtdBefore = ytdTaxWithheld("RECOMP-HIGH");
+
+        // Top rate of the 5-bracket schedule raised from 35% to 40%
+        CompiledTaxRules before = taxEngine.rules();
+        CompiledTaxRules after = withTopRateRaised(before, wageZones(before));
+
+        PayrollRecomputationSummary summary = runner.recompute(before, after);
+
+        assertEquals(1, summary.getRanges().size());
+        assertEquals(100_000_000, summary.getRanges().get(0).getTaxableIncomeAbove());
+        assertEquals(3, summary.getRowsExamined());
+        assertEquals(3, summary.getRowsChanged());
+        assertEquals(1, summary.getYearToDateAdjusted());
+        assertEquals(0, summary.getYearToDateFailed());
+
+        long highTaxAfter = totalTax("RECOMP-HIGH");
+        assertTrue(highTaxAfter > highTaxBefore);
+        assertEquals(highYtdBefore + (highTaxAfter - highTaxBefore), ytdTaxWithheld("RECOMP-HIGH"));
+        assertEquals(lowTaxBefore, totalTax("RECOMP-LOW"));
+    }
+
+    @Test
+    void recompute_shouldDoNothingWhenTheRulesAreUnchanged() {
+        withholdingService.recordMonth("RECOMP-HIGH", YEAR, 1, request(200_000_000));
+
+        PayrollRecomputationSummary summary = runner.recompute(taxEngine.rules(), taxEngine.rules());
+
+        assertTrue(summary.getRanges().isEmpty());
+        assertEquals(0, summary.getRowsChanged());
+    }
+
+    @Test
+    void recompute_shouldFollowAChangedInsuranceCap() {
+        for (int month = 1; month <= 2; month++) {
+            withholdingService.recordMonth("RECOMP-LOW", YEAR, month, request(30_000_000));
+            withholdingService.recordMonth("RECOMP-HIGH", YEAR, month, request(200_000_000));
+        }
+        long lowTaxBefore = totalTax("RECOMP-LOW");
+        long highTaxBefore = totalTax("RECOMP-HIGH");
+        long highBhtnBefore = withholdingService.getYearToDate("RECOMP-HIGH", YEAR).orElseThrow().getTotals().getBhtn();
+
+        // The zone I cap raised by 10,000,000: more unemployment insurance above it, so less tax
+        CompiledTaxRules before = taxEngine.rules();
+        Map<String, WageZoneValue> zones = wageZones(before);
+        WageZoneValue zone = zones.get("I");
+        long raisedCap = zone.getInsuranceCap() + 10_000_000;
+        zones.put("I", new WageZoneValue("I", zone.getLabel(), zone.getMinimumWage(), raisedCap));
+        CompiledTaxRules after = new CompiledTaxRules(before.getVersion() + 1, schedules(before),
+                Map.of(), zones, List.of());
+
+        PayrollRecomputationSummary summary = runner.recompute(before, after);
+
+        assertEquals(1, summary.getRanges().size());
+        assertEquals("I", summary.getRanges().get(0).getWageZone());
+        assertEquals(zone.getInsuranceCap(), summary.getRanges().get(0).getGrossSalaryAbove());
+        assertEquals(2, summary.getRowsChanged());
+        assertEquals(1, summary.getYearToDateAdjusted());
+        assertTrue(totalTax("RECOMP-HIGH") < highTaxBefore);
+        assertEquals(lowTaxBefore, totalTax("RECOMP-LOW"));
+        // Rebuilt from the months: 1% more unemployment insurance on 10,000,000, twice
+        assertEquals(highBhtnBefore + 200_000,
+                withholdingService.getYearToDate("RECOMP-HIGH", YEAR).orElseThrow().getTotals().getBhtn());
+        assertEquals(totalTax("RECOMP-HIGH"), ytdTaxWithheld("RECOMP-HIGH"));
+    }
+
+    @Test
+    void recompute_shouldLeaveAFailedYearIntactAndRetryIt() {
+        for (int month = 1; month <= 2; month++) {
+            withholdingService.recordMonth("RECOMP-HIGH", YEAR, month, request(200_000_000));
+        }
+        long highTaxBefore = totalTax("RECOMP-HIGH");
+        long highYtdBefore = ytdTaxWithheld("RECOMP-HIGH");
+        CompiledTaxRules before = taxEngine.rules();
+
+        // Without the wage zones the months cannot be recalculated
+        PayrollRecomputationSummary failed = runner.recompute(before, withTopRateRaised(before, Map.of()));
+
+        assertEquals(1, failed.getYearToDateFailed());
+        assertEquals(0, failed.getRowsChanged());
+        assertEquals(highTaxBefore, totalTax("RECOMP-HIGH"));
+        assertEquals(highYtdBefore, ytdTaxWithheld("RECOMP-HIGH"));
+
+        PayrollRecomputationSummary retried = runner.recompute(before, withTopRateRaised(before, wageZones(before)));
+
+        assertEquals(0, retried.getYearToDateFailed());
+        assertEquals(2, retried.getRowsChanged());
+        assertTrue(totalTax("RECOMP-HIGH") > highTaxBefore);
+        assertEquals(totalTax("RECOMP-HIGH"), ytdTaxWithheld("RECOMP-HIGH"));
+    }
+
+    private static CompiledTaxRules withTopRateRaised(CompiledTaxRules before, Map<String, WageZoneValue> wageZones) {
+        Map<String, ProgressiveTaxSchedule> schedules = schedules(before);
+        schedules.put(TaxBracketType.FIVE_BRACKET.getCode(), ProgressiveTaxSchedule.of(List.of(
+                new TaxBracket(10_000_000, 0.05),
+                new TaxBracket(30_000_000, 0.10),
+                new TaxBracket(60_000_000, 0.20),
+                new TaxBracket(100_000_000, 0.30),
+                new TaxBracket(Long.MAX_VALUE, 0.40))));
+        return new CompiledTaxRules(before.getVersion() + 1, schedules, Map.of(), wageZones, List.of());
+    }
+
+    private static Map<String, ProgressiveTaxSchedule> schedules(CompiledTaxRules rules) {
+        Map<String, ProgressiveTaxSchedule> schedules = new HashMap<>();
+        for (TaxBracketType type : TaxBracketType.values()) {
+            schedules.put(type.getCode(), rules.taxSchedule(type));
+        }
+        return schedules;
+    }
+
+    private static Map<String, WageZoneValue> wageZones(CompiledTaxRules rules) {
+        Map<String, WageZoneValue> zones = new HashMap<>();
+        rules.wageZones().forEach(zone -> zones.put(zone.getValue(), zone));
+        return zones;
+    }
+
+    private long totalTax(String employeeId) {
+        return payrollResultRepository.findByEmployeeIdAndYear(employeeId, YEAR).stream()
+                .mapToLong(TaxPayrollResultEntity::getTotalTax)
+                .sum();
+    }
+
+    private long ytdTaxWithheld(String employeeId) {
+        return withholdingService.getYearToDate(employeeId, YEAR).orElseThrow().getTotals().getTaxWithheld();
+    }
+
+    private static SalaryCalculationRequest request(long grossSalary) {
+        SalaryCalculationRequest request = new SalaryCalculationRequest();
+        request.setGrossSalary(grossSalary);
+        request.setInsuranceBase(30_000_000);
+        request.setBhxhRate(8.0);
+        request.setBhytRate(1.5);
+        request.setBhtnRate(1.0);
+        request.setPersonalDeduction(15_500_000);
+        request.setDependentDeductionPerPerson(6_200_000);
+        request.setWageZone("I");
+        request.setTaxBracketType("5-bracket");
+        return request;
+    }
+}
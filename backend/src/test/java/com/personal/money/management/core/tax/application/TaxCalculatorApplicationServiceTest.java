@@ -34,14 +34,17 @@ class TaxCalculatorApplicationServiceTest {
 
     private TaxCalculatorApplicationService applicationService;
 
+    // Tax brackets the engine compiles; tests add further bracket sets before calculating
+    private final List<TaxBracketEntity> taxBrackets = new ArrayList<>();
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        applicationService = new TaxCalculatorApplicationService(
+        applicationService = new TaxCalculatorApplicationService(new TaxEngine(
             taxBracketRepository,
             deductionBracketRepository,
             wageZoneRepository
-        );
+        ), 10_000, 100_000);
     }
 
     private void setupAllMocks() {
@@ -58,8 +61,8 @@ class TaxCalculatorApplicationServiceTest {
         taxEntity.setValue(TaxBracketType.SEVEN_BRACKET.getCode());
         taxEntity.setDetails(Arrays.asList(bracket1, bracket2, bracket3, bracket4, bracket5, bracket6, bracket7));
 
-        when(taxBracketRepository.findByValue(TaxBracketType.SEVEN_BRACKET.getCode()))
-            .thenReturn(Optional.of(taxEntity));
+        taxBrackets.add(taxEntity);
+        when(taxBracketRepository.findAllOrderByEffectiveDate()).thenReturn(taxBrackets);
 
         // Setup wage zone
         WageZoneEntity wageEntity = new WageZoneEntity();
@@ -68,7 +71,7 @@ class TaxCalculatorApplicationServiceTest {
         wageEntity.setMinimumWage(7_333_000L);
         wageEntity.setInsuranceCap(20_790_000L);
 
-        when(wageZoneRepository.findByValue("vung-1")).thenReturn(Optional.of(wageEntity));
+        when(wageZoneRepository.findAll()).thenReturn(List.of(wageEntity));
     }
 
     private TaxBracketDetailEntity createBracketDetail(Integer order, Long maxIncome, Integer rate) {
@@ -278,8 +281,7 @@ class TaxCalculatorApplicationServiceTest {
             fiveBracketEntity.setValue(TaxBracketType.FIVE_BRACKET.getCode());
             fiveBracketEntity.setDetails(Arrays.asList(bracket1, bracket2, bracket3, bracket4, bracket5));
 
-            when(taxBracketRepository.findByValue(TaxBracketType.FIVE_BRACKET.getCode()))
-                .thenReturn(Optional.of(fiveBracketEntity));
+            taxBrackets.add(fiveBracketEntity);
 
             SalaryCalculationRequest request = new SalaryCalculationRequest();
             request.setGrossSalary(50_000_000);
@@ -413,8 +415,6 @@ class TaxCalculatorApplicationServiceTest {
         @DisplayName("Should throw exception for invalid wage zone")
         void testInvalidWageZone() {
             // Given
-            when(wageZoneRepository.findByValue("invalid-zone")).thenReturn(Optional.empty());
-
             SalaryCalculationRequest request = new SalaryCalculationRequest();
             request.setGrossSalary(50_000_000);
             request.setTetBonus(0);
@@ -441,9 +441,6 @@ class TaxCalculatorApplicationServiceTest {
         void testInvalidTaxBracketType() {
             // Given
             setupAllMocks();
-            
-            when(taxBracketRepository.findByValue("invalid-bracket"))
-                .thenReturn(Optional.empty());
 
             SalaryCalculationRequest request = new SalaryCalculationRequest();
             request.setGrossSalary(50_000_000);
@@ -3,10 +3,14 @@ package com.personal.money.management.core.tax.application;
 import com.personal.money.management.core.tax.infrastructure.persistence.DeductionBracketEntity;
 import com.personal.money.management.core.tax.infrastructure.persistence.TaxBracketDetailEntity;
 import com.personal.money.management.core.tax.infrastructure.persistence.TaxBracketEntity;
+import com.personal.money.management.core.tax.infrastructure.persistence.TaxConfigCacheEvictor;
 import com.personal.money.management.core.tax.infrastructure.persistence.WageZoneEntity;
+import com.personal.money.management.core.shared.infrastructure.outbox.Outbox;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataVersions;
 import com.personal.money.management.core.tax.domain.service.DeductionBracketRepository;
 import com.personal.money.management.core.tax.domain.service.TaxBracketDetailRepository;
 import com.personal.money.management.core.tax.domain.service.TaxBracketRepository;
+import com.personal.money.management.core.tax.domain.service.TaxEngine;
 import com.personal.money.management.core.tax.domain.service.WageZoneRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,6 +43,21 @@ class TaxConfigServiceCoverageTest {
     @Mock
     private WageZoneRepository wageZoneRepository;
 
+    @Mock
+    private TaxConfigCacheEvictor cacheEvictor;
+
+    @Mock
+    private TaxEngine taxEngine;
+
+    @Mock
+    private PayrollRecomputationRunner payrollRecomputationRunner;
+
+    @Mock
+    private ReferenceDataVersions referenceDataVersions;
+
+    @Mock
+    private Outbox outbox;
+
     @InjectMocks
     private TaxConfigService service;
 
@@ -120,12 +139,7 @@ class TaxConfigServiceCoverageTest {
 
     @Test
     void resetToDefaults_calls_repository_methods_and_returnsMessage() {
-        // No behaviour needed; we just verify interactions
-        doNothing().when(taxBracketDetailRepository).deleteAllDetails();
-        doNothing().when(taxBracketRepository).deleteAllBrackets();
-        doNothing().when(deductionBracketRepository).deleteAllDeductions();
-        doNothing().when(wageZoneRepository).deleteAllZones();
-
+        // Empty tables: every default is inserted
         when(taxBracketRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
         when(deductionBracketRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
         when(wageZoneRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
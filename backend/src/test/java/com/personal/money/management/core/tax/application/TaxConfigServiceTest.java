@@ -3,10 +3,17 @@ package com.personal.money.management.core.tax.application;
 import com.personal.money.management.core.tax.infrastructure.persistence.DeductionBracketEntity;
 import com.personal.money.management.core.tax.infrastructure.persistence.TaxBracketDetailEntity;
 import com.personal.money.management.core.tax.infrastructure.persistence.TaxBracketEntity;
+import com.personal.money.management.core.tax.infrastructure.persistence.TaxConfigCacheEvictor;
 import com.personal.money.management.core.tax.infrastructure.persistence.WageZoneEntity;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataContext;
+import com.personal.money.management.core.shared.infrastructure.outbox.Outbox;
+import com.personal.money.management.core.shared.infrastructure.refdata.ReferenceDataVersions;
+import com.personal.money.management.core.tax.domain.event.TaxConfigChangedEvent;
 import com.personal.money.management.core.tax.domain.service.DeductionBracketRepository;
 import com.personal.money.management.core.tax.domain.service.TaxBracketDetailRepository;
 import com.personal.money.management.core.tax.domain.service.TaxBracketRepository;
+import com.personal.money.management.core.tax.domain.model.CompiledTaxRules;
+import com.personal.money.management.core.tax.domain.service.TaxEngine;
 import com.personal.money.management.core.tax.domain.service.WageZoneRepository;
 import com.personal.money.management.core.tax.interfaces.TaxConfigResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +21,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,6 +33,11 @@ class TaxConfigServiceTest {
     private TaxBracketDetailRepository taxBracketDetailRepository;
     private DeductionBracketRepository deductionBracketRepository;
     private WageZoneRepository wageZoneRepository;
+    private TaxConfigCacheEvictor cacheEvictor;
+    private TaxEngine taxEngine;
+    private PayrollRecomputationRunner payrollRecomputationRunner;
+    private ReferenceDataVersions referenceDataVersions;
+    private Outbox outbox;
     private TaxConfigService taxConfigService;
 
     @BeforeEach
@@ -33,12 +46,22 @@ class TaxConfigServiceTest {
         taxBracketDetailRepository = mock(TaxBracketDetailRepository.class);
         deductionBracketRepository = mock(DeductionBracketRepository.class);
         wageZoneRepository = mock(WageZoneRepository.class);
+        cacheEvictor = mock(TaxConfigCacheEvictor.class);
+        taxEngine = mock(TaxEngine.class);
+        payrollRecomputationRunner = mock(PayrollRecomputationRunner.class);
+        referenceDataVersions = mock(ReferenceDataVersions.class);
+        outbox = mock(Outbox.class);
 
         taxConfigService = new TaxConfigService(
                 taxBracketRepository,
                 taxBracketDetailRepository,
                 deductionBracketRepository,
-                wageZoneRepository
+                wageZoneRepository,
+                cacheEvictor,
+                taxEngine,
+                payrollRecomputationRunner,
+                referenceDataVersions,
+                outbox
         );
     }
 
@@ -86,6 +109,8 @@ class TaxConfigServiceTest {
 
     @Test
     void createTaxBracket_shouldSaveAndReturnSuccessResponse() {
+        CompiledTaxRules before = new CompiledTaxRules(1, Map.of(), Map.of(), Map.of(), List.of());
+        when(taxEngine.rules()).thenReturn(before);
         TaxBracketRequest.TaxBracketDetailRequest dreq = new TaxBracketRequest.TaxBracketDetailRequest(0L, 5000000L, 5.0, 0L, 1);
         TaxBracketRequest req = new TaxBracketRequest("my-bracket", "label", LocalDate.of(2026,1,1), List.of(dreq));
 
@@ -97,6 +122,25 @@ class TaxConfigServiceTest {
         assertTrue(resp.isSuccess());
         assertEquals("my-bracket", resp.getValue());
         verify(taxBracketRepository).save(any(TaxBracketEntity.class));
+        verify(cacheEvictor).evictAfterCommit();
+        verify(taxEngine).reloadAfterCommit();
+        verify(payrollRecomputationRunner).recomputeAfterCommit(before);
+    }
+
+    @Test
+    void deleteTaxBracket_shouldReloadAndRecomputeAfterCommit() {
+        TaxBracketEntity bracket = storedBracket();
+        when(taxBracketRepository.findByValue("7-bracket")).thenReturn(Optional.of(bracket));
+        CompiledTaxRules before = new CompiledTaxRules(1, Map.of(), Map.of(), Map.of(), List.of());
+        when(taxEngine.rules()).thenReturn(before);
+
+        var resp = taxConfigService.deleteTaxBracket("7-bracket");
+
+        assertTrue(resp.isSuccess());
+        verify(taxBracketRepository).delete(bracket);
+        verify(cacheEvictor).evictAfterCommit();
+        verify(taxEngine).reloadAfterCommit();
+        verify(payrollRecomputationRunner).recomputeAfterCommit(before);
     }
 
     @Test
@@ -111,5 +155,168 @@ class TaxConfigServiceTest {
 
         assertFalse(resp.isSuccess());
         assertEquals("Tax bracket not found", resp.getMessage());
+        verify(cacheEvictor, never()).evictAfterCommit();
+        verify(taxEngine, never()).reloadAfterCommit();
+        verify(payrollRecomputationRunner, never()).recomputeAfterCommit(any());
+    }
+
+    @Test
+    void updateTaxBracket_shouldDiffDetailsByBracketOrder() {
+        TaxBracketEntity bracket = storedBracket();
+        TaxBracketDetailEntity first = bracket.getDetails().get(0);
+        TaxBracketDetailEntity second = bracket.getDetails().get(1);
+        TaxBracketDetailEntity third = bracket.getDetails().get(2);
+        when(taxBracketRepository.findByValue("7-bracket")).thenReturn(Optional.of(bracket));
+        CompiledTaxRules before = new CompiledTaxRules(1, Map.of(), Map.of(), Map.of(), List.of());
+        when(taxEngine.rules()).thenReturn(before);
+
+        // Order 1 unchanged, order 2 re-rated, order 3 dropped, order 4 added
+        TaxBracketRequest req = new TaxBracketRequest("7-bracket", "7 bậc", LocalDate.of(2025, 12, 13), List.of(
+                new TaxBracketRequest.TaxBracketDetailRequest(0L, 5000000L, 5.0, 0L, 1),
+                new TaxBracketRequest.TaxBracketDetailRequest(5000001L, 10000000L, 12.0, 250000L, 2),
+                new TaxBracketRequest.TaxBracketDetailRequest(18000001L, null, 20.0, 1650000L, 4)));
+
+        var resp = taxConfigService.updateTaxBracket("7-bracket", req);
+
+        assertTrue(resp.isSuccess());
+        assertEquals(3, bracket.getDetails().size());
+        assertSame(first, bracket.getDetails().get(0));
+        assertNull(first.getUpdatedAt());
+        assertSame(second, bracket.getDetails().get(1));
+        assertEquals(12.0, second.getRate());
+        assertNotNull(second.getUpdatedAt());
+        assertEquals(4, bracket.getDetails().get(2).getBracketOrder());
+        assertSame(bracket, bracket.getDetails().get(2).getBracket());
+        verify(taxBracketDetailRepository).deleteAll(List.of(third));
+        verify(taxBracketDetailRepository, never()).deleteByBracket(any());
+        verify(cacheEvictor, never()).evictAfterCommit();
+        verify(taxEngine).reloadAfterCommit();
+        verify(referenceDataVersions).bump(ReferenceDataContext.TAX);
+        verify(outbox).append(eq("TaxConfig"), eq("TAX"), argThat(event ->
+                ((TaxConfigChangedEvent) event).getBracketValues().equals(List.of("7-bracket"))));
+        verify(payrollRecomputationRunner).recomputeAfterCommit(before);
+    }
+
+    @Test
+    void updateTaxBracket_whenUnchanged_shouldWriteNothing() {
+        TaxBracketEntity bracket = storedBracket();
+        when(taxBracketRepository.findByValue("7-bracket")).thenReturn(Optional.of(bracket));
+
+        // No bracket orders given: index + 1 matches the stored rows
+        TaxBracketRequest req = new TaxBracketRequest("7-bracket", "7 bậc", LocalDate.of(2025, 12, 13), List.of(
+                new TaxBracketRequest.TaxBracketDetailRequest(0L, 5000000L, 5.0, 0L, null),
+                new TaxBracketRequest.TaxBracketDetailRequest(5000001L, 10000000L, 10.0, 250000L, null),
+                new TaxBracketRequest.TaxBracketDetailRequest(10000001L, null, 15.0, 750000L, null)));
+
+        var resp = taxConfigService.updateTaxBracket("7-bracket", req);
+
+        assertTrue(resp.isSuccess());
+        assertNull(bracket.getUpdatedAt());
+        bracket.getDetails().forEach(detail -> assertNull(detail.getUpdatedAt()));
+        verifyNoInteractions(taxBracketDetailRepository);
+        verify(taxEngine, never()).reloadAfterCommit();
+        verifyNoInteractions(outbox);
+        verify(referenceDataVersions, never()).bump(any());
+        verify(payrollRecomputationRunner, never()).recomputeAfterCommit(any());
+    }
+
+    @Test
+    void updateTaxBracket_withDuplicateOrder_shouldLeaveBracketUntouched() {
+        TaxBracketEntity bracket = storedBracket();
+        when(taxBracketRepository.findByValue("7-bracket")).thenReturn(Optional.of(bracket));
+
+        TaxBracketRequest req = new TaxBracketRequest("7-bracket", "renamed", LocalDate.of(2025, 12, 13), List.of(
+                new TaxBracketRequest.TaxBracketDetailRequest(0L, 5000000L, 5.0, 0L, 1),
+                new TaxBracketRequest.TaxBracketDetailRequest(5000001L, null, 10.0, 250000L, 1)));
+
+        var resp = taxConfigService.updateTaxBracket("7-bracket", req);
+
+        assertFalse(resp.isSuccess());
+        assertEquals("7 bậc", bracket.getLabel());
+        assertEquals(3, bracket.getDetails().size());
+        verify(taxEngine, never()).reloadAfterCommit();
+    }
+
+    @Test
+    void replaceTaxBrackets_shouldCreateMissingAndDiffExistingSetsWithOneReload() {
+        TaxBracketEntity stored = storedBracket();
+        when(taxBracketRepository.findAll()).thenReturn(List.of(stored));
+
+        TaxBracketRequest relabelled = new TaxBracketRequest("7-bracket", "7 bậc (mới)", LocalDate.of(2025, 12, 13), List.of(
+                new TaxBracketRequest.TaxBracketDetailRequest(0L, 5000000L, 5.0, 0L, 1),
+                new TaxBracketRequest.TaxBracketDetailRequest(5000001L, 10000000L, 10.0, 250000L, 2),
+                new TaxBracketRequest.TaxBracketDetailRequest(10000001L, null, 15.0, 750000L, 3)));
+        TaxBracketRequest created = new TaxBracketRequest("3-bracket", "3 bậc", LocalDate.of(2027, 1, 1), List.of(
+                new TaxBracketRequest.TaxBracketDetailRequest(0L, null, 10.0, 0L, 1)));
+
+        var responses = taxConfigService.replaceTaxBrackets(List.of(relabelled, created));
+
+        assertEquals(2, responses.size());
+        assertTrue(responses.stream().allMatch(TaxBracketResponse::isSuccess));
+        assertEquals("7 bậc (mới)", stored.getLabel());
+        verify(taxBracketRepository).save(argThat(bracket -> "3-bracket".equals(bracket.getValue())
+                && bracket.getDetails().size() == 1));
+        verify(taxBracketRepository, never()).deleteAll(any());
+        verifyNoInteractions(taxBracketDetailRepository);
+        verify(taxEngine, times(1)).reloadAfterCommit();
+        verify(outbox, times(1)).append(eq("TaxConfig"), eq("TAX"), any(TaxConfigChangedEvent.class));
+    }
+
+    @Test
+    void replaceTaxBrackets_withDuplicateValue_shouldRejectBeforeWriting() {
+        TaxBracketRequest request = new TaxBracketRequest("7-bracket", "7 bậc", LocalDate.of(2025, 12, 13), List.of(
+                new TaxBracketRequest.TaxBracketDetailRequest(0L, null, 5.0, 0L, 1)));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> taxConfigService.replaceTaxBrackets(List.of(request, request)));
+
+        verifyNoInteractions(taxBracketRepository, taxBracketDetailRepository);
+        verify(taxEngine, never()).reloadAfterCommit();
+    }
+
+    @Test
+    void resetToDefaults_shouldRecreateMissingDefaults() {
+        CompiledTaxRules before = new CompiledTaxRules(1, Map.of(), Map.of(), Map.of(), List.of());
+        when(taxEngine.rules()).thenReturn(before);
+
+        taxConfigService.resetToDefaults();
+
+        verify(taxBracketRepository, times(2)).save(any(TaxBracketEntity.class));
+        verify(deductionBracketRepository, times(2)).save(any(DeductionBracketEntity.class));
+        verify(wageZoneRepository, times(2)).save(any(WageZoneEntity.class));
+        verify(taxBracketDetailRepository, never()).deleteAllDetails();
+        verify(cacheEvictor, never()).evictAfterCommit();
+        verify(taxEngine).reloadAfterCommit();
+        verify(payrollRecomputationRunner).recomputeAfterCommit(before);
+    }
+
+    @Test
+    void resetToDefaults_shouldOnlyTouchRowsThatDifferFromTheDefaults() {
+        TaxBracketEntity custom = new TaxBracketEntity("id9", "custom", "custom", LocalDate.of(2024, 1, 1));
+        when(taxBracketRepository.findAll()).thenReturn(List.of(custom));
+        DeductionBracketEntity oldDeduction = new DeductionBracketEntity();
+        oldDeduction.setId("d1");
+        oldDeduction.setValue("old");
+        oldDeduction.setLabel("13/12/2025 - 31/12/2025: Cá nhân 11M, Phụ thuộc 4.4M");
+        oldDeduction.setPersonalDeduction(11000000L);
+        oldDeduction.setDependentDeduction(4400000L);
+        oldDeduction.setEffectiveDate(LocalDate.of(2025, 12, 13));
+        when(deductionBracketRepository.findAll()).thenReturn(List.of(oldDeduction));
+
+        taxConfigService.resetToDefaults();
+
+        verify(taxBracketRepository).deleteAll(argThat(deleted -> deleted.iterator().next() == custom));
+        verify(deductionBracketRepository, never()).save(same(oldDeduction));
+        verify(deductionBracketRepository, times(1)).save(any(DeductionBracketEntity.class));
+        assertNull(oldDeduction.getUpdatedAt());
+        verify(deductionBracketRepository, never()).deleteAll(any());
+    }
+
+    private static TaxBracketEntity storedBracket() {
+        TaxBracketEntity bracket = new TaxBracketEntity("id1", "7-bracket", "7 bậc", LocalDate.of(2025, 12, 13));
+        bracket.getDetails().add(new TaxBracketDetailEntity("d1", bracket, 0L, 5000000L, 5.0, 0L, 1));
+        bracket.getDetails().add(new TaxBracketDetailEntity("d2", bracket, 5000001L, 10000000L, 10.0, 250000L, 2));
+        bracket.getDetails().add(new TaxBracketDetailEntity("d3", bracket, 10000001L, null, 15.0, 750000L, 3));
+        return bracket;
     }
 }
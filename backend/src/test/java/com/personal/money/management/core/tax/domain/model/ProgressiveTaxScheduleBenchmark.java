@@ -0,0 +1,69 @@
+package com.personal.money.management.core.tax.domain.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of the batch tax kernel against taxing incomes one by one
+ * Run with: mvn verify -Pbenchmark -DskipUnitTests=true
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class ProgressiveTaxScheduleBenchmark {
+
+    @Param({"1024", "65536"})
+    private int size;
+
+    private ProgressiveTaxSchedule schedule;
+    private long[] incomes;
+    private long[] taxes;
+
+    @Setup
+    public void setUp() {
+        schedule = ProgressiveTaxSchedule.of(List.of(
+                new TaxBracket(5_000_000, 0.05),
+                new TaxBracket(10_000_000, 0.10),
+                new TaxBracket(18_000_000, 0.15),
+                new TaxBracket(32_000_000, 0.20),
+                new TaxBracket(52_000_000, 0.25),
+                new TaxBracket(80_000_000, 0.30),
+                new TaxBracket(Long.MAX_VALUE, 0.35)));
+        SplittableRandom random = new SplittableRandom(42);
+        incomes = new long[size];
+        for (int i = 0; i < size; i++) {
+            incomes[i] = random.nextLong(120_000_000L);
+        }
+        taxes = new long[size];
+    }
+
+    @Benchmark
+    public long[] scalarLoop() {
+        for (int i = 0; i < incomes.length; i++) {
+            taxes[i] = schedule.taxOn(incomes[i]);
+        }
+        return taxes;
+    }
+
+    @Benchmark
+    public long[] batchKernel() {
+        schedule.taxOn(incomes, taxes);
+        return taxes;
+    }
+}
@@ -0,0 +1,211 @@
+package com.personal.money.management.core.tax.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for ProgressiveTaxSchedule
+ */
+@DisplayName("Progressive Tax Schedule Tests")
+class ProgressiveTaxScheduleTest {
+
+    private static final List<TaxBracket> SEVEN_BRACKETS = List.of(
+            new TaxBracket(5_000_000, 0.05),
+            new TaxBracket(10_000_000, 0.10),
+            new TaxBracket(18_000_000, 0.15),
+            new TaxBracket(32_000_000, 0.20),
+            new TaxBracket(52_000_000, 0.25),
+            new TaxBracket(80_000_000, 0.30),
+            new TaxBracket(Long.MAX_VALUE, 0.35));
+
+    @Test
+    @DisplayName("Should match bracket-by-bracket summation for any income")
+    void testMatchesBracketByBracketSum() {
+        // Given
+        ProgressiveTaxSchedule schedule = ProgressiveTaxSchedule.of(SEVEN_BRACKETS);
+        Random random = new Random(42);
+
+        // When & Then
+        for (int i = 0; i < 10_000; i++) {
+            long income = (long) (random.nextDouble() * 200_000_000L);
+            assertEquals(sumBracketByBracket(SEVEN_BRACKETS, income), schedule.taxOn(income), "income " + income);
+        }
+        assertEquals(sumBracketByBracket(SEVEN_BRACKETS, 5_000_000), schedule.taxOn(5_000_000));
+        assertEquals(sumBracketByBracket(SEVEN_BRACKETS, 80_000_001), schedule.taxOn(80_000_001));
+    }
+
+    @Test
+    @DisplayName("Should return zero for non-positive income")
+    void testZeroIncome() {
+        ProgressiveTaxSchedule schedule = ProgressiveTaxSchedule.of(SEVEN_BRACKETS);
+
+        assertEquals(0, schedule.taxOn(0));
+        assertEquals(0, schedule.taxOn(-1_000_000));
+    }
+
+    @Test
+    @DisplayName("Should not tax income above a finite top threshold")
+    void testFiniteTopThreshold() {
+        List<TaxBracket> brackets = List.of(new TaxBracket(10_000_000, 0.10));
+        ProgressiveTaxSchedule schedule = ProgressiveTaxSchedule.of(brackets);
+
+        assertEquals(1_000_000, schedule.taxOn(10_000_000));
+        assertEquals(1_000_000, schedule.taxOn(50_000_000));
+    }
+
+    @Test
+    @DisplayName("Should tax out-of-order thresholds exactly as summed bracket by bracket")
+    void testOutOfOrderThresholds() {
+        List<TaxBracket> brackets = List.of(
+                new TaxBracket(10_000_000, 0.10),
+                new TaxBracket(5_000_000, 0.05),
+                new TaxBracket(Long.MAX_VALUE, 0.20));
+        ProgressiveTaxSchedule schedule = ProgressiveTaxSchedule.of(brackets);
+
+        for (long income : new long[] {3_000_000, 7_000_000, 12_000_000, 40_000_000}) {
+            assertEquals(sumBracketByBracket(brackets, income), schedule.taxOn(income), "income " + income);
+        }
+    }
+
+    @Test
+    @DisplayName("Should scale thresholds and keep the open top bracket open")
+    void testScaled() {
+        ProgressiveTaxSchedule annual = ProgressiveTaxSchedule.of(SEVEN_BRACKETS).scaled(12);
+
+        assertEquals(7, annual.size());
+        assertEquals(3_000_000, annual.taxOn(60_000_000));
+        assertEquals(3_000_000 + 6_000_000 + 14_400_000 + 18_420_000, annual.taxOn(308_100_000));
+        assertEquals(annual.taxOn(960_000_000) + Math.round((1_000_000_000_000L - 960_000_000) * 0.35),
+                annual.taxOn(1_000_000_000_000L));
+        assertThrows(IllegalArgumentException.class, () -> ProgressiveTaxSchedule.of(SEVEN_BRACKETS).scaled(0));
+    }
+
+    @Test
+    @DisplayName("Should find where two schedules start taxing differently")
+    void testUnchangedUpTo() {
+        ProgressiveTaxSchedule schedule = ProgressiveTaxSchedule.of(SEVEN_BRACKETS);
+        List<TaxBracket> topRateRaised = new ArrayList<>(SEVEN_BRACKETS);
+        topRateRaised.set(6, new TaxBracket(Long.MAX_VALUE, 0.40));
+        List<TaxBracket> thirdThresholdRaised = new ArrayList<>(SEVEN_BRACKETS);
+        thirdThresholdRaised.set(2, new TaxBracket(20_000_000, 0.15));
+
+        assertEquals(Long.MAX_VALUE, schedule.unchangedUpTo(ProgressiveTaxSchedule.of(SEVEN_BRACKETS)));
+        assertEquals(80_000_000, schedule.unchangedUpTo(ProgressiveTaxSchedule.of(topRateRaised)));
+        assertEquals(18_000_000, schedule.unchangedUpTo(ProgressiveTaxSchedule.of(thirdThresholdRaised)));
+        assertEquals(5_000_000, schedule.unchangedUpTo(ProgressiveTaxSchedule.of(SEVEN_BRACKETS.subList(0, 1))));
+    }
+
+    @Test
+    @DisplayName("Should tax identically up to the unchanged threshold")
+    void testUnchangedUpToAgreesWithTax() {
+        ProgressiveTaxSchedule schedule = ProgressiveTaxSchedule.of(SEVEN_BRACKETS);
+        List<TaxBracket> changed = new ArrayList<>(SEVEN_BRACKETS);
+        changed.set(3, new TaxBracket(30_000_000, 0.20));
+        ProgressiveTaxSchedule other = ProgressiveTaxSchedule.of(changed);
+        long unchangedUpTo = schedule.unchangedUpTo(other);
+
+        for (long income = 0; income <= unchangedUpTo; income += 250_000) {
+            assertEquals(schedule.taxOn(income), other.taxOn(income), "income " + income);
+        }
+        assertNotEquals(schedule.taxOn(unchangedUpTo + 1_000_000), other.taxOn(unchangedUpTo + 1_000_000));
+    }
+
+    @Test
+    @DisplayName("Should tax a batch of incomes bit for bit as one by one")
+    void testBatchMatchesScalar() {
+        // Given: random incomes plus every threshold, its neighbours and halfway shares
+        ProgressiveTaxSchedule schedule = ProgressiveTaxSchedule.of(SEVEN_BRACKETS);
+        List<TaxBracket> finiteTopBrackets = List.of(
+                new TaxBracket(3, 0.5), new TaxBracket(10_000_001, 0.15), new TaxBracket(20_000_001, 0.3));
+        ProgressiveTaxSchedule finiteTop = ProgressiveTaxSchedule.of(finiteTopBrackets);
+        List<TaxBracket> allBrackets = new ArrayList<>(SEVEN_BRACKETS);
+        allBrackets.addAll(finiteTopBrackets);
+        long[] incomes = batchIncomes(allBrackets, 10_003);
+        long[] taxes = new long[incomes.length];
+
+        // When & Then
+        for (ProgressiveTaxSchedule candidate : List.of(schedule, finiteTop, schedule.scaled(12))) {
+            candidate.taxOn(incomes, taxes);
+            for (int i = 0; i < incomes.length; i++) {
+                assertEquals(candidate.taxOn(incomes[i]), taxes[i], "income " + incomes[i]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should tax ordered schedules through the batch kernel exactly as the scalar loop")
+    void testBatchKernelMatchesScalar() {
+        assumeTrue(ProgressiveTaxSchedule.BATCH_KERNEL != null, "No batch tax kernel available; run with -Pvector");
+        ProgressiveTaxSchedule schedule = ProgressiveTaxSchedule.of(SEVEN_BRACKETS);
+        long[] incomes = batchIncomes(SEVEN_BRACKETS, 4_096);
+        long[] taxes = new long[incomes.length];
+
+        schedule.taxOn(incomes, taxes);
+
+        for (int i = 0; i < incomes.length; i++) {
+            assertEquals(sumBracketByBracket(SEVEN_BRACKETS, incomes[i]), taxes[i], "income " + incomes[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Should batch out-of-order thresholds and reject a short tax array")
+    void testBatchOutOfOrderAndShortArray() {
+        List<TaxBracket> brackets = List.of(
+                new TaxBracket(10_000_000, 0.10),
+                new TaxBracket(5_000_000, 0.05),
+                new TaxBracket(Long.MAX_VALUE, 0.20));
+        ProgressiveTaxSchedule schedule = ProgressiveTaxSchedule.of(brackets);
+        long[] incomes = {3_000_000, 7_000_000, 12_000_000, 40_000_000, 0};
+        long[] taxes = new long[incomes.length];
+
+        schedule.taxOn(incomes, taxes);
+
+        for (int i = 0; i < incomes.length; i++) {
+            assertEquals(sumBracketByBracket(brackets, incomes[i]), taxes[i], "income " + incomes[i]);
+        }
+        assertThrows(IllegalArgumentException.class, () -> schedule.taxOn(incomes, new long[2]));
+    }
+
+    @Test
+    @DisplayName("Should reject an empty bracket list")
+    void testRejectEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> ProgressiveTaxSchedule.of(List.of()));
+    }
+
+    /**
+     * Random incomes followed by zero, negatives, extremes and each threshold with its neighbours
+     */
+    private static long[] batchIncomes(List<TaxBracket> brackets, int randomCount) {
+        Random random = new Random(7);
+        List<Long> incomes = new ArrayList<>();
+        for (int i = 0; i < randomCount; i++) {
+            incomes.add((long) (random.nextDouble() * 200_000_000L));
+        }
+        incomes.addAll(List.of(0L, -1L, Long.MIN_VALUE, 1L, 3L, 10L, 11L, 30L, Long.MAX_VALUE, Long.MAX_VALUE - 1));
+        for (TaxBracket bracket : brackets) {
+            long threshold = Math.min(bracket.getThreshold(), Long.MAX_VALUE - 1);
+            incomes.addAll(List.of(threshold - 1, threshold, threshold + 1));
+        }
+        return incomes.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long sumBracketByBracket(List<TaxBracket> brackets, long taxableIncome) {
+        long tax = 0;
+        long previousThreshold = 0;
+        for (TaxBracket bracket : brackets) {
+            if (taxableIncome <= previousThreshold) {
+                break;
+            }
+            tax += Math.round((Math.min(taxableIncome, bracket.getThreshold()) - previousThreshold) * bracket.getRate());
+            previousThreshold = bracket.getThreshold();
+        }
+        return tax;
+    }
+}
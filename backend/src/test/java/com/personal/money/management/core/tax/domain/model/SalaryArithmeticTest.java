@@ -0,0 +1,41 @@
+package com.personal.money.management.core.tax.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SalaryArithmetic
+ */
+@DisplayName("Salary Arithmetic Tests")
+class SalaryArithmeticTest {
+
+    @Test
+    @DisplayName("Should round a contribution to the nearest unit")
+    void testContributionRounds() {
+        assertEquals(2_400_000, SalaryArithmetic.contribution(30_000_000, 8.0));
+        assertEquals(2, SalaryArithmetic.contribution(15, 15.0));
+    }
+
+    @Test
+    @DisplayName("Should cap unemployment insurance at the wage zone cap")
+    void testUnemploymentInsuranceCapped() {
+        assertEquals(300_000, SalaryArithmetic.unemploymentInsurance(30_000_000, 99_200_000, 1.0));
+        assertEquals(992_000, SalaryArithmetic.unemploymentInsurance(200_000_000, 99_200_000, 1.0));
+    }
+
+    @Test
+    @DisplayName("Should add the deduction of every dependent")
+    void testTotalDeduction() {
+        assertEquals(24_000_000, SalaryArithmetic.totalDeduction(11_000_000, 2, 6_500_000));
+        assertEquals(11_000_000, SalaryArithmetic.totalDeduction(11_000_000, 0, 6_500_000));
+    }
+
+    @Test
+    @DisplayName("Should never yield a negative taxable income")
+    void testTaxableIncomeNotNegative() {
+        assertEquals(14_000_000, SalaryArithmetic.taxableIncome(20_000_000, 5_000_000, 11_000_000));
+        assertEquals(0, SalaryArithmetic.taxableIncome(8_000_000, 0, 11_000_000));
+    }
+}
@@ -0,0 +1,63 @@
+package com.personal.money.management.core.tax.domain.model;
+
+import com.personal.money.management.core.tax.domain.service.TaxCalculationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SalaryTaxKernel
+ */
+@DisplayName("Salary Tax Kernel Tests")
+class SalaryTaxKernelTest {
+
+    private static final WageZoneValue ZONE = new WageZoneValue("I", "Zone I", 4_960_000, 99_200_000);
+    private static final CompiledTaxRules RULES = new CompiledTaxRules(1,
+            Map.of(TaxBracketType.FIVE_BRACKET.getCode(), ProgressiveTaxSchedule.of(List.of(
+                    new TaxBracket(10_000_000, 0.05),
+                    new TaxBracket(30_000_000, 0.10),
+                    new TaxBracket(60_000_000, 0.20),
+                    new TaxBracket(100_000_000, 0.30),
+                    new TaxBracket(Long.MAX_VALUE, 0.35)))),
+            Map.of(), Map.of("I", ZONE), List.of());
+
+    @Test
+    @DisplayName("Should match the full salary calculation for any input")
+    void testMatchesCalculateSalary() {
+        // Given
+        TaxCalculationService service = new TaxCalculationService(RULES);
+        Random random = new Random(7);
+
+        // When & Then
+        for (int i = 0; i < 5_000; i++) {
+            SalaryCalculationInput input = input(
+                    (long) (random.nextDouble() * 300_000_000),
+                    random.nextInt(4) == 0 ? (long) (random.nextDouble() * 50_000_000) : 0,
+                    (long) (random.nextDouble() * 46_800_000) + 1,
+                    random.nextInt(4));
+            assertEquals(service.calculateSalary(input).getTotalTax(), SalaryTaxKernel.of(input, RULES).totalTax(),
+                    "gross " + input.getGrossSalary());
+        }
+    }
+
+    @Test
+    @DisplayName("Should tax a raise like a salary that much higher")
+    void testSalaryFactor() {
+        SalaryTaxKernel kernel = SalaryTaxKernel.of(input(40_000_000, 0, 40_000_000, 1), RULES);
+        SalaryTaxKernel raised = SalaryTaxKernel.of(input(42_000_000, 0, 42_000_000, 1), RULES);
+
+        assertEquals(kernel.totalTax(), kernel.totalTax(1.0));
+        assertEquals(raised.totalTax(), kernel.totalTax(1.05));
+        assertEquals(0, kernel.totalTax(-0.5));
+    }
+
+    private static SalaryCalculationInput input(long gross, long bonus, long insuranceBase, int dependents) {
+        return new SalaryCalculationInput(gross, bonus, insuranceBase, dependents, 8.0, 1.5, 1.0,
+                15_500_000, 6_200_000, 0, 0, TaxBracketType.FIVE_BRACKET, ZONE);
+    }
+}
@@ -0,0 +1,77 @@
+package com.personal.money.management.core.tax.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WithholdingYearToDate
+ */
+@DisplayName("Withholding Year-To-Date Tests")
+class WithholdingYearToDateTest {
+
+    private static final WageZoneValue ZONE = new WageZoneValue("I", "Vùng I", 4_960_000, 99_200_000);
+
+    @Test
+    @DisplayName("Should accumulate recorded months and carry dependents as one amount")
+    void testAccumulates() {
+        WithholdingYearToDate ytd = new WithholdingYearToDate("E-1", 2026);
+
+        ytd.record(1, input(40_000_000, 0, 1), result(40_000_000, 0, 2_000_000, 2_000_000));
+        ytd.record(2, input(40_000_000, 10_000_000, 2), result(40_000_000, 10_000_000, 3_500_000, 2_000_000));
+
+        AnnualTaxSettlementInput settlement = ytd.toSettlementInput();
+        assertEquals(2, ytd.getMonthsRecorded());
+        assertEquals(80_000_000, settlement.getTotalGrossSalary());
+        assertEquals(10_000_000, settlement.getTotalBonus());
+        assertEquals(31_000_000, settlement.getPersonalDeduction());
+        assertEquals(6_200_000 * 3, settlement.getDependentDeduction());
+        assertEquals(1, settlement.getNumberOfDependents());
+        assertEquals(5_500_000, settlement.getTaxAlreadyPaid());
+        assertEquals(2 * 3_200_000, settlement.getBhxhContribution());
+    }
+
+    @Test
+    @DisplayName("Should project the remaining months from the latest month without its bonus")
+    void testProjection() {
+        WithholdingYearToDate ytd = new WithholdingYearToDate("E-1", 2026);
+        ytd.record(3, input(40_000_000, 10_000_000, 0), result(40_000_000, 10_000_000, 3_500_000, 2_000_000));
+
+        AnnualTaxSettlementInput projected = ytd.toProjectedSettlementInput();
+
+        // Month 3 recorded, months 4-12 repeat its salary
+        assertEquals(10 * 40_000_000L, projected.getTotalGrossSalary());
+        assertEquals(10_000_000, projected.getTotalBonus());
+        assertEquals(3_500_000 + 9 * 2_000_000L, projected.getTaxAlreadyPaid());
+        assertEquals(10 * 15_500_000L, projected.getPersonalDeduction());
+        assertEquals(0, projected.getNumberOfDependents());
+    }
+
+    @Test
+    @DisplayName("Should reject months out of order or out of range")
+    void testMonthOrder() {
+        WithholdingYearToDate ytd = new WithholdingYearToDate("E-1", 2026);
+        ytd.record(5, input(40_000_000, 0, 0), result(40_000_000, 0, 2_000_000, 2_000_000));
+
+        assertThrows(IllegalArgumentException.class,
+            () -> ytd.record(5, input(40_000_000, 0, 0), result(40_000_000, 0, 2_000_000, 2_000_000)));
+        assertThrows(IllegalArgumentException.class,
+            () -> ytd.record(13, input(40_000_000, 0, 0), result(40_000_000, 0, 2_000_000, 2_000_000)));
+        assertEquals(5, ytd.getLastMonth());
+        assertEquals(1, ytd.getMonthsRecorded());
+    }
+
+    private static SalaryCalculationInput input(long gross, long bonus, int dependents) {
+        return new SalaryCalculationInput(
+            gross, bonus, 40_000_000, dependents, 8.0, 1.5, 1.0,
+            15_500_000, 6_200_000, 0, 0, TaxBracketType.FIVE_BRACKET, ZONE);
+    }
+
+    private static SalaryCalculationResult result(long gross, long bonus, long totalTax, long salaryTax) {
+        return new SalaryCalculationResult(
+            gross, 3_200_000, 600_000, 400_000, 4_200_000, gross - 4_200_000, bonus,
+            0, 0, totalTax, salaryTax, totalTax - salaryTax,
+            0, 0, 0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,110 @@
+package com.personal.money.management.core.tax.domain.service;
+
+import com.personal.money.management.core.tax.domain.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AnnualTaxSettlementService - year-end settlement on the configured brackets
+ */
+@DisplayName("Annual Tax Settlement Service Tests")
+class AnnualTaxSettlementServiceTest {
+
+    private AnnualTaxSettlementService service;
+
+    @BeforeEach
+    void setUp() {
+        ProgressiveTaxSchedule sevenBrackets = ProgressiveTaxSchedule.of(List.of(
+            new TaxBracket(5_000_000, 0.05),
+            new TaxBracket(10_000_000, 0.10),
+            new TaxBracket(18_000_000, 0.15),
+            new TaxBracket(32_000_000, 0.20),
+            new TaxBracket(52_000_000, 0.25),
+            new TaxBracket(80_000_000, 0.30),
+            new TaxBracket(Long.MAX_VALUE, 0.35)));
+        ProgressiveTaxSchedule fiveBrackets = ProgressiveTaxSchedule.of(List.of(
+            new TaxBracket(10_000_000, 0.05),
+            new TaxBracket(30_000_000, 0.10),
+            new TaxBracket(60_000_000, 0.20),
+            new TaxBracket(100_000_000, 0.30),
+            new TaxBracket(Long.MAX_VALUE, 0.35)));
+        CompiledTaxRules rules = new CompiledTaxRules(
+            0,
+            Map.of("7-bracket", sevenBrackets, "5-bracket", fiveBrackets),
+            Map.of(LocalDate.of(2025, 12, 13), sevenBrackets, LocalDate.of(2026, 7, 1), fiveBrackets),
+            Map.of(),
+            List.of());
+        service = new AnnualTaxSettlementService(rules);
+    }
+
+    @Test
+    @DisplayName("Should deduct insurance from income and tax on annual thresholds")
+    void testSettlementOnAnnualThresholds() {
+        // When
+        AnnualTaxSettlementResult result = service.calculateAnnualTaxSettlement(input("2026", 20_000_000));
+
+        // Then: 291.9M deducted (186M + 74.4M + 31.5M insurance), 308.1M taxed on 120M/360M thresholds
+        assertEquals(31_500_000, result.getInsuranceContributions());
+        assertEquals(291_900_000, result.getTotalDeductions());
+        assertEquals(308_100_000, result.getTaxableIncome());
+        assertEquals(6_000_000 + 18_810_000, result.getCalculatedTax());
+        assertEquals(4_810_000, result.getTaxDue());
+        assertEquals("due", result.getSettlementStatus());
+    }
+
+    @Test
+    @DisplayName("Should use the bracket set in effect at the end of the year")
+    void testBracketSetByYear() {
+        // When
+        AnnualTaxSettlementResult result = service.calculateAnnualTaxSettlement(input("2025", 50_000_000));
+
+        // Then: 7-bracket thresholds × 12 (60M/120M/216M/384M)
+        assertEquals(3_000_000 + 6_000_000 + 14_400_000 + 18_420_000, result.getCalculatedTax());
+        assertEquals("refund", result.getSettlementStatus());
+    }
+
+    @Test
+    @DisplayName("Should reject years before any configured bracket set")
+    void testYearWithoutBrackets() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+            () -> service.calculateAnnualTaxSettlement(input("2024", 0)));
+
+        assertEquals("No tax bracket in effect for year: 2024", error.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should not tax income covered by deductions")
+    void testNoTaxableIncome() {
+        AnnualTaxSettlementInput input = new AnnualTaxSettlementInput(
+            "2026", 100_000_000, 0, 186_000_000, 74_400_000, 0, 0, 0, 0, 0, 0, 0);
+
+        AnnualTaxSettlementResult result = service.calculateAnnualTaxSettlement(input);
+
+        assertEquals(0, result.getTaxableIncome());
+        assertEquals(0, result.getCalculatedTax());
+        assertEquals("balanced", result.getSettlementStatus());
+    }
+
+    private static AnnualTaxSettlementInput input(String year, long taxAlreadyPaid) {
+        return new AnnualTaxSettlementInput(
+            year,
+            600_000_000,
+            0,
+            186_000_000,
+            74_400_000,
+            1,
+            0,
+            0,
+            24_000_000,
+            4_500_000,
+            3_000_000,
+            taxAlreadyPaid);
+    }
+}
@@ -0,0 +1,145 @@
+package com.personal.money.management.core.tax.domain.service;
+
+import com.personal.money.management.core.tax.domain.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ColumnarSalaryCalculator
+ */
+@DisplayName("Columnar Salary Calculator Tests")
+class ColumnarSalaryCalculatorTest {
+
+    private static final WageZoneValue ZONE_I = new WageZoneValue("I", "Zone I", 4_960_000, 99_200_000);
+    private static final WageZoneValue ZONE_IV = new WageZoneValue("IV", "Zone IV", 3_450_000, 69_000_000);
+    private static final CompiledTaxRules RULES = new CompiledTaxRules(1,
+            Map.of(TaxBracketType.SEVEN_BRACKET.getCode(), ProgressiveTaxSchedule.of(TaxBracketType.SEVEN_BRACKET.getBrackets()),
+                    TaxBracketType.FIVE_BRACKET.getCode(), ProgressiveTaxSchedule.of(TaxBracketType.FIVE_BRACKET.getBrackets())),
+            Map.of(), Map.of("I", ZONE_I, "IV", ZONE_IV), List.of());
+
+    @Test
+    @DisplayName("Should calculate every row exactly as the row-by-row calculation")
+    void testMatchesCalculateSalary() {
+        // Given: mixed bracket types and wage zones across several partial blocks
+        TaxCalculationService service = new TaxCalculationService(RULES);
+        List<SalaryCalculationInput> inputs = randomInputs(10_000, new Random(3));
+        SalaryInputBlock in = new SalaryInputBlock(1_500);
+        SalaryResultBlock out = new SalaryResultBlock(1_500);
+        ColumnarSalaryCalculator calculator = new ColumnarSalaryCalculator(RULES);
+
+        for (int start = 0; start < inputs.size(); start += in.capacity()) {
+            int size = Math.min(in.capacity(), inputs.size() - start);
+            for (int row = 0; row < size; row++) {
+                in.set(row, inputs.get(start + row));
+            }
+            in.setSize(size);
+
+            // When
+            calculator.calculate(in, out);
+
+            // Then
+            assertEquals(size, out.size());
+            for (int row = 0; row < size; row++) {
+                SalaryCalculationResult expected = service.calculateSalary(inputs.get(start + row));
+                SalaryCalculationResult actual = out.toResult(row);
+                for (SalaryResultColumn column : SalaryResultColumn.values()) {
+                    assertEquals(figure(expected, column), out.column(column)[row], column + " of row " + (start + row));
+                }
+                assertEquals(expected.getTotalNetSalary(), actual.getTotalNetSalary());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream every block through the tax engine against one snapshot")
+    void testTaxEngineCalculatesBlocks() {
+        TaxEngine engine = new TaxEngine(null, null, null) {
+            @Override
+            public CompiledTaxRules rules() {
+                return RULES;
+            }
+        };
+        List<SalaryCalculationInput> inputs = randomInputs(SalaryInputBlock.DEFAULT_CAPACITY + 17, new Random(5));
+        int[] next = {0};
+        List<Long> totalTaxes = new ArrayList<>();
+
+        long rows = engine.calculateSalaries(block -> {
+            int size = Math.min(block.capacity(), inputs.size() - next[0]);
+            for (int row = 0; row < size; row++) {
+                block.set(row, inputs.get(next[0] + row));
+            }
+            next[0] += size;
+            block.setSize(size);
+            return size;
+        }, out -> {
+            for (int row = 0; row < out.size(); row++) {
+                totalTaxes.add(out.column(SalaryResultColumn.TOTAL_TAX)[row]);
+            }
+        });
+
+        assertEquals(inputs.size(), rows);
+        TaxCalculationService service = new TaxCalculationService(RULES);
+        for (int i = 0; i < inputs.size(); i++) {
+            assertEquals(service.calculateSalary(inputs.get(i)).getTotalTax(), totalTaxes.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a row without a tax bracket type")
+    void testRejectMissingBracketType() {
+        SalaryInputBlock in = new SalaryInputBlock(2);
+        in.set(0, input(30_000_000, 0, TaxBracketType.FIVE_BRACKET, ZONE_I));
+        in.set(1, input(30_000_000, 0, null, ZONE_I));
+        in.setSize(2);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new ColumnarSalaryCalculator(RULES).calculate(in, new SalaryResultBlock(2)));
+    }
+
+    private static List<SalaryCalculationInput> randomInputs(int count, Random random) {
+        List<SalaryCalculationInput> inputs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            inputs.add(input(
+                    (long) (random.nextDouble() * 300_000_000),
+                    random.nextInt(4) == 0 ? (long) (random.nextDouble() * 50_000_000) : 0,
+                    random.nextInt(10) == 0 ? TaxBracketType.SEVEN_BRACKET : TaxBracketType.FIVE_BRACKET,
+                    random.nextBoolean() ? ZONE_I : ZONE_IV));
+        }
+        return inputs;
+    }
+
+    private static SalaryCalculationInput input(long gross, long bonus, TaxBracketType type, WageZoneValue zone) {
+        return new SalaryCalculationInput(gross, bonus, Math.min(gross, 46_800_000), (int) (gross % 4), 8.0, 1.5, 1.0,
+                15_500_000, 6_200_000, 730_000, 150_000, type, zone);
+    }
+
+    private static long figure(SalaryCalculationResult result, SalaryResultColumn column) {
+        switch (column) {
+            case GROSS_SALARY: return result.getGrossSalary();
+            case BHXH: return result.getBhxh();
+            case BHYT: return result.getBhyt();
+            case BHTN: return result.getBhtn();
+            case TOTAL_INSURANCE: return result.getTotalInsurance();
+            case INCOME_AFTER_INSURANCE: return result.getIncomeAfterInsurance();
+            case TET_BONUS: return result.getTetBonus();
+            case TOTAL_DEDUCTION: return result.getTotalDeduction();
+            case TAXABLE_INCOME: return result.getTaxableIncome();
+            case TOTAL_TAX: return result.getTotalTax();
+            case SALARY_TAX: return result.getSalaryTax();
+            case BONUS_TAX: return result.getBonusTax();
+            case NET_BEFORE_ALLOWANCE: return result.getNetBeforeAllowance();
+            case TAX_FREE_ALLOWANCE: return result.getTaxFreeAllowance();
+            case OTHER_DEDUCTION: return result.getOtherDeduction();
+            case NET_MONTHLY: return result.getNetMonthly();
+            case NET_BONUS: return result.getNetBonus();
+            default: return result.getTotalNetSalary();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.personal.money.management.core.tax.domain.service;
+
+import com.personal.money.management.core.tax.domain.model.CompiledTaxRules;
+import com.personal.money.management.core.tax.domain.model.ProgressiveTaxSchedule;
+import com.personal.money.management.core.tax.domain.model.SalaryCalculationInput;
+import com.personal.money.management.core.tax.domain.model.SalaryTaxKernel;
+import com.personal.money.management.core.tax.domain.model.TaxBracket;
+import com.personal.money.management.core.tax.domain.model.TaxBracketType;
+import com.personal.money.management.core.tax.domain.model.TaxSimulationResult;
+import com.personal.money.management.core.tax.domain.model.WageZoneValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MonteCarloTaxSimulator
+ */
+@DisplayName("Monte Carlo Tax Simulator Tests")
+class MonteCarloTaxSimulatorTest {
+
+    private static final WageZoneValue ZONE = new WageZoneValue("I", "Zone I", 4_960_000, 99_200_000);
+    private static final CompiledTaxRules RULES = new CompiledTaxRules(1,
+            Map.of(TaxBracketType.FIVE_BRACKET.getCode(), ProgressiveTaxSchedule.of(List.of(
+                    new TaxBracket(10_000_000, 0.05),
+                    new TaxBracket(30_000_000, 0.10),
+                    new TaxBracket(60_000_000, 0.20),
+                    new TaxBracket(100_000_000, 0.30),
+                    new TaxBracket(Long.MAX_VALUE, 0.35)))),
+            Map.of(), Map.of("I", ZONE), List.of());
+
+    private final ForkJoinPool single = new ForkJoinPool(1);
+    private final ForkJoinPool parallel = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        single.shutdownNow();
+        parallel.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should reproduce the same trials for a seed whatever the parallelism")
+    void testSeedIsReproducible() {
+        // Given
+        SalaryTaxKernel[] population = population();
+
+        // When
+        long[] sequential = new MonteCarloTaxSimulator(single).simulate(population, 0.05, 0.02, 1_000, 42);
+        long[] concurrent = new MonteCarloTaxSimulator(parallel).simulate(population, 0.05, 0.02, 1_000, 42);
+        long[] otherSeed = new MonteCarloTaxSimulator(parallel).simulate(population, 0.05, 0.02, 1_000, 43);
+
+        // Then
+        assertArrayEquals(sequential, concurrent);
+        assertFalse(Arrays.equals(sequential, otherSeed));
+    }
+
+    @Test
+    @DisplayName("Should give every trial the mean raise when there is no spread")
+    void testNoSpread() {
+        SalaryTaxKernel[] population = population();
+        long expected = 0;
+        for (SalaryTaxKernel kernel : population) {
+            expected += kernel.totalTax(1.05);
+        }
+
+        long[] totals = new MonteCarloTaxSimulator(parallel).simulate(population, 0.05, 0, 500, 1);
+
+        for (long total : totals) {
+            assertEquals(expected, total);
+        }
+    }
+
+    @Test
+    @DisplayName("Should summarize trials into ordered quantiles and a histogram covering every trial")
+    void testSummary() {
+        SalaryTaxKernel[] population = population();
+        long[] totals = new MonteCarloTaxSimulator(parallel).simulate(population, 0.05, 0.02, 10_000, 7);
+
+        TaxSimulationResult result = TaxSimulationResult.summarize(
+                totals, MonteCarloTaxSimulator.baseline(population), 10_000L * population.length, 20);
+
+        assertEquals(10_000, result.getTrials());
+        assertTrue(result.getMeanTotalTax() > result.getBaselineTotalTax());
+        assertTrue(result.getQuantiles().get("p5") <= result.getQuantiles().get("p50"));
+        assertTrue(result.getQuantiles().get("p50") <= result.getQuantiles().get("p95"));
+        assertTrue(result.getMinTotalTax() <= result.getQuantiles().get("p1"));
+        assertTrue(result.getQuantiles().get("p99") <= result.getMaxTotalTax());
+        assertEquals(20, result.getHistogram().size());
+        assertEquals(10_000, result.getHistogram().stream().mapToLong(TaxSimulationResult.Bin::getCount).sum());
+    }
+
+    private static SalaryTaxKernel[] population() {
+        long[] salaries = {12_000_000, 25_000_000, 40_000_000, 80_000_000, 150_000_000};
+        SalaryTaxKernel[] population = new SalaryTaxKernel[salaries.length];
+        for (int i = 0; i < salaries.length; i++) {
+            population[i] = SalaryTaxKernel.of(new SalaryCalculationInput(
+                    salaries[i], 0, Math.min(salaries[i], 46_800_000), i % 2, 8.0, 1.5, 1.0,
+                    15_500_000, 6_200_000, 0, 0, TaxBracketType.FIVE_BRACKET, ZONE), RULES);
+        }
+        return population;
+    }
+}
@@ -0,0 +1,114 @@
+package com.personal.money.management.core.tax.domain.service;
+
+import com.personal.money.management.core.tax.domain.model.CompiledTaxRules;
+import com.personal.money.management.core.tax.domain.model.ProgressiveTaxSchedule;
+import com.personal.money.management.core.tax.domain.model.RecomputationRange;
+import com.personal.money.management.core.tax.domain.model.TaxBracket;
+import com.personal.money.management.core.tax.domain.model.TaxBracketType;
+import com.personal.money.management.core.tax.domain.model.WageZoneValue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PayrollRecomputationPlanner
+ */
+@DisplayName("Payroll Recomputation Planner Tests")
+class PayrollRecomputationPlannerTest {
+
+    private static final ProgressiveTaxSchedule FIVE_BRACKETS = ProgressiveTaxSchedule.of(List.of(
+            new TaxBracket(10_000_000, 0.05),
+            new TaxBracket(30_000_000, 0.10),
+            new TaxBracket(60_000_000, 0.20),
+            new TaxBracket(100_000_000, 0.30),
+            new TaxBracket(Long.MAX_VALUE, 0.35)));
+
+    private static final ProgressiveTaxSchedule FIVE_BRACKETS_TOP_RAISED = ProgressiveTaxSchedule.of(List.of(
+            new TaxBracket(10_000_000, 0.05),
+            new TaxBracket(30_000_000, 0.10),
+            new TaxBracket(60_000_000, 0.20),
+            new TaxBracket(100_000_000, 0.30),
+            new TaxBracket(Long.MAX_VALUE, 0.40)));
+
+    private final PayrollRecomputationPlanner planner = new PayrollRecomputationPlanner();
+
+    @Test
+    @DisplayName("Should plan only the bracket type that changed, above its first difference")
+    void testPlanChangedTypeOnly() {
+        // Given
+        CompiledTaxRules before = rules(FIVE_BRACKETS, FIVE_BRACKETS);
+        CompiledTaxRules after = rules(FIVE_BRACKETS, FIVE_BRACKETS_TOP_RAISED);
+
+        // When
+        List<RecomputationRange> ranges = planner.plan(before, after);
+
+        // Then
+        assertEquals(1, ranges.size());
+        assertEquals(TaxBracketType.FIVE_BRACKET, ranges.get(0).getTaxBracketType());
+        assertEquals(100_000_000, ranges.get(0).getTaxableIncomeAbove());
+    }
+
+    @Test
+    @DisplayName("Should plan nothing when the schedules are unchanged")
+    void testPlanNothingWhenUnchanged() {
+        assertTrue(planner.plan(rules(FIVE_BRACKETS, FIVE_BRACKETS), rules(FIVE_BRACKETS, FIVE_BRACKETS)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should skip a bracket type missing from either rule set")
+    void testSkipMissingType() {
+        CompiledTaxRules before = rules(null, FIVE_BRACKETS);
+        CompiledTaxRules after = rules(FIVE_BRACKETS, FIVE_BRACKETS_TOP_RAISED);
+
+        List<RecomputationRange> ranges = planner.plan(before, after);
+
+        assertEquals(1, ranges.size());
+        assertEquals(TaxBracketType.FIVE_BRACKET, ranges.get(0).getTaxBracketType());
+    }
+
+    @Test
+    @DisplayName("Should plan a wage zone whose insurance cap changed, above the lower cap")
+    void testPlanChangedInsuranceCap() {
+        CompiledTaxRules before = rules(FIVE_BRACKETS, FIVE_BRACKETS,
+                new WageZoneValue("I", "Zone I", 4_960_000, 99_200_000),
+                new WageZoneValue("II", "Zone II", 4_410_000, 88_200_000));
+        CompiledTaxRules after = rules(FIVE_BRACKETS, FIVE_BRACKETS,
+                new WageZoneValue("I", "Zone I", 4_960_000, 94_000_000),
+                new WageZoneValue("II", "Zone II", 4_500_000, 88_200_000));
+
+        List<RecomputationRange> ranges = planner.plan(before, after);
+
+        assertEquals(1, ranges.size());
+        assertTrue(ranges.get(0).isWageZone());
+        assertEquals("I", ranges.get(0).getWageZone());
+        assertEquals(94_000_000, ranges.get(0).getGrossSalaryAbove());
+    }
+
+    @Test
+    @DisplayName("Should skip a wage zone missing from the new rule set")
+    void testSkipRemovedWageZone() {
+        CompiledTaxRules before = rules(FIVE_BRACKETS, FIVE_BRACKETS,
+                new WageZoneValue("I", "Zone I", 4_960_000, 99_200_000));
+
+        assertTrue(planner.plan(before, rules(FIVE_BRACKETS, FIVE_BRACKETS)).isEmpty());
+    }
+
+    private static CompiledTaxRules rules(ProgressiveTaxSchedule seven, ProgressiveTaxSchedule five,
+                                          WageZoneValue... wageZones) {
+        Map<String, ProgressiveTaxSchedule> schedules = new HashMap<>();
+        if (seven != null) {
+            schedules.put(TaxBracketType.SEVEN_BRACKET.getCode(), seven);
+        }
+        schedules.put(TaxBracketType.FIVE_BRACKET.getCode(), five);
+        Map<String, WageZoneValue> zones = new HashMap<>();
+        for (WageZoneValue zone : wageZones) {
+            zones.put(zone.getValue(), zone);
+        }
+        return new CompiledTaxRules(1, schedules, Map.of(), zones, List.of());
+    }
+}
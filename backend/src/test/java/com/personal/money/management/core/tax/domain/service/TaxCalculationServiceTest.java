@@ -77,6 +77,29 @@ class TaxCalculationServiceTest {
             return detail;
         }
 
+        @Test
+        @DisplayName("Should batch-tax incomes bit for bit as calculateProgressiveTax")
+        void testBatchTaxMatchesProgressiveTax() {
+            // Given: halfway shares, thresholds and their neighbours among random incomes
+            TaxBracketEntity entity = setupMockTaxBrackets(TaxBracketType.SEVEN_BRACKET);
+            ProgressiveTaxSchedule schedule = RepositoryTaxRuleSet.toSchedule(entity);
+            Random random = new Random(11);
+            long[] incomes = new long[5_000];
+            for (int i = 0; i < incomes.length; i++) {
+                incomes[i] = i % 5 == 0 ? 5_000_000L * (i / 5 % 20) + (i % 3) - 1 : random.nextInt(150_000_000);
+            }
+            long[] taxes = new long[incomes.length];
+
+            // When
+            schedule.taxOn(incomes, taxes);
+
+            // Then
+            for (int i = 0; i < incomes.length; i++) {
+                assertEquals(taxCalculationService.calculateProgressiveTax(incomes[i], TaxBracketType.SEVEN_BRACKET),
+                        taxes[i], "income " + incomes[i]);
+            }
+        }
+
         @Test
         @DisplayName("Should calculate zero tax for zero income")
         void testZeroTaxForZeroIncome() {
@@ -326,6 +349,38 @@ class TaxCalculationServiceTest {
             return detail;
         }
 
+        @Test
+        @DisplayName("Should write into a reused buffer exactly what the result object holds")
+        void testBufferMatchesResult() {
+            // Given
+            setupAllMocks();
+            WageZoneValue wageZone = new WageZoneValue("vung-1", "Vùng 1", 7_333_000L, 20_790_000L);
+            SalaryCalculationInput input = new SalaryCalculationInput(
+                50_000_000, 10_000_000, 46_800_000, 1, 8.0, 1.5, 0.5,
+                11_000_000, 4_400_000, 500_000, 100_000,
+                TaxBracketType.SEVEN_BRACKET, wageZone);
+            SalaryCalculationInput lower = new SalaryCalculationInput(
+                20_000_000, 10_000_000, 46_800_000, 1, 8.0, 1.5, 0.5,
+                11_000_000, 4_400_000, 500_000, 100_000,
+                TaxBracketType.SEVEN_BRACKET, wageZone);
+            SalaryCalculationBuffer buffer = new SalaryCalculationBuffer();
+
+            // When: the buffer is reused for a second gross salary
+            taxCalculationService.calculateSalary(input, 50_000_000, buffer);
+            taxCalculationService.calculateSalary(input, 20_000_000, buffer);
+
+            // Then
+            SalaryCalculationResult expected = taxCalculationService.calculateSalary(lower);
+            SalaryCalculationResult actual = buffer.toResult();
+            assertEquals(expected.getTotalInsurance(), actual.getTotalInsurance());
+            assertEquals(expected.getTaxableIncome(), actual.getTaxableIncome());
+            assertEquals(expected.getTotalTax(), actual.getTotalTax());
+            assertEquals(expected.getSalaryTax(), actual.getSalaryTax());
+            assertEquals(expected.getBonusTax(), actual.getBonusTax());
+            assertEquals(expected.getNetMonthly(), actual.getNetMonthly());
+            assertEquals(expected.getTotalNetSalary(), actual.getTotalNetSalary());
+        }
+
         @Test
         @DisplayName("Should calculate complete salary with all components")
         void testCompleteSalaryCalculation() {
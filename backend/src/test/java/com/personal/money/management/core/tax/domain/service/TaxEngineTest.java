@@ -0,0 +1,156 @@
+package com.personal.money.management.core.tax.domain.service;
+
+import com.personal.money.management.core.tax.domain.model.*;
+import com.personal.money.management.core.tax.infrastructure.persistence.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TaxEngine - shared engine over compiled tax rules
+ */
+@DisplayName("Tax Engine Tests")
+class TaxEngineTest {
+
+    @Mock
+    private TaxBracketRepository taxBracketRepository;
+
+    @Mock
+    private DeductionBracketRepository deductionBracketRepository;
+
+    @Mock
+    private WageZoneRepository wageZoneRepository;
+
+    private TaxEngine taxEngine;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taxEngine = new TaxEngine(taxBracketRepository, deductionBracketRepository, wageZoneRepository);
+
+        when(taxBracketRepository.findAllOrderByEffectiveDate())
+            .thenReturn(List.of(bracketSet(TaxBracketType.SEVEN_BRACKET, 5)));
+        when(wageZoneRepository.findAll()).thenReturn(List.of(wageZone()));
+        when(deductionBracketRepository.findAllOrderByEffectiveDate()).thenReturn(List.of(
+            new DeductionBracketEntity("2", "2026", "2026", 15_500_000L, 6_200_000L, LocalDate.of(2026, 1, 1)),
+            new DeductionBracketEntity("1", "2020", "2020", 11_000_000L, 4_400_000L, LocalDate.of(2020, 7, 1))));
+    }
+
+    @Test
+    @DisplayName("Should compile the rules once and serve later calls from memory")
+    void testCompilesOnce() {
+        long first = taxEngine.calculateProgressiveTax(4_000_000, TaxBracketType.SEVEN_BRACKET);
+        long second = taxEngine.calculateProgressiveTax(4_000_000, TaxBracketType.SEVEN_BRACKET);
+        taxEngine.getWageZone("vung-1");
+
+        assertEquals(200_000, first);
+        assertEquals(first, second);
+        verify(taxBracketRepository, times(1)).findAllOrderByEffectiveDate();
+        verify(wageZoneRepository, times(1)).findAll();
+        verify(taxBracketRepository, never()).findByValue(anyString());
+    }
+
+    @Test
+    @DisplayName("Should recompile after a reload")
+    void testReload() {
+        assertEquals(200_000, taxEngine.calculateProgressiveTax(4_000_000, TaxBracketType.SEVEN_BRACKET));
+
+        when(taxBracketRepository.findAllOrderByEffectiveDate())
+            .thenReturn(List.of(bracketSet(TaxBracketType.SEVEN_BRACKET, 10)));
+        taxEngine.reloadAfterCommit();
+
+        assertEquals(400_000, taxEngine.calculateProgressiveTax(4_000_000, TaxBracketType.SEVEN_BRACKET));
+        verify(taxBracketRepository, times(2)).findAllOrderByEffectiveDate();
+    }
+
+    @Test
+    @DisplayName("Should pick the deduction bracket in effect on the date")
+    void testDeductionBracketByDate() {
+        assertEquals(11_000_000L, taxEngine.getDeductionBracket(LocalDate.of(2025, 6, 1)).getPersonalDeduction());
+        assertEquals(15_500_000L, taxEngine.getDeductionBracket(LocalDate.of(2026, 1, 1)).getPersonalDeduction());
+        assertThrows(IllegalArgumentException.class, () -> taxEngine.getDeductionBracket(LocalDate.of(2019, 1, 1)));
+    }
+
+    @Test
+    @DisplayName("Should report unknown and empty bracket sets with the usual messages")
+    void testMissingBrackets() {
+        TaxBracketEntity empty = new TaxBracketEntity();
+        empty.setValue(TaxBracketType.FIVE_BRACKET.getCode());
+        when(taxBracketRepository.findAllOrderByEffectiveDate()).thenReturn(List.of(empty));
+        taxEngine.reloadAfterCommit();
+
+        IllegalArgumentException emptyError = assertThrows(IllegalArgumentException.class,
+            () -> taxEngine.calculateProgressiveTax(1_000_000, TaxBracketType.FIVE_BRACKET));
+        IllegalArgumentException missingError = assertThrows(IllegalArgumentException.class,
+            () -> taxEngine.calculateProgressiveTax(1_000_000, TaxBracketType.SEVEN_BRACKET));
+        assertEquals("No tax bracket details found for value: 5-bracket", emptyError.getMessage());
+        assertEquals("Tax bracket not found for value: 7-bracket", missingError.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> taxEngine.getWageZone("vung-9"));
+    }
+
+    @Test
+    @DisplayName("Should calculate a batch against one snapshot")
+    void testBatch() {
+        SalaryCalculationInput input = new SalaryCalculationInput(
+            30_000_000, 0, 30_000_000, 0, 8.0, 1.5, 1.0,
+            11_000_000, 4_400_000, 0, 0,
+            TaxBracketType.SEVEN_BRACKET, taxEngine.getWageZone("vung-1"));
+
+        List<SalaryCalculationResult> results = taxEngine.calculateSalaries(List.of(input, input));
+
+        assertEquals(2, results.size());
+        assertEquals(taxEngine.calculateSalary(input).getTotalTax(), results.get(0).getTotalTax());
+        assertEquals(results.get(0).getTotalNetSalary(), results.get(1).getTotalNetSalary());
+        verify(taxBracketRepository, times(1)).findAllOrderByEffectiveDate();
+    }
+
+    @Test
+    @DisplayName("Should settle a batch of annual settlements on annual thresholds without further reads")
+    void testAnnualBatch() {
+        AnnualTaxSettlementInput input = new AnnualTaxSettlementInput(
+            "2026", 200_000_000, 0, 100_000_000, 0, 0, 0, 0, 0, 0, 0, 0);
+
+        List<AnnualTaxSettlementResult> results = taxEngine.calculateAnnualTaxSettlements(List.of(input, input, input));
+
+        // 100M taxable: 60M at 5% (5M × 12), 40M at 35%
+        assertEquals(3, results.size());
+        assertEquals(3_000_000 + 14_000_000, results.get(2).getCalculatedTax());
+        verify(taxBracketRepository, times(1)).findAllOrderByEffectiveDate();
+        verify(taxBracketRepository, never()).findByValue(anyString());
+    }
+
+    private static TaxBracketEntity bracketSet(TaxBracketType type, int firstRate) {
+        TaxBracketEntity entity = new TaxBracketEntity();
+        entity.setValue(type.getCode());
+        entity.setEffectiveDate(LocalDate.of(2025, 12, 13));
+        entity.setDetails(List.of(
+            detail(1, 5_000_000L, firstRate),
+            detail(2, null, 35)));
+        return entity;
+    }
+
+    private static TaxBracketDetailEntity detail(int order, Long maxIncome, int rate) {
+        TaxBracketDetailEntity detail = new TaxBracketDetailEntity();
+        detail.setBracketOrder(order);
+        detail.setMaxIncome(maxIncome);
+        detail.setRate((double) rate);
+        return detail;
+    }
+
+    private static WageZoneEntity wageZone() {
+        WageZoneEntity entity = new WageZoneEntity();
+        entity.setValue("vung-1");
+        entity.setLabel("Vùng 1");
+        entity.setMinimumWage(4_960_000L);
+        entity.setInsuranceCap(99_200_000L);
+        return entity;
+    }
+}
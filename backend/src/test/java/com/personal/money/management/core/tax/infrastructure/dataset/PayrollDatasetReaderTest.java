@@ -0,0 +1,156 @@
+package com.personal.money.management.core.tax.infrastructure.dataset;
+
+import com.personal.money.management.core.tax.domain.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the columnar payroll dataset readers and writers
+ */
+@DisplayName("Payroll Dataset Reader Tests")
+class PayrollDatasetReaderTest {
+
+    private static final WageZoneValue ZONE = new WageZoneValue("I", "Zone I", 4_960_000, 99_200_000);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should read back every input column as written")
+    void testInputRoundTrip() throws IOException {
+        // Given: 10 rows written in blocks of 4
+        Path path = directory.resolve("inputs.mkpd");
+        SalaryInputBlock block = new SalaryInputBlock(4);
+        try (PayrollDatasetWriter writer = PayrollDatasetWriter.create(path, 10)) {
+            for (int start = 0; start < 10; start += 4) {
+                int size = Math.min(4, 10 - start);
+                for (int row = 0; row < size; row++) {
+                    block.set(row, input(start + row));
+                }
+                block.setSize(size);
+                writer.write(block);
+            }
+        }
+
+        // When: read in blocks of 3
+        SalaryInputBlock read = new SalaryInputBlock(3);
+        int rows = 0;
+        try (PayrollDatasetReader reader = PayrollDatasetReader.open(path)) {
+            assertEquals(10, reader.rowCount());
+            for (int filled = reader.fill(read); filled > 0; filled = reader.fill(read)) {
+                // Then
+                for (int row = 0; row < filled; row++) {
+                    SalaryCalculationInput expected = input(rows + row);
+                    assertEquals(expected.getGrossSalary(), read.getGrossSalary()[row]);
+                    assertEquals(expected.getTetBonus(), read.getTetBonus()[row]);
+                    assertEquals(expected.getInsuranceBase(), read.getInsuranceBase()[row]);
+                    assertEquals(expected.getDependents(), read.getDependents()[row]);
+                    assertEquals(expected.getBhxhRate(), read.getBhxhRate()[row]);
+                    assertEquals(expected.getBhytRate(), read.getBhytRate()[row]);
+                    assertEquals(expected.getBhtnRate(), read.getBhtnRate()[row]);
+                    assertEquals(expected.getPersonalDeduction(), read.getPersonalDeduction()[row]);
+                    assertEquals(expected.getDependentDeductionPerPerson(), read.getDependentDeductionPerPerson()[row]);
+                    assertEquals(expected.getTaxFreeAllowance(), read.getTaxFreeAllowance()[row]);
+                    assertEquals(expected.getOtherDeduction(), read.getOtherDeduction()[row]);
+                    assertEquals(expected.getTaxBracketType(), read.getTaxBracketType()[row]);
+                    assertEquals(ZONE.getInsuranceCap(), read.getInsuranceCap()[row]);
+                }
+                rows += filled;
+            }
+        }
+        assertEquals(10, rows);
+    }
+
+    @Test
+    @DisplayName("Should read back every result column as written")
+    void testResultRoundTrip() throws IOException {
+        Path path = directory.resolve("results.mkpr");
+        SalaryResultBlock block = new SalaryResultBlock(5);
+        SalaryCalculationBuffer buffer = new SalaryCalculationBuffer();
+        for (int row = 0; row < 5; row++) {
+            buffer.set(30_000_000 + row, 2_400_000, 450_000, 300_000, row * 1_000_000L, 21_700_000,
+                    500_000 + row, 400_000, 730_000, 150_000);
+            block.set(row, buffer);
+        }
+        block.setSize(5);
+        try (SalaryResultDatasetWriter writer = SalaryResultDatasetWriter.create(path, 5)) {
+            writer.accept(block);
+        }
+
+        SalaryResultBlock read = new SalaryResultBlock(8);
+        try (SalaryResultDatasetReader reader = SalaryResultDatasetReader.open(path)) {
+            assertEquals(5, reader.fill(read));
+            assertEquals(0, reader.fill(read));
+        }
+        for (int row = 0; row < 5; row++) {
+            for (SalaryResultColumn column : SalaryResultColumn.values()) {
+                assertEquals(block.column(column)[row], read.column(column)[row], column + " of row " + row);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject files of another kind, version or length")
+    void testRejectMalformedFiles() throws IOException {
+        Path inputs = directory.resolve("inputs.mkpd");
+        SalaryInputBlock block = new SalaryInputBlock(1);
+        block.set(0, input(1));
+        block.setSize(1);
+        try (PayrollDatasetWriter writer = PayrollDatasetWriter.create(inputs, 1)) {
+            writer.write(block);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> SalaryResultDatasetReader.open(inputs));
+
+        Path newerVersion = Files.copy(inputs, directory.resolve("newer.mkpd"));
+        overwriteHeader(newerVersion, 4, (short) 2);
+        assertThrows(IllegalArgumentException.class, () -> PayrollDatasetReader.open(newerVersion));
+
+        Path truncated = directory.resolve("truncated.mkpd");
+        Files.write(truncated, Arrays.copyOf(Files.readAllBytes(inputs), 64));
+        assertThrows(IllegalArgumentException.class, () -> PayrollDatasetReader.open(truncated));
+
+        Path empty = Files.createFile(directory.resolve("empty.mkpd"));
+        assertThrows(IllegalArgumentException.class, () -> PayrollDatasetReader.open(empty));
+    }
+
+    @Test
+    @DisplayName("Should fail to close a dataset with rows left unwritten")
+    void testRejectIncompleteDataset() throws IOException {
+        PayrollDatasetWriter writer = PayrollDatasetWriter.create(directory.resolve("short.mkpd"), 3);
+        SalaryInputBlock block = new SalaryInputBlock(4);
+        for (int row = 0; row < 4; row++) {
+            block.set(row, input(row));
+        }
+        block.setSize(4);
+
+        assertThrows(IllegalStateException.class, () -> writer.write(block));
+        assertThrows(IllegalStateException.class, writer::close);
+    }
+
+    private static void overwriteHeader(Path path, int offset, short value) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            ByteBuffer bytes = ByteBuffer.allocate(2).order(ByteOrder.LITTLE_ENDIAN).putShort(0, value);
+            channel.write(bytes, offset);
+        }
+    }
+
+    private static SalaryCalculationInput input(int row) {
+        return new SalaryCalculationInput(20_000_000L + row * 1_000_000L, row % 3 == 0 ? 5_000_000 : 0,
+                20_000_000L + row, row % 4, 8.0, 1.5, 1.0 + row / 100.0, 15_500_000, 6_200_000,
+                730_000, row * 10_000L, row % 2 == 0 ? TaxBracketType.FIVE_BRACKET : TaxBracketType.SEVEN_BRACKET,
+                ZONE);
+    }
+}
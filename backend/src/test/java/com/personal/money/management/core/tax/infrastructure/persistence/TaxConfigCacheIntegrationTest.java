@@ -0,0 +1,73 @@
+package com.personal.money.management.core.tax.infrastructure.persistence;
+
+import com.personal.money.management.core.PersonalMoneyManagementApplication;
+import com.personal.money.management.core.tax.domain.service.TaxBracketRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Not transactional on purpose: each repository call runs in its own transaction,
+ * so repeated reads can only be served by the shared caches.
+ */
+@SpringBootTest(classes = PersonalMoneyManagementApplication.class)
+class TaxConfigCacheIntegrationTest {
+
+    @Autowired
+    private TaxBracketRepository taxBracketRepository;
+
+    @Autowired
+    private TaxConfigCacheEvictor cacheEvictor;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private CacheRegionStatistics queryRegion;
+
+    @BeforeEach
+    void setUp() {
+        cacheEvictor.evictAll();
+        queryRegion = entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+                .getQueryRegionStatistics(TaxConfigCacheEvictor.QUERY_REGION);
+    }
+
+    @Test
+    void findByValue_shouldBeServedFromQueryCacheUntilEvicted() {
+        long hits = queryRegion.getHitCount();
+
+        TaxBracketEntity first = taxBracketRepository.findByValue("7-bracket").orElseThrow();
+        TaxBracketEntity second = taxBracketRepository.findByValue("7-bracket").orElseThrow();
+
+        assertEquals(first.getId(), second.getId());
+        assertEquals(first.getDetails().size(), second.getDetails().size());
+        assertTrue(queryRegion.getHitCount() > hits, "Second lookup should hit the query cache");
+
+        cacheEvictor.evictAll();
+        long missesAfterEvict = queryRegion.getMissCount();
+        taxBracketRepository.findByValue("7-bracket").orElseThrow();
+
+        assertTrue(queryRegion.getMissCount() > missesAfterEvict, "Lookup after eviction should miss");
+    }
+
+    @Test
+    void findAllOrderByEffectiveDate_shouldQueryTheBracketsAndLoadTheirDetailsFromTheCache() {
+        CacheRegionStatistics detailsRegion = entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+                .getDomainDataRegionStatistics("tax.bracket.details");
+        int count = taxBracketRepository.findAllOrderByEffectiveDate().size();
+        long queryHits = queryRegion.getHitCount();
+        long queryMisses = queryRegion.getMissCount();
+        long detailHits = detailsRegion.getHitCount();
+
+        assertEquals(count, taxBracketRepository.findAllOrderByEffectiveDate().size());
+        assertEquals(queryHits, queryRegion.getHitCount());
+        assertEquals(queryMisses, queryRegion.getMissCount());
+        assertTrue(detailsRegion.getHitCount() > detailHits);
+    }
+}
@@ -0,0 +1,36 @@
+package com.personal.money.management.core.tax.infrastructure.vector;
+
+import com.personal.money.management.core.tax.domain.model.BatchTaxKernel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ServiceLoader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for VectorBatchTaxKernel
+ */
+@DisplayName("Vector Batch Tax Kernel Tests")
+class VectorBatchTaxKernelTest {
+
+    @Test
+    @DisplayName("Should be registered for the service loader")
+    void testRegistered() {
+        assertTrue(ServiceLoader.load(BatchTaxKernel.class).stream()
+                .anyMatch(provider -> provider.type() == VectorBatchTaxKernel.class));
+    }
+
+    @Test
+    @DisplayName("Should tax nothing when the Vector API is not resolved")
+    void testUnavailableTaxesNothing() {
+        VectorBatchTaxKernel kernel = new VectorBatchTaxKernel();
+        boolean resolved = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+        assertEquals(resolved, kernel.isAvailable());
+        if (!resolved) {
+            long[] taxes = new long[16];
+            assertEquals(0, kernel.taxOn(new long[]{Long.MAX_VALUE}, new double[]{0.05}, new long[2],
+                    new long[16], taxes, 16));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.personal.money.management.core.tax.interfaces;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.money.management.core.PersonalMoneyManagementApplication;
+import com.personal.money.management.core.tax.application.AnnualTaxSettlementRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.personal.money.management.core.shared.infrastructure.monitoring.SqlStatementAssertions.countStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Annual settlement endpoints against the seeded tax brackets.
+ */
+@SpringBootTest(classes = PersonalMoneyManagementApplication.class)
+@AutoConfigureMockMvc
+class AnnualTaxSettlementApiIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void calculate_shouldUseSeededBracketsScaledToTheYear() throws Exception {
+        // 2026 ends under the 5-bracket set: 308.1M taxable → 120M at 5% + 188.1M at 10%
+        mockMvc.perform(post("/api/tax/annual-settlement/calculate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request("2026"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.taxableIncome").value(308_100_000))
+                .andExpect(jsonPath("$.calculatedTax").value(24_810_000))
+                .andExpect(jsonPath("$.taxDue").value(4_810_000));
+    }
+
+    @Test
+    void calculateBulk_shouldSettleEveryRowWithoutQueries() throws Throwable {
+        List<AnnualTaxSettlementRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            requests.add(request("2026"));
+        }
+        String body = objectMapper.writeValueAsString(requests);
+
+        // Tax rule writes by tests running alongside reload the rules on the next request,
+        // so take the quietest of a few warm runs
+        int fewest = Integer.MAX_VALUE;
+        for (int attempt = 0; attempt < 3 && fewest > 0; attempt++) {
+            mockMvc.perform(post("/api/tax/annual-settlement/calculate").contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request("2026")))).andExpect(status().isOk());
+            fewest = Math.min(fewest, countStatements(() -> mockMvc.perform(
+                            post("/api/tax/annual-settlement/calculate-bulk")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(2_000))
+                    .andExpect(jsonPath("$[1999].calculatedTax").value(24_810_000))));
+        }
+        assertEquals(0, fewest, "SQL statements executed");
+    }
+
+    @Test
+    void calculateBulk_shouldRejectTheBatchWhenAnyRowIsInvalid() throws Exception {
+        AnnualTaxSettlementRequest invalid = request("2026");
+        invalid.setTotalGrossSalary(0);
+
+        mockMvc.perform(post("/api/tax/annual-settlement/calculate-bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(request("2026"), invalid))))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static AnnualTaxSettlementRequest request(String year) {
+        AnnualTaxSettlementRequest request = new AnnualTaxSettlementRequest();
+        request.setYear(year);
+        request.setTotalGrossSalary(600_000_000);
+        request.setPersonalDeduction(186_000_000);
+        request.setDependentDeduction(74_400_000);
+        request.setNumberOfDependents(1);
+        request.setBhxhContribution(24_000_000);
+        request.setBhytContribution(4_500_000);
+        request.setBhtnContribution(3_000_000);
+        request.setTaxAlreadyPaid(20_000_000);
+        return request;
+    }
+}
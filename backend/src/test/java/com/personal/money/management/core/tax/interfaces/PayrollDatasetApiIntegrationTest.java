@@ -0,0 +1,125 @@
+package com.personal.money.management.core.tax.interfaces;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.money.management.core.PersonalMoneyManagementApplication;
+import com.personal.money.management.core.tax.application.PayrollDatasetRequest;
+import com.personal.money.management.core.tax.domain.model.SalaryCalculationInput;
+import com.personal.money.management.core.tax.domain.model.SalaryInputBlock;
+import com.personal.money.management.core.tax.domain.model.SalaryResultBlock;
+import com.personal.money.management.core.tax.domain.model.SalaryResultColumn;
+import com.personal.money.management.core.tax.domain.model.TaxBracketType;
+import com.personal.money.management.core.tax.domain.service.TaxEngine;
+import com.personal.money.management.core.tax.infrastructure.dataset.PayrollDatasetWriter;
+import com.personal.money.management.core.tax.infrastructure.dataset.SalaryResultDatasetReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Columnar dataset endpoint against the seeded tax configuration.
+ */
+@SpringBootTest(classes = PersonalMoneyManagementApplication.class)
+@AutoConfigureMockMvc
+class PayrollDatasetApiIntegrationTest {
+
+    private static final int ROWS = 10_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaxEngine taxEngine;
+
+    @Value("${tax.dataset.directory}")
+    private String directory;
+
+    private final String prefix = "dataset-test-" + UUID.randomUUID();
+
+    @AfterEach
+    void removeDatasets() throws Exception {
+        try (var files = Files.list(Paths.get(directory))) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.getFileName().toString().startsWith(prefix)) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    @Test
+    void calculate_shouldWriteEveryRowAsTheSingleCalculation() throws Exception {
+        Path input = Paths.get(directory, prefix + "-in.mkpd");
+        Files.createDirectories(input.getParent());
+        SalaryInputBlock block = new SalaryInputBlock(SalaryInputBlock.DEFAULT_CAPACITY);
+        try (PayrollDatasetWriter writer = PayrollDatasetWriter.create(input, ROWS)) {
+            for (int start = 0; start < ROWS; start += block.capacity()) {
+                int size = Math.min(block.capacity(), ROWS - start);
+                for (int row = 0; row < size; row++) {
+                    block.set(row, input(start + row));
+                }
+                block.setSize(size);
+                writer.write(block);
+            }
+        }
+
+        calculate(new PayrollDatasetRequest(prefix + "-in.mkpd", prefix + "-out.mkpr"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(ROWS));
+
+        SalaryResultBlock results = new SalaryResultBlock(SalaryInputBlock.DEFAULT_CAPACITY);
+        int row = 0;
+        try (SalaryResultDatasetReader reader = SalaryResultDatasetReader.open(Paths.get(directory, prefix + "-out.mkpr"))) {
+            for (int filled = reader.fill(results); filled > 0; filled = reader.fill(results)) {
+                for (int i = 0; i < filled; i++, row++) {
+                    assertEquals(taxEngine.calculateSalary(input(row)).getTotalNetSalary(),
+                            results.column(SalaryResultColumn.TOTAL_NET_SALARY)[i], "row " + row);
+                }
+            }
+        }
+        assertEquals(ROWS, row);
+        assertFalse(Files.exists(Paths.get(directory, prefix + "-out.mkpr.partial")));
+    }
+
+    @Test
+    void calculate_shouldRejectMissingAndEscapingDatasets() throws Exception {
+        calculate(new PayrollDatasetRequest(prefix + "-missing.mkpd", prefix + "-out.mkpr"))
+                .andExpect(status().isBadRequest());
+        calculate(new PayrollDatasetRequest("../etc/passwd", prefix + "-out.mkpr"))
+                .andExpect(status().isBadRequest());
+        calculate(new PayrollDatasetRequest(prefix + "-in.mkpd", null))
+                .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions calculate(PayrollDatasetRequest request) throws Exception {
+        return mockMvc.perform(post("/api/tax/datasets/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private SalaryCalculationInput input(int row) {
+        long gross = 5_000_000L + row * 25_000L;
+        return new SalaryCalculationInput(gross, row % 5 == 0 ? 10_000_000 : 0, Math.min(gross, 46_800_000),
+                row % 3, 8.0, 1.5, 1.0, 15_500_000, 6_200_000, 0, 0,
+                TaxBracketType.FIVE_BRACKET, taxEngine.getWageZone("I"));
+    }
+}
@@ -0,0 +1,106 @@
+package com.personal.money.management.core.tax.interfaces;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.money.management.core.PersonalMoneyManagementApplication;
+import com.personal.money.management.core.tax.application.SalaryCalculationRequest;
+import com.personal.money.management.core.tax.application.SalaryCalculationSweepRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Batch and sweep salary calculations streamed as JSON, against the seeded tax configuration.
+ */
+@SpringBootTest(classes = PersonalMoneyManagementApplication.class)
+@AutoConfigureMockMvc
+class SalaryCalculationStreamingApiIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void calculateBatch_shouldStreamTheSameFiguresAsSingleCalculations() throws Exception {
+        String single = mockMvc.perform(post("/api/tax/calculate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request(60_000_000))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        perform("/api/tax/calculate-batch", List.of(request(20_000_000), request(60_000_000)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].grossSalary").value(20_000_000))
+                .andExpect(content().string(endsWith("," + single + "]")));
+    }
+
+    @Test
+    void calculateBatch_shouldRejectAnInvalidRequestBeforeStreaming() throws Exception {
+        SalaryCalculationRequest invalid = request(30_000_000);
+        invalid.setTaxBracketType("9-bracket");
+
+        perform("/api/tax/calculate-batch", List.of(request(30_000_000), invalid))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(startsWith("Request 1: ")));
+    }
+
+    @Test
+    void calculateSweep_shouldCalculateEveryGrossSalaryInTheRange() throws Exception {
+        SalaryCalculationSweepRequest sweep =
+                new SalaryCalculationSweepRequest(request(0), 10_000_000, 100_000_000, 10_000_000);
+
+        perform("/api/tax/calculate-sweep", sweep)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(10))
+                .andExpect(jsonPath("$[0].grossSalary").value(10_000_000))
+                .andExpect(jsonPath("$[9].grossSalary").value(100_000_000))
+                .andExpect(jsonPath("$[9].totalTax").isNumber());
+    }
+
+    @Test
+    void calculateSweep_shouldRejectTooManyPoints() throws Exception {
+        SalaryCalculationSweepRequest sweep = new SalaryCalculationSweepRequest(request(0), 0, 1_000_000_000, 1);
+
+        perform("/api/tax/calculate-sweep", sweep).andExpect(status().isBadRequest());
+    }
+
+    private ResultActions perform(String path, Object body) throws Exception {
+        return mockMvc.perform(post(path)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body)));
+    }
+
+    private static SalaryCalculationRequest request(long grossSalary) {
+        SalaryCalculationRequest request = new SalaryCalculationRequest();
+        request.setGrossSalary(grossSalary);
+        request.setTetBonus(5_000_000);
+        request.setInsuranceBase(30_000_000);
+        request.setDependents(1);
+        request.setBhxhRate(8.0);
+        request.setBhytRate(1.5);
+        request.setBhtnRate(1.0);
+        request.setPersonalDeduction(15_500_000);
+        request.setDependentDeductionPerPerson(6_200_000);
+        request.setTaxFreeAllowance(500_000);
+        request.setOtherDeduction(100_000);
+        request.setWageZone("I");
+        request.setTaxBracketType("5-bracket");
+        return request;
+    }
+}
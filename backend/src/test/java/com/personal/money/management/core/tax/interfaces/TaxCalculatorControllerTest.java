@@ -1,5 +1,6 @@
 package com.personal.money.management.core.tax.interfaces;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.personal.money.management.core.tax.application.SalaryCalculationRequest;
 import com.personal.money.management.core.tax.application.SalaryCalculationResponse;
 import com.personal.money.management.core.tax.application.TaxCalculatorApplicationService;
@@ -37,7 +38,7 @@ class TaxCalculatorControllerTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        controller = new TaxCalculatorController(taxCalculatorApplicationService, taxConfigService);
+        controller = new TaxCalculatorController(taxCalculatorApplicationService, taxConfigService, new ObjectMapper());
     }
 
     @Nested
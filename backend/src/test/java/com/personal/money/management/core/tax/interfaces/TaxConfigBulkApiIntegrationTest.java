@@ -0,0 +1,133 @@
+package com.personal.money.management.core.tax.interfaces;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.money.management.core.PersonalMoneyManagementApplication;
+import com.personal.money.management.core.tax.application.TaxBracketRequest;
+import com.personal.money.management.core.tax.application.TaxBracketRequest.TaxBracketDetailRequest;
+import com.personal.money.management.core.tax.application.TaxConfigService;
+import com.personal.money.management.core.tax.domain.service.TaxBracketRepository;
+import com.personal.money.management.core.tax.infrastructure.persistence.TaxBracketDetailEntity;
+import com.personal.money.management.core.tax.infrastructure.persistence.TaxBracketEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Bulk bracket replacement through the API. The sets written here take effect in
+ * 2000, so the seeded 7- and 5-bracket sets stay in force for concurrent tests.
+ */
+@SpringBootTest(classes = PersonalMoneyManagementApplication.class)
+@AutoConfigureMockMvc
+class TaxConfigBulkApiIntegrationTest {
+
+    private static final LocalDate EFFECTIVE = LocalDate.of(2000, 1, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaxBracketRepository taxBracketRepository;
+
+    @Autowired
+    private TaxConfigService taxConfigService;
+
+    private final String first = "bulk-a-" + UUID.randomUUID();
+    private final String second = "bulk-b-" + UUID.randomUUID();
+
+    @AfterEach
+    void removeBrackets() {
+        taxConfigService.deleteTaxBracket(first);
+        taxConfigService.deleteTaxBracket(second);
+    }
+
+    @Test
+    void replace_shouldCreateThenDiffEachSetKeepingUnchangedRows() throws Exception {
+        replace(List.of(
+                bracket(first, "A", detail(0L, 5000000L, 5.0, 1), detail(5000001L, 10000000L, 10.0, 2),
+                        detail(10000001L, null, 15.0, 3)),
+                bracket(second, "B", detail(0L, 8000000L, 5.0, 1), detail(8000001L, null, 20.0, 2))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].success").value(true))
+                .andExpect(jsonPath("$[1].value").value(second));
+        Map<Integer, TaxBracketDetailEntity> firstBefore = detailsByOrder(first);
+        Map<Integer, TaxBracketDetailEntity> secondBefore = detailsByOrder(second);
+
+        // Order 2 re-rated, order 3 dropped, order 4 added; the second set is resent unchanged
+        replace(List.of(
+                bracket(first, "A", detail(0L, 5000000L, 5.0, 1), detail(5000001L, 10000000L, 12.0, 2),
+                        detail(10000001L, null, 25.0, 4)),
+                bracket(second, "B", detail(0L, 8000000L, 5.0, 1), detail(8000001L, null, 20.0, 2))))
+                .andExpect(status().isOk());
+
+        Map<Integer, TaxBracketDetailEntity> firstAfter = detailsByOrder(first);
+        assertEquals(List.of(1, 2, 4), List.copyOf(firstAfter.keySet()));
+        assertEquals(firstBefore.get(1).getId(), firstAfter.get(1).getId());
+        assertEquals(firstBefore.get(2).getId(), firstAfter.get(2).getId());
+        assertEquals(12.0, firstAfter.get(2).getRate());
+        assertNotEquals(firstBefore.get(3).getId(), firstAfter.get(4).getId());
+        Map<Integer, TaxBracketDetailEntity> secondAfter = detailsByOrder(second);
+        assertEquals(secondBefore.get(1).getId(), secondAfter.get(1).getId());
+        assertEquals(secondBefore.get(2).getId(), secondAfter.get(2).getId());
+        assertEquals(secondBefore.get(2).getUpdatedAt(), secondAfter.get(2).getUpdatedAt());
+    }
+
+    @Test
+    void replace_withAnInvalidSet_shouldWriteNothing() throws Exception {
+        replace(List.of(bracket(first, "A", detail(0L, null, 5.0, 1))))
+                .andExpect(status().isOk());
+
+        replace(List.of(
+                bracket(first, "A renamed", detail(0L, null, 7.0, 1)),
+                bracket(second, "B", detail(0L, 8000000L, 5.0, 1), detail(8000001L, null, 20.0, 1))))
+                .andExpect(status().isBadRequest());
+
+        TaxBracketEntity stored = taxBracketRepository.findByValue(first).orElseThrow();
+        assertEquals("A", stored.getLabel());
+        assertEquals(5.0, stored.getDetails().get(0).getRate());
+        assertFalse(taxBracketRepository.findByValue(second).isPresent());
+    }
+
+    private ResultActions replace(List<TaxBracketRequest> requests) throws Exception {
+        return mockMvc.perform(put("/api/tax/brackets")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)));
+    }
+
+    private Map<Integer, TaxBracketDetailEntity> detailsByOrder(String value) {
+        return taxBracketRepository.findByValue(value).orElseThrow().getDetails().stream()
+                .collect(Collectors.toMap(TaxBracketDetailEntity::getBracketOrder, Function.identity(),
+                        (a, b) -> a, TreeMap::new));
+    }
+
+    private static TaxBracketRequest bracket(String value, String label, TaxBracketDetailRequest... details) {
+        return new TaxBracketRequest(value, label, EFFECTIVE, List.of(details));
+    }
+
+    private static TaxBracketDetailRequest detail(Long minIncome, Long maxIncome, double rate, int order) {
+        return new TaxBracketDetailRequest(minIncome, maxIncome, rate, 0L, order);
+    }
+}
@@ -0,0 +1,102 @@
+package com.personal.money.management.core.tax.interfaces;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.money.management.core.PersonalMoneyManagementApplication;
+import com.personal.money.management.core.tax.application.SalaryCalculationRequest;
+import com.personal.money.management.core.tax.application.TaxSimulationRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Monte Carlo simulation endpoint against the seeded tax configuration.
+ */
+@SpringBootTest(classes = PersonalMoneyManagementApplication.class)
+@AutoConfigureMockMvc
+class TaxSimulationApiIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void simulate_shouldSummarizeASamplePopulation() throws Exception {
+        TaxSimulationRequest request = raises(5.0, 2.0, 2_000);
+        request.setPopulation(List.of(employee(20_000_000), employee(60_000_000), employee(150_000_000)));
+
+        simulate(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.trials").value(2_000))
+                .andExpect(jsonPath("$.evaluations").value(6_000))
+                .andExpect(jsonPath("$.quantiles.p50").isNumber())
+                .andExpect(jsonPath("$.histogram.length()").value(20));
+    }
+
+    @Test
+    void simulate_shouldSampleASalaryDistribution() throws Exception {
+        TaxSimulationRequest request = raises(5.0, 0.0, 10);
+        request.setTemplate(employee(0));
+        request.setSalaryMean(30_000_000);
+        request.setSalaryStandardDeviation(10_000_000);
+        request.setPopulationSize(1_000);
+        request.setHistogramBins(5);
+
+        // No spread in raises: every trial taxes the same sampled workforce
+        simulate(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.evaluations").value(10_000))
+                .andExpect(jsonPath("$.standardDeviation").value(0.0))
+                .andExpect(jsonPath("$.histogram.length()").value(1));
+    }
+
+    @Test
+    void simulate_shouldRejectARunOverTheEvaluationLimit() throws Exception {
+        TaxSimulationRequest request = raises(5.0, 2.0, 1_000_000);
+        request.setTemplate(employee(0));
+        request.setSalaryMean(30_000_000);
+        request.setPopulationSize(100_000);
+
+        simulate(request).andExpect(status().isBadRequest());
+    }
+
+    private ResultActions simulate(TaxSimulationRequest request) throws Exception {
+        return mockMvc.perform(post("/api/tax/simulation/monte-carlo")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private static TaxSimulationRequest raises(double mean, double standardDeviation, int trials) {
+        TaxSimulationRequest request = new TaxSimulationRequest();
+        request.setRaiseMean(mean);
+        request.setRaiseStandardDeviation(standardDeviation);
+        request.setTrials(trials);
+        request.setSeed(42L);
+        return request;
+    }
+
+    private static SalaryCalculationRequest employee(long grossSalary) {
+        SalaryCalculationRequest request = new SalaryCalculationRequest();
+        request.setGrossSalary(grossSalary);
+        request.setInsuranceBase(46_800_000);
+        request.setBhxhRate(8.0);
+        request.setBhytRate(1.5);
+        request.setBhtnRate(1.0);
+        request.setPersonalDeduction(15_500_000);
+        request.setDependentDeductionPerPerson(6_200_000);
+        request.setWageZone("I");
+        request.setTaxBracketType("5-bracket");
+        return request;
+    }
+}
@@ -0,0 +1,81 @@
+package com.personal.money.management.core.tax.interfaces;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.money.management.core.PersonalMoneyManagementApplication;
+import com.personal.money.management.core.tax.application.SalaryCalculationRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Year-to-date withholding endpoints against the seeded tax configuration.
+ */
+@SpringBootTest(classes = PersonalMoneyManagementApplication.class)
+@AutoConfigureMockMvc
+@Transactional
+class TaxWithholdingApiIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void recordMonths_shouldKeepRunningTotalsAndProjectTheYear() throws Exception {
+        recordMonth("EMP-1", 1).andExpect(status().isOk());
+        recordMonth("EMP-1", 2).andExpect(status().isOk());
+        recordMonth("EMP-1", 3)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.monthResult.grossSalary").value(30_000_000))
+                .andExpect(jsonPath("$.monthsRecorded").value(3));
+
+        mockMvc.perform(get("/api/tax/withholding/EMP-1/2026"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lastMonth").value(3))
+                .andExpect(jsonPath("$.totals.grossSalary").value(90_000_000))
+                .andExpect(jsonPath("$.settlementToDate.totalIncome").value(90_000_000))
+                .andExpect(jsonPath("$.projectedSettlement.totalIncome").value(360_000_000))
+                // Identical months under one bracket set: withholding matches the settlement
+                .andExpect(jsonPath("$.projectedSettlement.settlementStatus").value("balanced"));
+    }
+
+    @Test
+    void recordMonth_shouldRejectAMonthAlreadyRecorded() throws Exception {
+        recordMonth("EMP-2", 4).andExpect(status().isOk());
+
+        recordMonth("EMP-2", 4).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getYearToDate_shouldReturnNotFoundBeforeAnyMonth() throws Exception {
+        mockMvc.perform(get("/api/tax/withholding/EMP-3/2026"))
+                .andExpect(status().isNotFound());
+    }
+
+    private ResultActions recordMonth(String employeeId, int month) throws Exception {
+        SalaryCalculationRequest request = new SalaryCalculationRequest();
+        request.setGrossSalary(30_000_000);
+        request.setInsuranceBase(30_000_000);
+        request.setBhxhRate(8.0);
+        request.setBhytRate(1.5);
+        request.setBhtnRate(1.0);
+        request.setPersonalDeduction(15_500_000);
+        request.setDependentDeductionPerPerson(6_200_000);
+        request.setWageZone("I");
+        request.setTaxBracketType("5-bracket");
+        return mockMvc.perform(post("/api/tax/withholding/" + employeeId + "/2026/months/" + month)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+}